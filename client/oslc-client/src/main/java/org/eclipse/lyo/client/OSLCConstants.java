@@ -49,6 +49,11 @@ public interface OSLCConstants {
 	String CT_RDF = "application/rdf+xml";
 	String CT_JSON = "application/json";
 	String CT_ATOM = "application/atom+xml";
+	// Binary RDF, understood by Lyo-based servers (see JenaProvidersRegistry):
+	String CT_RDF_THRIFT = "application/rdf+thrift";
+	String CT_RDF_PROTOBUF = "application/rdf+protobuf";
+	// Prefers RDF Thrift and lets servers without it fall back to RDF/XML
+	String CT_RDF_THRIFT_OR_RDF = CT_RDF_THRIFT + ", " + CT_RDF + ";q=0.9";
 
 	// Version 1 headers:
 	String CT_CR_XML = "application/x-oslc-cm-change-request+xml";
@@ -178,7 +178,8 @@ public class OslcClient implements IOslcClient {
      * Gets an OSLC resource. Use {@link #getResource(String, Map)} instead to add other request headers.
      *
      * @param url       the resource URL
-     * @param mediaType the requested media type to use in the HTTP Accept request header
+     * @param mediaType the requested media type to use in the HTTP Accept request header, e.g.
+     *                  {@link OSLCConstants#CT_RDF_THRIFT_OR_RDF} to get binary RDF from Lyo-based servers
      */
     public Response getResource(String url, final String mediaType) {
         return getResource(url, null, mediaType);
@@ -212,7 +213,8 @@ public class OslcClient implements IOslcClient {
 
     public Response getResource(String url, Map<String, String> requestHeaders, String defaultMediaType,
             String configurationContext, boolean handleRedirects) {
-        return doRequest(HttpMethod.GET, url, null, configurationContext, null, defaultMediaType, OSLCConstants.CT_RDF,
+        final String acceptType = defaultMediaType != null ? defaultMediaType : OSLCConstants.CT_RDF;
+        return doRequest(HttpMethod.GET, url, null, configurationContext, null, defaultMediaType, acceptType,
                 requestHeaders);
     }
 
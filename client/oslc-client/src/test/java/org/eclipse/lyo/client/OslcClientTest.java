@@ -85,6 +85,11 @@ public class OslcClientTest {
         client.getResource("test.url", Map.of("a", "b"), "application/rdf+xml", "oslc.context");
         verify(client).doRequest("GET", "test.url", null, "oslc.context", null, "application/rdf+xml",
                 "application/rdf+xml", Map.of("a", "b"));
+
+        clearInvocations(client);
+        client.getResource("test.url", OSLCConstants.CT_RDF_THRIFT_OR_RDF);
+        verify(client).doRequest("GET", "test.url", null, null, null, OSLCConstants.CT_RDF_THRIFT_OR_RDF,
+                "application/rdf+thrift, application/rdf+xml;q=0.9", null);
     }
 
     @Test
@@ -16,7 +16,6 @@ package org.eclipse.lyo.oslc4j.core.model;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 
 import javax.xml.namespace.QName;
@@ -24,7 +23,7 @@ import javax.xml.namespace.QName;
 public abstract class AbstractResource implements IExtendedResource {
 	private URI about;
 	private Collection<URI> types = new ArrayList<>();
-	private Map<QName, Object> extendedProperties = new HashMap<>();
+	private Map<QName, Object> extendedProperties = new ExtendedProperties();
 
 	protected AbstractResource(final URI about) {
 		super();
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.core.model;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A set for the multi-valued properties of resources, which mostly hold no or
+ * a few values.
+ * <p>
+ * An empty set allocates no storage. Up to {@value #ARRAY_LIMIT} elements are
+ * kept in an array in insertion order and looked up linearly; larger sets are
+ * backed by a {@link HashSet}. Null elements are permitted. Like
+ * {@link HashSet}, this class is not synchronized.
+ *
+ * @param <E> element type
+ * @since 7.0.0
+ */
+public final class CompactSet<E> extends AbstractSet<E> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int ARRAY_LIMIT = 8;
+
+    // null while empty or when the elements are in hashSet
+    private Object[] elements;
+    private int size;
+    private HashSet<E> hashSet;
+    private transient int modCount;
+
+    public CompactSet() {
+    }
+
+    @Override
+    public int size() {
+        return hashSet != null ? hashSet.size() : size;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        if (hashSet != null) {
+            return hashSet.contains(o);
+        }
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean add(final E e) {
+        if (hashSet != null) {
+            return hashSet.add(e);
+        }
+        if (indexOf(e) >= 0) {
+            return false;
+        }
+        if (size == ARRAY_LIMIT) {
+            hashSet = new HashSet<>(this);
+            hashSet.add(e);
+            elements = null;
+            size = 0;
+        } else {
+            if (elements == null) {
+                elements = new Object[1];
+            } else if (size == elements.length) {
+                elements = Arrays.copyOf(elements, Math.min(size * 2, ARRAY_LIMIT));
+            }
+            elements[size++] = e;
+        }
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        if (hashSet != null) {
+            return hashSet.remove(o);
+        }
+        final int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        elements = null;
+        size = 0;
+        hashSet = null;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        if (hashSet != null) {
+            return hashSet.iterator();
+        }
+        return new ArrayIterator();
+    }
+
+    private int indexOf(final Object o) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(o, elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(final int index) {
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        if (size == 0) {
+            elements = null;
+        }
+        modCount++;
+    }
+
+    private final class ArrayIterator implements Iterator<E> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            checkForComodification();
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return (E) elements[last];
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.core.model;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.xml.namespace.QName;
+
+/**
+ * The map of the extended properties of an {@link IExtendedResource}, which
+ * mostly holds no or a few properties.
+ * <p>
+ * An empty map shares a single empty array. Up to {@value #ARRAY_LIMIT}
+ * properties are kept in an array in insertion order and looked up linearly;
+ * larger maps are backed by a {@link HashMap}. Like {@link HashMap}, this
+ * class is not synchronized.
+ * <p>
+ * {@link #qName(String, String, String)} returns shared keys for the
+ * properties read from RDF, which repeat across the resources of a model.
+ *
+ * @since 7.0.0
+ */
+public final class ExtendedProperties extends AbstractMap<QName, Object> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int ARRAY_LIMIT = 8;
+
+    private static final Object[] EMPTY = {};
+
+    private static final int QNAMES_SIZE = 1024;
+    private static final AtomicReferenceArray<QName> QNAMES = new AtomicReferenceArray<>(QNAMES_SIZE);
+
+    // Keys at even and values at odd indexes; EMPTY when the entries are in hashMap
+    private Object[] entries = EMPTY;
+    private int size;
+    private HashMap<QName, Object> hashMap;
+    private transient int modCount;
+
+    private transient Set<Map.Entry<QName, Object>> entrySet;
+
+    public ExtendedProperties() {
+    }
+
+    /**
+     * @param properties the initial properties
+     */
+    public ExtendedProperties(final Map<? extends QName, ?> properties) {
+        putAll(properties);
+    }
+
+    /**
+     * Returns a {@link QName} equal to {@code new QName(namespaceURI, localPart, prefix)},
+     * with the same prefix, shared with earlier calls for the same arguments
+     * where possible.
+     *
+     * @param namespaceURI namespace URI of the QName
+     * @param localPart    local part of the QName
+     * @param prefix       prefix of the QName
+     * @return the QName
+     */
+    public static QName qName(final String namespaceURI, final String localPart, final String prefix) {
+        final int hash = 31 * (31 * Objects.hashCode(namespaceURI) + Objects.hashCode(localPart))
+                + Objects.hashCode(prefix);
+        final int slot = (hash ^ (hash >>> 16)) & (QNAMES_SIZE - 1);
+        final QName cached = QNAMES.get(slot);
+        if (cached != null && cached.getLocalPart().equals(localPart)
+                && cached.getNamespaceURI().equals(namespaceURI == null ? "" : namespaceURI)
+                && cached.getPrefix().equals(prefix)) {
+            return cached;
+        }
+        final QName qName = new QName(namespaceURI, localPart, prefix);
+        QNAMES.set(slot, qName);
+        return qName;
+    }
+
+    @Override
+    public int size() {
+        return hashMap != null ? hashMap.size() : size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        if (hashMap != null) {
+            return hashMap.containsKey(key);
+        }
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(final Object key) {
+        if (hashMap != null) {
+            return hashMap.get(key);
+        }
+        final int index = indexOf(key);
+        return index >= 0 ? entries[index + 1] : null;
+    }
+
+    @Override
+    public Object put(final QName key, final Object value) {
+        if (hashMap != null) {
+            return hashMap.put(key, value);
+        }
+        final int index = indexOf(key);
+        if (index >= 0) {
+            final Object previous = entries[index + 1];
+            entries[index + 1] = value;
+            return previous;
+        }
+        if (size == ARRAY_LIMIT) {
+            hashMap = new HashMap<>(this);
+            hashMap.put(key, value);
+            entries = EMPTY;
+            size = 0;
+        } else {
+            if (2 * size == entries.length) {
+                final Object[] grown = new Object[2 * Math.min(Math.max(2 * size, 1), ARRAY_LIMIT)];
+                System.arraycopy(entries, 0, grown, 0, 2 * size);
+                entries = grown;
+            }
+            entries[2 * size] = key;
+            entries[2 * size + 1] = value;
+            size++;
+        }
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public Object remove(final Object key) {
+        if (hashMap != null) {
+            return hashMap.remove(key);
+        }
+        final int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        final Object previous = entries[index + 1];
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        entries = EMPTY;
+        size = 0;
+        hashMap = null;
+        modCount++;
+    }
+
+    @Override
+    public Set<Map.Entry<QName, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private int indexOf(final Object key) {
+        for (int i = 0; i < 2 * size; i += 2) {
+            if (Objects.equals(key, entries[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(final int index) {
+        System.arraycopy(entries, index + 2, entries, index, 2 * size - index - 2);
+        size--;
+        entries[2 * size] = null;
+        entries[2 * size + 1] = null;
+        if (size == 0) {
+            entries = EMPTY;
+        }
+        modCount++;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<QName, Object>> {
+
+        @Override
+        public int size() {
+            return ExtendedProperties.this.size();
+        }
+
+        @Override
+        public void clear() {
+            ExtendedProperties.this.clear();
+        }
+
+        @Override
+        public Iterator<Map.Entry<QName, Object>> iterator() {
+            if (hashMap != null) {
+                return hashMap.entrySet().iterator();
+            }
+            return new EntryIterator();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<QName, Object>> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < 2 * size;
+        }
+
+        @Override
+        public Map.Entry<QName, Object> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= 2 * size) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next += 2;
+            return new Entry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class Entry extends SimpleEntry<QName, Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int index;
+
+        Entry(final int index) {
+            super((QName) entries[index], entries[index + 1]);
+            this.index = index;
+        }
+
+        @Override
+        public Object setValue(final Object value) {
+            // Only valid until the map is structurally modified, as for HashMap
+            if (index < 2 * size && Objects.equals(getKey(), entries[index])) {
+                entries[index + 1] = value;
+            }
+            return super.setValue(value);
+        }
+    }
+}
@@ -30,6 +30,9 @@ import org.eclipse.lyo.oslc4j.core.annotation.OslcSchema;
  * called customMap, contains keys that are equal to the ones defined in 
  * {@link OslcSchema#value()}, the customMap's key=value will take precedence over the others.	
  * 
+ * Implementations whose mappings never change can override {@link #isDynamic()} to
+ * let them be computed once per class instead.
+ * 
  * @author Daniel Figueiredo Caetano
  * @see OslcSchema
  */
@@ -41,4 +44,16 @@ public interface IOslcCustomNamespaceProvider {
 	 */
 	Map<String, String> getCustomNamespacePrefixes(); 
 
+	/**
+	 * Tells whether {@link #getCustomNamespacePrefixes()} may return different
+	 * mappings over time. If not, the provider is instantiated once and its
+	 * mappings are cached together with those of the {@link OslcSchema}.
+	 * 
+	 * @return true (default) to instantiate the provider for every response
+	 * @since 7.0.0
+	 */
+	default boolean isDynamic() {
+		return true;
+	}
+
 }
\ No newline at end of file
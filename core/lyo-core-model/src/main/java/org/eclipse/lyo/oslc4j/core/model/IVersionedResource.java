@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.core.model;
+
+/**
+ * A resource that knows the version of its own state, e.g. a revision number or a
+ * last-modified timestamp kept by the backing tool.
+ * <p>
+ * Servers that register {@code OslcEntityTagFilter} send this version as a weak
+ * {@code ETag} instead of hashing the triples of the resource, and answer a
+ * matching {@code If-None-Match} with {@code 304 Not Modified}.
+ *
+ * @since 7.0.0
+ */
+public interface IVersionedResource {
+
+    /**
+     * @return an opaque value, without quotes, that changes whenever the RDF
+     *         representation of the resource changes; or {@code null} to have the
+     *         entity tag computed from the triples
+     */
+    String getETag();
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.core;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+
+import org.apache.jena.datatypes.RDFDatatype;
+import org.apache.jena.datatypes.TypeMapper;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.datatypes.xsd.XSDDateTime;
+
+/**
+ * Conversions between Java values and the lexical forms of XSD literals, shared
+ * by the Jena and JSON4J providers.
+ * <p>
+ * {@link DatatypeFactory#newInstance()} performs a service lookup on every
+ * call; the factory is created once per thread instead. The common
+ * {@code xsd:dateTime} forms (years 1583 to 9999 with an explicit time zone)
+ * are formatted and parsed directly, everything else goes through the
+ * {@link DatatypeFactory} or Jena so the results are identical.
+ *
+ * @since 7.0.0
+ */
+public final class LiteralConverter {
+
+    private static final ThreadLocal<DatatypeFactory> DATATYPE_FACTORY = ThreadLocal.withInitial(() -> {
+        try {
+            return DatatypeFactory.newInstance();
+        } catch (DatatypeConfigurationException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private static final ClassValue<RDFDatatype> DATATYPES = new ClassValue<>() {
+        @Override
+        protected RDFDatatype computeValue(final Class<?> type) {
+            return TypeMapper.getInstance().getTypeByClass(type);
+        }
+    };
+
+    /** 1583-01-01T00:00:00Z, the first full year of the Gregorian calendar. */
+    private static final long MIN_FAST_EPOCH_SECOND = -12212553600L;
+    /** 10000-01-01T00:00:00Z. */
+    private static final long MAX_FAST_EPOCH_SECOND = 253402300800L;
+
+    private LiteralConverter() {
+        super();
+    }
+
+    /**
+     * @return the {@link DatatypeFactory} of the current thread
+     */
+    public static DatatypeFactory datatypeFactory() {
+        return DATATYPE_FACTORY.get();
+    }
+
+    /**
+     * Looks up the datatype that Jena maps a Java class to. The lookup is done
+     * once per class.
+     *
+     * @param javaType class of a literal value
+     * @return the datatype, or {@code null} if Jena has none registered
+     */
+    public static RDFDatatype datatypeOf(final Class<?> javaType) {
+        return DATATYPES.get(javaType);
+    }
+
+    /**
+     * Formats a date as an {@code xsd:dateTime} in UTC, exactly as Jena does
+     * for a {@link Calendar} value (fraction digits only when needed).
+     *
+     * @param date the date
+     * @return the lexical form
+     */
+    public static String formatDateTime(final Date date) {
+        final long millis = date.getTime();
+        final long epochSecond = Math.floorDiv(millis, 1000L);
+        if (epochSecond < MIN_FAST_EPOCH_SECOND || epochSecond >= MAX_FAST_EPOCH_SECOND) {
+            final Calendar calendar = Calendar.getInstance();
+            calendar.setTime(date);
+            return new XSDDateTime(calendar).toString();
+        }
+
+        final LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+        final StringBuilder builder = new StringBuilder(24);
+        appendDateTime(builder, dateTime);
+        final int fraction = (int) Math.floorMod(millis, 1000L);
+        if (fraction != 0) {
+            builder.append('.');
+            builder.append((char) ('0' + fraction / 100));
+            if (fraction % 100 != 0) {
+                builder.append((char) ('0' + fraction / 10 % 10));
+                if (fraction % 10 != 0) {
+                    builder.append((char) ('0' + fraction % 10));
+                }
+            }
+        }
+        return builder.append('Z').toString();
+    }
+
+    /**
+     * Formats a date as an {@code xsd:dateTime} in the default time zone with
+     * milliseconds, the same as {@code XMLGregorianCalendar.toString()} for a
+     * {@link GregorianCalendar} set to the date.
+     *
+     * @param date the date
+     * @return the lexical form
+     */
+    public static String formatLocalDateTime(final Date date) {
+        final long millis = date.getTime();
+        final long epochSecond = Math.floorDiv(millis, 1000L);
+        final ZoneId zone = TimeZone.getDefault().toZoneId();
+        final ZoneOffset offset = zone.getRules().getOffset(Instant.ofEpochSecond(epochSecond));
+        final long localSecond = epochSecond + offset.getTotalSeconds();
+        if (localSecond < MIN_FAST_EPOCH_SECOND || localSecond >= MAX_FAST_EPOCH_SECOND
+                || offset.getTotalSeconds() % 60 != 0) {
+            final GregorianCalendar calendar = new GregorianCalendar();
+            calendar.setTime(date);
+            return datatypeFactory().newXMLGregorianCalendar(calendar).toString();
+        }
+
+        final LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochSecond, 0, offset);
+        final StringBuilder builder = new StringBuilder(29);
+        appendDateTime(builder, dateTime);
+        final int fraction = (int) Math.floorMod(millis, 1000L);
+        builder.append('.');
+        appendDigits(builder, fraction, 3);
+        if (offset.getTotalSeconds() == 0) {
+            builder.append('Z');
+        } else {
+            final int offsetMinutes = offset.getTotalSeconds() / 60;
+            builder.append(offsetMinutes < 0 ? '-' : '+');
+            appendDigits(builder, Math.abs(offsetMinutes) / 60, 2);
+            builder.append(':');
+            appendDigits(builder, Math.abs(offsetMinutes) % 60, 2);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Parses any XSD date/time lexical form like
+     * {@code DatatypeFactory.newXMLGregorianCalendar(lexicalForm).toGregorianCalendar().getTime()}.
+     *
+     * @param lexicalForm the lexical form
+     * @return the date
+     * @throws IllegalArgumentException if the lexical form is not valid
+     */
+    public static Date parseDate(final String lexicalForm) {
+        final Date date = parseZonedDateTime(lexicalForm);
+        if (date != null) {
+            return date;
+        }
+        return datatypeFactory().newXMLGregorianCalendar(lexicalForm).toGregorianCalendar().getTime();
+    }
+
+    /**
+     * Like {@link #parseDate(String)}, but returns {@code null} instead of
+     * throwing if the string is not an XSD date/time. Strings that cannot be
+     * one are rejected without parsing.
+     *
+     * @param value any string
+     * @return the date, or {@code null}
+     */
+    public static Date tryParseDate(final String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        final char first = value.charAt(0);
+        if (first != '-' && (first < '0' || first > '9')) {
+            return null;
+        }
+        try {
+            return parseDate(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param lexicalForm an {@code xsd:float} lexical form, including {@code INF}, {@code -INF} and {@code NaN}
+     * @return the value
+     */
+    public static Float parseFloat(final String lexicalForm) {
+        return (Float) XSDDatatype.XSDfloat.parseValidated(lexicalForm);
+    }
+
+    /**
+     * @param lexicalForm an {@code xsd:double} lexical form, including {@code INF}, {@code -INF} and {@code NaN}
+     * @return the value
+     */
+    public static Double parseDouble(final String lexicalForm) {
+        return (Double) XSDDatatype.XSDdouble.parseValidated(lexicalForm);
+    }
+
+    /**
+     * @param lexicalForm an {@code xsd:decimal} lexical form
+     * @return the value
+     */
+    public static BigDecimal parseDecimal(final String lexicalForm) {
+        return new BigDecimal(lexicalForm);
+    }
+
+    /**
+     * @param lexicalForm an {@code xsd:integer} lexical form
+     * @return the value
+     */
+    public static BigInteger parseInteger(final String lexicalForm) {
+        return new BigInteger(lexicalForm);
+    }
+
+    /**
+     * Parses {@code yyyy-MM-ddTHH:mm:ss[.S+](Z|+hh:mm|-hh:mm)}.
+     *
+     * @return the date, or {@code null} if the string has another form and
+     * needs the {@link DatatypeFactory}
+     */
+    private static Date parseZonedDateTime(final String s) {
+        final int length = s.length();
+        if (length < 20 || s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(10) != 'T'
+                || s.charAt(13) != ':' || s.charAt(16) != ':' || s.charAt(0) == '0') {
+            return null;
+        }
+
+        final int offsetStart;
+        final int offsetSeconds;
+        if (s.charAt(length - 1) == 'Z') {
+            offsetStart = length - 1;
+            offsetSeconds = 0;
+        } else if (length >= 25 && s.charAt(length - 3) == ':'
+                && (s.charAt(length - 6) == '+' || s.charAt(length - 6) == '-')) {
+            offsetStart = length - 6;
+            final int hours = digits(s, length - 5, length - 3);
+            final int minutes = digits(s, length - 2, length);
+            if (hours < 0 || minutes < 0 || hours > 14 || minutes > 59 || (hours == 14 && minutes != 0)) {
+                return null;
+            }
+            final int seconds = hours * 3600 + minutes * 60;
+            offsetSeconds = s.charAt(offsetStart) == '-' ? -seconds : seconds;
+        } else {
+            return null;
+        }
+
+        int millis = 0;
+        if (offsetStart > 19) {
+            if (s.charAt(19) != '.' || offsetStart == 20) {
+                return null;
+            }
+            for (int i = 20; i < offsetStart; i++) {
+                final char c = s.charAt(i);
+                if (c < '0' || c > '9') {
+                    return null;
+                }
+                if (i < 23) {
+                    millis = millis * 10 + (c - '0');
+                }
+            }
+            for (int i = Math.min(offsetStart, 23); i < 23; i++) {
+                millis *= 10;
+            }
+        } else if (offsetStart != 19) {
+            return null;
+        }
+
+        final int year = digits(s, 0, 4);
+        final int month = digits(s, 5, 7);
+        final int day = digits(s, 8, 10);
+        final int hour = digits(s, 11, 13);
+        final int minute = digits(s, 14, 16);
+        final int second = digits(s, 17, 19);
+        if (year < 1583 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0) {
+            return null;
+        }
+
+        try {
+            final long epochSecond = LocalDateTime.of(year, month, day, hour, minute, second)
+                    .toEpochSecond(ZoneOffset.ofTotalSeconds(offsetSeconds));
+            return new Date(epochSecond * 1000L + millis);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static int digits(final String s, final int start, final int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            final char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static void appendDateTime(final StringBuilder builder, final LocalDateTime dateTime) {
+        appendDigits(builder, dateTime.getYear(), 4);
+        builder.append('-');
+        appendDigits(builder, dateTime.getMonthValue(), 2);
+        builder.append('-');
+        appendDigits(builder, dateTime.getDayOfMonth(), 2);
+        builder.append('T');
+        appendDigits(builder, dateTime.getHour(), 2);
+        builder.append(':');
+        appendDigits(builder, dateTime.getMinute(), 2);
+        builder.append(':');
+        appendDigits(builder, dateTime.getSecond(), 2);
+    }
+
+    private static void appendDigits(final StringBuilder builder, final int value, final int width) {
+        int divisor = 1;
+        for (int i = 1; i < width; i++) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            builder.append((char) ('0' + value / divisor % 10));
+        }
+    }
+}
@@ -57,6 +57,90 @@ public interface OSLC4JConstants {
      */
     String LYO_STORE_PAGING_PRECISE_LIMIT = OSLC4J + "storePagingPreciseLimit";
 
+    /**
+     * System property {@value} : How resource bean getters and setters are invoked during
+     * (un)marshalling. "lambda" (default) generates accessors through LambdaMetafactory,
+     * "methodhandle" uses method handles and "reflection" uses Method.invoke.
+     */
+    String OSLC4J_PROPERTY_ACCESSORS = OSLC4J + "propertyAccessors";
+
+    /**
+     * System property {@value} : When "true" (default), JenaModelHelper uses the marshallers
+     * generated by the OSLC4J annotation processor for resource classes that have one. When
+     * "false", all resources are (un)marshalled reflectively.
+     */
+    String OSLC4J_GENERATED_MARSHALLERS = OSLC4J + "generatedMarshallers";
+
+    /**
+     * System property {@value} : Comma-separated list of the media types that the Jena
+     * providers serialize as a stream of triples instead of building a Jena Model first.
+     * Streaming is supported for Turtle, N-Triples and JSON-LD; the default is
+     * "application/n-triples". Set to an empty value to disable streaming.
+     */
+    String OSLC4J_STREAMING_MEDIA_TYPES = OSLC4J + "streamingMediaTypes";
+
+    /**
+     * System property {@value} : When "true", the Jena providers unmarshal request bodies
+     * incrementally, one block of contiguous triples at a time, instead of reading the whole body
+     * into a Jena Model first. Requires the triples of each resource to be contiguous. Default is
+     * "false".
+     */
+    String OSLC4J_INCREMENTAL_PARSING = OSLC4J + "incrementalParsing";
+
+    /**
+     * System property {@value} : When "true", JenaModelHelper marshals large resource arrays on
+     * the common fork-join pool, see {@link #OSLC4J_PARALLEL_MARSHALLING_THRESHOLD}. Default is
+     * "false".
+     */
+    String OSLC4J_PARALLEL_MARSHALLING = OSLC4J + "parallelMarshalling";
+
+    /**
+     * System property {@value} : The minimum number of resources for which parallel marshalling
+     * is used. Default is 1000.
+     */
+    String OSLC4J_PARALLEL_MARSHALLING_THRESHOLD = OSLC4J + "parallelMarshallingThreshold";
+
+    /**
+     * System property {@value} : When "true" (default), ResourcePackages maps the classes of
+     * the jars and directories that contain the rdf:type index written by the OSLC4J annotation
+     * processor (META-INF/lyo/oslc-resource-types) without scanning them; the rest of the
+     * classpath is scanned. When "false", the whole classpath is scanned.
+     */
+    String OSLC4J_RESOURCE_TYPE_INDEX = OSLC4J + "resourceTypeIndex";
+
+    /**
+     * System property {@value} : When "true", the JSON4J RDF/JSON providers write collection
+     * members to the response one at a time and read them with an event parser instead of
+     * building the whole document as a JSONObject tree. Default is "false".
+     */
+    String OSLC4J_JSON_STREAMING = OSLC4J + "jsonStreaming";
+
+    /**
+     * System property {@value} : When "true", JenaModelHelper shares the URI values it
+     * unmarshals, so that repeated references such as rdf:type, oslc:serviceProvider or
+     * dcterms:creator cost one instance each. Links are still created per value. Default is "false".
+     */
+    String OSLC4J_INTERN_URIS = OSLC4J + "internURIs";
+
+    /**
+     * System property {@value} : The maximum number of parsed OSLC query expressions kept by the
+     * shared ParsedQueryCache of oslc-query. Default is 1000.
+     */
+    String OSLC4J_QUERY_CACHE_SIZE = OSLC4J + "queryCacheSize";
+
+    /**
+     * System property {@value} : The maximum number of resource shapes and service providers kept
+     * by the shared OslcDocumentCache of the Jena provider. Default is 1000.
+     */
+    String OSLC4J_DOCUMENT_CACHE_SIZE = OSLC4J + "documentCacheSize";
+
+    /**
+     * System property {@value} : Which parser QueryUtils of oslc-query uses for the OSLC query
+     * parameters. "antlr" (default) uses the ANTLR grammars, "handwritten" uses a recursive-descent
+     * parser that builds the same clauses and rejects any input it cannot consume entirely.
+     */
+    String OSLC4J_QUERY_PARSER = OSLC4J + "queryParser";
+
 
     /*Properties below not used in OSLC4JUtils*/
 
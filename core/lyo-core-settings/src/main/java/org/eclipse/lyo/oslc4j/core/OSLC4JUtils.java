@@ -24,13 +24,12 @@ import java.net.URI;
 import java.net.URL;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
-import java.util.Calendar;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.xml.XMLConstants;
 import javax.xml.datatype.DatatypeConfigurationException;
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -39,7 +38,6 @@ import javax.xml.parsers.ParserConfigurationException;
 import org.apache.jena.datatypes.DatatypeFormatException;
 import org.apache.jena.datatypes.RDFDatatype;
 import org.apache.jena.datatypes.TypeMapper;
-import org.apache.jena.datatypes.xsd.XSDDatatype;
 import org.apache.jena.datatypes.xsd.XSDDateTime;
 import org.apache.jena.datatypes.xsd.impl.XMLLiteralType;
 import org.apache.jena.ext.com.google.common.base.Strings;
@@ -71,6 +69,11 @@ public class OSLC4JUtils {
 	private static String servletPath = null;
 	private static String servletURI = null;
 
+	/**
+	 * Incremented whenever the public URI or the servlet path changes.
+	 */
+	private static final AtomicLong uriConfigurationVersion = new AtomicLong();
+
 	/**
 	 * This constant should be set to true for matching the resource rdf:type to
 	 * the describes parameter of the OslcResourceShape annotation. By default
@@ -102,6 +105,101 @@ public class OSLC4JUtils {
 		return parseBooleanPropertyOrDefault(OSLC4JConstants.OSLC4J_ALWAYS_XML_ABBREV, false);
 	}
 
+	/**
+	 * Returns the boolean value of org.eclipse.lyo.oslc4j.generatedMarshallers. Default is true if
+	 * not set or invalid (generated marshallers are used when present)
+	 */
+	public static boolean useGeneratedMarshallers() {
+		return parseBooleanPropertyOrDefault(OSLC4JConstants.OSLC4J_GENERATED_MARSHALLERS, true);
+	}
+
+	/**
+	 * Returns the media types listed in org.eclipse.lyo.oslc4j.streamingMediaTypes. Default is
+	 * "application/n-triples" if not set; an empty value disables streaming serialization.
+	 */
+	public static List<String> getStreamingMediaTypes() {
+		final String property = System.getProperty(OSLC4JConstants.OSLC4J_STREAMING_MEDIA_TYPES,
+				"application/n-triples");
+		final List<String> mediaTypes = new ArrayList<>();
+		for (final String mediaType : property.split(",")) {
+			if (!mediaType.isBlank()) {
+				mediaTypes.add(mediaType.trim());
+			}
+		}
+		return mediaTypes;
+	}
+
+	/**
+	 * Returns the boolean value of org.eclipse.lyo.oslc4j.incrementalParsing. Default is false if
+	 * not set or invalid (request bodies are read into a Jena Model before unmarshalling)
+	 */
+	public static boolean useIncrementalParsing() {
+		return parseBooleanPropertyOrDefault(OSLC4JConstants.OSLC4J_INCREMENTAL_PARSING, false);
+	}
+
+	/**
+	 * Returns the boolean value of org.eclipse.lyo.oslc4j.parallelMarshalling. Default is false if
+	 * not set or invalid (resources are marshalled on the calling thread)
+	 */
+	public static boolean useParallelMarshalling() {
+		return parseBooleanPropertyOrDefault(OSLC4JConstants.OSLC4J_PARALLEL_MARSHALLING, false);
+	}
+
+	/**
+	 * Returns the boolean value of org.eclipse.lyo.oslc4j.resourceTypeIndex. Default is true if
+	 * not set or invalid (packages listed in an rdf:type index are not scanned)
+	 */
+	public static boolean useResourceTypeIndex() {
+		return parseBooleanPropertyOrDefault(OSLC4JConstants.OSLC4J_RESOURCE_TYPE_INDEX, true);
+	}
+
+	/**
+	 * Returns the boolean value of org.eclipse.lyo.oslc4j.jsonStreaming. Default is false if
+	 * not set or invalid (JSON documents are built as a JSONObject tree)
+	 */
+	public static boolean useJsonStreaming() {
+		return parseBooleanPropertyOrDefault(OSLC4JConstants.OSLC4J_JSON_STREAMING, false);
+	}
+
+	/**
+	 * Returns the boolean value of org.eclipse.lyo.oslc4j.internURIs. Default is false if
+	 * not set or invalid (every unmarshalled URI and Link is a new instance)
+	 */
+	public static boolean useUriInterning() {
+		return parseBooleanPropertyOrDefault(OSLC4JConstants.OSLC4J_INTERN_URIS, false);
+	}
+
+	/**
+	 * Returns the value of org.eclipse.lyo.oslc4j.queryCacheSize. Default is 1000 if not set.
+	 */
+	public static int getQueryCacheSize() {
+		return parseIntPropertyOrDefault(OSLC4JConstants.OSLC4J_QUERY_CACHE_SIZE, 1000);
+	}
+
+	/**
+	 * Returns the value of org.eclipse.lyo.oslc4j.documentCacheSize. Default is 1000 if not set.
+	 */
+	public static int getDocumentCacheSize() {
+		return parseIntPropertyOrDefault(OSLC4JConstants.OSLC4J_DOCUMENT_CACHE_SIZE, 1000);
+	}
+
+	/**
+	 * Returns true if org.eclipse.lyo.oslc4j.queryParser is "handwritten". Default is "antlr" if
+	 * not set.
+	 */
+	public static boolean useHandwrittenQueryParser() {
+		return "handwritten".equalsIgnoreCase(
+				System.getProperty(OSLC4JConstants.OSLC4J_QUERY_PARSER, "antlr").trim());
+	}
+
+	/**
+	 * Returns the value of org.eclipse.lyo.oslc4j.parallelMarshallingThreshold. Default is 1000 if
+	 * not set.
+	 */
+	public static int getParallelMarshallingThreshold() {
+		return parseIntPropertyOrDefault(OSLC4JConstants.OSLC4J_PARALLEL_MARSHALLING_THRESHOLD, 1000);
+	}
+
 	/**
 	 * Returns the boolean value of org.eclipse.lyo.oslc4j.disableRelativeURIs Default is true if
 	 * not set or invalid (relative URIs will not be allowed)
@@ -245,6 +343,20 @@ public class OSLC4JUtils {
 			new URL(newPublicURI);
 		}
 		publicURI = newPublicURI;
+		uriConfigurationVersion.incrementAndGet();
+	}
+
+	/**
+	 * Returns a counter that changes whenever {@link #setPublicURI(String)} or
+	 * {@link #setServletPath(String)} is called. Caches of documents that contain URIs built
+	 * from these settings compare it to detect stale entries.
+	 *
+	 * @return the current version of the URI configuration
+	 * @since 7.0.0
+	 */
+	public static long getUriConfigurationVersion()
+	{
+		return uriConfigurationVersion.get();
 	}
 
 	/**
@@ -466,6 +578,7 @@ public class OSLC4JUtils {
 			servletPath = null;
 			servletURI = null;
 		}
+		uriConfigurationVersion.incrementAndGet();
 	}
 
 	private static UriBuilder servletUriBuilderFrom(final HttpServletRequest request) {
@@ -567,6 +680,29 @@ public class OSLC4JUtils {
 		return value;
 	}
 
+	/**
+	 * @param key          key to get a system property
+	 * @param defaultValue used only if the property is missing
+	 *
+	 * @return int value of a property, the default value if it's missing or a
+	 *         NumberFormatException if the property value is malformed
+	 */
+	private static int parseIntPropertyOrDefault(final String key, final int defaultValue) {
+		final String property = System.getProperty(key);
+		if (Strings.isNullOrEmpty(property)) {
+			return defaultValue;
+		}
+		try {
+			return Integer.parseInt(property.trim());
+		} catch (NumberFormatException e) {
+			log.error("System property '{}' holds illegal value: '{}' (only integers are allowed)",
+					key,
+					property
+			);
+			throw e;
+		}
+	}
+
 	/**
 	 * This method returns true if the given Resource Shape describes array
 	 * matches the list of RDF types.
@@ -614,11 +750,11 @@ public class OSLC4JUtils {
 	}
 
 	private static Object floatPropertyFrom(final Object originalValue) {
-		return XSDDatatype.XSDfloat.parseValidated(originalValue.toString());
+		return LiteralConverter.parseFloat(originalValue.toString());
 	}
 
 	private static Object doublePropertyFrom(final Object originalValue) {
-		return XSDDatatype.XSDdouble.parseValidated(originalValue.toString());
+		return LiteralConverter.parseDouble(originalValue.toString());
 	}
 
 	private static Object booleanPropertyFrom(final Object originalValue) {
@@ -644,15 +780,8 @@ public class OSLC4JUtils {
 		}
 	}
 
-	private static Object datePropertyFrom(final Object originalValue)
-			throws DatatypeConfigurationException {
-		String dateStr = originalValue.toString();
-		Calendar calendar;
-		calendar = DatatypeFactory.newInstance()
-								  .newXMLGregorianCalendar(dateStr)
-								  .toGregorianCalendar();
-		final XSDDateTime xsdDateTime = new XSDDateTime(calendar);
-		return xsdDateTime.asCalendar().getTime();
+	private static Object datePropertyFrom(final Object originalValue) {
+		return LiteralConverter.parseDate(originalValue.toString());
 	}
 
 	private static XMLLiteral xmlLiteralPropertyFrom(final Object originalValue) {
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Random;
+import java.util.TimeZone;
+
+import javax.xml.datatype.DatatypeFactory;
+
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.junit.Test;
+
+public class LiteralConverterTest {
+
+    @Test
+    public void datatypeFactoryIsCachedPerThread() {
+        assertThat(LiteralConverter.datatypeFactory()).isSameAs(LiteralConverter.datatypeFactory());
+    }
+
+    @Test
+    public void datatypesAreLookedUpByClass() {
+        assertThat(LiteralConverter.datatypeOf(Integer.class)).isEqualTo(XSDDatatype.XSDint);
+        assertThat(LiteralConverter.datatypeOf(BigDecimal.class)).isEqualTo(XSDDatatype.XSDdecimal);
+        assertThat(LiteralConverter.datatypeOf(BigInteger.class)).isEqualTo(XSDDatatype.XSDinteger);
+        assertThat(LiteralConverter.datatypeOf(LiteralConverterTest.class)).isNull();
+    }
+
+    @Test
+    public void datesAreFormattedLikeJenaAndXmlGregorianCalendar() throws Exception {
+        final Model model = ModelFactory.createDefaultModel();
+        final DatatypeFactory factory = DatatypeFactory.newInstance();
+        final TimeZone defaultTimeZone = TimeZone.getDefault();
+        final Random random = new Random(42);
+        try {
+            for (String zone : new String[] {"UTC", "Europe/Berlin", "America/St_Johns", "Asia/Kolkata"}) {
+                TimeZone.setDefault(TimeZone.getTimeZone(zone));
+                for (int i = 0; i < 2000; i++) {
+                    // years 1583 to 9999; older dates differ between Jena and XMLGregorianCalendar
+                    final Date date = new Date(-12_212_553_600_000L
+                            + Math.floorMod(random.nextLong(), 265_614_854_400_000L));
+                    final Calendar calendar = Calendar.getInstance();
+                    calendar.setTime(date);
+                    final GregorianCalendar gregorianCalendar = new GregorianCalendar();
+                    gregorianCalendar.setTime(date);
+
+                    final String dateTime = LiteralConverter.formatDateTime(date);
+                    final String localDateTime = LiteralConverter.formatLocalDateTime(date);
+
+                    assertThat(dateTime).isEqualTo(model.createTypedLiteral(calendar).getLexicalForm());
+                    assertThat(localDateTime)
+                            .isEqualTo(factory.newXMLGregorianCalendar(gregorianCalendar).toString());
+                    assertThat(LiteralConverter.parseDate(dateTime)).isEqualTo(date);
+                    assertThat(LiteralConverter.parseDate(localDateTime)).isEqualTo(
+                            factory.newXMLGregorianCalendar(localDateTime).toGregorianCalendar().getTime());
+                }
+            }
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test
+    public void datesAreParsedLikeXmlGregorianCalendar() throws Exception {
+        final DatatypeFactory factory = DatatypeFactory.newInstance();
+        for (String lexicalForm : new String[] {"2020-01-01T10:00:00.123456789Z", "2020-01-01T10:00:00.5-05:30",
+                "2020-01-01T24:00:00Z", "2020-01-01T10:00:00", "2020-01-01", "2020-01-01T10:00:00+14:00",
+                "2020-01-01T10:00:00-00:00", "1500-01-01T00:00:00Z", "--05"}) {
+            assertThat(LiteralConverter.parseDate(lexicalForm)).as(lexicalForm)
+                    .isEqualTo(factory.newXMLGregorianCalendar(lexicalForm).toGregorianCalendar().getTime());
+        }
+        for (String lexicalForm : new String[] {"2020-02-30T00:00:00Z", "2020-01-01T10:00Z",
+                "2020-01-01T10:00:00+15:00", "2020-13-01T00:00:00Z", "2020-01-01T10:00:00.Z"}) {
+            assertThatThrownBy(() -> LiteralConverter.parseDate(lexicalForm)).as(lexicalForm)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    public void tryParseDateRejectsOtherStrings() {
+        assertThat(LiteralConverter.tryParseDate("2020-01-01T10:00:00Z")).isEqualTo(new Date(1577872800000L));
+        assertThat(LiteralConverter.tryParseDate("")).isNull();
+        assertThat(LiteralConverter.tryParseDate("title")).isNull();
+        assertThat(LiteralConverter.tryParseDate("2020-01-01 10:00")).isNull();
+    }
+
+    @Test
+    public void numbersAreParsedAsXsdLexicalForms() {
+        assertThat(LiteralConverter.parseFloat("INF")).isEqualTo(Float.POSITIVE_INFINITY);
+        assertThat(LiteralConverter.parseDouble("-INF")).isEqualTo(Double.NEGATIVE_INFINITY);
+        assertThat(LiteralConverter.parseDouble("1.5E3")).isEqualTo(1500d);
+        assertThat(LiteralConverter.parseDecimal("1.50")).isEqualTo(new BigDecimal("1.50"));
+        assertThat(LiteralConverter.parseInteger("-42")).isEqualTo(BigInteger.valueOf(-42));
+    }
+}
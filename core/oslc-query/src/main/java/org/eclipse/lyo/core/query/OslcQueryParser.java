@@ -0,0 +1,740 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.core.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lyo.core.query.ComparisonTerm.Operator;
+import org.eclipse.lyo.core.query.impl.BooleanValueImpl;
+import org.eclipse.lyo.core.query.impl.ComparisonTermImpl;
+import org.eclipse.lyo.core.query.impl.CompoundTermImpl;
+import org.eclipse.lyo.core.query.impl.DecimalValueImpl;
+import org.eclipse.lyo.core.query.impl.IdentifierImpl;
+import org.eclipse.lyo.core.query.impl.InTermImpl;
+import org.eclipse.lyo.core.query.impl.LangedStringValueImpl;
+import org.eclipse.lyo.core.query.impl.NestedPropertyImpl;
+import org.eclipse.lyo.core.query.impl.OrderByClauseImpl;
+import org.eclipse.lyo.core.query.impl.ScopedSortTermImpl;
+import org.eclipse.lyo.core.query.impl.SimpleSortTermImpl;
+import org.eclipse.lyo.core.query.impl.SortTermsImpl;
+import org.eclipse.lyo.core.query.impl.StringValueImpl;
+import org.eclipse.lyo.core.query.impl.TypedValueImpl;
+import org.eclipse.lyo.core.query.impl.UriRefValueImpl;
+import org.eclipse.lyo.core.query.impl.WhereClauseImpl;
+import org.eclipse.lyo.core.query.impl.WildcardImpl;
+
+/**
+ * Hand-written recursive-descent parser for the OSLC query parameters,
+ * an alternative to the ANTLR grammars selected with
+ * {@link org.eclipse.lyo.oslc4j.core.OSLC4JConstants#OSLC4J_QUERY_PARSER}.<p>
+ *
+ * It reads the expression in place, builds the same clauses as the
+ * ANTLR grammars and stops at the first error with a single
+ * {@link ParseException}. It is stricter than the ANTLR parsers, which
+ * ignore what they cannot lex: the whole expression must match. As in
+ * the grammars, {@code oslc.where} only allows spaces in
+ * <code>" and "</code>, after <code>" in"</code> and at the end, while
+ * the other parameters allow whitespace between tokens.
+ */
+final class OslcQueryParser
+{
+	private
+	OslcQueryParser(
+		CharSequence input,
+		Map<String, String> prefixMap
+	)
+	{
+		this.input = input;
+		this.prefixMap = prefixMap;
+	}
+
+	/**
+	 * Parse an oslc.prefix expression into {@code prefixMap}
+	 */
+	static void
+	parsePrefixes(
+		CharSequence prefixExpression,
+		Map<String, String> prefixMap
+	) throws ParseException
+	{
+		OslcQueryParser parser = new OslcQueryParser(prefixExpression, null);
+
+		do {
+			parser.skipWhitespace();
+
+			int start = parser.position;
+
+			parser.prefix();
+
+			String prefix = parser.text(start, parser.position);
+
+			parser.skipWhitespace();
+			parser.expect('=');
+			parser.skipWhitespace();
+
+			prefixMap.put(prefix, parser.iriRef());
+
+			parser.skipWhitespace();
+
+		} while (parser.accept(','));
+
+		parser.expectEnd();
+	}
+
+	static WhereClause
+	parseWhere(
+		CharSequence whereExpression,
+		Map<String, String> prefixMap
+	) throws ParseException
+	{
+		OslcQueryParser parser = new OslcQueryParser(whereExpression, prefixMap);
+
+		List<SimpleTerm> terms = parser.simpleTerms();
+
+		parser.skipWhitespace();
+		parser.expectEnd();
+
+		return new WhereClauseImpl(terms);
+	}
+
+	/**
+	 * Parse an oslc.select or oslc.properties expression
+	 */
+	static List<Property>
+	parseProperties(
+		CharSequence propertiesExpression,
+		Map<String, String> prefixMap
+	) throws ParseException
+	{
+		OslcQueryParser parser = new OslcQueryParser(propertiesExpression, prefixMap);
+
+		List<Property> properties = parser.properties();
+
+		parser.expectEnd();
+
+		return properties;
+	}
+
+	static OrderByClause
+	parseOrderBy(
+		CharSequence orderByExpression,
+		Map<String, String> prefixMap
+	) throws ParseException
+	{
+		OslcQueryParser parser = new OslcQueryParser(orderByExpression, prefixMap);
+
+		List<SortTerm> sortTerms = parser.sortTerms();
+
+		parser.expectEnd();
+
+		return new OrderByClauseImpl(sortTerms);
+	}
+
+	/**
+	 * Parse an oslc.searchTerms expression into {@code searchTerms}
+	 */
+	static void
+	parseSearchTerms(
+		CharSequence searchTermsExpression,
+		List<String> searchTerms
+	) throws ParseException
+	{
+		OslcQueryParser parser = new OslcQueryParser(searchTermsExpression, null);
+
+		do {
+			parser.skipWhitespace();
+
+			int start = parser.position;
+
+			parser.stringLiteral();
+
+			searchTerms.add(parser.text(start + 1, parser.position - 1));
+
+			parser.skipWhitespace();
+
+		} while (parser.accept(','));
+
+		parser.expectEnd();
+	}
+
+	// oslc.where
+
+	private List<SimpleTerm>
+	simpleTerms() throws ParseException
+	{
+		List<SimpleTerm> terms = new ArrayList<>();
+
+		do {
+			terms.add(simpleTerm());
+		} while (accept(" and "));
+
+		return terms;
+	}
+
+	private SimpleTerm
+	simpleTerm() throws ParseException
+	{
+		PName property =
+			accept('*') ?
+				pname(null, "*") :
+				prefixedName();
+
+		if (accept('{')) {
+
+			List<SimpleTerm> terms = simpleTerms();
+
+			expect('}');
+
+			return new CompoundTermImpl(property, terms);
+		}
+
+		if (accept(" in")) {
+
+			while (accept(' ')) {
+				// spaces before the value list
+			}
+
+			expect('[');
+
+			List<Value> values = new ArrayList<>();
+
+			do {
+				values.add(value());
+			} while (accept(','));
+
+			expect(']');
+
+			return new InTermImpl(property, values);
+		}
+
+		Operator operator = operator();
+
+		return new ComparisonTermImpl(property, operator, value());
+	}
+
+	private Operator
+	operator() throws ParseException
+	{
+		if (accept('=')) {
+			return Operator.EQUALS;
+		}
+		if (accept("!=")) {
+			return Operator.NOT_EQUALS;
+		}
+		if (accept("<=")) {
+			return Operator.LESS_EQUALS;
+		}
+		if (accept(">=")) {
+			return Operator.GREATER_EQUALS;
+		}
+		if (accept('<')) {
+			return Operator.LESS_THAN;
+		}
+		if (accept('>')) {
+			return Operator.GREATER_THAN;
+		}
+
+		throw error("expected a comparison operator");
+	}
+
+	private Value
+	value() throws ParseException
+	{
+		int start = position;
+		char c = peek();
+
+		if (c == '<') {
+			return new UriRefValueImpl(iriRef());
+		}
+
+		if (c == '"') {
+
+			stringLiteral();
+
+			String value = text(start + 1, position - 1);
+
+			if (accept("^^")) {
+				return new TypedValueImpl(value, prefixedName());
+			}
+
+			if (peek() == '@') {
+				return new LangedStringValueImpl(value, langTag());
+			}
+
+			return new StringValueImpl(value);
+		}
+
+		if (accept("true")) {
+			return new BooleanValueImpl(true);
+		}
+
+		if (accept("false")) {
+			return new BooleanValueImpl(false);
+		}
+
+		if (isDigit(c) || c == '+' || c == '-' || c == '.') {
+			return new DecimalValueImpl(decimal());
+		}
+
+		if (c == ':' || isPnCharsBase(c)) {
+
+			prefixedName();
+
+			// The grammar accepts a prefixed name but there is no value type for it
+			throw new ParseException("unspported literal value type: " +
+					text(start, position));
+		}
+
+		throw error("expected a value");
+	}
+
+	private String
+	decimal() throws ParseException
+	{
+		int start = position;
+
+		if (! accept('+')) {
+			accept('-');
+		}
+
+		int digits = digits();
+
+		if (accept('.')) {
+			digits += digits();
+		}
+
+		if (digits == 0) {
+			throw error("expected a digit");
+		}
+
+		return text(start, position);
+	}
+
+	private int
+	digits()
+	{
+		int start = position;
+
+		while (isDigit(peek())) {
+			position++;
+		}
+
+		return position - start;
+	}
+
+	private String
+	langTag() throws ParseException
+	{
+		expect('@');
+
+		int start = position;
+
+		if (! isAlpha(peek())) {
+			throw error("expected a language tag");
+		}
+
+		while (isAlpha(peek())) {
+			position++;
+		}
+
+		while (peek() == '-' && isAlphaOrDigit(peekAt(position + 1))) {
+
+			position++;
+
+			while (isAlphaOrDigit(peek())) {
+				position++;
+			}
+		}
+
+		return text(start, position);
+	}
+
+	// oslc.select and oslc.properties
+
+	private List<Property>
+	properties() throws ParseException
+	{
+		List<Property> properties = new ArrayList<>();
+
+		do {
+			skipWhitespace();
+
+			PName identifier =
+				accept('*') ?
+					null :
+					prefixedName();
+
+			skipWhitespace();
+
+			if (accept('{')) {
+
+				List<Property> children = properties();
+
+				expect('}');
+				skipWhitespace();
+
+				properties.add(new NestedPropertyImpl(identifier, children));
+
+			} else {
+				properties.add(identifier == null ?
+						WildcardImpl.INSTANCE :
+						new IdentifierImpl(identifier));
+			}
+
+		} while (accept(','));
+
+		return properties;
+	}
+
+	// oslc.orderBy
+
+	private List<SortTerm>
+	sortTerms() throws ParseException
+	{
+		List<SortTerm> sortTerms = new ArrayList<>();
+
+		do {
+			skipWhitespace();
+
+			char direction = peek();
+
+			if (direction == '+' || direction == '-') {
+
+				position++;
+				skipWhitespace();
+
+				sortTerms.add(new SimpleSortTermImpl(prefixedName(), direction == '+'));
+
+			} else {
+
+				PName identifier = prefixedName();
+
+				skipWhitespace();
+				expect('{');
+
+				List<SortTerm> children = sortTerms();
+
+				expect('}');
+
+				sortTerms.add(new ScopedSortTermImpl(identifier, new SortTermsImpl(children)));
+			}
+
+			skipWhitespace();
+
+		} while (accept(','));
+
+		return sortTerms;
+	}
+
+	// Tokens
+
+	/**
+	 * PNAME_LN or PNAME_NS; e.g. {@code dcterms:title} or {@code dcterms:}
+	 */
+	private PName
+	prefixedName() throws ParseException
+	{
+		int start = position;
+		String prefix = null;
+
+		if (peek() != ':') {
+			prefix();
+			prefix = text(start, position);
+		}
+
+		expect(':');
+
+		start = position;
+
+		if (isPnCharsU(peek()) || isDigit(peek())) {
+
+			position++;
+			nameChars();
+		}
+
+		return pname(prefix, text(start, position));
+	}
+
+	/**
+	 * PN_PREFIX
+	 */
+	private void
+	prefix() throws ParseException
+	{
+		if (! isPnCharsBase(peek())) {
+			throw error("expected a prefix");
+		}
+
+		position++;
+		nameChars();
+	}
+
+	/**
+	 * The (PN_CHARS|DOT)* PN_CHARS part of PN_PREFIX and PN_LOCAL
+	 */
+	private void
+	nameChars() throws ParseException
+	{
+		while (isPnChars(peek()) || peek() == '.') {
+			position++;
+		}
+
+		if (input.charAt(position - 1) == '.') {
+			throw error("a name cannot end with '.'");
+		}
+	}
+
+	/**
+	 * IRI_REF, returned without the angle brackets
+	 */
+	private String
+	iriRef() throws ParseException
+	{
+		expect('<');
+
+		int start = position;
+
+		while (position < input.length()) {
+
+			char c = input.charAt(position);
+
+			if (c == '>') {
+				position++;
+				return text(start, position - 1);
+			}
+
+			if (c <= ' ' || c == '<' || c == '"' || c == '{' || c == '}' ||
+				c == '|' || c == '^' || c == '\\' || c == '`') {
+				throw error("illegal character in IRI");
+			}
+
+			position++;
+		}
+
+		throw error("unterminated IRI");
+	}
+
+	/**
+	 * STRING_LITERAL, left unescaped as in the grammars
+	 */
+	private void
+	stringLiteral() throws ParseException
+	{
+		expect('"');
+
+		while (position < input.length()) {
+
+			char c = input.charAt(position++);
+
+			if (c == '"') {
+				return;
+			}
+
+			if (c == '\\') {
+
+				char escaped = peek();
+
+				if ("tbnrf\\\"'".indexOf(escaped) < 0) {
+					throw error("illegal escape sequence");
+				}
+
+				position++;
+
+			} else if (c == '\n' || c == '\r') {
+				throw error("line break in string");
+			}
+		}
+
+		throw error("unterminated string");
+	}
+
+	// Helpers
+
+	private PName
+	pname(
+		String prefix,
+		String local
+	)
+	{
+		PName pname = new PName();
+
+		pname.prefix = prefix;
+		pname.namespace = prefix == null || prefixMap == null ? null : prefixMap.get(prefix);
+		pname.local = local;
+
+		return pname;
+	}
+
+	private boolean
+	accept(char c)
+	{
+		if (peek() == c && position < input.length()) {
+			position++;
+			return true;
+		}
+
+		return false;
+	}
+
+	private boolean
+	accept(String token)
+	{
+		int length = token.length();
+
+		if (position + length > input.length()) {
+			return false;
+		}
+
+		for (int index = 0; index < length; index++) {
+			if (input.charAt(position + index) != token.charAt(index)) {
+				return false;
+			}
+		}
+
+		position += length;
+
+		return true;
+	}
+
+	private void
+	expect(char c) throws ParseException
+	{
+		if (! accept(c)) {
+			throw error("expected '" + c + "'");
+		}
+	}
+
+	private void
+	expectEnd() throws ParseException
+	{
+		if (position < input.length()) {
+			throw error("unexpected input");
+		}
+	}
+
+	private void
+	skipWhitespace()
+	{
+		while (position < input.length()) {
+
+			char c = input.charAt(position);
+
+			if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+				return;
+			}
+
+			position++;
+		}
+	}
+
+	private char
+	peek()
+	{
+		return peekAt(position);
+	}
+
+	private char
+	peekAt(int index)
+	{
+		return index < input.length() ? input.charAt(index) : END;
+	}
+
+	private String
+	text(
+		int start,
+		int end
+	)
+	{
+		return input.subSequence(start, end).toString();
+	}
+
+	private ParseException
+	error(String message)
+	{
+		String found =
+			position < input.length() ?
+				"'" + input.charAt(position) + "'" :
+				"end of input";
+
+		return new ParseException("offset " + position + ": " + message +
+				", found " + found);
+	}
+
+	private static boolean
+	isDigit(char c)
+	{
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean
+	isAlpha(char c)
+	{
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	private static boolean
+	isAlphaOrDigit(char c)
+	{
+		return isAlpha(c) || isDigit(c);
+	}
+
+	private static boolean
+	isPnCharsBase(char c)
+	{
+		if (isAlpha(c)) {
+			return true;
+		}
+
+		return
+			(c >= '\u00C0' && c <= '\u00D6') ||
+			(c >= '\u00D8' && c <= '\u00F6') ||
+			(c >= '\u00F8' && c <= '\u02FF') ||
+			(c >= '\u0370' && c <= '\u037D') ||
+			(c >= '\u037F' && c <= '\u1FFF') ||
+			(c >= '\u200C' && c <= '\u200D') ||
+			(c >= '\u2070' && c <= '\u218F') ||
+			(c >= '\u2C00' && c <= '\u2FEF') ||
+			(c >= '\u3001' && c <= '\uD7FF') ||
+			(c >= '\uF900' && c <= '\uFDCF') ||
+			(c >= '\uFDF0' && c <= '\uFFFD');
+	}
+
+	private static boolean
+	isPnCharsU(char c)
+	{
+		return c == '_' || isPnCharsBase(c);
+	}
+
+	private static boolean
+	isPnChars(char c)
+	{
+		if (isPnCharsU(c) || c == '-' || isDigit(c)) {
+			return true;
+		}
+
+		return
+			c == '\u00B7' ||
+			(c >= '\u0300' && c <= '\u036F') ||
+			(c >= '\u203F' && c <= '\u2040');
+	}
+
+	// Returned past the end of the input, not a character of any token
+	private static final char END = '\u0000';
+
+	private final CharSequence input;
+	private final Map<String, String> prefixMap;
+	private int position = 0;
+}
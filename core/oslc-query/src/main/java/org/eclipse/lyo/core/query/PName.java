@@ -13,6 +13,8 @@
  */
 package org.eclipse.lyo.core.query;
 
+import java.util.Objects;
+
 public class PName {
 	public String namespace;
 	public String prefix;
@@ -20,4 +22,21 @@ public class PName {
 	public String toString(){
 		return prefix + ':' + local;
 	}
+	@Override
+	public boolean equals(Object obj){
+		if (this == obj) {
+			return true;
+		}
+		if (! (obj instanceof PName)) {
+			return false;
+		}
+		PName other = (PName)obj;
+		return Objects.equals(namespace, other.namespace) &&
+			Objects.equals(prefix, other.prefix) &&
+			Objects.equals(local, other.local);
+	}
+	@Override
+	public int hashCode(){
+		return Objects.hash(namespace, prefix, local);
+	}
 }
@@ -0,0 +1,373 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.core.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.eclipse.lyo.oslc4j.core.OSLC4JUtils;
+
+/**
+ * Size-bounded cache of parsed OSLC query expressions, for servers
+ * that receive the same {@code oslc.where}, {@code oslc.select},
+ * {@code oslc.properties}, {@code oslc.orderBy},
+ * {@code oslc.searchTerms} and {@code oslc.prefix} parameters over
+ * and over.<p>
+ *
+ * Expressions are parsed with {@link QueryUtils} and cached by
+ * expression, prefix map and the parser chosen by
+ * {@link OSLC4JUtils#useHandwrittenQueryParser()}. The returned clauses and maps are
+ * immutable and shared between callers; the {@link PName}s of a
+ * clause must not be modified either. Expressions that fail to parse
+ * are not cached.<p>
+ *
+ * The cache is safe for concurrent use. When it grows past its
+ * maximum size, the least recently used quarter of the entries is
+ * evicted.
+ *
+ * @since 7.0.0
+ */
+public final class ParsedQueryCache
+{
+	/**
+	 * @return the shared cache, sized by
+	 * {@link OSLC4JConstants#OSLC4J_QUERY_CACHE_SIZE}
+	 */
+	public static ParsedQueryCache
+	getInstance()
+	{
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * @param maximumSize maximum number of cached expressions
+	 */
+	public
+	ParsedQueryCache(int maximumSize)
+	{
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+		}
+
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * @see QueryUtils#parsePrefixes(String)
+	 */
+	public Map<String, String>
+	parsePrefixes(
+		String prefixExpression
+	) throws ParseException
+	{
+		if (prefixExpression == null) {
+			return Collections.emptyMap();
+		}
+
+		@SuppressWarnings("unchecked")
+		Map<String, String> prefixMap = (Map<String, String>)
+			get(Kind.PREFIXES, prefixExpression, null,
+				() -> Collections.unmodifiableMap(
+						QueryUtils.parsePrefixes(prefixExpression))).clause;
+
+		return prefixMap;
+	}
+
+	/**
+	 * @see QueryUtils#parseWhere(String, Map)
+	 */
+	public WhereClause
+	parseWhere(
+		String whereExpression,
+		Map<String, String> prefixMap
+	) throws ParseException
+	{
+		return (WhereClause)
+			get(Kind.WHERE, whereExpression, prefixMap,
+				() -> QueryUtils.parseWhere(whereExpression, prefixMap)).clause;
+	}
+
+	/**
+	 * @see QueryUtils#parseSelect(String, Map)
+	 */
+	public SelectClause
+	parseSelect(
+		String selectExpression,
+		Map<String, String> prefixMap
+	) throws ParseException
+	{
+		return (SelectClause)selectEntry(selectExpression, prefixMap).clause;
+	}
+
+	/**
+	 * @see QueryUtils#parseProperties(String, Map)
+	 */
+	public PropertiesClause
+	parseProperties(
+		String propertiesExpression,
+		Map<String, String> prefixMap
+	) throws ParseException
+	{
+		return (PropertiesClause)
+			get(Kind.PROPERTIES, propertiesExpression, prefixMap,
+				() -> QueryUtils.parseProperties(propertiesExpression, prefixMap)).clause;
+	}
+
+	/**
+	 * @see QueryUtils#parseOrderBy(String, Map)
+	 */
+	public OrderByClause
+	parseOrderBy(
+		String orderByExpression,
+		Map<String, String> prefixMap
+	) throws ParseException
+	{
+		return (OrderByClause)
+			get(Kind.ORDER_BY, orderByExpression, prefixMap,
+				() -> QueryUtils.parseOrderBy(orderByExpression, prefixMap)).clause;
+	}
+
+	/**
+	 * @see QueryUtils#parseSearchTerms(String)
+	 */
+	public SearchTermsClause
+	parseSearchTerms(
+		String searchTermsExpression
+	) throws ParseException
+	{
+		return (SearchTermsClause)
+			get(Kind.SEARCH_TERMS, searchTermsExpression, null,
+				() -> QueryUtils.parseSearchTerms(searchTermsExpression)).clause;
+	}
+
+	/**
+	 * Parse an {@code oslc.select} or {@code oslc.properties} expression
+	 * and invert it with {@link QueryUtils#invertSelectedProperties(Properties)}.
+	 * The inverted map is computed once and cached with the parsed clause.
+	 *
+	 * @param selectExpression contents of an oslc.select or
+	 * oslc.properties HTTP query parameter
+	 * @param prefixMap map between XML namespace prefixes and
+	 * associated URLs
+	 *
+	 * @return the unmodifiable property map
+	 *
+	 * @throws ParseException
+	 */
+	public Map<String, Object>
+	invertSelectedProperties(
+		String selectExpression,
+		Map<String, String> prefixMap
+	) throws ParseException
+	{
+		Entry entry = selectEntry(selectExpression, prefixMap);
+		Map<String, Object> selectedProperties = entry.selectedProperties;
+
+		if (selectedProperties == null) {
+			// Computed at most a few times if several threads race, the results are equal
+			selectedProperties = QueryUtils.unmodifiableSelectedProperties(
+					QueryUtils.invertSelectedProperties((Properties)entry.clause));
+			entry.selectedProperties = selectedProperties;
+		}
+
+		return selectedProperties;
+	}
+
+	/**
+	 * @return the hit, miss and eviction counts since the cache was
+	 * created or last cleared
+	 */
+	public Statistics
+	statistics()
+	{
+		return new Statistics(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+	}
+
+	/**
+	 * Remove all entries and reset the statistics
+	 */
+	public void
+	clear()
+	{
+		entries.clear();
+		hits.reset();
+		misses.reset();
+		evictions.reset();
+	}
+
+	/**
+	 * Cache statistics
+	 *
+	 * @param hitCount number of lookups that found a parsed expression
+	 * @param missCount number of lookups that parsed the expression
+	 * @param evictionCount number of entries evicted to bound the size
+	 * @param size current number of entries
+	 */
+	public record Statistics(
+		long hitCount,
+		long missCount,
+		long evictionCount,
+		int size
+	)
+	{
+		/**
+		 * @return ratio of hits to lookups, 0 if there has been none
+		 */
+		public double
+		hitRate()
+		{
+			long lookups = hitCount + missCount;
+
+			return lookups == 0 ? 0 : (double)hitCount / lookups;
+		}
+	}
+
+	private Entry
+	selectEntry(
+		String selectExpression,
+		Map<String, String> prefixMap
+	) throws ParseException
+	{
+		return get(Kind.SELECT, selectExpression, prefixMap,
+				   () -> QueryUtils.parseSelect(selectExpression, prefixMap));
+	}
+
+	private Entry
+	get(
+		Kind kind,
+		String expression,
+		Map<String, String> prefixMap,
+		Parser parser
+	) throws ParseException
+	{
+		Map<String, String> prefixes = prefixMap == null ? Collections.emptyMap() : prefixMap;
+		boolean handwritten = OSLC4JUtils.useHandwrittenQueryParser();
+		Entry entry = entries.get(new Key(kind, handwritten, expression, prefixes));
+
+		if (entry != null) {
+			hits.increment();
+			entry.lastAccess = System.nanoTime();
+			return entry;
+		}
+
+		misses.increment();
+
+		entry = new Entry(parser.parse());
+
+		// The prefix map of the caller may change after this call
+		Key key = new Key(kind, handwritten, expression,
+				prefixes.isEmpty() ?
+					Collections.emptyMap() :
+					Collections.unmodifiableMap(new HashMap<>(prefixes)));
+
+		Entry existing = entries.putIfAbsent(key, entry);
+
+		if (existing != null) {
+			return existing;
+		}
+
+		if (entries.size() > maximumSize) {
+			evict();
+		}
+
+		return entry;
+	}
+
+	private void
+	evict()
+	{
+		if (! evictionLock.tryLock()) {
+			// Another thread is already making room
+			return;
+		}
+
+		try {
+			int excess = entries.size() - maximumSize * 3 / 4;
+
+			if (excess <= 0) {
+				return;
+			}
+
+			List<Map.Entry<Key, Entry>> leastRecentlyUsed = new ArrayList<>(entries.entrySet());
+
+			leastRecentlyUsed.sort(Comparator.comparingLong(mapping -> mapping.getValue().lastAccess));
+
+			for (Map.Entry<Key, Entry> mapping : leastRecentlyUsed.subList(0, excess)) {
+				if (entries.remove(mapping.getKey(), mapping.getValue())) {
+					evictions.increment();
+				}
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private enum Kind
+	{
+		PREFIXES,
+		WHERE,
+		SELECT,
+		PROPERTIES,
+		ORDER_BY,
+		SEARCH_TERMS
+	}
+
+	private record Key(
+		Kind kind,
+		boolean handwritten,
+		String expression,
+		Map<String, String> prefixMap
+	)
+	{
+	}
+
+	private static final class Entry
+	{
+		Entry(Object clause)
+		{
+			this.clause = clause;
+		}
+
+		final Object clause;
+		volatile Map<String, Object> selectedProperties;
+		volatile long lastAccess = System.nanoTime();
+	}
+
+	@FunctionalInterface
+	private interface Parser
+	{
+		Object parse() throws ParseException;
+	}
+
+	private static final class Holder
+	{
+		static final ParsedQueryCache INSTANCE =
+			new ParsedQueryCache(OSLC4JUtils.getQueryCacheSize());
+	}
+
+	private final int maximumSize;
+	private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+}
@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.core.query;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.xml.datatype.DatatypeConstants;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.sparql.expr.ExprEvalException;
+import org.apache.jena.sparql.expr.NodeValue;
+import org.eclipse.lyo.core.query.ComparisonTerm.Operator;
+
+/**
+ * The values of one predicate in a graph, indexed for the terms of an
+ * oslc.where clause.<p>
+ *
+ * Numbers, xsd:string literals, booleans and xsd:dateTime literals
+ * with a time zone are kept in a sorted map per kind, keyed by value, so
+ * that 1, "1.0"^^xsd:decimal and "1"^^xsd:double are the same key and a
+ * range is a sub map. Every other object, such as resources and
+ * language-tagged strings, is keyed by the node itself; the other
+ * literals are also listed to be compared one by one.
+ */
+final class PredicateIndex
+{
+	PredicateIndex(
+		Graph graph,
+		Node predicate
+	)
+	{
+		graph.find(Node.ANY, predicate, Node.ANY).forEachRemaining(this::add);
+	}
+
+	/**
+	 * @return the values of {@code subject}, empty if it has none
+	 */
+	List<Node>
+	values(Node subject)
+	{
+		return valuesBySubject.getOrDefault(subject, Collections.emptyList());
+	}
+
+	/**
+	 * @return the key of {@code value}, one of the values of this
+	 * index, or null if it has none
+	 */
+	LiteralKey
+	key(Node value)
+	{
+		return keys.get(value);
+	}
+
+	/**
+	 * @return the subjects with at least one value
+	 */
+	Set<Node>
+	subjects()
+	{
+		return valuesBySubject.keySet();
+	}
+
+	/**
+	 * @return the subjects of {@code object}, empty if none
+	 */
+	List<Node>
+	subjects(Node object)
+	{
+		return subjectsByTerm.getOrDefault(object, Collections.emptyList());
+	}
+
+	/**
+	 * Add the subjects with a value for which
+	 * {@code value operator operand} holds
+	 */
+	void
+	collect(
+		Operator operator,
+		Node operand,
+		Collection<Node> subjects
+	)
+	{
+		LiteralKey key = LiteralKey.of(operand);
+
+		switch (operator) {
+		case EQUALS:
+			if (key == null) {
+
+				subjects.addAll(subjects(operand));
+
+				if (operand.isLiteral()) {
+
+					NodeValue operandValue = NodeValue.makeNode(operand);
+
+					for (UnsortedLiteral literal : unsortedLiterals) {
+						if (sameValue(literal.value(), operandValue)) {
+							subjects.add(literal.subject());
+						}
+					}
+				}
+			} else {
+				NavigableMap<Object, List<Node>> values = sorted.get(key.kind());
+
+				if (values != null) {
+					subjects.addAll(values.getOrDefault(key.value(), Collections.emptyList()));
+				}
+			}
+			return;
+
+		case NOT_EQUALS:
+			for (Map.Entry<Node, List<Node>> entry : valuesBySubject.entrySet()) {
+				for (Node value : entry.getValue()) {
+					if (notSameValue(value, operand, key)) {
+						subjects.add(entry.getKey());
+						break;
+					}
+				}
+			}
+			return;
+
+		default:
+			NodeValue operandValue = NodeValue.makeNode(operand);
+
+			if (key == null) {
+
+				// Without a key the operand may still be comparable with any literal
+				for (Map.Entry<Node, List<Node>> entry : valuesBySubject.entrySet()) {
+					for (Node value : entry.getValue()) {
+						if (value.isLiteral() &&
+							holds(operator, NodeValue.makeNode(value), operandValue)) {
+							subjects.add(entry.getKey());
+							break;
+						}
+					}
+				}
+
+				return;
+			}
+
+			NavigableMap<Object, List<Node>> values = sorted.get(key.kind());
+
+			if (values != null) {
+
+				Map<Object, List<Node>> range;
+
+				switch (operator) {
+				case LESS_THAN:
+					range = values.headMap(key.value(), false);
+					break;
+				case LESS_EQUALS:
+					range = values.headMap(key.value(), true);
+					break;
+				case GREATER_THAN:
+					range = values.tailMap(key.value(), false);
+					break;
+				default:
+					range = values.tailMap(key.value(), true);
+					break;
+				}
+
+				for (List<Node> rangeSubjects : range.values()) {
+					subjects.addAll(rangeSubjects);
+				}
+			}
+
+			for (UnsortedLiteral literal : unsortedLiterals) {
+				if (holds(operator, literal.value(), operandValue)) {
+					subjects.add(literal.subject());
+				}
+			}
+		}
+	}
+
+	private void
+	add(Triple triple)
+	{
+		Node subject = triple.getSubject();
+		Node object = triple.getObject();
+
+		valuesBySubject.computeIfAbsent(subject, s -> new ArrayList<>(1)).add(object);
+
+		LiteralKey key = LiteralKey.of(object);
+
+		if (key != null) {
+			keys.put(object, key);
+			sorted.computeIfAbsent(key.kind(), k -> new TreeMap<>())
+				.computeIfAbsent(key.value(), v -> new ArrayList<>(1))
+				.add(subject);
+			return;
+		}
+
+		subjectsByTerm.computeIfAbsent(object, o -> new ArrayList<>(1)).add(subject);
+
+		if (object.isLiteral()) {
+			unsortedLiterals.add(new UnsortedLiteral(NodeValue.makeNode(object), subject));
+		}
+	}
+
+	private static boolean
+	sameValue(
+		NodeValue value,
+		NodeValue operand
+	)
+	{
+		try {
+			return NodeValue.sameValueAs(value, operand);
+		} catch (ExprEvalException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * @return whether {@code value != operand} holds; false if the two
+	 * are not comparable, as in SPARQL
+	 */
+	private static boolean
+	notSameValue(
+		Node value,
+		Node operand,
+		LiteralKey operandKey
+	)
+	{
+		LiteralKey key = LiteralKey.of(value);
+
+		if (key != null && operandKey != null && key.kind() == operandKey.kind()) {
+			return ! key.equals(operandKey);
+		}
+
+		try {
+			return NodeValue.notSameValueAs(NodeValue.makeNode(value), NodeValue.makeNode(operand));
+		} catch (ExprEvalException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * @return whether {@code value operator operand} holds; false if
+	 * the two are not comparable
+	 */
+	static boolean
+	holds(
+		Operator operator,
+		NodeValue value,
+		NodeValue operand
+	)
+	{
+		int comparison;
+
+		try {
+			comparison = NodeValue.compare(value, operand);
+		} catch (ExprEvalException e) {
+			return false;
+		}
+
+		switch (operator) {
+		case EQUALS:
+			return comparison == 0;
+		case NOT_EQUALS:
+			return comparison != 0;
+		case LESS_THAN:
+			return comparison < 0;
+		case LESS_EQUALS:
+			return comparison <= 0;
+		case GREATER_THAN:
+			return comparison > 0;
+		default:
+			return comparison >= 0;
+		}
+	}
+
+	enum Kind
+	{
+		NUMBER,
+		STRING,
+		BOOLEAN,
+		DATE_TIME
+	}
+
+	/**
+	 * A literal value with a total order within its kind: a
+	 * {@link BigDecimal} without trailing zeros for numbers and for
+	 * instants in seconds since the epoch, a {@link String} or a
+	 * {@link Boolean}
+	 */
+	record LiteralKey(Kind kind, Object value)
+	{
+		/**
+		 * Compare with a key of the same kind
+		 */
+		@SuppressWarnings("unchecked")
+		int
+		compareTo(LiteralKey other)
+		{
+			return ((Comparable<Object>)value).compareTo(other.value);
+		}
+
+		/**
+		 * @return the key of {@code node}, or null if it is no literal
+		 * or has no total order
+		 */
+		static LiteralKey
+		of(Node node)
+		{
+			if (! node.isLiteral()) {
+				return null;
+			}
+
+			String datatype = node.getLiteralDatatypeURI();
+
+			if (XSDDatatype.XSDstring.getURI().equals(datatype)) {
+				return new LiteralKey(Kind.STRING, node.getLiteralLexicalForm());
+			}
+
+			NodeValue value = NodeValue.makeNode(node);
+
+			if (value.isBoolean()) {
+				return new LiteralKey(Kind.BOOLEAN, value.getBoolean());
+			}
+
+			if (value.isInteger()) {
+				return decimal(Kind.NUMBER, new BigDecimal(value.getInteger()));
+			}
+
+			if (value.isDecimal()) {
+				return decimal(Kind.NUMBER, value.getDecimal());
+			}
+
+			// Jena orders -0.0 before 0 and NaN apart from all numbers
+			if (value.isFloat() && Float.isFinite(value.getFloat()) &&
+				Float.floatToIntBits(value.getFloat()) != Float.floatToIntBits(-0.0f)) {
+				return decimal(Kind.NUMBER, new BigDecimal(Float.toString(value.getFloat())));
+			}
+
+			if (value.isDouble() && Double.isFinite(value.getDouble()) &&
+				Double.doubleToLongBits(value.getDouble()) != Double.doubleToLongBits(-0.0)) {
+				return decimal(Kind.NUMBER, BigDecimal.valueOf(value.getDouble()));
+			}
+
+			if (value.isDateTime() &&
+				XSDDatatype.XSDdateTime.getURI().equals(datatype)) {
+
+				XMLGregorianCalendar dateTime = value.getDateTime();
+
+				if (dateTime.getTimezone() != DatatypeConstants.FIELD_UNDEFINED) {
+
+					BigDecimal fraction = dateTime.getFractionalSecond();
+					long seconds = Math.floorDiv(dateTime.toGregorianCalendar().getTimeInMillis(), 1000);
+
+					return decimal(Kind.DATE_TIME, fraction == null ?
+							BigDecimal.valueOf(seconds) :
+							BigDecimal.valueOf(seconds).add(fraction));
+				}
+			}
+
+			return null;
+		}
+
+		private static LiteralKey
+		decimal(
+			Kind kind,
+			BigDecimal value
+		)
+		{
+			return new LiteralKey(kind, value.stripTrailingZeros());
+		}
+	}
+
+	private record UnsortedLiteral(NodeValue value, Node subject)
+	{
+	}
+
+	private final Map<Node, List<Node>> valuesBySubject = new HashMap<>();
+	private final Map<Node, List<Node>> subjectsByTerm = new HashMap<>();
+	private final Map<Node, LiteralKey> keys = new HashMap<>();
+	private final Map<Kind, NavigableMap<Object, List<Node>>> sorted = new EnumMap<>(Kind.class);
+	private final List<UnsortedLiteral> unsortedLiterals = new ArrayList<>();
+}
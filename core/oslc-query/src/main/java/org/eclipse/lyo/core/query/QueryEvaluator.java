@@ -0,0 +1,530 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.core.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphUtil;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.sparql.expr.NodeValue;
+import org.apache.jena.sparql.util.NodeCmp;
+
+/**
+ * Evaluates parsed OSLC queries against a Jena {@link Graph}, for
+ * query capabilities that are not backed by a SPARQL store.<p>
+ *
+ * A term of an oslc.where clause holds for a resource if it holds for
+ * at least one value of the property; {@code *} stands for any
+ * property. Literals compare by value as in SPARQL, so that
+ * {@code qm:size>=10} matches {@code "12"^^xsd:int} and
+ * {@code "10.5"^^xsd:double}, and a comparison between values that are
+ * not comparable does not hold.<p>
+ *
+ * The values of each property are indexed the first time a query
+ * refers to it, and the words of string literals the first time
+ * oslc.searchTerms are given. The indexes are not updated, so create a
+ * new evaluator when the graph changes. An evaluator may be used by
+ * several threads at once.
+ */
+public final class QueryEvaluator
+{
+	public
+	QueryEvaluator(Graph graph)
+	{
+		this.graph = graph;
+	}
+
+	public
+	QueryEvaluator(Model model)
+	{
+		this(model.getGraph());
+	}
+
+	/**
+	 * @param where the oslc.where clause
+	 *
+	 * @return all subjects of the graph for which {@code where} holds
+	 */
+	public Set<Node>
+	matches(WhereClause where)
+	{
+		return matches(where.children());
+	}
+
+	/**
+	 * Select a page of query results
+	 *
+	 * @param members the resources to query, or null for all subjects
+	 * of the graph
+	 * @param where the oslc.where clause, or null
+	 * @param searchTerms the oslc.searchTerms clause, or null. Only
+	 * resources with a string literal containing all words of at least
+	 * one term are selected, those matching the most terms first
+	 * @param orderBy the oslc.orderBy clause, or null. As SPARQL sorts
+	 * unbound variables, a resource without a value sorts first when
+	 * ascending and last when descending. A resource with several
+	 * values, including the values of all resources reached through a
+	 * scoped sort term, sorts by the least one when ascending and the
+	 * greatest one when descending
+	 * @param offset the number of results to skip
+	 * @param limit the maximum number of results to return
+	 *
+	 * @return the selected resources, ordered by search score, then by
+	 * {@code orderBy}, then by IRI
+	 */
+	public Result
+	select(
+		Collection<Node> members,
+		WhereClause where,
+		SearchTermsClause searchTerms,
+		OrderByClause orderBy,
+		int offset,
+		int limit
+	)
+	{
+		if (offset < 0 || limit < 0) {
+			throw new IllegalArgumentException("offset and limit must not be negative");
+		}
+
+		Set<Node> selected;
+
+		if (where == null) {
+			selected = new HashSet<>(members != null ? members : subjects());
+		} else {
+			selected = matches(where);
+
+			if (members != null) {
+				selected.retainAll(members instanceof Set ? members : new HashSet<>(members));
+			}
+		}
+
+		Map<Node, Integer> scores = null;
+
+		if (searchTerms != null && ! searchTerms.isEmpty()) {
+			scores = scores(searchTerms);
+			selected.retainAll(scores.keySet());
+		}
+
+		List<SortPath> sortPaths = new ArrayList<>();
+
+		if (orderBy != null) {
+			addSortPaths(orderBy, new ArrayList<>(), sortPaths);
+		}
+
+		Comparator<Row> order = order(sortPaths);
+		int end = (int)Math.min((long)offset + limit, selected.size());
+
+		// Keep the first rows in a heap whose head is the greatest
+		PriorityQueue<Row> first = new PriorityQueue<>(Math.max(end, 1), order.reversed());
+
+		for (Node node : selected) {
+
+			Row row = new Row(node, scores == null ? 0 : scores.get(node),
+					sortValues(node, sortPaths));
+
+			if (first.size() < end) {
+				first.add(row);
+			} else if (end > 0 && order.compare(row, first.peek()) < 0) {
+				first.poll();
+				first.add(row);
+			}
+		}
+
+		List<Row> rows = new ArrayList<>(first);
+
+		rows.sort(order);
+
+		List<Node> page = new ArrayList<>(Math.max(end - offset, 0));
+
+		for (int index = offset; index < end; index++) {
+			page.add(rows.get(index).node());
+		}
+
+		return new Result(page, selected.size());
+	}
+
+	/**
+	 * Select a page of the subjects of the graph
+	 *
+	 * @see #select(Collection, WhereClause, SearchTermsClause, OrderByClause, int, int)
+	 */
+	public Result
+	select(
+		WhereClause where,
+		SearchTermsClause searchTerms,
+		OrderByClause orderBy,
+		int offset,
+		int limit
+	)
+	{
+		return select(null, where, searchTerms, orderBy, offset, limit);
+	}
+
+	/**
+	 * A page of query results
+	 *
+	 * @param members the resources of the page
+	 * @param totalCount the number of resources selected by the query
+	 */
+	public record Result(List<Node> members, int totalCount)
+	{
+		public
+		Result
+		{
+			members = List.copyOf(members);
+		}
+	}
+
+	// oslc.where
+
+	private Set<Node>
+	matches(List<SimpleTerm> terms)
+	{
+		Set<Node> matches = null;
+
+		for (SimpleTerm term : terms) {
+
+			Set<Node> termMatches = matches(term);
+
+			if (matches == null) {
+				matches = termMatches;
+			} else {
+				matches.retainAll(termMatches);
+			}
+
+			if (matches.isEmpty()) {
+				break;
+			}
+		}
+
+		return matches == null ? new HashSet<>() : matches;
+	}
+
+	private Set<Node>
+	matches(SimpleTerm term)
+	{
+		Set<Node> matches = new HashSet<>();
+
+		switch (term.type()) {
+		case COMPARISON:
+			ComparisonTerm comparison = (ComparisonTerm)term;
+			Node operand = QueryValues.toNode(comparison.operand());
+
+			for (PredicateIndex index : indexes(term.property())) {
+				index.collect(comparison.operator(), operand, matches);
+			}
+			break;
+
+		case IN_TERM:
+			for (Value value : ((InTerm)term).values()) {
+
+				Node inOperand = QueryValues.toNode(value);
+
+				for (PredicateIndex index : indexes(term.property())) {
+					index.collect(ComparisonTerm.Operator.EQUALS, inOperand, matches);
+				}
+			}
+			break;
+
+		default:
+			Set<Node> objects = matches(((CompoundTerm)term).children());
+
+			for (PredicateIndex index : indexes(term.property())) {
+				if (objects.size() < index.subjects().size()) {
+					for (Node object : objects) {
+						matches.addAll(index.subjects(object));
+					}
+				} else {
+					for (Node subject : index.subjects()) {
+						if (index.values(subject).stream().anyMatch(objects::contains)) {
+							matches.add(subject);
+						}
+					}
+				}
+			}
+			break;
+		}
+
+		return matches;
+	}
+
+	private Set<Node>
+	subjects()
+	{
+		Set<Node> subjects = this.subjects;
+
+		if (subjects == null) {
+			this.subjects = subjects = GraphUtil.listSubjects(graph, Node.ANY, Node.ANY).toSet();
+		}
+
+		return subjects;
+	}
+
+	private List<PredicateIndex>
+	indexes(PName property)
+	{
+		if (property.prefix == null && "*".equals(property.local)) {
+
+			List<PredicateIndex> indexes = new ArrayList<>();
+
+			for (Node predicate : GraphUtil.listPredicates(graph, Node.ANY, Node.ANY).toSet()) {
+				indexes.add(index(predicate));
+			}
+
+			return indexes;
+		}
+
+		return List.of(index(NodeFactory.createURI(QueryValues.iri(property))));
+	}
+
+	private PredicateIndex
+	index(Node predicate)
+	{
+		return indexes.computeIfAbsent(predicate, p -> new PredicateIndex(graph, p));
+	}
+
+	// oslc.searchTerms
+
+	private Map<Node, Integer>
+	scores(SearchTermsClause searchTerms)
+	{
+		WordIndex words = words();
+		Map<Node, Integer> scores = new HashMap<>();
+
+		for (String searchTerm : searchTerms) {
+
+			// All words of a term must occur in the same literal
+			Set<Node> literals = null;
+
+			for (String word : QueryValues.searchWords(searchTerm)) {
+
+				Set<Node> wordLiterals = words.literals().getOrDefault(word, Set.of());
+
+				if (literals == null) {
+					literals = new HashSet<>(wordLiterals);
+				} else {
+					literals.retainAll(wordLiterals);
+				}
+			}
+
+			if (literals != null) {
+
+				Set<Node> termMatches = new HashSet<>();
+
+				for (Node literal : literals) {
+					termMatches.addAll(words.subjects().get(literal));
+				}
+
+				for (Node node : termMatches) {
+					scores.merge(node, 1, Integer::sum);
+				}
+			}
+		}
+
+		return scores;
+	}
+
+	/**
+	 * The string literals of the graph by their words, and the subjects
+	 * of each literal
+	 */
+	private record WordIndex(Map<String, Set<Node>> literals, Map<Node, Set<Node>> subjects)
+	{
+	}
+
+	private WordIndex
+	words()
+	{
+		WordIndex words = this.words;
+
+		if (words == null) {
+			synchronized (this) {
+				words = this.words;
+
+				if (words == null) {
+
+					Map<String, Set<Node>> literals = new HashMap<>();
+					Map<Node, Set<Node>> subjects = new HashMap<>();
+
+					graph.find(Node.ANY, Node.ANY, Node.ANY).forEachRemaining(triple -> {
+						Node literal = triple.getObject();
+
+						if (QueryValues.isText(literal)) {
+
+							Set<Node> literalSubjects = subjects.get(literal);
+
+							if (literalSubjects == null) {
+								subjects.put(literal, literalSubjects = new HashSet<>());
+
+								for (String word : QueryValues.words(literal.getLiteralLexicalForm())) {
+									literals.computeIfAbsent(word, w -> new HashSet<>()).add(literal);
+								}
+							}
+
+							literalSubjects.add(triple.getSubject());
+						}
+					});
+
+					this.words = words = new WordIndex(literals, subjects);
+				}
+			}
+		}
+
+		return words;
+	}
+
+	// oslc.orderBy
+
+	/**
+	 * The properties leading to a sort value; more than one for the
+	 * terms of a scoped sort term
+	 */
+	private record SortPath(List<Node> predicates, boolean ascending)
+	{
+	}
+
+	private record Row(Node node, int score, SortValue[] sortValues)
+	{
+	}
+
+	/**
+	 * A value to sort by, compared by its index key when the other
+	 * value has a key of the same kind and as in SPARQL otherwise
+	 */
+	private record SortValue(Node node, PredicateIndex.LiteralKey key)
+		implements Comparable<SortValue>
+	{
+		@Override
+		public int
+		compareTo(SortValue other)
+		{
+			if (key != null && other.key != null && key.kind() == other.key.kind()) {
+				return key.compareTo(other.key);
+			}
+
+			return NodeValue.compareAlways(NodeValue.makeNode(node), NodeValue.makeNode(other.node));
+		}
+	}
+
+	private void
+	addSortPaths(
+		SortTerms sortTerms,
+		List<Node> scope,
+		List<SortPath> sortPaths
+	)
+	{
+		for (SortTerm sortTerm : sortTerms.children()) {
+
+			List<Node> predicates = new ArrayList<>(scope);
+
+			predicates.add(NodeFactory.createURI(QueryValues.iri(sortTerm.identifier())));
+
+			if (sortTerm.type() == SortTerm.Type.SCOPED) {
+				addSortPaths(((ScopedSortTerm)sortTerm).sortTerms(), predicates, sortPaths);
+			} else {
+				sortPaths.add(new SortPath(predicates, ((SimpleSortTerm)sortTerm).ascending()));
+			}
+		}
+	}
+
+	private SortValue[]
+	sortValues(
+		Node node,
+		List<SortPath> sortPaths
+	)
+	{
+		SortValue[] sortValues = new SortValue[sortPaths.size()];
+
+		for (int path = 0; path < sortValues.length; path++) {
+
+			List<Node> predicates = sortPaths.get(path).predicates();
+			Set<Node> subjects = Set.of(node);
+
+			// Follow every object of each enclosing scope
+			for (int index = 0; index < predicates.size() - 1 && ! subjects.isEmpty(); index++) {
+
+				Set<Node> objects = new HashSet<>();
+
+				for (Node subject : subjects) {
+					objects.addAll(index(predicates.get(index)).values(subject));
+				}
+
+				subjects = objects;
+			}
+
+			PredicateIndex index = index(predicates.get(predicates.size() - 1));
+			Comparator<SortValue> valueOrder = Comparator.naturalOrder();
+
+			sortValues[path] = subjects.stream()
+				.flatMap(subject -> index.values(subject).stream())
+				.map(value -> new SortValue(value, index.key(value)))
+				.min(sortPaths.get(path).ascending() ? valueOrder : valueOrder.reversed())
+				.orElse(null);
+		}
+
+		return sortValues;
+	}
+
+	private static Comparator<Row>
+	order(List<SortPath> sortPaths)
+	{
+		return (row, other) -> {
+
+			int comparison = Integer.compare(other.score(), row.score());
+
+			for (int path = 0; comparison == 0 && path < sortPaths.size(); path++) {
+
+				comparison = compare(row.sortValues()[path], other.sortValues()[path]);
+
+				if (! sortPaths.get(path).ascending()) {
+					comparison = -comparison;
+				}
+			}
+
+			return comparison != 0 ?
+				comparison :
+				NodeCmp.compareRDFTerms(row.node(), other.node());
+		};
+	}
+
+	private static int
+	compare(
+		SortValue value,
+		SortValue other
+	)
+	{
+		if (value == null || other == null) {
+			return value == other ? 0 : value == null ? -1 : 1;
+		}
+
+		return value.compareTo(other);
+	}
+
+	private final Graph graph;
+	private final Map<Node, PredicateIndex> indexes = new ConcurrentHashMap<>();
+	private volatile Set<Node> subjects;
+	private volatile WordIndex words;
+}
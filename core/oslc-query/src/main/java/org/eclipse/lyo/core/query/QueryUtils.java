@@ -13,22 +13,27 @@ package org.eclipse.lyo.core.query;
  * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
  */
 
-import java.lang.reflect.Proxy;
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.antlr.runtime.RecognitionException;
 import org.antlr.runtime.Token;
 import org.antlr.runtime.tree.CommonErrorNode;
 import org.antlr.runtime.tree.CommonTree;
 import org.antlr.runtime.tree.Tree;
-import org.eclipse.lyo.core.query.impl.CompoundTermInvocationHandler;
-import org.eclipse.lyo.core.query.impl.PropertiesInvocationHandler;
-import org.eclipse.lyo.core.query.impl.SortTermsInvocationHandler;
+import org.eclipse.lyo.core.query.impl.AntlrTreeConverter;
+import org.eclipse.lyo.core.query.impl.PropertiesClauseImpl;
+import org.eclipse.lyo.core.query.impl.PropertiesImpl;
+import org.eclipse.lyo.core.query.impl.SelectClauseImpl;
+import org.eclipse.lyo.core.query.impl.WildcardImpl;
 import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.eclipse.lyo.oslc4j.core.OSLC4JUtils;
 import org.eclipse.lyo.oslc4j.core.NestedWildcardProperties;
 import org.eclipse.lyo.oslc4j.core.SingletonWildcardProperties;
 
@@ -41,10 +46,8 @@ public class QueryUtils
 	/**
 	 * A property list that selects all properties
 	 */
-	static public final Properties WILDCARD_PROPERTY_LIST = (Properties)
-		Proxy.newProxyInstance(Properties.class.getClassLoader(),
-				new Class<?>[] { Properties.class },
-				new PropertiesInvocationHandler());
+	static public final Properties WILDCARD_PROPERTY_LIST =
+		new PropertiesImpl(List.of(WildcardImpl.INSTANCE));
 
 	/**
 	 * Parse a oslc.prefix clause into a map between prefixes
@@ -68,6 +71,15 @@ public class QueryUtils
 			return new HashMap<>();
 		}
 
+		if (OSLC4JUtils.useHandwrittenQueryParser()) {
+
+			PrefixMap prefixMap = new PrefixMap(4);
+
+			OslcQueryParser.parsePrefixes(prefixExpression, prefixMap);
+
+			return prefixMap;
+		}
+
 		OslcPrefixParser parser = new OslcPrefixParser(prefixExpression);
 
 		try {
@@ -120,6 +132,10 @@ public class QueryUtils
 		Map<String, String> prefixMap
 	) throws ParseException
 	{
+		if (OSLC4JUtils.useHandwrittenQueryParser()) {
+			return OslcQueryParser.parseWhere(whereExpression, prefixMap);
+		}
+
 		OslcWhereParser parser = new OslcWhereParser(whereExpression);
 
 		try {
@@ -136,14 +152,12 @@ public class QueryUtils
 				throw ((CommonErrorNode)child).trappedException;
 			}
 
-			return (WhereClause)
-				Proxy.newProxyInstance(CompoundTerm.class.getClassLoader(),
-						new Class<?>[] { CompoundTerm.class, WhereClause.class },
-						new CompoundTermInvocationHandler(
-								rawTree, true, prefixMap));
+			return AntlrTreeConverter.toWhereClause(rawTree, prefixMap);
 
 		} catch (RecognitionException e) {
 			throw new ParseException(e);
+		} catch (IllegalStateException e) {
+			throw new ParseException(e.getMessage());
 		}
 	}
 
@@ -165,6 +179,11 @@ public class QueryUtils
 		Map<String, String> prefixMap
 	) throws ParseException
 	{
+		if (OSLC4JUtils.useHandwrittenQueryParser()) {
+			return new SelectClauseImpl(
+					OslcQueryParser.parseProperties(selectExpression, prefixMap));
+		}
+
 		OslcSelectParser parser = new OslcSelectParser(selectExpression);
 
 		try {
@@ -180,12 +199,8 @@ public class QueryUtils
 				throw ((CommonErrorNode)rawTree).trappedException;
 			}
 
-			return (SelectClause)
-				Proxy.newProxyInstance(SelectClause.class.getClassLoader(),
-						new Class<?>[] { SelectClause.class, Properties.class },
-						new PropertiesInvocationHandler(
-                            resultTree.getTree(),
-								prefixMap));
+			return new SelectClauseImpl(
+					AntlrTreeConverter.toProperties(rawTree, prefixMap));
 
 		} catch (RecognitionException e) {
 			throw new ParseException(e);
@@ -210,6 +225,11 @@ public class QueryUtils
 		Map<String, String> prefixMap
 	) throws ParseException
 	{
+		if (OSLC4JUtils.useHandwrittenQueryParser()) {
+			return new PropertiesClauseImpl(
+					OslcQueryParser.parseProperties(propertiesExpression, prefixMap));
+		}
+
 		OslcSelectParser parser = new OslcSelectParser(propertiesExpression);
 
 		try {
@@ -225,12 +245,8 @@ public class QueryUtils
 				throw ((CommonErrorNode)rawTree).trappedException;
 			}
 
-			return (PropertiesClause)
-				Proxy.newProxyInstance(PropertiesClause.class.getClassLoader(),
-						new Class<?>[] { PropertiesClause.class, Properties.class },
-						new PropertiesInvocationHandler(
-                            resultTree.getTree(),
-								prefixMap));
+			return new PropertiesClauseImpl(
+					AntlrTreeConverter.toProperties(rawTree, prefixMap));
 
 		} catch (RecognitionException e) {
 			throw new ParseException(e);
@@ -255,6 +271,10 @@ public class QueryUtils
 		Map<String, String> prefixMap
 	) throws ParseException
 	{
+		if (OSLC4JUtils.useHandwrittenQueryParser()) {
+			return OslcQueryParser.parseOrderBy(orderByExpression, prefixMap);
+		}
+
 		OslcOrderByParser parser = new OslcOrderByParser(orderByExpression);
 
 		try {
@@ -271,13 +291,12 @@ public class QueryUtils
 				throw ((CommonErrorNode)child).trappedException;
 			}
 
-			return (OrderByClause)
-					Proxy.newProxyInstance(OrderByClause.class.getClassLoader(),
-							new Class<?>[] { OrderByClause.class, SortTerms.class },
-							new SortTermsInvocationHandler(rawTree, prefixMap));
+			return AntlrTreeConverter.toOrderByClause(rawTree, prefixMap);
 
 		} catch (RecognitionException e) {
 			throw new ParseException(e);
+		} catch (IllegalStateException e) {
+			throw new ParseException(e.getMessage());
 		}
 	}
 
@@ -420,6 +439,15 @@ public class QueryUtils
 		String searchTermsExpression
 	) throws ParseException
 	{
+		if (OSLC4JUtils.useHandwrittenQueryParser()) {
+
+			StringList stringList = new StringList(4);
+
+			OslcQueryParser.parseSearchTerms(searchTermsExpression, stringList);
+
+			return stringList;
+		}
+
 		OslcSearchTermsParser parser = new OslcSearchTermsParser(searchTermsExpression);
 
 		try {
@@ -601,6 +629,148 @@ public class QueryUtils
 		private static final long serialVersionUID = 654939845613307220L;
 	}
 
+	/**
+	 * Create an unmodifiable copy of a map returned by
+	 * {@link #invertSelectedProperties(Properties)}, keeping the
+	 * {@link SingletonWildcardProperties} and
+	 * {@link NestedWildcardProperties} markers
+	 *
+	 * @param properties the property map
+	 *
+	 * @return the unmodifiable property map
+	 */
+	static Map<String, Object>
+	unmodifiableSelectedProperties(Map<String, Object> properties)
+	{
+		if (properties == OSLC4JConstants.OSL4J_PROPERTY_SINGLETON) {
+			return properties;
+		}
+
+		Map<String, Object> copy = new HashMap<>(properties.size());
+
+		for (Map.Entry<String, Object> propertyMapping : properties.entrySet()) {
+
+			@SuppressWarnings("unchecked")
+			Map<String, Object> nestedProperties =
+				(Map<String, Object>)propertyMapping.getValue();
+
+			copy.put(propertyMapping.getKey(),
+					 unmodifiableSelectedProperties(nestedProperties));
+		}
+
+		Map<String, Object> unmodifiable = Collections.unmodifiableMap(copy);
+
+		if (properties instanceof NestedWildcardProperties) {
+
+			Map<String, Object> commonNestedProperties =
+				unmodifiableSelectedProperties(
+					((NestedWildcardProperties)properties).commonNestedProperties());
+
+			if (properties instanceof SingletonWildcardProperties) {
+				return new UnmodifiableBothWildcardProperties(
+						unmodifiable, commonNestedProperties);
+			}
+
+			return new UnmodifiableNestedWildcardProperties(
+					unmodifiable, commonNestedProperties);
+		}
+
+		if (properties instanceof SingletonWildcardProperties) {
+			return new UnmodifiableSingletonWildcardProperties(unmodifiable);
+		}
+
+		return unmodifiable;
+	}
+
+	/**
+	 * Unmodifiable property map, base of the unmodifiable
+	 * implementations of the wildcard markers
+	 */
+	private static class UnmodifiablePropertyMap
+		extends AbstractMap<String, Object>
+	{
+		UnmodifiablePropertyMap(Map<String, Object> properties)
+		{
+			this.properties = properties;
+		}
+
+		public Set<Map.Entry<String, Object>>
+		entrySet()
+		{
+			return properties.entrySet();
+		}
+
+		public Object
+		get(Object key)
+		{
+			return properties.get(key);
+		}
+
+		public boolean
+		containsKey(Object key)
+		{
+			return properties.containsKey(key);
+		}
+
+		private final Map<String, Object> properties;
+	}
+
+	/**
+	 * Unmodifiable implementation of {@link SingletonWildcardProperties}
+	 */
+	private static final class UnmodifiableSingletonWildcardProperties
+		extends UnmodifiablePropertyMap
+		implements SingletonWildcardProperties
+	{
+		UnmodifiableSingletonWildcardProperties(Map<String, Object> properties)
+		{
+			super(properties);
+		}
+	}
+
+	/**
+	 * Unmodifiable implementation of {@link NestedWildcardProperties}
+	 */
+	private static class UnmodifiableNestedWildcardProperties
+		extends UnmodifiablePropertyMap
+		implements NestedWildcardProperties
+	{
+		UnmodifiableNestedWildcardProperties(
+			Map<String, Object> properties,
+			Map<String, Object> commonNestedProperties
+		)
+		{
+			super(properties);
+
+			this.commonNestedProperties = commonNestedProperties;
+		}
+
+		public Map<String, Object>
+		commonNestedProperties()
+		{
+			return commonNestedProperties;
+		}
+
+		private final Map<String, Object> commonNestedProperties;
+	}
+
+	/**
+	 * Unmodifiable implementation of both {@link SingletonWildcardProperties}
+	 * and {@link NestedWildcardProperties}
+	 */
+	private static final class UnmodifiableBothWildcardProperties
+		extends UnmodifiableNestedWildcardProperties
+		implements SingletonWildcardProperties
+	{
+		UnmodifiableBothWildcardProperties(
+			Map<String, Object> properties,
+			Map<String, Object> commonNestedProperties
+		)
+		{
+			super(properties, commonNestedProperties);
+		}
+	}
+
 	/**
 	 * Merge into {@code lhs} properties those of {@code rhs} property
 	 * map, merging any common, nested property maps.
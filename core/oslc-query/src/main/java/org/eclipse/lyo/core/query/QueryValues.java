@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.core.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.apache.jena.datatypes.TypeMapper;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.vocabulary.RDF;
+
+/**
+ * The RDF terms and words that parsed OSLC query clauses stand for,
+ * shared by {@link QueryEvaluator} and the query compilers of other
+ * modules so that they agree on the meaning of a query.
+ *
+ * @since 7.0.0
+ */
+public final class QueryValues
+{
+	private
+	QueryValues()
+	{
+	}
+
+	/**
+	 * @return the RDF term an operand of an oslc.where clause stands for.
+	 * Decimals without a fraction are {@code xsd:integer}, other decimals
+	 * {@code xsd:decimal}
+	 *
+	 * @throws IllegalArgumentException if the datatype of a typed string
+	 * has an undeclared prefix
+	 */
+	public static Node
+	toNode(Value value)
+	{
+		switch (value.type()) {
+		case URI_REF:
+			return NodeFactory.createURI(((UriRefValue)value).value());
+		case BOOLEAN:
+			return NodeFactory.createLiteral(Boolean.toString(((BooleanValue)value).value()),
+					XSDDatatype.XSDboolean);
+		case DECIMAL:
+			String decimal = ((DecimalValue)value).value();
+			return NodeFactory.createLiteral(decimal, decimal.indexOf('.') < 0 ?
+					XSDDatatype.XSDinteger :
+					XSDDatatype.XSDdecimal);
+		case STRING:
+			return NodeFactory.createLiteral(unescape(((StringValue)value).value()));
+		case TYPED_STRING:
+			TypedValue typedValue = (TypedValue)value;
+			return NodeFactory.createLiteral(unescape(typedValue.value()),
+					TypeMapper.getInstance().getSafeTypeByName(iri(typedValue.prefixedName())));
+		default:
+			LangedStringValue langedValue = (LangedStringValue)value;
+			return NodeFactory.createLiteral(unescape(langedValue.value()), langedValue.langTag());
+		}
+	}
+
+	/**
+	 * @return the IRI a prefixed name stands for
+	 *
+	 * @throws IllegalArgumentException if the prefix is undeclared
+	 */
+	public static String
+	iri(PName pname)
+	{
+		if (pname.namespace == null) {
+			throw new IllegalArgumentException("Undeclared prefix in " + pname);
+		}
+
+		return pname.namespace + pname.local;
+	}
+
+	/**
+	 * Resolve the escape sequences the parsers leave in strings
+	 */
+	static String
+	unescape(String string)
+	{
+		int escape = string.indexOf('\\');
+
+		if (escape < 0) {
+			return string;
+		}
+
+		StringBuilder unescaped = new StringBuilder(string.length());
+
+		unescaped.append(string, 0, escape);
+
+		for (int index = escape; index < string.length(); index++) {
+
+			char c = string.charAt(index);
+
+			if (c == '\\' && index + 1 < string.length()) {
+
+				c = string.charAt(++index);
+
+				switch (c) {
+				case 't':
+					c = '\t';
+					break;
+				case 'b':
+					c = '\b';
+					break;
+				case 'n':
+					c = '\n';
+					break;
+				case 'r':
+					c = '\r';
+					break;
+				case 'f':
+					c = '\f';
+					break;
+				default:
+					break;
+				}
+			}
+
+			unescaped.append(c);
+		}
+
+		return unescaped.toString();
+	}
+
+	/**
+	 * @return whether a node is a literal whose words oslc.searchTerms
+	 * match
+	 */
+	static boolean
+	isText(Node node)
+	{
+		if (! node.isLiteral()) {
+			return false;
+		}
+
+		String datatype = node.getLiteralDatatypeURI();
+
+		return XSDDatatype.XSDstring.getURI().equals(datatype) ||
+			RDF.dtLangString.getURI().equals(datatype) ||
+			RDF.dtXMLLiteral.getURI().equals(datatype);
+	}
+
+	/**
+	 * @return the lower-case words of an oslc.searchTerms term. A term
+	 * matches a resource with string literals containing all of its words
+	 */
+	public static List<String>
+	searchWords(String searchTerm)
+	{
+		return words(unescape(searchTerm));
+	}
+
+	static List<String>
+	words(String text)
+	{
+		List<String> words = new ArrayList<>();
+
+		for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+			if (! word.isEmpty()) {
+				words.add(word);
+			}
+		}
+
+		return words;
+	}
+
+	private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.core.query.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.antlr.runtime.tree.Tree;
+import org.eclipse.lyo.core.query.ComparisonTerm.Operator;
+import org.eclipse.lyo.core.query.OrderByClause;
+import org.eclipse.lyo.core.query.OslcOrderByParser;
+import org.eclipse.lyo.core.query.OslcSelectParser;
+import org.eclipse.lyo.core.query.OslcWhereParser;
+import org.eclipse.lyo.core.query.PName;
+import org.eclipse.lyo.core.query.Property;
+import org.eclipse.lyo.core.query.SimpleTerm;
+import org.eclipse.lyo.core.query.SortTerm;
+import org.eclipse.lyo.core.query.Value;
+import org.eclipse.lyo.core.query.WhereClause;
+
+/**
+ * Builds the immutable query clauses from the trees of the ANTLR
+ * oslc.where, oslc.select and oslc.orderBy parsers
+ */
+public final class AntlrTreeConverter
+{
+	private
+	AntlrTreeConverter()
+	{
+	}
+
+	/**
+	 * @param tree the {@code terms} tree of an oslc.where expression
+	 * @param prefixMap map between XML namespace prefixes and
+	 * associated URLs
+	 *
+	 * @return the where clause
+	 *
+	 * @throws IllegalStateException if the tree has an unsupported term
+	 * or value
+	 */
+	public static WhereClause
+	toWhereClause(
+		Tree tree,
+		Map<String, String> prefixMap
+	)
+	{
+		return new WhereClauseImpl(toSimpleTerms(tree, prefixMap));
+	}
+
+	/**
+	 * @param tree the {@code properties} tree of an oslc.select or
+	 * oslc.properties expression
+	 * @param prefixMap map between XML namespace prefixes and
+	 * associated URLs
+	 *
+	 * @return the properties of the clause
+	 */
+	public static List<Property>
+	toProperties(
+		Tree tree,
+		Map<String, String> prefixMap
+	)
+	{
+		List<Property> children = new ArrayList<>(tree.getChildCount());
+
+		for (int index = 0; index < tree.getChildCount(); index++) {
+
+			Tree child = tree.getChild(index);
+
+			switch (child.getType())
+			{
+			case OslcSelectParser.WILDCARD:
+				children.add(WildcardImpl.INSTANCE);
+				break;
+			case OslcSelectParser.PREFIXED_NAME:
+				children.add(new IdentifierImpl(
+						toPName(child.getChild(0).getText(), prefixMap)));
+				break;
+			default:
+			case OslcSelectParser.NESTED_PROPERTIES:
+				Tree identifier = child.getChild(0);
+				children.add(new NestedPropertyImpl(
+						identifier.getType() == OslcSelectParser.WILDCARD ?
+							null :
+							toPName(identifier.getChild(0).getText(), prefixMap),
+						toProperties(child.getChild(1), prefixMap)));
+				break;
+			}
+		}
+
+		return children;
+	}
+
+	/**
+	 * @param tree the {@code terms} tree of an oslc.orderBy expression
+	 * @param prefixMap map between XML namespace prefixes and
+	 * associated URLs
+	 *
+	 * @return the order by clause
+	 *
+	 * @throws IllegalStateException if the tree has an unsupported sort term
+	 */
+	public static OrderByClause
+	toOrderByClause(
+		Tree tree,
+		Map<String, String> prefixMap
+	)
+	{
+		return new OrderByClauseImpl(toSortTerms(tree, prefixMap));
+	}
+
+	/**
+	 * Split a prefixed name into its prefix and local part, looking
+	 * up the namespace of the prefix
+	 *
+	 * @param rawName prefixed name; e.g. {@code dcterms:title}
+	 * @param prefixMap map between XML namespace prefixes and
+	 * associated URLs
+	 *
+	 * @return the prefixed name
+	 */
+	static PName
+	toPName(
+		String rawName,
+		Map<String, String> prefixMap
+	)
+	{
+		PName pname = new PName();
+
+		int colon = rawName.indexOf(':');
+
+		if (colon < 0) {
+			pname.local = rawName;
+		} else {
+			if (colon > 0) {
+				pname.prefix = rawName.substring(0, colon);
+				pname.namespace = prefixMap.get(pname.prefix);
+			}
+			pname.local = rawName.substring(colon + 1);
+		}
+
+		return pname;
+	}
+
+	private static List<SimpleTerm>
+	toSimpleTerms(
+		Tree tree,
+		Map<String, String> prefixMap
+	)
+	{
+		List<SimpleTerm> children = new ArrayList<>(tree.getChildCount());
+
+		for (int index = 0; index < tree.getChildCount(); index++) {
+
+			Tree child = tree.getChild(index);
+			PName property = toPName(child.getChild(0).toString(), prefixMap);
+
+			switch(child.getType()) {
+			case OslcWhereParser.SIMPLE_TERM:
+				children.add(new ComparisonTermImpl(property,
+						toOperator(child.getChild(1)),
+						toValue(child.getChild(2), prefixMap)));
+				break;
+			case OslcWhereParser.IN_TERM:
+				Tree treeValues = child.getChild(1);
+				List<Value> values = new ArrayList<>(treeValues.getChildCount());
+				for (int valueIndex = 0; valueIndex < treeValues.getChildCount(); valueIndex++) {
+					values.add(toValue(treeValues.getChild(valueIndex), prefixMap));
+				}
+				children.add(new InTermImpl(property, values));
+				break;
+			case OslcWhereParser.COMPOUND_TERM:
+				children.add(new CompoundTermImpl(property,
+						toSimpleTerms(child.getChild(1), prefixMap)));
+				break;
+			default:
+				throw new IllegalStateException("unimplemented type of simple term: " + child.getText());
+			}
+		}
+
+		return children;
+	}
+
+	private static Operator
+	toOperator(Tree tree)
+	{
+		switch (tree.getType()) {
+		case OslcWhereParser.EQUAL:
+			return Operator.EQUALS;
+		case OslcWhereParser.NOT_EQUAL:
+			return Operator.NOT_EQUALS;
+		case OslcWhereParser.LESS:
+			return Operator.LESS_THAN;
+		case OslcWhereParser.LESS_EQUAL:
+			return Operator.LESS_EQUALS;
+		case OslcWhereParser.GREATER:
+			return Operator.GREATER_THAN;
+		default:
+		case OslcWhereParser.GREATER_EQUAL:
+			return Operator.GREATER_EQUALS;
+		}
+	}
+
+	private static Value
+	toValue(
+		Tree tree,
+		Map<String, String> prefixMap
+	)
+	{
+		// XXX - determine if need to unescape quoted strings
+		switch (tree.getType()) {
+		case OslcWhereParser.IRI_REF:
+			return new UriRefValueImpl(unquote(tree.getText()));
+		case OslcWhereParser.BOOLEAN:
+			return new BooleanValueImpl(Boolean.parseBoolean(tree.getText()));
+		case OslcWhereParser.DECIMAL:
+			return new DecimalValueImpl(tree.getText());
+		case OslcWhereParser.STRING_LITERAL:
+			return new StringValueImpl(unquote(tree.getText()));
+		case OslcWhereParser.TYPED_VALUE:
+			return new TypedValueImpl(unquote(tree.getChild(0).getText()),
+					toPName(tree.getChild(1).getText(), prefixMap));
+		case OslcWhereParser.LANGED_VALUE:
+			return new LangedStringValueImpl(unquote(tree.getChild(0).getText()),
+					tree.getChild(1).getText().substring(1));
+		default:
+			throw new IllegalStateException(
+					"unspported literal value type: " + tree.getText());
+		}
+	}
+
+	private static List<SortTerm>
+	toSortTerms(
+		Tree tree,
+		Map<String, String> prefixMap
+	)
+	{
+		List<SortTerm> children = new ArrayList<>(tree.getChildCount());
+
+		for (int index = 0; index < tree.getChildCount(); index++) {
+
+			Tree child = tree.getChild(index);
+			PName identifier = toPName(child.getChild(0).getText(), prefixMap);
+
+			switch(child.getType()) {
+			case OslcOrderByParser.SIMPLE_TERM:
+				children.add(new SimpleSortTermImpl(identifier,
+						child.getChild(1).getText().equals("+")));
+				break;
+			case OslcOrderByParser.SCOPED_TERM:
+				children.add(new ScopedSortTermImpl(identifier,
+						new SortTermsImpl(toSortTerms(child.getChild(1), prefixMap))));
+				break;
+			default:
+				throw new IllegalStateException("unimplemented type of sort term: " + child.getText());
+			}
+		}
+
+		return children;
+	}
+
+	private static String
+	unquote(String rawValue)
+	{
+		return rawValue.substring(1, rawValue.length() - 1);
+	}
+}
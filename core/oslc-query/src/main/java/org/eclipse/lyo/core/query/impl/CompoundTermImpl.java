@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.core.query.impl;
+
+import java.util.List;
+
+import org.eclipse.lyo.core.query.CompoundTerm;
+import org.eclipse.lyo.core.query.PName;
+import org.eclipse.lyo.core.query.SimpleTerm;
+
+/**
+ * Implementation of a nested {@link CompoundTerm}; e.g.
+ * {@code dcterms:creator{foaf:name="Bob"}}
+ */
+public record CompoundTermImpl(
+	PName property,
+	List<SimpleTerm> children
+) implements CompoundTerm
+{
+	public
+	CompoundTermImpl
+	{
+		children = List.copyOf(children);
+	}
+
+	@Override
+	public Type
+	type()
+	{
+		return Type.NESTED;
+	}
+
+	@Override
+	public String
+	toString()
+	{
+		return property.toString() + '{' +
+			WhereClauseImpl.childrenToString(new StringBuilder(), children) + '}';
+	}
+}
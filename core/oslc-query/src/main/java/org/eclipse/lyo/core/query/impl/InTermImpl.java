@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.core.query.impl;
+
+import java.util.List;
+
+import org.eclipse.lyo.core.query.InTerm;
+import org.eclipse.lyo.core.query.PName;
+import org.eclipse.lyo.core.query.Value;
+
+/**
+ * Implementation of {@link InTerm} interface
+ */
+public record InTermImpl(
+	PName property,
+	List<Value> values
+) implements InTerm
+{
+	public
+	InTermImpl
+	{
+		values = List.copyOf(values);
+	}
+
+	@Override
+	public Type
+	type()
+	{
+		return Type.IN_TERM;
+	}
+
+	@Override
+	public String
+	toString()
+	{
+		StringBuilder buffer = new StringBuilder();
+
+		buffer.append(property.toString());
+		buffer.append(" in [");
+
+		boolean first = true;
+
+		for (Value value : values) {
+
+			if (first) {
+				first = false;
+			} else {
+				buffer.append(',');
+			}
+
+			buffer.append(value.toString());
+		}
+
+		buffer.append(']');
+
+		return buffer.toString();
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.core.query.impl;
+
+import java.util.List;
+
+import org.eclipse.lyo.core.query.NestedProperty;
+import org.eclipse.lyo.core.query.PName;
+import org.eclipse.lyo.core.query.Property;
+
+/**
+ * Implementation of {@link NestedProperty} interface; a <code>null</code>
+ * identifier stands for a wildcard, as in {@code *{dcterms:title}}
+ */
+public record NestedPropertyImpl(
+	PName identifier,
+	List<Property> children
+) implements NestedProperty
+{
+	public
+	NestedPropertyImpl
+	{
+		children = List.copyOf(children);
+	}
+
+	@Override
+	public Type
+	type()
+	{
+		return Type.NESTED_PROPERTY;
+	}
+
+	@Override
+	public boolean
+	isWildcard()
+	{
+		return identifier == null;
+	}
+
+	@Override
+	public PName
+	identifier()
+	{
+		if (identifier == null) {
+			throw new IllegalStateException("wildcard has no identifier");
+		}
+
+		return identifier;
+	}
+
+	@Override
+	public String
+	toString()
+	{
+		StringBuilder buffer = new StringBuilder();
+
+		buffer.append(identifier == null ? "*" : identifier.toString());
+		buffer.append('{');
+
+		PropertiesImpl.childrenToString(buffer, children);
+
+		buffer.append('}');
+
+		return buffer.toString();
+	}
+}
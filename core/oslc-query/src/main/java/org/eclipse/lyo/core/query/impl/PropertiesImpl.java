@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.core.query.impl;
+
+import java.util.List;
+
+import org.eclipse.lyo.core.query.Properties;
+import org.eclipse.lyo.core.query.Property;
+
+/**
+ * Implementation of {@link Properties} interface
+ */
+public record PropertiesImpl(
+	List<Property> children
+) implements Properties
+{
+	public
+	PropertiesImpl
+	{
+		children = List.copyOf(children);
+	}
+
+	@Override
+	public String
+	toString()
+	{
+		return childrenToString(new StringBuilder(), children).toString();
+	}
+
+	/**
+	 * Generate string representation of a children property list
+	 */
+	static StringBuilder
+	childrenToString(
+		StringBuilder buffer,
+		List<Property> children
+	)
+	{
+		boolean first = true;
+
+		for (Property property : children) {
+
+			if (first) {
+				first = false;
+			} else {
+				buffer.append(',');
+			}
+
+			buffer.append(property.toString());
+		}
+
+		return buffer;
+	}
+}
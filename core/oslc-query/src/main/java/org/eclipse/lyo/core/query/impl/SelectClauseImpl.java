@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.core.query.impl;
+
+import java.util.List;
+
+import org.eclipse.lyo.core.query.SelectClause;
+import org.eclipse.lyo.core.query.Property;
+
+/**
+ * Implementation of {@link SelectClause} interface
+ */
+public record SelectClauseImpl(
+	List<Property> children
+) implements SelectClause
+{
+	public
+	SelectClauseImpl
+	{
+		children = List.copyOf(children);
+	}
+
+	@Override
+	public String
+	toString()
+	{
+		return PropertiesImpl.childrenToString(new StringBuilder(), children).toString();
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.core.query.impl;
+
+import java.util.List;
+
+import org.eclipse.lyo.core.query.SortTerms;
+import org.eclipse.lyo.core.query.SortTerm;
+
+/**
+ * Implementation of {@link SortTerms} interface
+ */
+public record SortTermsImpl(
+	List<SortTerm> children
+) implements SortTerms
+{
+	public
+	SortTermsImpl
+	{
+		children = List.copyOf(children);
+	}
+
+	@Override
+	public String
+	toString()
+	{
+		return childrenToString(children);
+	}
+
+	/**
+	 * Generate string representation of a sort term list
+	 */
+	static String
+	childrenToString(List<SortTerm> children)
+	{
+		StringBuilder buffer = new StringBuilder();
+		boolean first = true;
+
+		for (SortTerm term : children) {
+
+			if (first) {
+				first = false;
+			} else {
+				buffer.append(',');
+			}
+
+			buffer.append(term.toString());
+		}
+
+		return buffer.toString();
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.core.query.impl;
+
+import org.eclipse.lyo.core.query.PName;
+import org.eclipse.lyo.core.query.TypedValue;
+
+/**
+ * Implementation of {@link TypedValue} interface
+ */
+public record TypedValueImpl(
+	String value,
+	PName prefixedName
+) implements TypedValue
+{
+	@Override
+	public Type
+	type()
+	{
+		return Type.TYPED_STRING;
+	}
+
+	@Override
+	public String
+	toString()
+	{
+		return '"' + value + "\"^^" + prefixedName;
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.core.query.impl;
+
+import java.util.List;
+
+import org.eclipse.lyo.core.query.PName;
+import org.eclipse.lyo.core.query.SimpleTerm;
+import org.eclipse.lyo.core.query.WhereClause;
+
+/**
+ * Implementation of {@link WhereClause} interface
+ */
+public record WhereClauseImpl(
+	List<SimpleTerm> children
+) implements WhereClause
+{
+	public
+	WhereClauseImpl
+	{
+		children = List.copyOf(children);
+	}
+
+	@Override
+	public Type
+	type()
+	{
+		return Type.TOP_LEVEL;
+	}
+
+	/**
+	 * @return <code>null</code>, a where clause has no property
+	 */
+	@Override
+	public PName
+	property()
+	{
+		return null;
+	}
+
+	@Override
+	public String
+	toString()
+	{
+		return childrenToString(new StringBuilder(), children).toString();
+	}
+
+	/**
+	 * Generate string representation of the terms of a compound term
+	 */
+	static StringBuilder
+	childrenToString(
+		StringBuilder buffer,
+		List<SimpleTerm> children
+	)
+	{
+		boolean first = true;
+
+		for (SimpleTerm term : children) {
+
+			if (first) {
+				first = false;
+			} else {
+				buffer.append(" and ");
+			}
+
+			buffer.append(term.toString());
+		}
+
+		return buffer;
+	}
+}
@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.core.query.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.lyo.core.query.ParseException;
+import org.eclipse.lyo.core.query.QueryUtils;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests of the hand-written query parser selected with
+ * {@link OSLC4JConstants#OSLC4J_QUERY_PARSER}, which must build the
+ * same clauses as the ANTLR grammars
+ */
+public class HandwrittenParserTest
+{
+	final static String PREFIXES = "qm=<http://qm.example.com/ns>," +
+			"oslc=<http://open-services.net/ns/core#>,é=<http://example.com/é#>";
+
+	final static int ITERATIONS = 2000;
+
+	enum Kind { PREFIX, WHERE, SELECT, PROPERTIES, ORDER_BY, SEARCH_TERMS }
+
+	@After
+	public void tearDown()
+	{
+		System.clearProperty(OSLC4JConstants.OSLC4J_QUERY_PARSER);
+	}
+
+	@Test
+	public void testBasicExpressions() throws ParseException
+	{
+		String[] wheres = {
+			"qm:testcase=<http://example.com/tests/24>",
+			"qm:duration>=10.5 and oslc:label!=\"x\\\"y\"@en-US",
+			"*=true",
+			"qm:verified in [true,\"a\"^^qm:t,-.5]",
+			"qm:verified in[1]",
+			"qm:testcase{oslc:label=\"a\" and qm:x>+1.}",
+			"qm:a<=\"2026-01-01\"^^xsd:date",
+			"qm:a=1 "
+		};
+
+		for (String where : wheres) {
+			assertAgree(Kind.WHERE, where);
+		}
+
+		assertAgree(Kind.SELECT, " qm:a , qm:b{ * ,oslc:c{qm:d} },*{qm:e}");
+		assertAgree(Kind.ORDER_BY, "-qm:a, + qm:b ,qm:c{+oslc:d}");
+		assertAgree(Kind.PREFIX, "a=<http://a#>, b = <http://b#>");
+		assertAgree(Kind.SEARCH_TERMS, "\"a b\", \"c\\\"\"");
+	}
+
+	@Test
+	public void testLessThanNumber() throws ParseException
+	{
+		// The ANTLR lexer takes "<1" for the start of an IRI
+		assertTrue(parse(Kind.WHERE, "qm:a<=1", false) instanceof ParseException);
+		assertEquals("qm:a<=1", parse(Kind.WHERE, "qm:a<=1", true).toString());
+		assertEquals("qm:a<true", parse(Kind.WHERE, "qm:a<true", true).toString());
+	}
+
+	@Test
+	public void testGeneratedExpressionsAgree() throws ParseException
+	{
+		Random random = new Random(4711);
+
+		for (Kind kind : Kind.values()) {
+			for (int index = 0; index < ITERATIONS; index++) {
+				assertAgree(kind, new Generator(random).expression(kind));
+			}
+		}
+	}
+
+	@Test
+	public void testMutatedExpressionsAgree() throws ParseException
+	{
+		Random random = new Random(42);
+		String noise = " ,:*<>=!\"\\^@{}[]+-.0aZ_é\t";
+		int accepted = 0;
+
+		for (Kind kind : Kind.values()) {
+			for (int index = 0; index < ITERATIONS; index++) {
+
+				StringBuilder expression =
+					new StringBuilder(new Generator(random).expression(kind));
+				int position = random.nextInt(expression.length() + 1);
+				char c = noise.charAt(random.nextInt(noise.length()));
+
+				switch (random.nextInt(3)) {
+				case 0:
+					expression.insert(position, c);
+					break;
+				case 1:
+					if (position < expression.length()) {
+						expression.deleteCharAt(position);
+					}
+					break;
+				default:
+					if (position < expression.length()) {
+						expression.setCharAt(position, c);
+					}
+				}
+
+				Object handwritten = parse(kind, expression.toString(), true);
+
+				if (handwritten instanceof ParseException) {
+					continue;
+				}
+
+				// Not a superset; the ANTLR lexer also rejects some valid input
+				Object antlr = parse(kind, expression.toString(), false);
+
+				if (! (antlr instanceof ParseException)) {
+					assertEquals(expression.toString(), antlr, handwritten);
+					accepted++;
+				}
+			}
+		}
+
+		assertTrue(accepted > ITERATIONS);
+	}
+
+	@Test
+	public void testRejectsInputTheGrammarsIgnore() throws ParseException
+	{
+		// The ANTLR parsers stop at these and return the first term only
+		String[] wheres = {
+			"qm:a=1,qm:b=2",
+			"qm:a=1  and qm:b=2",
+			"qm:a=1 and",
+			"qm:a=1 \u00a7"
+		};
+
+		for (String where : wheres) {
+			assertEquals("qm:a=1", parse(Kind.WHERE, where, false).toString());
+			assertRejected(Kind.WHERE, where);
+		}
+
+		assertRejected(Kind.SELECT, "qm:a}");
+		assertRejected(Kind.ORDER_BY, "+qm:a +qm:b");
+		assertRejected(Kind.PREFIX, "a=<http://a#> b");
+		assertRejected(Kind.SEARCH_TERMS, "\"a\" x");
+	}
+
+	@Test
+	public void testErrorPosition()
+	{
+		System.setProperty(OSLC4JConstants.OSLC4J_QUERY_PARSER, "handwritten");
+
+		try {
+			QueryUtils.parseWhere("qm:a=1 and qm:b?2", QueryUtils.parsePrefixes(PREFIXES));
+			fail();
+		} catch (ParseException e) {
+			assertEquals("offset 15: expected a comparison operator, found '?'", e.getMessage());
+		}
+	}
+
+	private static void
+	assertAgree(Kind kind, String expression) throws ParseException
+	{
+		Object antlr = parse(kind, expression, false);
+		Object handwritten = parse(kind, expression, true);
+
+		if (antlr instanceof ParseException) {
+			throw new AssertionError(expression, (ParseException)antlr);
+		}
+
+		assertEquals(expression, antlr, handwritten);
+		assertEquals(expression, antlr.toString(), handwritten.toString());
+	}
+
+	private static void
+	assertRejected(Kind kind, String expression) throws ParseException
+	{
+		assertTrue(expression, parse(kind, expression, true) instanceof ParseException);
+	}
+
+	private static Object
+	parse(Kind kind, String expression, boolean handwritten) throws ParseException
+	{
+		System.setProperty(OSLC4JConstants.OSLC4J_QUERY_PARSER,
+				handwritten ? "handwritten" : "antlr");
+
+		Map<String, String> prefixMap = QueryUtils.parsePrefixes(PREFIXES);
+
+		try {
+			switch (kind) {
+			case PREFIX:
+				return QueryUtils.parsePrefixes(expression);
+			case WHERE:
+				return QueryUtils.parseWhere(expression, prefixMap);
+			case SELECT:
+				return QueryUtils.parseSelect(expression, prefixMap);
+			case PROPERTIES:
+				return QueryUtils.parseProperties(expression, prefixMap);
+			case ORDER_BY:
+				return QueryUtils.parseOrderBy(expression, prefixMap);
+			default:
+				return QueryUtils.parseSearchTerms(expression);
+			}
+		} catch (ParseException e) {
+			return e;
+		}
+	}
+
+	/**
+	 * Random expressions following the grammars, with the whitespace
+	 * each of them allows
+	 */
+	private static class Generator
+	{
+		Generator(Random random)
+		{
+			this.random = random;
+		}
+
+		String
+		expression(Kind kind)
+		{
+			switch (kind) {
+			case PREFIX:
+				return list(() -> space() + name(false) + space() + "=" + space() + iri() + space());
+			case WHERE:
+				String terms = terms(0);
+				// The ANTLR lexer fails on a space after a closing quote
+				return terms + (random.nextInt(10) == 0 && ! terms.endsWith("\"") ? " " : "");
+			case SELECT:
+			case PROPERTIES:
+				return properties(0);
+			case ORDER_BY:
+				return sortTerms(0);
+			default:
+				return list(() -> space() + string() + space());
+			}
+		}
+
+		private String
+		terms(int depth)
+		{
+			StringBuilder terms = new StringBuilder(term(depth));
+
+			for (int count = random.nextInt(3); count > 0; count--) {
+				terms.append(" and ").append(term(depth));
+			}
+
+			return terms.toString();
+		}
+
+		private String
+		term(int depth)
+		{
+			String property = random.nextInt(8) == 0 ? "*" : pname();
+
+			switch (depth < 2 ? random.nextInt(5) : random.nextInt(4)) {
+			case 0:
+				return property + " in" + " ".repeat(random.nextInt(3)) +
+						"[" + list(this::value) + "]";
+			case 4:
+				return property + "{" + terms(depth + 1) + "}";
+			default:
+				String[] operators = { "=", "!=", "<", ">", "<=", ">=" };
+				String operator = operators[random.nextInt(operators.length)];
+				// The ANTLR lexer reads anything else after '<' as the start of an IRI
+				return property + operator + (operator.startsWith("<") ?
+						stringOrIri() :
+						value());
+			}
+		}
+
+		private String
+		stringOrIri()
+		{
+			switch (random.nextInt(4)) {
+			case 0:
+				return iri();
+			case 1:
+				return string() + "^^" + pname();
+			case 2:
+				return string() + "@en";
+			default:
+				return string();
+			}
+		}
+
+		private String
+		value()
+		{
+			switch (random.nextInt(7)) {
+			case 0:
+				return iri();
+			case 1:
+				return random.nextBoolean() ? "true" : "false";
+			case 2:
+				return decimal();
+			case 3:
+				return string() + "^^" + pname();
+			case 4:
+				return string() + "@" + (random.nextBoolean() ? "en" : "de-CH-1901");
+			default:
+				return string();
+			}
+		}
+
+		private String
+		properties(int depth)
+		{
+			return list(() -> {
+				String identifier = space() + (random.nextInt(6) == 0 ? "*" : pname()) + space();
+				return depth < 2 && random.nextInt(4) == 0 ?
+					identifier + "{" + properties(depth + 1) + "}" + space() :
+					identifier;
+			});
+		}
+
+		private String
+		sortTerms(int depth)
+		{
+			return list(() -> space() + (depth < 2 && random.nextInt(4) == 0 ?
+				pname() + space() + "{" + sortTerms(depth + 1) + "}" :
+				(random.nextBoolean() ? "+" : "-") + space() + pname()) + space());
+		}
+
+		private String
+		list(java.util.function.Supplier<String> element)
+		{
+			StringBuilder list = new StringBuilder(element.get());
+
+			for (int count = random.nextInt(3); count > 0; count--) {
+				list.append(',').append(element.get());
+			}
+
+			return list.toString();
+		}
+
+		private String
+		pname()
+		{
+			switch (random.nextInt(6)) {
+			case 0:
+				return ":" + name(true);
+			case 1:
+				return random.nextBoolean() ? "qm:" : "é:";
+			case 2:
+				return "undeclared:" + name(true);
+			default:
+				return (random.nextBoolean() ? "qm:" : "oslc:") + name(true);
+			}
+		}
+
+		private String
+		name(boolean local)
+		{
+			String first = local ? "_0aZé" : "aZé";
+			String rest = "aZ09_-é\u00b7\u0301";
+			StringBuilder name = new StringBuilder();
+
+			name.append(first.charAt(random.nextInt(first.length())));
+
+			for (int count = random.nextInt(6); count > 0; count--) {
+				if (random.nextInt(5) == 0) {
+					name.append('.');
+				}
+				name.append(rest.charAt(random.nextInt(rest.length())));
+			}
+
+			return name.toString();
+		}
+
+		private String
+		iri()
+		{
+			String chars = "abc/:#?&=.%-_~é09";
+			StringBuilder iri = new StringBuilder("<http://example.com/");
+
+			for (int count = random.nextInt(8); count > 0; count--) {
+				iri.append(chars.charAt(random.nextInt(chars.length())));
+			}
+
+			return iri.append('>').toString();
+		}
+
+		private String
+		decimal()
+		{
+			String sign = new String[] { "", "+", "-" }[random.nextInt(3)];
+			String digits = Integer.toString(random.nextInt(1000));
+
+			switch (random.nextInt(3)) {
+			case 0:
+				return sign + digits;
+			case 1:
+				return sign + digits + "." + (random.nextBoolean() ? digits : "");
+			default:
+				return sign + "." + digits;
+			}
+		}
+
+		private String
+		string()
+		{
+			String[] chars = { "a", " ", ",", "é", "'", "\\\"", "\\\\", "\\n", "\\t", "{", "]", "and" };
+			StringBuilder string = new StringBuilder("\"");
+
+			for (int count = random.nextInt(6); count > 0; count--) {
+				string.append(chars[random.nextInt(chars.length)]);
+			}
+
+			return string.append('"').toString();
+		}
+
+		private String
+		space()
+		{
+			String[] spaces = { "", "", "", " ", "  ", "\t", "\n" };
+			return spaces[random.nextInt(spaces.length)];
+		}
+
+		private final Random random;
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.core.query.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lyo.core.query.ComparisonTerm;
+import org.eclipse.lyo.core.query.CompoundTerm;
+import org.eclipse.lyo.core.query.InTerm;
+import org.eclipse.lyo.core.query.LangedStringValue;
+import org.eclipse.lyo.core.query.NestedProperty;
+import org.eclipse.lyo.core.query.ParseException;
+import org.eclipse.lyo.core.query.PropertiesClause;
+import org.eclipse.lyo.core.query.QueryUtils;
+import org.eclipse.lyo.core.query.SelectClause;
+import org.eclipse.lyo.core.query.SimpleTerm;
+import org.eclipse.lyo.core.query.TypedValue;
+import org.eclipse.lyo.core.query.WhereClause;
+import org.junit.Test;
+
+/**
+ * Tests of the immutable clauses returned by {@link QueryUtils}
+ */
+public class ParsedClausesTest
+{
+	final static String PREFIXES = "qm=<http://qm.example.com/ns>," +
+			"oslc=<http://open-services.net/ns/core#>," +
+			"xs=<http://www.w3.org/2001/XMLSchema>";
+
+	@Test
+	public void testEqualClauses() throws ParseException
+	{
+		Map<String, String> prefixMap = QueryUtils.parsePrefixes(PREFIXES);
+		String where = "oslc:verified_by{oslc:owner=\"Steve\" and qm:duration=-47.0} and " +
+				"qm:state in [\"Done\",\"Open\"] and qm:submitted<\"2011-10-10T07:00:00Z\"^^xs:dateTime";
+
+		assertEquals(QueryUtils.parseWhere(where, prefixMap),
+				QueryUtils.parseWhere(where, prefixMap));
+		assertEquals(QueryUtils.parseWhere(where, prefixMap).hashCode(),
+				QueryUtils.parseWhere(where, prefixMap).hashCode());
+		assertNotEquals(QueryUtils.parseWhere(where, prefixMap),
+				QueryUtils.parseWhere("qm:state in [\"Done\"]", prefixMap));
+		assertEquals(QueryUtils.parseOrderBy("-qm:priority,+oslc:owner{+qm:name}", prefixMap),
+				QueryUtils.parseOrderBy("-qm:priority,+oslc:owner{+qm:name}", prefixMap));
+	}
+
+	@Test
+	public void testWhereTerms() throws ParseException
+	{
+		Map<String, String> prefixMap = QueryUtils.parsePrefixes(PREFIXES);
+		WhereClause where = QueryUtils.parseWhere(
+				"oslc:verified_by{qm:state in [\"Done\",\"Open\"]} and " +
+				"qm:submitted<\"2011\"^^xs:dateTime and oslc:label>\"The End\"@en-US", prefixMap);
+
+		assertEquals(SimpleTerm.Type.TOP_LEVEL, where.type());
+		assertEquals(null, where.property());
+
+		List<SimpleTerm> children = where.children();
+		assertEquals(3, children.size());
+
+		CompoundTerm nested = (CompoundTerm)children.get(0);
+		assertEquals(SimpleTerm.Type.NESTED, nested.type());
+		assertEquals("http://open-services.net/ns/core#", nested.property().namespace);
+		assertEquals(2, ((InTerm)nested.children().get(0)).values().size());
+
+		TypedValue typed = (TypedValue)((ComparisonTerm)children.get(1)).operand();
+		assertEquals("2011", typed.value());
+		assertEquals("dateTime", typed.prefixedName().local);
+
+		LangedStringValue langed = (LangedStringValue)((ComparisonTerm)children.get(2)).operand();
+		assertEquals("The End", langed.value());
+		assertEquals("en-US", langed.langTag());
+	}
+
+	@Test(expected=UnsupportedOperationException.class)
+	public void testImmutableChildren() throws ParseException
+	{
+		WhereClause where = QueryUtils.parseWhere("qm:state=\"Done\"",
+				QueryUtils.parsePrefixes(PREFIXES));
+
+		where.children().clear();
+	}
+
+	@Test
+	public void testSelectAndPropertiesClauses() throws ParseException
+	{
+		Map<String, String> prefixMap = QueryUtils.parsePrefixes(PREFIXES);
+		SelectClause select = QueryUtils.parseSelect("qm:state,*{oslc:owner}", prefixMap);
+		PropertiesClause properties = QueryUtils.parseProperties("qm:state,*{oslc:owner}", prefixMap);
+
+		assertFalse(((Object)select) instanceof PropertiesClause);
+		assertFalse(((Object)properties) instanceof SelectClause);
+		assertEquals(select.children(), properties.children());
+
+		NestedProperty nested = (NestedProperty)select.children().get(1);
+		assertTrue(nested.isWildcard());
+		assertEquals("*{oslc:owner}", nested.toString());
+	}
+
+	@Test(expected=ParseException.class)
+	public void testUnsupportedValue() throws ParseException
+	{
+		QueryUtils.parseWhere("qm:testcase=qm:test31459", QueryUtils.parsePrefixes(PREFIXES));
+	}
+}
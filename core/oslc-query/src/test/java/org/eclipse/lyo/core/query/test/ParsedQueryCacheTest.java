@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.core.query.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.lyo.core.query.ParseException;
+import org.eclipse.lyo.core.query.ParsedQueryCache;
+import org.eclipse.lyo.core.query.QueryUtils;
+import org.eclipse.lyo.core.query.SearchTermsClause;
+import org.eclipse.lyo.core.query.WhereClause;
+import org.eclipse.lyo.oslc4j.core.NestedWildcardProperties;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.eclipse.lyo.oslc4j.core.SingletonWildcardProperties;
+import org.junit.Test;
+
+/**
+ * Tests of {@link ParsedQueryCache}
+ */
+public class ParsedQueryCacheTest
+{
+	final static String PREFIXES = "qm=<http://qm.example.com/ns>," +
+			"oslc=<http://open-services.net/ns/core#>";
+
+	@Test
+	public void testHitsAndMisses() throws ParseException
+	{
+		ParsedQueryCache cache = new ParsedQueryCache(10);
+		Map<String, String> prefixMap = cache.parsePrefixes(PREFIXES);
+
+		WhereClause where = cache.parseWhere("qm:state=\"Done\"", prefixMap);
+
+		assertSame(prefixMap, cache.parsePrefixes(PREFIXES));
+		assertSame(where, cache.parseWhere("qm:state=\"Done\"", new HashMap<>(prefixMap)));
+		assertEquals(where, QueryUtils.parseWhere("qm:state=\"Done\"", prefixMap));
+
+		ParsedQueryCache.Statistics statistics = cache.statistics();
+		assertEquals(2, statistics.hitCount());
+		assertEquals(2, statistics.missCount());
+		assertEquals(2, statistics.size());
+		assertEquals(0.5, statistics.hitRate(), 0);
+	}
+
+	@Test
+	public void testKeyedByPrefixMap() throws ParseException
+	{
+		ParsedQueryCache cache = new ParsedQueryCache(10);
+		Map<String, String> prefixMap = new HashMap<>(cache.parsePrefixes(PREFIXES));
+
+		WhereClause where = cache.parseWhere("qm:state=\"Done\"", prefixMap);
+		prefixMap.put("qm", "http://example.com/other#");
+		WhereClause otherWhere = cache.parseWhere("qm:state=\"Done\"", prefixMap);
+
+		assertNotSame(where, otherWhere);
+		assertEquals("http://qm.example.com/ns", where.children().get(0).property().namespace);
+		assertEquals("http://example.com/other#", otherWhere.children().get(0).property().namespace);
+	}
+
+	@Test
+	public void testKeyedByParser() throws ParseException
+	{
+		ParsedQueryCache cache = new ParsedQueryCache(10);
+		Map<String, String> prefixMap = cache.parsePrefixes(PREFIXES);
+
+		WhereClause where = cache.parseWhere("qm:state=\"Done\"", prefixMap);
+		System.setProperty(OSLC4JConstants.OSLC4J_QUERY_PARSER, "handwritten");
+		try {
+			WhereClause handwrittenWhere = cache.parseWhere("qm:state=\"Done\"", prefixMap);
+
+			assertNotSame(where, handwrittenWhere);
+			assertSame(handwrittenWhere, cache.parseWhere("qm:state=\"Done\"", prefixMap));
+			assertEquals(where, handwrittenWhere);
+		} finally {
+			System.clearProperty(OSLC4JConstants.OSLC4J_QUERY_PARSER);
+		}
+
+		assertSame(where, cache.parseWhere("qm:state=\"Done\"", prefixMap));
+	}
+
+	@Test
+	public void testSearchTerms() throws ParseException
+	{
+		ParsedQueryCache cache = new ParsedQueryCache(10);
+
+		SearchTermsClause searchTerms = cache.parseSearchTerms("\"roof\",\"river gods\"");
+
+		assertSame(searchTerms, cache.parseSearchTerms("\"roof\",\"river gods\""));
+		assertEquals(QueryUtils.parseSearchTerms("\"roof\",\"river gods\""), searchTerms);
+		assertEquals(1, cache.statistics().hitCount());
+	}
+
+	@Test
+	public void testBoundedSize() throws ParseException
+	{
+		ParsedQueryCache cache = new ParsedQueryCache(8);
+		Map<String, String> prefixMap = cache.parsePrefixes(PREFIXES);
+
+		for (int index = 0; index < 100; index++) {
+			cache.parseOrderBy("+qm:p" + index, prefixMap);
+			assertTrue(cache.statistics().size() <= 8);
+		}
+
+		assertTrue(cache.statistics().evictionCount() > 0);
+	}
+
+	@Test
+	public void testSelectedProperties() throws ParseException
+	{
+		ParsedQueryCache cache = new ParsedQueryCache(10);
+		Map<String, String> prefixMap = cache.parsePrefixes(PREFIXES);
+		String select = "qm:state,*,oslc:owner{*},*{qm:name}";
+
+		Map<String, Object> selectedProperties = cache.invertSelectedProperties(select, prefixMap);
+
+		assertSame(selectedProperties, cache.invertSelectedProperties(select, prefixMap));
+		assertEquals(QueryUtils.invertSelectedProperties(QueryUtils.parseSelect(select, prefixMap)),
+				selectedProperties);
+		assertTrue(selectedProperties instanceof SingletonWildcardProperties);
+		assertTrue(selectedProperties instanceof NestedWildcardProperties);
+		assertSame(OSLC4JConstants.OSL4J_PROPERTY_SINGLETON,
+				((NestedWildcardProperties)selectedProperties).commonNestedProperties()
+					.get("http://qm.example.com/nsname"));
+
+		try {
+			selectedProperties.put("http://example.com/p", OSLC4JConstants.OSL4J_PROPERTY_SINGLETON);
+			fail("selected properties should be unmodifiable");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testParseErrorNotCached()
+	{
+		ParsedQueryCache cache = new ParsedQueryCache(10);
+
+		for (int attempt = 0; attempt < 2; attempt++) {
+			try {
+				cache.parseSelect("XXX", null);
+				fail("expected a parse exception");
+			} catch (ParseException e) {
+				// expected
+			}
+		}
+
+		assertEquals(0, cache.statistics().size());
+		assertEquals(2, cache.statistics().missCount());
+	}
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.core.query.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.QueryExecutionFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.eclipse.lyo.core.query.ParseException;
+import org.eclipse.lyo.core.query.QueryEvaluator;
+import org.eclipse.lyo.core.query.QueryUtils;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of {@link QueryEvaluator}
+ */
+public class QueryEvaluatorTest
+{
+	final static String PREFIXES = "qm=<http://qm.example.com/ns#>," +
+			"xsd=<http://www.w3.org/2001/XMLSchema#>,ex=<http://example.com/>";
+
+	final static String DATA =
+		"@prefix qm: <http://qm.example.com/ns#> .\n" +
+		"@prefix xsd: <http://www.w3.org/2001/XMLSchema#> .\n" +
+		"@prefix ex: <http://example.com/> .\n" +
+		"ex:a qm:size 12 ; qm:weight \"1.50\"^^xsd:decimal ; qm:title \"Alpha test\"@en ;\n" +
+		"  qm:state \"Open\" ; qm:done false ; qm:owner ex:alice ;\n" +
+		"  qm:modified \"2026-01-01T10:00:00Z\"^^xsd:dateTime .\n" +
+		"ex:b qm:size \"10.0\"^^xsd:double ; qm:weight 2.5 ; qm:title \"Beta\" ;\n" +
+		"  qm:state \"Closed\" ; qm:done true ; qm:owner ex:bob , ex:carol ;\n" +
+		"  qm:modified \"2026-01-01T11:30:00+02:00\"^^xsd:dateTime .\n" +
+		"ex:c qm:size 3 , 30 ; qm:title \"Gamma test case\" ; qm:state \"Open\" ;\n" +
+		"  qm:owner ex:alice ; qm:modified \"2025-12-31\"^^xsd:date .\n" +
+		"ex:alice qm:name \"Alice\" ; qm:age 40 .\n" +
+		"ex:bob qm:name \"Bob\" ; qm:age 30 .\n" +
+		"ex:carol qm:name \"Carol\" ; qm:age 50 .\n";
+
+	@Before
+	public void setUp()
+	{
+		// The ANTLR lexer cannot parse "<" followed by a number
+		System.setProperty(OSLC4JConstants.OSLC4J_QUERY_PARSER, "handwritten");
+	}
+
+	@After
+	public void tearDown()
+	{
+		System.clearProperty(OSLC4JConstants.OSLC4J_QUERY_PARSER);
+	}
+
+	@Test
+	public void testComparisons() throws ParseException
+	{
+		assertWhere("qm:size=12", "a");
+		assertWhere("qm:size=10", "b");
+		assertWhere("qm:size>=10", "a", "b", "c");
+		assertWhere("qm:size<10", "c");
+		assertWhere("qm:size!=12", "b", "c");
+		assertWhere("qm:weight>1.5", "b");
+		assertWhere("qm:weight<=1.5", "a");
+		assertWhere("qm:state=\"Open\"", "a", "c");
+		assertWhere("qm:state>\"Cz\"", "a", "c");
+		assertWhere("qm:title=\"Alpha test\"@en", "a");
+		assertWhere("qm:title=\"Alpha test\"");
+		assertWhere("qm:done=false", "a");
+		assertWhere("qm:owner=<http://example.com/alice>", "a", "c");
+		assertWhere("qm:modified<\"2026-01-01T09:45:00Z\"^^xsd:dateTime", "b");
+		assertWhere("qm:modified>=\"2026-01-01T10:00:00Z\"^^xsd:dateTime", "a");
+		assertWhere("qm:modified<\"2026-01-01\"^^xsd:date", "c");
+		assertWhere("qm:size>\"10\"");
+	}
+
+	@Test
+	public void testInNestedAndWildcard() throws ParseException
+	{
+		assertWhere("qm:state in [\"Closed\",\"Done\"]", "b");
+		assertWhere("qm:size in [3,12]", "a", "c");
+		assertWhere("qm:owner{qm:name=\"Alice\"}", "a", "c");
+		assertWhere("qm:owner{qm:age>35} and qm:size>20", "c");
+		assertWhere("qm:state=\"Open\" and qm:done=false", "a");
+		assertWhere("*=\"Beta\"", "b");
+		assertWhere("*{qm:age<35}", "b");
+	}
+
+	@Test
+	public void testOrderAndPaging() throws ParseException
+	{
+		assertSelect(null, null, "+qm:size", 0, 10, "c", "b", "a");
+		assertSelect(null, null, "-qm:size", 0, 10, "c", "a", "b");
+		assertSelect("qm:state=\"Open\"", null, "qm:owner{-qm:name},-qm:size", 0, 10, "c", "a");
+		assertSelect(null, null, "+qm:weight", 0, 10, "c", "a", "b");
+		// Every owner counts, not only the first one
+		assertSelect(null, null, "qm:owner{-qm:age}", 0, 10, "b", "a", "c");
+		assertSelect(null, null, "qm:owner{+qm:age}", 0, 10, "b", "a", "c");
+		assertSelect(null, null, "qm:owner{+qm:name}", 0, 10, "a", "c", "b");
+		assertSelect("qm:size>0", null, "+qm:size", 1, 1, "b");
+		assertSelect("qm:size>0", null, null, 2, 5, "c");
+
+		QueryEvaluator.Result result = select("qm:size>0", null, "+qm:size", 1, 1);
+		assertEquals(3, result.totalCount());
+	}
+
+	@Test
+	public void testSearchTerms() throws ParseException
+	{
+		assertSelect(null, "\"test\"", null, 0, 10, "a", "c");
+		assertSelect(null, "\"TEST case\"", null, 0, 10, "c");
+		assertSelect(null, "\"beta\",\"test case\",\"gamma\"", null, 0, 10, "c", "b");
+		assertSelect("qm:size<20", "\"test\"", "-qm:size", 0, 10, "c", "a");
+		// The words of a term must occur in the same literal
+		assertSelect(null, "\"alpha open\"", null, 0, 10);
+		assertSelect(null, "\"alpha open\",\"alpha test\"", null, 0, 10, "a");
+	}
+
+	@Test
+	public void testUndeclaredPrefix() throws ParseException
+	{
+		try {
+			evaluator().matches(QueryUtils.parseWhere("dc:title=\"x\"", prefixes()));
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Undeclared prefix in dc:title", e.getMessage());
+		}
+	}
+
+	@Test
+	public void testComparisonsAgreeWithSparql() throws ParseException
+	{
+		Random random = new Random(7);
+		StringBuilder data = new StringBuilder("@prefix xsd: <http://www.w3.org/2001/XMLSchema#> .\n");
+		String[] types = { "xsd:int", "xsd:integer", "xsd:decimal", "xsd:double", "xsd:float" };
+
+		for (int index = 0; index < 300; index++) {
+			data.append("<http://example.com/r").append(index).append("> <http://qm.example.com/ns#n> ")
+				.append(literal(random, types[random.nextInt(types.length)]))
+				.append(" ;\n  <http://qm.example.com/ns#t> \"2026-01-0").append(1 + random.nextInt(3))
+				.append('T').append(10 + random.nextInt(10)).append(":00:00")
+				.append(new String[] { "Z", "+05:00", "-03:30", "" }[random.nextInt(4)])
+				.append("\"^^xsd:dateTime .\n");
+		}
+
+		Model model = ModelFactory.createDefaultModel();
+		model.read(new StringReader(data.toString()), null, "TURTLE");
+
+		QueryEvaluator evaluator = new QueryEvaluator(model);
+		String[] operators = { "=", "!=", "<", ">", "<=", ">=" };
+
+		for (int index = 0; index < 200; index++) {
+
+			String operator = operators[random.nextInt(operators.length)];
+			String operand = random.nextBoolean() ?
+				number(random) :
+				"\"2026-01-02T1" + random.nextInt(10) + ":00:00" + (random.nextBoolean() ? ".0" : "") +
+					(random.nextBoolean() ? "Z" : "") + "\"^^xsd:dateTime";
+			String property = operand.startsWith("\"") ? "qm:t" : "qm:n";
+
+			Set<Node> expected = new HashSet<>();
+			String sparql = "PREFIX xsd: <http://www.w3.org/2001/XMLSchema#> " +
+					"SELECT ?s WHERE { ?s <http://qm.example.com/ns#" + property.substring(3) +
+					"> ?v FILTER(?v " + operator + " " + operand + ") }";
+
+			try (QueryExecution execution = QueryExecutionFactory.create(sparql, model)) {
+				execution.execSelect().forEachRemaining(solution -> expected.add(solution.get("s").asNode()));
+			}
+
+			String where = property + operator + operand;
+
+			assertEquals(where, expected,
+					evaluator.matches(QueryUtils.parseWhere(where, prefixes())));
+		}
+	}
+
+	private static String
+	literal(Random random, String type)
+	{
+		String number = type.endsWith("int") || type.endsWith("integer") ?
+			Integer.toString(random.nextInt(41) - 20) :
+			number(random);
+
+		return '"' + number + "\"^^" + type;
+	}
+
+	private static String
+	number(Random random)
+	{
+		return (random.nextInt(4) == 0 ? "-" : "") + random.nextInt(20) +
+				(random.nextBoolean() ? "." + random.nextInt(10) : "");
+	}
+
+	private static void
+	assertWhere(String where, String... expected) throws ParseException
+	{
+		assertEquals(where, names(expected),
+				names(evaluator().matches(QueryUtils.parseWhere(where, prefixes()))));
+	}
+
+	private static void
+	assertSelect(String where, String searchTerms, String orderBy, int offset, int limit,
+			String... expected) throws ParseException
+	{
+		assertEquals(Arrays.asList(expected),
+				select(where, searchTerms, orderBy, offset, limit).members().stream()
+					.map(QueryEvaluatorTest::name)
+					.collect(Collectors.toList()));
+	}
+
+	private static QueryEvaluator.Result
+	select(String where, String searchTerms, String orderBy, int offset, int limit)
+		throws ParseException
+	{
+		Map<String, String> prefixMap = prefixes();
+		List<Node> members = List.of(resource("a"), resource("b"), resource("c"));
+
+		return evaluator().select(members,
+				where == null ? null : QueryUtils.parseWhere(where, prefixMap),
+				searchTerms == null ? null : QueryUtils.parseSearchTerms(searchTerms),
+				orderBy == null ? null : QueryUtils.parseOrderBy(orderBy, prefixMap),
+				offset, limit);
+	}
+
+	private static QueryEvaluator
+	evaluator()
+	{
+		Model model = ModelFactory.createDefaultModel();
+		model.read(new StringReader(DATA), null, "TURTLE");
+		return new QueryEvaluator(model);
+	}
+
+	private static Map<String, String>
+	prefixes() throws ParseException
+	{
+		return QueryUtils.parsePrefixes(PREFIXES);
+	}
+
+	private static Node
+	resource(String name)
+	{
+		return NodeFactory.createURI("http://example.com/" + name);
+	}
+
+	private static String
+	name(Node node)
+	{
+		return node.getURI().substring("http://example.com/".length());
+	}
+
+	private static Set<String>
+	names(String... names)
+	{
+		return new HashSet<>(Arrays.asList(names));
+	}
+
+	private static Set<String>
+	names(Set<Node> nodes)
+	{
+		return nodes.stream().map(QueryEvaluatorTest::name).collect(Collectors.toSet());
+	}
+}
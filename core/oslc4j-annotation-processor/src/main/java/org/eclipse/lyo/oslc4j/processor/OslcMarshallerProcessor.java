@@ -0,0 +1,475 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates a {@code <Class>_OslcMarshaller} next to every concrete, public
+ * {@code @OslcResourceShape} class. The generated class calls the getters and
+ * setters of the OSLC properties directly and is registered as a
+ * {@code ResourceMarshaller} (and, if the class has a public no-argument
+ * constructor, {@code ResourceUnmarshaller}) service, which
+ * {@code JenaModelHelper} prefers over reflection.
+ * <p>
+ * Only the property access is generated: {@code marshal} passes every value to
+ * the {@code PropertyWriter} of {@code JenaModelHelper}, which converts it to
+ * RDF the same way as reflectively read values, and {@code setValue} receives
+ * values already converted from RDF.
+ * <p>
+ * Properties are discovered the same way as {@code ResourceClassDescriptor}
+ * does at runtime: public, zero-argument {@code get*}/{@code is*} methods with
+ * an {@code @OslcPropertyDefinition} on the method or on a method it overrides,
+ * paired with a public {@code set*} method taking the getter return type.
+ * Classes that cannot be handled (e.g. generic classes or duplicate property
+ * definitions) are skipped with a note and keep using reflection.
+ * <p>
+ * Like AutoService, the {@code META-INF/services} files are merged with the
+ * ones of earlier compilations, so that an incremental build that recompiles
+ * only some of the resource classes keeps the services of the others.
+ *
+ * @since 7.0.0
+ */
+@SupportedAnnotationTypes(OslcMarshallerProcessor.RESOURCE_SHAPE)
+public class OslcMarshallerProcessor extends AbstractProcessor {
+
+    static final String RESOURCE_SHAPE = "org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape";
+    static final String PROPERTY_DEFINITION = "org.eclipse.lyo.oslc4j.core.annotation.OslcPropertyDefinition";
+
+    static final String MARSHALLER = "org.eclipse.lyo.oslc4j.core.model.ResourceMarshaller";
+    static final String UNMARSHALLER = "org.eclipse.lyo.oslc4j.core.model.ResourceUnmarshaller";
+
+    static final String SUFFIX = "_OslcMarshaller";
+
+    private final Set<String> processed = new HashSet<>();
+    private final Set<String> marshallers = new HashSet<>();
+    private final Set<String> unmarshallers = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServices(MARSHALLER, marshallers);
+            writeServices(UNMARSHALLER, unmarshallers);
+            return false;
+        }
+
+        for (final TypeElement annotation : annotations) {
+            for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS) {
+                    process((TypeElement) element);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void process(final TypeElement type) {
+        processed.add(getGeneratedName(type));
+
+        final String skipReason = getSkipReason(type);
+        if (skipReason != null) {
+            note(type, skipReason);
+            return;
+        }
+
+        final Map<String, Property> properties = new LinkedHashMap<>();
+        for (final ExecutableElement getter : ElementFilter.methodsIn(
+                processingEnv.getElementUtils().getAllMembers(type))) {
+            if (!isGetter(getter)) {
+                continue;
+            }
+
+            final String propertyDefinition = findPropertyDefinition(type, getter);
+            if (propertyDefinition == null) {
+                continue;
+            }
+
+            if (properties.containsKey(propertyDefinition)) {
+                note(type, "duplicate property definition " + propertyDefinition);
+                return;
+            }
+            properties.put(propertyDefinition, new Property(propertyDefinition, getter, findSetter(type, getter)));
+        }
+
+        final boolean unmarshaller = hasPublicNoArgConstructor(type);
+        final String generatedName = getGeneratedName(type);
+        try {
+            writeSource(type, generatedName, properties.values(), unmarshaller);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot write " + generatedName + ": " + e.getMessage(), type);
+            return;
+        }
+
+        marshallers.add(generatedName);
+        if (unmarshaller) {
+            unmarshallers.add(generatedName);
+        }
+    }
+
+    private String getSkipReason(final TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return "abstract class";
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            return "generic class";
+        }
+        for (Element element = type; element.getKind() != ElementKind.PACKAGE;
+             element = element.getEnclosingElement()) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+                return "class is not public";
+            }
+            if (element instanceof TypeElement && ((TypeElement) element).getNestingKind() == NestingKind.MEMBER
+                    && !element.getModifiers().contains(Modifier.STATIC)) {
+                return "inner class";
+            }
+        }
+        return null;
+    }
+
+    private static boolean isGetter(final ExecutableElement method) {
+        final String name = method.getSimpleName().toString();
+        return method.getModifiers().contains(Modifier.PUBLIC)
+                && !method.getModifiers().contains(Modifier.STATIC)
+                && method.getParameters().isEmpty()
+                && method.getReturnType().getKind() != TypeKind.VOID
+                && ((name.startsWith("get") && name.length() > 3) || (name.startsWith("is") && name.length() > 2));
+    }
+
+    private String findPropertyDefinition(final TypeElement type, final ExecutableElement getter) {
+        final String direct = getPropertyDefinition(getter);
+        if (direct != null) {
+            return direct;
+        }
+
+        // Same lookup order as InheritedMethodAnnotationHelper: superclasses first, then interfaces
+        final List<TypeElement> supertypes = new ArrayList<>();
+        for (TypeElement current = superclassOf(type); current != null; current = superclassOf(current)) {
+            supertypes.add(current);
+        }
+        final Deque<TypeMirror> pending = new ArrayDeque<>();
+        for (TypeElement current = type; current != null; current = superclassOf(current)) {
+            pending.addAll(current.getInterfaces());
+        }
+        while (!pending.isEmpty()) {
+            final TypeElement interfaceElement = asTypeElement(pending.removeFirst());
+            if (interfaceElement != null && !supertypes.contains(interfaceElement)) {
+                supertypes.add(interfaceElement);
+                pending.addAll(interfaceElement.getInterfaces());
+            }
+        }
+
+        for (final TypeElement supertype : supertypes) {
+            for (final ExecutableElement method : ElementFilter.methodsIn(supertype.getEnclosedElements())) {
+                if (method.getSimpleName().contentEquals(getter.getSimpleName())
+                        && method.getParameters().isEmpty()) {
+                    final String inherited = getPropertyDefinition(method);
+                    if (inherited != null) {
+                        return inherited;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String getPropertyDefinition(final ExecutableElement method) {
+        for (final AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            final TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(PROPERTY_DEFINITION)) {
+                for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                        : annotation.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("value")) {
+                        return (String) entry.getValue().getValue();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private ExecutableElement findSetter(final TypeElement type, final ExecutableElement getter) {
+        final String getterName = getter.getSimpleName().toString();
+        final String setterName = "set" + getterName.substring(getterName.startsWith("get") ? 3 : 2);
+        final TypeMirror propertyType = processingEnv.getTypeUtils().erasure(getter.getReturnType());
+
+        for (final ExecutableElement method : ElementFilter.methodsIn(
+                processingEnv.getElementUtils().getAllMembers(type))) {
+            if (method.getSimpleName().contentEquals(setterName)
+                    && method.getModifiers().contains(Modifier.PUBLIC)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && method.getParameters().size() == 1
+                    && processingEnv.getTypeUtils().isSameType(propertyType,
+                    processingEnv.getTypeUtils().erasure(method.getParameters().get(0).asType()))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasPublicNoArgConstructor(final TypeElement type) {
+        for (final ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private TypeElement superclassOf(final TypeElement type) {
+        return asTypeElement(type.getSuperclass());
+    }
+
+    private static TypeElement asTypeElement(final TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) type).asElement();
+    }
+
+    private String getGeneratedName(final TypeElement type) {
+        final PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        final String packageName = packageElement.getQualifiedName().toString();
+        final String qualifiedName = type.getQualifiedName().toString();
+        final String simpleNames = packageName.isEmpty()
+                ? qualifiedName
+                : qualifiedName.substring(packageName.length() + 1);
+        final String simpleName = simpleNames.replace('.', '_') + SUFFIX;
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    private void writeSource(final TypeElement type, final String generatedName,
+                             final Iterable<Property> properties, final boolean unmarshaller) throws IOException {
+        final String className = type.getQualifiedName().toString();
+        final int lastDot = generatedName.lastIndexOf('.');
+        final String packageName = lastDot < 0 ? "" : generatedName.substring(0, lastDot);
+        final String simpleName = generatedName.substring(lastDot + 1);
+
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(generatedName, type)
+                .openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            out.print("public final class " + simpleName + " implements " + MARSHALLER + "<" + className + ">");
+            if (unmarshaller) {
+                out.print(", " + UNMARSHALLER + "<" + className + ">");
+            }
+            out.println(" {");
+            out.println();
+            out.println("    @Override");
+            out.println("    public Class<" + className + "> getResourceClass() {");
+            out.println("        return " + className + ".class;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public void marshal(final " + className + " resource, final " + MARSHALLER
+                    + ".PropertyWriter writer)");
+            out.println("            throws javax.xml.datatype.DatatypeConfigurationException, "
+                    + "IllegalAccessException,");
+            out.println("            java.lang.reflect.InvocationTargetException, "
+                    + "org.eclipse.lyo.oslc4j.core.exception.OslcCoreApplicationException {");
+            for (final Property property : properties) {
+                out.println("        writer.write(" + literal(property.definition) + ", resource."
+                        + property.getter.getSimpleName() + "());");
+            }
+            out.println("    }");
+
+            if (unmarshaller) {
+                out.println();
+                out.println("    @Override");
+                out.println("    public " + className + " newInstance() {");
+                out.println("        return new " + className + "();");
+                out.println("    }");
+                out.println();
+                out.println("    @Override");
+                out.println("    @SuppressWarnings(\"unchecked\")");
+                out.println("    public boolean setValue(final " + className
+                        + " resource, final String propertyDefinition, final Object value) {");
+                out.println("        switch (propertyDefinition) {");
+                for (final Property property : properties) {
+                    if (property.setter == null) {
+                        continue;
+                    }
+                    out.println("            case " + literal(property.definition) + ":");
+                    out.println("                resource." + property.setter.getSimpleName() + "(("
+                            + castType(property.setter.getParameters().get(0).asType()) + ") value);");
+                    out.println("                return true;");
+                }
+                out.println("            default:");
+                out.println("                return false;");
+                out.println("        }");
+                out.println("    }");
+            }
+            out.println("}");
+        }
+    }
+
+    private String castType(final TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type)
+                    .getQualifiedName().toString();
+        }
+        if (containsTypeVariable(type)) {
+            return processingEnv.getTypeUtils().erasure(type).toString();
+        }
+        return type.toString();
+    }
+
+    private static boolean containsTypeVariable(final TypeMirror type) {
+        switch (type.getKind()) {
+            case TYPEVAR:
+            case INTERSECTION:
+            case UNION:
+                return true;
+            case ARRAY:
+                return containsTypeVariable(((ArrayType) type).getComponentType());
+            case WILDCARD:
+                final WildcardType wildcard = (WildcardType) type;
+                return (wildcard.getExtendsBound() != null && containsTypeVariable(wildcard.getExtendsBound()))
+                        || (wildcard.getSuperBound() != null && containsTypeVariable(wildcard.getSuperBound()));
+            case DECLARED:
+                for (final TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+                    if (containsTypeVariable(argument)) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private String literal(final String value) {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private void writeServices(final String service, final Set<String> implementations) {
+        if (processed.isEmpty()) {
+            return;
+        }
+        final String resourceName = "META-INF/services/" + service;
+        final Set<String> services = new TreeSet<>(implementations);
+        for (final String existing : readResource(processingEnv, resourceName)) {
+            // The classes of this compilation were just decided; keep the others while they exist
+            if (!processed.contains(existing) && processingEnv.getElementUtils().getTypeElement(existing) != null) {
+                services.add(existing);
+            }
+        }
+        try {
+            final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    resourceName);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (final String implementation : services) {
+                    writer.write(implementation);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot register " + service + " services: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Read the lines of a resource written by an earlier compilation into the class output,
+     * without blank and comment lines.
+     *
+     * @return the lines, empty if there is no such resource
+     */
+    static List<String> readResource(final ProcessingEnvironment processingEnv, final String resourceName) {
+        final List<String> lines = new ArrayList<>();
+        try {
+            final FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "",
+                    resourceName);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank() && !line.startsWith("#")) {
+                        lines.add(line.strip());
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // Not written yet, e.g. by a clean build
+            lines.clear();
+        }
+        return lines;
+    }
+
+    private void note(final TypeElement type, final String reason) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "No OSLC marshaller generated for " + type.getQualifiedName() + " (" + reason
+                        + "); it will be marshalled reflectively", type);
+    }
+
+    private static final class Property {
+        private final String definition;
+        private final ExecutableElement getter;
+        private final ExecutableElement setter;
+
+        private Property(final String definition, final ExecutableElement getter, final ExecutableElement setter) {
+            this.definition = definition;
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+}
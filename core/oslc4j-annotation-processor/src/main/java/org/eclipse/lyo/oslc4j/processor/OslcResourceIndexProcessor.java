@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.processor;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Writes {@value #INDEX}, the index that {@code ResourcePackages} reads instead of
+ * scanning the classpath for {@code @OslcResourceShape} classes. Every concrete
+ * class gets one tab-separated line:
+ * <pre>
+ * rdf:type	binary class name	supertype,supertype,...
+ * </pre>
+ * The {@code rdf:type} is computed like {@code TypeFactory.getQualifiedName(Class)}
+ * and the supertypes are all superclasses (except {@code Object}) and interfaces
+ * of the class, so that the most concrete class of a resource can be chosen
+ * without loading the candidates.
+ * <p>
+ * Like the {@code META-INF/services} files of {@link OslcMarshallerProcessor},
+ * the index is merged with the one of earlier compilations: the lines of the
+ * classes that were not recompiled are kept while the classes still exist.
+ *
+ * @since 7.0.0
+ */
+@SupportedAnnotationTypes(OslcMarshallerProcessor.RESOURCE_SHAPE)
+public class OslcResourceIndexProcessor extends AbstractProcessor {
+
+    static final String INDEX = "META-INF/lyo/oslc-resource-types";
+
+    static final String NAMESPACE = "org.eclipse.lyo.oslc4j.core.annotation.OslcNamespace";
+    static final String NAME = "org.eclipse.lyo.oslc4j.core.annotation.OslcName";
+
+    /** Same default as {@code OslcConstants.OSLC_DATA_NAMESPACE}. */
+    static final String DEFAULT_NAMESPACE = "http://open-services.net/ns/servicemanagement/1.0/";
+
+    private final Set<String> processed = new HashSet<>();
+    private final Map<String, String> lines = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        for (final TypeElement annotation : annotations) {
+            for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    continue;
+                }
+                processed.add(binaryName((TypeElement) element));
+                if (!element.getModifiers().contains(Modifier.ABSTRACT)) {
+                    index((TypeElement) element);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void index(final TypeElement type) {
+        final String rdfType = getQualifiedName(type);
+        if (rdfType == null) {
+            return;
+        }
+
+        final String className = binaryName(type);
+        final Set<String> supertypes = new TreeSet<>();
+        final Deque<TypeMirror> pending = new ArrayDeque<>();
+        pending.add(type.getSuperclass());
+        pending.addAll(type.getInterfaces());
+        while (!pending.isEmpty()) {
+            final TypeMirror supertype = pending.removeFirst();
+            if (supertype.getKind() != TypeKind.DECLARED) {
+                continue;
+            }
+            final TypeElement element = (TypeElement) ((DeclaredType) supertype).asElement();
+            final String name = binaryName(element);
+            if (!Object.class.getName().equals(name) && supertypes.add(name)) {
+                pending.add(element.getSuperclass());
+                pending.addAll(element.getInterfaces());
+            }
+        }
+
+        lines.put(className, rdfType + '\t' + className + '\t' + String.join(",", supertypes));
+    }
+
+    private static String getQualifiedName(final TypeElement type) {
+        final String namespace = getAnnotationValue(type, NAMESPACE);
+        final String name = getAnnotationValue(type, NAME);
+        if (name == null) {
+            return (namespace != null ? namespace : DEFAULT_NAMESPACE) + type.getSimpleName();
+        }
+        // An empty @OslcName means that the class has no rdf:type
+        return name.isEmpty() ? null : (namespace != null ? namespace : DEFAULT_NAMESPACE) + name;
+    }
+
+    private static String getAnnotationValue(final Element element, final String annotationName) {
+        for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            final TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                        : annotation.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("value")) {
+                        return (String) entry.getValue().getValue();
+                    }
+                }
+                return "";
+            }
+        }
+        return null;
+    }
+
+    private String binaryName(final TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private void writeIndex() {
+        if (processed.isEmpty()) {
+            return;
+        }
+        for (final String existing : OslcMarshallerProcessor.readResource(processingEnv, INDEX)) {
+            final String[] columns = existing.split("\t", -1);
+            // The classes of this compilation were just indexed; keep the others while they exist
+            if (columns.length == 3 && !processed.contains(columns[1])
+                    && processingEnv.getElementUtils().getTypeElement(columns[1].replace('$', '.')) != null) {
+                lines.put(columns[1], existing);
+            }
+        }
+        try {
+            final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    INDEX);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (final String line : lines.values()) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot write " + INDEX + ": " + e.getMessage());
+        }
+    }
+}
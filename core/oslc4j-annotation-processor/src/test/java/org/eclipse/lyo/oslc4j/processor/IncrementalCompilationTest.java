@@ -0,0 +1,93 @@
+package org.eclipse.lyo.oslc4j.processor;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IncrementalCompilationTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void recompilingSomeClassesKeepsTheOthers() throws Exception {
+        final Path sources = folder.newFolder("src").toPath();
+        final Path classes = folder.newFolder("classes").toPath();
+        final Path first = writeResource(sources, "First", "public class First");
+        final Path second = writeResource(sources, "Second", "public class Second");
+
+        compile(classes, first, second);
+        compile(classes, first);
+
+        assertThat(read(classes, "META-INF/services/" + OslcMarshallerProcessor.MARSHALLER))
+                .containsExactly("incremental.First_OslcMarshaller", "incremental.Second_OslcMarshaller");
+        assertThat(read(classes, OslcResourceIndexProcessor.INDEX))
+                .containsExactly("urn:incremental:First\tincremental.First\t"
+                                + "org.eclipse.lyo.oslc4j.core.model.AbstractResource,"
+                                + "org.eclipse.lyo.oslc4j.core.model.IExtendedResource,"
+                                + "org.eclipse.lyo.oslc4j.core.model.IResource",
+                        "urn:incremental:Second\tincremental.Second\t"
+                                + "org.eclipse.lyo.oslc4j.core.model.AbstractResource,"
+                                + "org.eclipse.lyo.oslc4j.core.model.IExtendedResource,"
+                                + "org.eclipse.lyo.oslc4j.core.model.IResource");
+    }
+
+    @Test
+    public void recompiledClassesReplaceTheirEntries() throws Exception {
+        final Path sources = folder.newFolder("src").toPath();
+        final Path classes = folder.newFolder("classes").toPath();
+        final Path first = writeResource(sources, "First", "public class First");
+        final Path second = writeResource(sources, "Second", "public class Second");
+
+        compile(classes, first, second);
+        writeResource(sources, "First", "public abstract class First");
+        compile(classes, first);
+
+        assertThat(read(classes, "META-INF/services/" + OslcMarshallerProcessor.MARSHALLER))
+                .containsExactly("incremental.Second_OslcMarshaller");
+        assertThat(read(classes, OslcResourceIndexProcessor.INDEX))
+                .singleElement().asString().startsWith("urn:incremental:Second\t");
+    }
+
+    private static Path writeResource(final Path sources, final String name, final String declaration)
+            throws IOException {
+        final Path source = sources.resolve(name + ".java");
+        Files.writeString(source, "package incremental;\n"
+                + "@org.eclipse.lyo.oslc4j.core.annotation.OslcNamespace(\"urn:incremental:\")\n"
+                + "@org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape(describes = \"urn:incremental:" + name
+                + "\")\n"
+                + declaration + " extends org.eclipse.lyo.oslc4j.core.model.AbstractResource {\n"
+                + "}\n");
+        return source;
+    }
+
+    private static void compile(final Path classes, final Path... sources) {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final List<String> arguments = new ArrayList<>(Arrays.asList("-d", classes.toString(),
+                "-classpath", System.getProperty("java.class.path") + File.pathSeparator + classes,
+                "-processor", OslcMarshallerProcessor.class.getName() + ","
+                        + OslcResourceIndexProcessor.class.getName()));
+        for (final Path source : sources) {
+            arguments.add(source.toString());
+        }
+
+        assertThat(compiler.run(null, null, null, arguments.toArray(new String[0]))).isZero();
+    }
+
+    private static List<String> read(final Path classes, final String resourceName) throws IOException {
+        return Files.readAllLines(classes.resolve(resourceName), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,105 @@
+package org.eclipse.lyo.oslc4j.processor;
+
+import org.apache.jena.rdf.model.Model;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.eclipse.lyo.oslc4j.core.model.Link;
+import org.eclipse.lyo.oslc4j.core.model.ResourceMarshaller;
+import org.eclipse.lyo.oslc4j.core.model.ResourceMarshallers;
+import org.eclipse.lyo.oslc4j.core.model.ResourceUnmarshaller;
+import org.eclipse.lyo.oslc4j.provider.jena.JenaModelHelper;
+import org.junit.After;
+import org.junit.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OslcMarshallerProcessorTest {
+
+    @After
+    public void tearDown() {
+        System.clearProperty(OSLC4JConstants.OSLC4J_GENERATED_MARSHALLERS);
+    }
+
+    @Test
+    public void generatedClassesAreRegistered() {
+        final ResourceMarshaller<SampleResource> marshaller = ResourceMarshallers.getMarshaller(SampleResource.class);
+        final ResourceUnmarshaller<SampleResource> unmarshaller =
+                ResourceMarshallers.getUnmarshaller(SampleResource.class);
+
+        assertThat(marshaller.getClass().getName())
+                .isEqualTo("org.eclipse.lyo.oslc4j.processor.SampleResource_OslcMarshaller");
+        assertThat(unmarshaller).isInstanceOf(marshaller.getClass());
+        assertThat(ResourceMarshallers.getMarshaller(SampleResource.Nested.class).getClass().getSimpleName())
+                .isEqualTo("SampleResource_Nested_OslcMarshaller");
+    }
+
+    @Test
+    public void abstractClassesAreSkipped() {
+        assertThat(ResourceMarshallers.getMarshaller(SampleResource.AbstractSample.class)).isNull();
+    }
+
+    @Test
+    public void generatedMarshallerVisitsInheritedProperties() throws Exception {
+        final SampleResource resource = createSample();
+        final List<String> definitions = new ArrayList<>();
+
+        ResourceMarshallers.getMarshaller(SampleResource.class)
+                .marshal(resource, (propertyDefinition, value) -> definitions.add(propertyDefinition));
+
+        assertThat(definitions).containsExactlyInAnyOrder(SampleResource.NS + "title",
+                SampleResource.NS + "priority", SampleResource.NS + "closed", SampleResource.NS + "created",
+                SampleResource.NS + "tag", SampleResource.NS + "related");
+    }
+
+    @Test
+    public void generatedUnmarshallerRejectsUnknownProperties() {
+        final ResourceUnmarshaller<SampleResource> unmarshaller =
+                ResourceMarshallers.getUnmarshaller(SampleResource.class);
+
+        assertThat(unmarshaller.setValue(unmarshaller.newInstance(), SampleResource.NS + "unknown", "x")).isFalse();
+    }
+
+    @Test
+    public void generatedAndReflectiveModelsAreIsomorphic() throws Exception {
+        final SampleResource resource = createSample();
+
+        final Model generated = JenaModelHelper.createJenaModel(new Object[] {resource});
+        System.setProperty(OSLC4JConstants.OSLC4J_GENERATED_MARSHALLERS, "false");
+        assertThat(ResourceMarshallers.getMarshaller(SampleResource.class)).isNull();
+        final Model reflective = JenaModelHelper.createJenaModel(new Object[] {resource});
+
+        assertThat(generated.isIsomorphicWith(reflective)).isTrue();
+    }
+
+    @Test
+    public void roundTripThroughGeneratedCode() throws Exception {
+        final SampleResource resource = createSample();
+
+        final Model model = JenaModelHelper.createJenaModel(new Object[] {resource});
+        final SampleResource copy = JenaModelHelper.unmarshalSingle(model, SampleResource.class);
+
+        assertThat(copy.getAbout()).isEqualTo(resource.getAbout());
+        assertThat(copy.getTitle()).isEqualTo("Sample");
+        assertThat(copy.getPriority()).isEqualTo(3);
+        assertThat(copy.isClosed()).isTrue();
+        assertThat(copy.getCreated()).isEqualTo(resource.getCreated());
+        assertThat(copy.getTags()).containsExactlyInAnyOrder("a", "b");
+        assertThat(copy.getRelated()).containsExactlyInAnyOrderElementsOf(resource.getRelated());
+    }
+
+    private static SampleResource createSample() {
+        final SampleResource resource = new SampleResource(URI.create("http://example.com/samples/1"));
+        resource.setTitle("Sample");
+        resource.setPriority(3);
+        resource.setClosed(true);
+        resource.setCreated(new Date(1_000_000L));
+        resource.setTags(new String[] {"a", "b"});
+        resource.getRelated().add(new Link(URI.create("http://example.com/samples/2")));
+        resource.getRelated().add(new Link(URI.create("http://example.com/samples/3")));
+        return resource;
+    }
+}
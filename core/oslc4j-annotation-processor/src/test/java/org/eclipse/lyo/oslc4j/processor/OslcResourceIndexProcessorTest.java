@@ -0,0 +1,99 @@
+package org.eclipse.lyo.oslc4j.processor;
+
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.vocabulary.RDF;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcName;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcNamespace;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
+import org.eclipse.lyo.oslc4j.core.model.AbstractResource;
+import org.eclipse.lyo.oslc4j.provider.jena.ordfm.ResourcePackages;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OslcResourceIndexProcessorTest {
+
+    @After
+    public void tearDown() {
+        ResourcePackages.reset();
+        System.clearProperty(OSLC4JConstants.OSLC4J_RESOURCE_TYPE_INDEX);
+    }
+
+    @Test
+    public void concreteClassesAreIndexedWithTheirSupertypes() throws Exception {
+        final List<String> lines = readIndex();
+
+        assertThat(lines).contains(SampleResource.NS + "SampleResource\t" + SampleResource.class.getName() + "\t"
+                + AbstractResource.class.getName() + "," + "org.eclipse.lyo.oslc4j.core.model.IExtendedResource,"
+                + "org.eclipse.lyo.oslc4j.core.model.IResource," + Titled.class.getName());
+        assertThat(lines).anyMatch(line -> line.startsWith(SampleResource.NS + "SpecialSample\t"
+                + SpecialSample.class.getName() + "\t") && line.contains(SampleResource.class.getName()));
+        assertThat(lines).noneMatch(line -> line.contains("\t" + SampleResource.AbstractSample.class.getName() + "\t"));
+        assertThat(lines).anyMatch(line -> line.startsWith(
+                "http://open-services.net/ns/servicemanagement/1.0/DefaultNamespace\t"));
+        assertThat(lines).noneMatch(line -> line.contains(Untyped.class.getName()));
+    }
+
+    @Test
+    public void mostConcreteIndexedClassIsResolved() {
+        ResourcePackages.mapPackage(SampleResource.class.getPackage());
+
+        assertThat(ResourcePackages.getClassOf(typed("SampleResource", "SpecialSample"))).contains(SpecialSample.class);
+        assertThat(ResourcePackages.getClassOf(typed("SpecialSample", "SampleResource"))).contains(SpecialSample.class);
+        assertThat(ResourcePackages.getClassOf(typed("SampleResource"))).contains(SampleResource.class);
+        assertThat(ResourcePackages.getClassOf(typed("Unknown"))).isEmpty();
+    }
+
+    @Test
+    public void indexAndScanMapTheSameClasses() {
+        ResourcePackages.mapPackage(SampleResource.class.getPackage());
+        final Class<?> indexed = ResourcePackages.getClassOf(typed("SampleResource", "SpecialSample"),
+                SpecialSample.class).orElseThrow();
+
+        ResourcePackages.reset();
+        System.setProperty(OSLC4JConstants.OSLC4J_RESOURCE_TYPE_INDEX, "false");
+        ResourcePackages.mapPackage(SampleResource.class.getPackage());
+
+        assertThat(ResourcePackages.getClassOf(typed("SampleResource", "SpecialSample"),
+                SpecialSample.class)).containsSame(indexed);
+    }
+
+    private static Resource typed(final String... names) {
+        final Resource resource = ModelFactory.createDefaultModel().createResource("http://example.com/samples/1");
+        for (final String name : names) {
+            resource.addProperty(RDF.type, resource.getModel().createResource(SampleResource.NS + name));
+        }
+        return resource;
+    }
+
+    private static List<String> readIndex() throws Exception {
+        try (InputStream in = OslcResourceIndexProcessorTest.class.getClassLoader()
+                .getResourceAsStream(OslcResourceIndexProcessor.INDEX)) {
+            assertThat(in).isNotNull();
+            return Arrays.asList(new String(in.readAllBytes(), StandardCharsets.UTF_8).split("\n"));
+        }
+    }
+
+    @OslcNamespace(SampleResource.NS)
+    @OslcName("SpecialSample")
+    @OslcResourceShape(describes = SampleResource.NS + "SpecialSample")
+    public static class SpecialSample extends SampleResource {
+    }
+
+    @OslcResourceShape(describes = "http://open-services.net/ns/servicemanagement/1.0/DefaultNamespace")
+    public static class DefaultNamespace extends AbstractResource {
+    }
+
+    @OslcName("")
+    @OslcResourceShape(describes = SampleResource.NS + "Untyped")
+    public static class Untyped extends AbstractResource {
+    }
+}
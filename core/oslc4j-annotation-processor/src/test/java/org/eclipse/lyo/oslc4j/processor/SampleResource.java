@@ -0,0 +1,118 @@
+package org.eclipse.lyo.oslc4j.processor;
+
+import java.net.URI;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.lyo.oslc4j.core.annotation.OslcName;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcNamespace;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcPropertyDefinition;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
+import org.eclipse.lyo.oslc4j.core.model.AbstractResource;
+import org.eclipse.lyo.oslc4j.core.model.Link;
+
+@OslcNamespace(SampleResource.NS)
+@OslcName("SampleResource")
+@OslcResourceShape(describes = SampleResource.NS + "SampleResource")
+public class SampleResource extends AbstractResource implements Titled {
+
+    public static final String NS = "http://example.com/ns#";
+
+    private String title;
+    private int priority;
+    private boolean closed;
+    private Date created;
+    private String[] tags = new String[0];
+    private Set<Link> related = new HashSet<>();
+
+    public SampleResource() {
+        super();
+    }
+
+    public SampleResource(final URI about) {
+        super(about);
+    }
+
+    @Override
+    public String getTitle() {
+        return title;
+    }
+
+    @Override
+    public void setTitle(final String title) {
+        this.title = title;
+    }
+
+    @OslcPropertyDefinition(NS + "priority")
+    public int getPriority() {
+        return priority;
+    }
+
+    public void setPriority(final int priority) {
+        this.priority = priority;
+    }
+
+    @OslcPropertyDefinition(NS + "closed")
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public void setClosed(final boolean closed) {
+        this.closed = closed;
+    }
+
+    @OslcPropertyDefinition(NS + "created")
+    public Date getCreated() {
+        return created;
+    }
+
+    public void setCreated(final Date created) {
+        this.created = created;
+    }
+
+    @OslcPropertyDefinition(NS + "tag")
+    @OslcName("tag")
+    public String[] getTags() {
+        return tags;
+    }
+
+    public void setTags(final String[] tags) {
+        this.tags = tags;
+    }
+
+    @OslcPropertyDefinition(NS + "related")
+    public Set<Link> getRelated() {
+        return related;
+    }
+
+    public void setRelated(final Set<Link> related) {
+        this.related = related;
+    }
+
+    public String getUnmapped() {
+        return "unmapped";
+    }
+
+    @OslcNamespace(SampleResource.NS)
+    @OslcName("Nested")
+    @OslcResourceShape(describes = SampleResource.NS + "Nested")
+    public static class Nested extends AbstractResource {
+        private String label;
+
+        @OslcPropertyDefinition(NS + "label")
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel(final String label) {
+            this.label = label;
+        }
+    }
+
+    @OslcResourceShape(describes = SampleResource.NS + "Abstract")
+    public abstract static class AbstractSample extends AbstractResource {
+        @OslcPropertyDefinition(NS + "label")
+        public abstract String getLabel();
+    }
+}
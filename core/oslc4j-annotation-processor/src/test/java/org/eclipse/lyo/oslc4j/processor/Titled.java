@@ -0,0 +1,10 @@
+package org.eclipse.lyo.oslc4j.processor;
+
+import org.eclipse.lyo.oslc4j.core.annotation.OslcPropertyDefinition;
+
+public interface Titled {
+    @OslcPropertyDefinition(SampleResource.NS + "title")
+    String getTitle();
+
+    void setTitle(String title);
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.jena.rdf.model.Model;
+import org.eclipse.lyo.oslc.domains.cm.ChangeRequest;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.eclipse.lyo.oslc4j.provider.jena.JenaModelHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the (un)marshallers generated by the OSLC4J annotation processor for
+ * {@code oslc-domains} with the reflective path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratedMarshallerBenchmark {
+
+    @Param({"true", "false"})
+    public String generated;
+
+    private ChangeRequest changeRequest;
+    private Model model;
+
+    @Setup
+    public void setUp() throws Exception {
+        System.setProperty(OSLC4JConstants.OSLC4J_GENERATED_MARSHALLERS, generated);
+
+        changeRequest = PropertyAccessorBenchmark.createChangeRequest();
+        model = JenaModelHelper.createJenaModel(new Object[] {changeRequest});
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.clearProperty(OSLC4JConstants.OSLC4J_GENERATED_MARSHALLERS);
+    }
+
+    @Benchmark
+    public Model marshal() throws Exception {
+        return JenaModelHelper.createJenaModel(new Object[] {changeRequest});
+    }
+
+    @Benchmark
+    public ChangeRequest unmarshal() throws Exception {
+        return JenaModelHelper.unmarshalSingle(model, ChangeRequest.class);
+    }
+}
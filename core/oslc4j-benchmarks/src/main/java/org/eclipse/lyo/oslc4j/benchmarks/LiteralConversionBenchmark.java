@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.benchmarks;
+
+import java.net.URI;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.datatype.DatatypeFactory;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.eclipse.lyo.oslc.domains.cm.ChangeRequest;
+import org.eclipse.lyo.oslc4j.core.LiteralConverter;
+import org.eclipse.lyo.oslc4j.provider.jena.JenaModelHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link LiteralConverter} with the per-literal {@link DatatypeFactory}
+ * and {@link Calendar} conversions used before 7.0.0, and measures
+ * (un)marshalling of date-heavy resources.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LiteralConversionBenchmark {
+
+    private static final int RESOURCES = 1000;
+
+    private final Model literals = ModelFactory.createDefaultModel();
+    private final Date date = new Date(1_600_000_000_123L);
+    private final String lexicalForm = "2020-09-13T12:26:40.123Z";
+
+    private ChangeRequest[] changeRequests;
+    private Model model;
+
+    @Setup
+    public void setUp() throws Exception {
+        changeRequests = new ChangeRequest[RESOURCES];
+        for (int i = 0; i < RESOURCES; i++) {
+            final ChangeRequest changeRequest = new ChangeRequest(URI.create("http://example.com/cr/" + i));
+            changeRequest.setCreated(new Date(date.getTime() + i * 1000L));
+            changeRequest.setModified(new Date(date.getTime() + i * 2000L));
+            changeRequest.setClosed(i % 2 == 0);
+            changeRequests[i] = changeRequest;
+        }
+        model = JenaModelHelper.createJenaModel(changeRequests);
+    }
+
+    @Benchmark
+    public Object formatDateTimeLegacy() {
+        final Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        return literals.createTypedLiteral(calendar).getLexicalForm();
+    }
+
+    @Benchmark
+    public String formatDateTime() {
+        return LiteralConverter.formatDateTime(date);
+    }
+
+    @Benchmark
+    public String formatLocalDateTimeLegacy() throws Exception {
+        final GregorianCalendar calendar = new GregorianCalendar();
+        calendar.setTime(date);
+        return DatatypeFactory.newInstance().newXMLGregorianCalendar(calendar).toString();
+    }
+
+    @Benchmark
+    public String formatLocalDateTime() {
+        return LiteralConverter.formatLocalDateTime(date);
+    }
+
+    @Benchmark
+    public Date parseDateLegacy() throws Exception {
+        return DatatypeFactory.newInstance().newXMLGregorianCalendar(lexicalForm).toGregorianCalendar().getTime();
+    }
+
+    @Benchmark
+    public Date parseDate() {
+        return LiteralConverter.parseDate(lexicalForm);
+    }
+
+    @Benchmark
+    public Model marshalDates() throws Exception {
+        return JenaModelHelper.createJenaModel(changeRequests);
+    }
+
+    @Benchmark
+    public ChangeRequest[] unmarshalDates() throws Exception {
+        return JenaModelHelper.unmarshal(model, ChangeRequest.class);
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.net.URI;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import org.eclipse.lyo.oslc.domains.config.Configuration;
+import org.eclipse.lyo.oslc.domains.qm.TestCase;
+import org.eclipse.lyo.oslc.domains.rm.Requirement;
+import org.eclipse.lyo.oslc4j.core.model.Link;
+import org.eclipse.lyo.oslc4j.core.model.OslcMediaType;
+import org.eclipse.lyo.oslc4j.provider.jena.OslcRdfXmlArrayProvider;
+import org.eclipse.lyo.oslc4j.provider.json4j.JsonHelper;
+import org.eclipse.lyo.oslc4j.provider.json4j.OslcRdfJsonArrayProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures marshalling and unmarshalling of {@code oslc-domains} resources through
+ * the JAX-RS providers, the way a client sees them, for every media type and from a
+ * single resource up to a large result. RDF/JSON is written by {@link JsonHelper} as a
+ * query result. Run with {@code -prof gc} (the default of this module) to get the
+ * allocation rate as well.
+ * <p>
+ * The full matrix runs for well over an hour; narrow it down with JMH's {@code -p},
+ * e.g. {@code -p members=100 -p format=TURTLE}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarshallingBenchmark {
+
+    private static final Annotation[] ANNOTATIONS = new Annotation[0];
+
+    public enum Domain {
+        ChangeRequest(org.eclipse.lyo.oslc.domains.cm.ChangeRequest.class,
+                PropertyAccessorBenchmark::createChangeRequest),
+        Requirement(org.eclipse.lyo.oslc.domains.rm.Requirement.class, MarshallingBenchmark::createRequirement),
+        TestCase(org.eclipse.lyo.oslc.domains.qm.TestCase.class, MarshallingBenchmark::createTestCase),
+        Configuration(org.eclipse.lyo.oslc.domains.config.Configuration.class,
+                MarshallingBenchmark::createConfiguration);
+
+        private final Class<?> resourceClass;
+        private final IntFunction<Object> factory;
+
+        Domain(final Class<?> resourceClass, final IntFunction<Object> factory) {
+            this.resourceClass = resourceClass;
+            this.factory = factory;
+        }
+    }
+
+    public enum Format {
+        RDF_XML(OslcMediaType.APPLICATION_RDF_XML_TYPE),
+        // application/xml is written with RdfXmlAbbreviatedWriter
+        RDF_XML_ABBREV(OslcMediaType.APPLICATION_XML_TYPE) {
+            @Override
+            Object[] read(final Class<Object[]> arrayClass, final InputStream inputStream) throws Exception {
+                return RDF_XML.read(arrayClass, inputStream);
+            }
+        },
+        TURTLE(OslcMediaType.TEXT_TURTLE_TYPE),
+        JSON_LD(OslcMediaType.APPLICATION_JSON_LD_TYPE),
+        @SuppressWarnings("deprecation")
+        RDF_JSON(OslcMediaType.APPLICATION_JSON_TYPE) {
+            // Without a query result envelope RDF/JSON holds a single resource only
+            @Override
+            void write(final Object[] resources, final Class<Object[]> arrayClass, final OutputStream outputStream)
+                    throws Exception {
+                JsonHelper.createJSON(QUERY_URI, null, null, resources, null).write(outputStream, true);
+            }
+
+            @Override
+            Object[] read(final Class<Object[]> arrayClass, final InputStream inputStream) throws Exception {
+                return RDF_JSON_PROVIDER.readFrom(arrayClass, arrayClass, ANNOTATIONS, mediaType,
+                        new MultivaluedHashMap<>(), inputStream);
+            }
+        };
+
+        private static final String QUERY_URI = "http://example.com/query";
+        private static final OslcRdfXmlArrayProvider RDF_PROVIDER = new OslcRdfXmlArrayProvider();
+        @SuppressWarnings("deprecation")
+        private static final OslcRdfJsonArrayProvider RDF_JSON_PROVIDER = new OslcRdfJsonArrayProvider();
+
+        final MediaType mediaType;
+
+        Format(final MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        void write(final Object[] resources, final Class<Object[]> arrayClass, final OutputStream outputStream)
+                throws Exception {
+            RDF_PROVIDER.writeTo(resources, arrayClass, arrayClass, ANNOTATIONS, mediaType, new MultivaluedHashMap<>(),
+                    outputStream);
+        }
+
+        Object[] read(final Class<Object[]> arrayClass, final InputStream inputStream) throws Exception {
+            return RDF_PROVIDER.readFrom(arrayClass, arrayClass, ANNOTATIONS, mediaType, new MultivaluedHashMap<>(),
+                    inputStream);
+        }
+    }
+
+    @Param
+    public Domain domain;
+
+    @Param({"1", "100", "10000"})
+    public int members;
+
+    @Param
+    public Format format;
+
+    private Class<Object[]> arrayClass;
+    private Object[] resources;
+    private byte[] bytes;
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        arrayClass = (Class<Object[]>) domain.resourceClass.arrayType();
+
+        resources = new Object[members];
+        for (int i = 0; i < members; i++) {
+            resources[i] = domain.factory.apply(i + 1);
+        }
+        bytes = marshal().toByteArray();
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream marshal() throws Exception {
+        outputStream.reset();
+        format.write(resources, arrayClass, outputStream);
+        return outputStream;
+    }
+
+    @Benchmark
+    public Object[] unmarshal() throws Exception {
+        return format.read(arrayClass, new ByteArrayInputStream(bytes));
+    }
+
+    static Requirement createRequirement(final int id) {
+        final Requirement requirement = new Requirement(URI.create("http://example.com/requirements/" + id));
+        requirement.setIdentifier(String.valueOf(id));
+        requirement.setTitle("The application starts without a configuration");
+        requirement.setShortTitle("Start-up");
+        requirement.setDescription("Missing configuration files fall back to the defaults.");
+        requirement.setCreated(new Date(0));
+        requirement.setModified(new Date(0));
+        for (int i = 0; i < 5; i++) {
+            requirement.addSubject("subject-" + i);
+            requirement.addCreator(new Link(URI.create("http://example.com/users/" + i)));
+            requirement.addTrackedBy(new Link(URI.create("http://example.com/cr/" + (id + i))));
+            requirement.addValidatedBy(new Link(URI.create("http://example.com/testcases/" + (id + i))));
+        }
+        return requirement;
+    }
+
+    static TestCase createTestCase(final int id) {
+        final TestCase testCase = new TestCase(URI.create("http://example.com/testcases/" + id));
+        testCase.setIdentifier(String.valueOf(id));
+        testCase.setTitle("Start without a configuration");
+        testCase.setDescription("Delete the configuration files and start the application.");
+        testCase.setCreated(new Date(0));
+        testCase.setModified(new Date(0));
+        for (int i = 0; i < 5; i++) {
+            testCase.addSubject("subject-" + i);
+            testCase.addCreator(new Link(URI.create("http://example.com/users/" + i)));
+            testCase.addValidatesRequirement(new Link(URI.create("http://example.com/requirements/" + (id + i))));
+            testCase.addUsesTestScript(new Link(URI.create("http://example.com/testscripts/" + (id + i))));
+        }
+        return testCase;
+    }
+
+    static Configuration createConfiguration(final int id) {
+        final Configuration configuration = new Configuration(URI.create("http://example.com/configurations/" + id));
+        configuration.setIdentifier(String.valueOf(id));
+        configuration.setShortId(String.valueOf(id));
+        configuration.setTitle("Release " + id);
+        configuration.setShortTitle("R" + id);
+        configuration.setDescription("Baseline of the components shipped in release " + id + ".");
+        configuration.setCreated(new Date(0));
+        configuration.setModified(new Date(0));
+        configuration.setArchived(false);
+        configuration.setComponent(new Link(URI.create("http://example.com/components/1")));
+        for (int i = 0; i < 5; i++) {
+            configuration.addSubject("subject-" + i);
+            configuration.addCreator(new Link(URI.create("http://example.com/users/" + i)));
+            configuration.addSelections(new Link(URI.create("http://example.com/selections/" + (id + i))));
+        }
+        return configuration;
+    }
+}
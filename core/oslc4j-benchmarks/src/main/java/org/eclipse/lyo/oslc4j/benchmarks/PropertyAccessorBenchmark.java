@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.benchmarks;
+
+import java.net.URI;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.jena.rdf.model.Model;
+import org.eclipse.lyo.oslc.domains.cm.ChangeRequest;
+import org.eclipse.lyo.oslc4j.core.model.Link;
+import org.eclipse.lyo.oslc4j.core.model.PropertyAccessors;
+import org.eclipse.lyo.oslc4j.core.model.ResourceClassDescriptor;
+import org.eclipse.lyo.oslc4j.core.model.ResourcePropertyDescriptor;
+import org.eclipse.lyo.oslc4j.provider.jena.JenaModelHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the {@link PropertyAccessors} strategies on an {@code oslc_cm:ChangeRequest}.
+ * {@code reflection} is the pre-7.0.0 {@code Method.invoke} path. Every strategy runs
+ * in its own fork because accessors are bound once per property.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertyAccessorBenchmark {
+
+    @Param({"reflection", "methodhandle", "lambda"})
+    public String accessors;
+
+    private List<ResourcePropertyDescriptor> properties;
+    private ChangeRequest changeRequest;
+    private Model model;
+
+    @Setup
+    public void setUp() throws Exception {
+        PropertyAccessors.setFactory(PropertyAccessors.forName(accessors));
+
+        properties = ResourceClassDescriptor.of(ChangeRequest.class).getProperties();
+        changeRequest = createChangeRequest();
+        model = JenaModelHelper.createJenaModel(new Object[] {changeRequest});
+    }
+
+    @Benchmark
+    public void readProperties(final Blackhole blackhole) throws Exception {
+        for (final ResourcePropertyDescriptor property : properties) {
+            blackhole.consume(property.getValue(changeRequest));
+        }
+    }
+
+    @Benchmark
+    public void writeProperties(final Blackhole blackhole) throws Exception {
+        final ChangeRequest target = new ChangeRequest();
+        for (final ResourcePropertyDescriptor property : properties) {
+            property.setValue(target, property.getValue(changeRequest));
+        }
+        blackhole.consume(target);
+    }
+
+    @Benchmark
+    public Model marshal() throws Exception {
+        return JenaModelHelper.createJenaModel(new Object[] {changeRequest});
+    }
+
+    @Benchmark
+    public ChangeRequest unmarshal() throws Exception {
+        return JenaModelHelper.unmarshalSingle(model, ChangeRequest.class);
+    }
+
+    static ChangeRequest createChangeRequest() {
+        return createChangeRequest(1);
+    }
+
+    static ChangeRequest createChangeRequest(final int id) {
+        final ChangeRequest changeRequest = new ChangeRequest(URI.create("http://example.com/cr/" + id));
+        changeRequest.setIdentifier(String.valueOf(id));
+        changeRequest.setTitle("Crash on start-up");
+        changeRequest.setShortTitle("Crash");
+        changeRequest.setDescription("The application crashes when the configuration is missing.");
+        changeRequest.setStatus("open");
+        changeRequest.setCreated(new Date(0));
+        changeRequest.setModified(new Date(0));
+        changeRequest.setClosed(false);
+        changeRequest.setInProgress(true);
+        changeRequest.setFixed(false);
+        changeRequest.setApproved(true);
+        changeRequest.setReviewed(true);
+        changeRequest.setVerified(false);
+        changeRequest.setState(new Link(URI.create("http://example.com/states/open")));
+        for (int i = 0; i < 5; i++) {
+            changeRequest.addSubject("subject-" + i);
+            changeRequest.addCreator(new Link(URI.create("http://example.com/users/" + i)));
+            changeRequest.addRelatedChangeRequest(new Link(URI.create("http://example.com/cr/" + (id + i + 1))));
+        }
+        return changeRequest;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.QueryExecutionFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
+import org.eclipse.lyo.core.query.OrderByClause;
+import org.eclipse.lyo.core.query.QueryEvaluator;
+import org.eclipse.lyo.core.query.QueryUtils;
+import org.eclipse.lyo.core.query.WhereClause;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures selecting a sorted page of 10,000 change requests with {@link QueryEvaluator},
+ * with its property indexes built or not, against the equivalent SPARQL query run by ARQ.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryEvaluationBenchmark {
+
+    private static final String NS = "http://open-services.net/ns/cm#";
+    private static final String DCTERMS = "http://purl.org/dc/terms/";
+
+    private static final String WHERE = "oslc_cm:status=\"Open\" and oslc_cm:severity>=3";
+    private static final String ORDER_BY = "-dcterms:modified";
+
+    private static final String SPARQL = "SELECT ?s WHERE { ?s <" + NS + "status> \"Open\" ; <"
+            + NS + "severity> ?severity FILTER(?severity >= 3) OPTIONAL { ?s <" + DCTERMS
+            + "modified> ?modified } } ORDER BY DESC(?modified) ?s LIMIT 20";
+
+    private Model model;
+    private QueryEvaluator evaluator;
+    private WhereClause where;
+    private OrderByClause orderBy;
+
+    @Setup
+    public void setUp() throws Exception {
+        model = ModelFactory.createDefaultModel();
+        final Property status = model.createProperty(NS, "status");
+        final Property severity = model.createProperty(NS, "severity");
+        final Property modified = model.createProperty(DCTERMS, "modified");
+        final String[] statuses = {"Open", "In Progress", "Closed", "Rejected"};
+        for (int i = 0; i < 10_000; i++) {
+            final Resource resource = model.createResource("http://example.com/changeRequests/" + i);
+            resource.addProperty(status, statuses[i % statuses.length]);
+            resource.addLiteral(severity, model.createTypedLiteral(i % 5, XSDDatatype.XSDint));
+            resource.addProperty(modified, String.format("2026-%02d-%02dT%02d:00:00Z", 1 + i % 12,
+                    1 + i % 28, i % 24), XSDDatatype.XSDdateTime);
+        }
+
+        final Map<String, String> prefixMap = QueryUtils.parsePrefixes(
+                "oslc_cm=<" + NS + ">,dcterms=<" + DCTERMS + ">");
+        where = QueryUtils.parseWhere(WHERE, prefixMap);
+        orderBy = QueryUtils.parseOrderBy(ORDER_BY, prefixMap);
+        evaluator = new QueryEvaluator(model);
+    }
+
+    @Benchmark
+    public QueryEvaluator.Result evaluateIndexed() {
+        return evaluator.select(where, null, orderBy, 0, 20);
+    }
+
+    @Benchmark
+    public QueryEvaluator.Result evaluateWithIndexing() {
+        return new QueryEvaluator(model).select(where, null, orderBy, 0, 20);
+    }
+
+    @Benchmark
+    public int sparql() {
+        try (QueryExecution execution = QueryExecutionFactory.create(SPARQL, model)) {
+            final int[] count = {0};
+            execution.execSelect().forEachRemaining(solution -> count[0]++);
+            return count[0];
+        }
+    }
+}
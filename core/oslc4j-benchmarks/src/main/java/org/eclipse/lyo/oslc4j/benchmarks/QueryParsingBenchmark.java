@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lyo.core.query.ComparisonTerm;
+import org.eclipse.lyo.core.query.CompoundTerm;
+import org.eclipse.lyo.core.query.InTerm;
+import org.eclipse.lyo.core.query.NestedProperty;
+import org.eclipse.lyo.core.query.OrderByClause;
+import org.eclipse.lyo.core.query.ParsedQueryCache;
+import org.eclipse.lyo.core.query.Properties;
+import org.eclipse.lyo.core.query.Property;
+import org.eclipse.lyo.core.query.QueryUtils;
+import org.eclipse.lyo.core.query.ScopedSortTerm;
+import org.eclipse.lyo.core.query.SelectClause;
+import org.eclipse.lyo.core.query.SimpleTerm;
+import org.eclipse.lyo.core.query.SortTerm;
+import org.eclipse.lyo.core.query.SortTerms;
+import org.eclipse.lyo.core.query.Value;
+import org.eclipse.lyo.core.query.WhereClause;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures parsing {@code oslc.where}, {@code oslc.select} and {@code oslc.orderBy}
+ * expressions with {@link QueryUtils} (or {@link ParsedQueryCache}) and walking the
+ * resulting trees, as a query handler does for every request. {@code parser} selects the
+ * ANTLR grammars or the hand-written parser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryParsingBenchmark {
+
+    private static final String PREFIXES = "dcterms=<http://purl.org/dc/terms/>,"
+            + "oslc_cm=<http://open-services.net/ns/cm#>,foaf=<http://xmlns.com/foaf/0.1/>,"
+            + "xsd=<http://www.w3.org/2001/XMLSchema#>";
+
+    private static final String WHERE = "oslc_cm:status in [\"Open\",\"In Progress\"]"
+            + " and dcterms:created>=\"2024-01-01T00:00:00Z\"^^xsd:dateTime"
+            + " and dcterms:creator{foaf:name=\"Alice\" and foaf:mbox=<mailto:alice@example.com>}"
+            + " and oslc_cm:severity!=\"Low\"@en and oslc_cm:approved=true";
+
+    private static final String SELECT = "dcterms:title,dcterms:identifier,oslc_cm:status,"
+            + "dcterms:creator{foaf:name,foaf:mbox},oslc_cm:relatedChangeRequest{*}";
+
+    private static final String ORDER_BY = "-dcterms:modified,dcterms:creator{+foaf:name}";
+
+    @Param({"antlr", "handwritten"})
+    public String parser;
+
+    private Map<String, String> prefixMap;
+    private WhereClause where;
+    private SelectClause select;
+    private OrderByClause orderBy;
+
+    @Setup
+    public void setUp() throws Exception {
+        System.setProperty(OSLC4JConstants.OSLC4J_QUERY_PARSER, parser);
+        prefixMap = QueryUtils.parsePrefixes(PREFIXES);
+        where = QueryUtils.parseWhere(WHERE, prefixMap);
+        select = QueryUtils.parseSelect(SELECT, prefixMap);
+        orderBy = QueryUtils.parseOrderBy(ORDER_BY, prefixMap);
+    }
+
+    @Benchmark
+    public void parseAndWalk(final Blackhole blackhole) throws Exception {
+        walk(QueryUtils.parseWhere(WHERE, prefixMap), blackhole);
+        walk(QueryUtils.parseSelect(SELECT, prefixMap), blackhole);
+        walk(QueryUtils.parseOrderBy(ORDER_BY, prefixMap), blackhole);
+    }
+
+    @Benchmark
+    public void parseCachedAndWalk(final Blackhole blackhole) throws Exception {
+        final ParsedQueryCache cache = ParsedQueryCache.getInstance();
+        walk(cache.parseWhere(WHERE, prefixMap), blackhole);
+        walk(cache.parseSelect(SELECT, prefixMap), blackhole);
+        blackhole.consume(cache.invertSelectedProperties(SELECT, prefixMap));
+        walk(cache.parseOrderBy(ORDER_BY, prefixMap), blackhole);
+    }
+
+    @Benchmark
+    public void walkParsed(final Blackhole blackhole) {
+        walk(where, blackhole);
+        walk(select, blackhole);
+        walk(orderBy, blackhole);
+    }
+
+    private static void walk(final CompoundTerm term, final Blackhole blackhole) {
+        for (final SimpleTerm child : term.children()) {
+            blackhole.consume(child.property());
+            switch (child.type()) {
+            case COMPARISON:
+                blackhole.consume(((ComparisonTerm) child).operator());
+                blackhole.consume(((ComparisonTerm) child).operand().type());
+                break;
+            case IN_TERM:
+                for (final Value value : ((InTerm) child).values()) {
+                    blackhole.consume(value.type());
+                }
+                break;
+            default:
+                walk((CompoundTerm) child, blackhole);
+                break;
+            }
+        }
+    }
+
+    private static void walk(final Properties properties, final Blackhole blackhole) {
+        final List<Property> children = properties.children();
+        for (final Property property : children) {
+            blackhole.consume(property.isWildcard() ? null : property.identifier());
+            if (property.type() == Property.Type.NESTED_PROPERTY) {
+                walk((NestedProperty) property, blackhole);
+            }
+        }
+    }
+
+    private static void walk(final SortTerms sortTerms, final Blackhole blackhole) {
+        for (final SortTerm sortTerm : sortTerms.children()) {
+            blackhole.consume(sortTerm.identifier());
+            if (sortTerm.type() == SortTerm.Type.SCOPED) {
+                walk(((ScopedSortTerm) sortTerm).sortTerms(), blackhole);
+            }
+        }
+    }
+}
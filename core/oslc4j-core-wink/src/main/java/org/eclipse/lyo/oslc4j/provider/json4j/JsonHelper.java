@@ -13,6 +13,10 @@
  */
 package org.eclipse.lyo.oslc4j.provider.json4j;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -28,15 +32,15 @@ import java.util.AbstractSequentialList;
 import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Deque;
-import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Queue;
@@ -46,38 +50,37 @@ import java.util.TreeMap;
 import java.util.TreeSet;
 
 import javax.xml.datatype.DatatypeConfigurationException;
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.namespace.QName;
 
+import org.apache.jena.atlas.json.io.parser.JSONParser;
 import org.apache.wink.json4j.JSONArray;
 import org.apache.wink.json4j.JSONException;
 import org.apache.wink.json4j.JSONObject;
+import org.eclipse.lyo.oslc4j.core.LiteralConverter;
 import org.eclipse.lyo.oslc4j.core.NestedWildcardProperties;
 import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
 import org.eclipse.lyo.oslc4j.core.OSLC4JUtils;
 import org.eclipse.lyo.oslc4j.core.OslcGlobalNamespaceProvider;
 import org.eclipse.lyo.oslc4j.core.SingletonWildcardProperties;
-import org.eclipse.lyo.oslc4j.core.annotation.OslcName;
-import org.eclipse.lyo.oslc4j.core.annotation.OslcNamespaceDefinition;
-import org.eclipse.lyo.oslc4j.core.annotation.OslcPropertyDefinition;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcRdfCollectionType;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
-import org.eclipse.lyo.oslc4j.core.annotation.OslcSchema;
 import org.eclipse.lyo.oslc4j.core.exception.OslcCoreApplicationException;
 import org.eclipse.lyo.oslc4j.core.exception.OslcCoreInvalidPropertyDefinitionException;
 import org.eclipse.lyo.oslc4j.core.exception.OslcCoreInvalidPropertyTypeException;
 import org.eclipse.lyo.oslc4j.core.exception.OslcCoreMissingNamespaceDeclarationException;
 import org.eclipse.lyo.oslc4j.core.exception.OslcCoreMissingNamespacePrefixException;
-import org.eclipse.lyo.oslc4j.core.exception.OslcCoreMissingSetMethodException;
 import org.eclipse.lyo.oslc4j.core.exception.OslcCoreRelativeURIException;
 import org.eclipse.lyo.oslc4j.core.model.AbstractResource;
 import org.eclipse.lyo.oslc4j.core.model.AnyResource;
+import org.eclipse.lyo.oslc4j.core.model.ExtendedProperties;
 import org.eclipse.lyo.oslc4j.core.model.IExtendedResource;
-import org.eclipse.lyo.oslc4j.core.model.IOslcCustomNamespaceProvider;
 import org.eclipse.lyo.oslc4j.core.model.IReifiedResource;
 import org.eclipse.lyo.oslc4j.core.model.IResource;
 import org.eclipse.lyo.oslc4j.core.model.InheritedMethodAnnotationHelper;
 import org.eclipse.lyo.oslc4j.core.model.OslcConstants;
+import org.eclipse.lyo.oslc4j.core.model.ResourceClassDescriptor;
+import org.eclipse.lyo.oslc4j.core.model.ResourceNamespaces;
+import org.eclipse.lyo.oslc4j.core.model.ResourcePropertyDescriptor;
 import org.eclipse.lyo.oslc4j.core.model.ResponseInfo;
 import org.eclipse.lyo.oslc4j.core.model.TypeFactory;
 import org.eclipse.lyo.oslc4j.core.model.XMLLiteral;
@@ -118,7 +121,6 @@ public final class JsonHelper
 	private static final String METHOD_NAME_START_SET = "set";
 
 	private static final int METHOD_NAME_START_GET_LENGTH = METHOD_NAME_START_GET.length();
-	private static final int METHOD_NAME_START_IS_LENGTH  = METHOD_NAME_START_IS.length();
 
 	private static final String POSITIVE_INF = "INF";
 	private static final String NEGATIVE_INF = "-INF";
@@ -166,12 +168,8 @@ public final class JsonHelper
 		final Map<String, String> namespaceMappings		   = new TreeMap<>();
 		final Map<String, String> reverseNamespaceMappings = new HashMap<>();
 
-		// Add all global namespace mappings, since they have lower precedence
-		Map<String, String> globalPrefixDefinitionMap = OslcGlobalNamespaceProvider.getInstance().getPrefixDefinitionMap();
-		for(Map.Entry<String, String> prefixDefinitionEntry : globalPrefixDefinitionMap.entrySet()) {
-			namespaceMappings.put(prefixDefinitionEntry.getKey(), prefixDefinitionEntry.getValue());
-			reverseNamespaceMappings.put(prefixDefinitionEntry.getValue(), prefixDefinitionEntry.getKey());
-		}
+		addGlobalNamespaceMappings(namespaceMappings,
+								   reverseNamespaceMappings);
 
 		if (descriptionAbout != null)
 		{
@@ -193,116 +191,312 @@ public final class JsonHelper
 				}
 			}
 
-			// Ensure we have an rdf prefix
-			final String rdfPrefix = ensureNamespacePrefix(OslcConstants.RDF_NAMESPACE_PREFIX,
-														   OslcConstants.RDF_NAMESPACE,
-														   namespaceMappings,
-														   reverseNamespaceMappings);
+			final String rdfsPrefix = buildEnvelope(resultJSONObject,
+													descriptionAbout,
+													responseInfoAbout,
+													responseInfo,
+													objects.length,
+													properties,
+													namespaceMappings,
+													reverseNamespaceMappings);
 
-			// Ensure we have an rdfs prefix
-			final String rdfsPrefix = ensureNamespacePrefix(OslcConstants.RDFS_NAMESPACE_PREFIX,
-															OslcConstants.RDFS_NAMESPACE,
-															namespaceMappings,
-															reverseNamespaceMappings);
+			resultJSONObject.put(rdfsPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_MEMBER,
+								 jsonArray);
+		}
+		else if (objects.length == 1)
+		{
+			HashMap<Object,JSONObject> visitedObjects = new HashMap<>();
+			handleSingleResource(objects[0],
+								 resultJSONObject,
+								 namespaceMappings,
+								 reverseNamespaceMappings,
+								 properties,
+								 visitedObjects);
+		}
 
-			resultJSONObject.put(rdfPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_ABOUT,
-								 descriptionAbout);
+		// Set the namespace prefixes
+		final JSONObject namespaces = createPrefixes(namespaceMappings);
 
-			/* Support for Container rdf:type */
-			if(OSLC4JUtils.isQueryResultListAsContainer()){
-				final JSONArray containerTypesJSONArray = new JSONArray();
+		if (namespaces.size() > 0)
+		{
+			resultJSONObject.put(JSON_PROPERTY_PREFIXES,
+								 namespaces);
+		}
 
-				final JSONObject containerTypeJSONObject = new JSONObject();
+		return resultJSONObject;
+	}
 
+	/**
+	 * Writes the same document as {@link #createJSON(String, String, ResponseInfo, Object[], Map)}
+	 * without holding the members in memory: the namespaces of the members, their inline resources
+	 * and their extended properties are collected up front and written first, then each member is
+	 * built, written and discarded in turn.
+	 * <p>
+	 * A single resource (no {@code descriptionAbout}) is not streamed but built as a whole, like
+	 * the {@link org.eclipse.lyo.oslc4j.core.model.Compact} documents of the compact JSON provider.
+	 *
+	 * @since 7.0.0
+	 */
+	public static void writeJSON(final String			   descriptionAbout,
+								 final String			   responseInfoAbout,
+								 final ResponseInfo<?>	   responseInfo,
+								 final Object[]			   objects,
+								 final Map<String, Object> properties,
+								 final Writer			   writer)
+		   throws DatatypeConfigurationException,
+				  IllegalAccessException,
+				  IllegalArgumentException,
+				  InvocationTargetException,
+				  IOException,
+				  JSONException,
+				  OslcCoreApplicationException
+	{
+		if (descriptionAbout == null)
+		{
+			createJSON(descriptionAbout,
+					   responseInfoAbout,
+					   responseInfo,
+					   objects,
+					   properties).write(writer);
+			writer.flush();
 
-				containerTypeJSONObject.put(rdfPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_RESOURCE,
-						OslcConstants.TYPE_CONTAINER);
+			return;
+		}
 
+		final Map<String, String> namespaceMappings		   = new TreeMap<>();
+		final Map<String, String> reverseNamespaceMappings = new HashMap<>();
 
-				containerTypesJSONArray.add(containerTypeJSONObject);
+		addGlobalNamespaceMappings(namespaceMappings,
+								   reverseNamespaceMappings);
 
-				resultJSONObject.put(rdfPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_TYPE,
-								 containerTypesJSONArray);
+		// Resolve all prefixes before any member is written
+		final Set<Object> walkedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (final Object object : objects)
+		{
+			collectNamespaceMappings(object,
+									 namespaceMappings,
+									 reverseNamespaceMappings,
+									 walkedObjects);
+		}
+		walkedObjects.clear();
 
-				Map<Object,JSONObject> visitedObjects = new HashMap<>();
-				addExtendedProperties(namespaceMappings,
-									  reverseNamespaceMappings,
-									  resultJSONObject,
-									  (IExtendedResource) responseInfo.getContainer(),
-									  properties,
-									  visitedObjects);
-			}
+		final JSONObject envelopeJSONObject = new JSONObject();
 
+		final String rdfsPrefix = buildEnvelope(envelopeJSONObject,
+												descriptionAbout,
+												responseInfoAbout,
+												responseInfo,
+												objects.length,
+												properties,
+												namespaceMappings,
+												reverseNamespaceMappings);
 
-			resultJSONObject.put(rdfsPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_MEMBER,
-								 jsonArray);
+		final Map<String, String> declaredNamespaceMappings = new TreeMap<>(namespaceMappings);
 
-			if (responseInfoAbout != null)
-			{
-				// Ensure we have an oslc prefix
-				final String oslcPrefix = ensureNamespacePrefix(OslcConstants.OSLC_CORE_NAMESPACE_PREFIX,
-																OslcConstants.OSLC_CORE_NAMESPACE,
-																namespaceMappings,
-																reverseNamespaceMappings);
+		final MemberWriter memberWriter = new MemberWriter(writer);
 
-				final JSONObject responseInfoJSONObject = new JSONObject();
+		memberWriter.write("{");
+		writeMember(memberWriter,
+					JSON_PROPERTY_PREFIXES,
+					createPrefixes(declaredNamespaceMappings));
 
-				responseInfoJSONObject.put(rdfPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_ABOUT,
-										   responseInfoAbout);
+		@SuppressWarnings({"unchecked", "cast"})
+		final Set<Map.Entry<String, Object>> envelopeEntrySet = (Set<Map.Entry<String, Object>>) envelopeJSONObject.entrySet();
+		for (final Map.Entry<String, Object> envelopeEntry : envelopeEntrySet)
+		{
+			memberWriter.write(",");
+			writeMember(memberWriter,
+						envelopeEntry.getKey(),
+						envelopeEntry.getValue());
+		}
 
+		memberWriter.write(",");
+		writeMember(memberWriter,
+					rdfsPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_MEMBER,
+					null);
+		memberWriter.write("[");
 
+		boolean first = true;
+		for (final Object object : objects)
+		{
+			HashMap<Object,JSONObject> visitedObjects = new HashMap<>();
+			final JSONObject jsonObject = handleSingleResource(object,
+															   new JSONObject(),
+															   namespaceMappings,
+															   reverseNamespaceMappings,
+															   properties,
+															   visitedObjects);
 
-				if (responseInfo != null)
+			if (jsonObject != null)
+			{
+				if (!first)
 				{
-					responseInfoJSONObject.put(oslcPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_TOTAL_COUNT,
-							responseInfo.totalCount() == null ? objects.length : responseInfo.totalCount());
+					memberWriter.write(",");
+				}
+				jsonObject.write(memberWriter);
+				first = false;
+			}
+		}
 
-					if (responseInfo.nextPage() != null)
-					{
-						final JSONObject nextPageJSONObject = new JSONObject();
-						nextPageJSONObject.put(rdfPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_RESOURCE,
-								responseInfo.nextPage());
-						responseInfoJSONObject.put(oslcPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_NEXT_PAGE,
-								nextPageJSONObject);
-					}
+		memberWriter.write("]");
 
-					final JSONArray responseInfoTypesJSONArray = new JSONArray();
+		if (!declaredNamespaceMappings.equals(namespaceMappings))
+		{
+			logger.warn("Namespaces {} were not declared before the members they are used in",
+						namespaceMappings);
+		}
 
-					final JSONObject responseInfoTypeJSONObject = new JSONObject();
+		memberWriter.write("}");
+		memberWriter.flushMembers();
+	}
 
-					responseInfoTypeJSONObject.put(rdfPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_RESOURCE,
-												OslcConstants.TYPE_RESPONSE_INFO);
+	/**
+	 * Buffers the document and ignores the flush of {@link JSONObject#write(Writer)}, which would
+	 * otherwise send every member on its own.
+	 */
+	private static final class MemberWriter extends BufferedWriter
+	{
+		MemberWriter(final Writer writer)
+		{
+			super(writer);
+		}
 
-					responseInfoTypesJSONArray.add(responseInfoTypeJSONObject);
+		@Override
+		public void flush()
+		{
+			// Flushed once the document is complete
+		}
 
-					responseInfoJSONObject.put(rdfPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_TYPE,
-											responseInfoTypesJSONArray);
+		void flushMembers() throws IOException
+		{
+			super.flush();
+		}
+	}
 
-					resultJSONObject.put(oslcPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_RESPONSE_INFO,
-										responseInfoJSONObject);
+	/**
+	 * Adds the namespaces that marshalling an object adds to the mappings: those of its class and
+	 * of its inline resources, and those of its extended properties. Walks the same values as
+	 * {@link #handleSingleResource(Object, JSONObject, Map, Map, Map, Map)} in the same order,
+	 * without building any JSON.
+	 */
+	private static void collectNamespaceMappings(final Object			   object,
+												 final Map<String, String> namespaceMappings,
+												 final Map<String, String> reverseNamespaceMappings,
+												 final Set<Object>		   visitedObjects)
+			throws IllegalAccessException,
+				   InvocationTargetException
+	{
+		if ((object == null)				||
+			(object instanceof URI)			||
+			(object instanceof String)		||
+			(object instanceof Boolean)		||
+			(object instanceof Number)		||
+			(object instanceof Date)		||
+			!visitedObjects.add(object))
+		{
+			return;
+		}
 
-					Map<Object,JSONObject> visitedObjects = new HashMap<>();
-					addExtendedProperties(namespaceMappings,
-										  reverseNamespaceMappings,
-										  responseInfoJSONObject,
-										  (IExtendedResource) responseInfo,
-										  properties,
-										  visitedObjects);
-				}
+		if (object instanceof Collection)
+		{
+			for (final Object element : (Collection<?>) object)
+			{
+				collectNamespaceMappings(element,
+										 namespaceMappings,
+										 reverseNamespaceMappings,
+										 visitedObjects);
 			}
+
+			return;
 		}
-		else if (objects.length == 1)
+
+		final Class<?> objectClass = object.getClass();
+
+		if (objectClass.isArray())
 		{
-			HashMap<Object,JSONObject> visitedObjects = new HashMap<>();
-			handleSingleResource(objects[0],
-								 resultJSONObject,
-								 namespaceMappings,
-								 reverseNamespaceMappings,
-								 properties,
-								 visitedObjects);
+			final int length = Array.getLength(object);
+			for (int index = 0;
+				 index < length;
+				 index++)
+			{
+				collectNamespaceMappings(Array.get(object, index),
+										 namespaceMappings,
+										 reverseNamespaceMappings,
+										 visitedObjects);
+			}
+
+			return;
 		}
 
-		// Set the namespace prefixes
+		// Reified statements are written without the namespaces of their class
+		if (!(object instanceof IReifiedResource))
+		{
+			recursivelyCollectNamespaceMappings(namespaceMappings,
+												reverseNamespaceMappings,
+												objectClass);
+		}
+
+		for (final ResourcePropertyDescriptor propertyDescriptor : ResourceClassDescriptor.of(objectClass).getProperties())
+		{
+			collectNamespaceMappings(propertyDescriptor.getValue(object),
+									 namespaceMappings,
+									 reverseNamespaceMappings,
+									 visitedObjects);
+		}
+
+		if (object instanceof IExtendedResource)
+		{
+			for (final Map.Entry<QName, Object> extendedProperty : ((IExtendedResource) object).getExtendedProperties().entrySet())
+			{
+				collectNamespaceMappings(extendedProperty.getValue(),
+										 namespaceMappings,
+										 reverseNamespaceMappings,
+										 visitedObjects);
+
+				final String namespace = extendedProperty.getKey().getNamespaceURI();
+
+				if (!reverseNamespaceMappings.containsKey(namespace))
+				{
+					final String prefix = extendedProperty.getKey().getPrefix();
+
+					namespaceMappings.put(prefix, namespace);
+					reverseNamespaceMappings.put(namespace, prefix);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes {@code "key":value}, or only {@code "key":} for a {@code null} value, quoted and
+	 * escaped by {@link JSONObject#write()}.
+	 */
+	private static void writeMember(final Writer writer,
+									final String key,
+									final Object value)
+			throws IOException, JSONException
+	{
+		final JSONObject member = new JSONObject();
+		member.put(key, value != null ? value : Boolean.FALSE);
+
+		// Drop the braces around the single member, and the placeholder value
+		final String json = member.write();
+		writer.write(json, 1, value != null ? json.length() - 2 : json.lastIndexOf(':'));
+	}
+
+	private static void addGlobalNamespaceMappings(final Map<String, String> namespaceMappings,
+												   final Map<String, String> reverseNamespaceMappings)
+	{
+		// Add all global namespace mappings, since they have lower precedence
+		Map<String, String> globalPrefixDefinitionMap = OslcGlobalNamespaceProvider.getInstance().getPrefixDefinitionMap();
+		for(Map.Entry<String, String> prefixDefinitionEntry : globalPrefixDefinitionMap.entrySet()) {
+			namespaceMappings.put(prefixDefinitionEntry.getKey(), prefixDefinitionEntry.getValue());
+			reverseNamespaceMappings.put(prefixDefinitionEntry.getValue(), prefixDefinitionEntry.getKey());
+		}
+	}
+
+	private static JSONObject createPrefixes(final Map<String, String> namespaceMappings)
+			throws JSONException
+	{
 		final JSONObject namespaces = new JSONObject();
 		for (final Map.Entry<String, String> namespaceMapping : namespaceMappings.entrySet())
 		{
@@ -310,13 +504,125 @@ public final class JsonHelper
 						   namespaceMapping.getValue());
 		}
 
-		if (namespaces.size() > 0)
+		return namespaces;
+	}
+
+	/**
+	 * Adds everything but the members and the prefixes to a query result document.
+	 *
+	 * @return the rdfs prefix to use for the members
+	 */
+	private static String buildEnvelope(final JSONObject		   resultJSONObject,
+										final String			   descriptionAbout,
+										final String			   responseInfoAbout,
+										final ResponseInfo<?>	   responseInfo,
+										final int				   memberCount,
+										final Map<String, Object> properties,
+										final Map<String, String> namespaceMappings,
+										final Map<String, String> reverseNamespaceMappings)
+		   throws DatatypeConfigurationException,
+				  IllegalAccessException,
+				  IllegalArgumentException,
+				  InvocationTargetException,
+				  JSONException,
+				  OslcCoreApplicationException
+	{
+		// Ensure we have an rdf prefix
+		final String rdfPrefix = ensureNamespacePrefix(OslcConstants.RDF_NAMESPACE_PREFIX,
+													   OslcConstants.RDF_NAMESPACE,
+													   namespaceMappings,
+													   reverseNamespaceMappings);
+
+		// Ensure we have an rdfs prefix
+		final String rdfsPrefix = ensureNamespacePrefix(OslcConstants.RDFS_NAMESPACE_PREFIX,
+														OslcConstants.RDFS_NAMESPACE,
+														namespaceMappings,
+														reverseNamespaceMappings);
+
+		resultJSONObject.put(rdfPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_ABOUT,
+							 descriptionAbout);
+
+		/* Support for Container rdf:type */
+		if(OSLC4JUtils.isQueryResultListAsContainer()){
+			final JSONArray containerTypesJSONArray = new JSONArray();
+
+			final JSONObject containerTypeJSONObject = new JSONObject();
+
+
+			containerTypeJSONObject.put(rdfPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_RESOURCE,
+					OslcConstants.TYPE_CONTAINER);
+
+
+			containerTypesJSONArray.add(containerTypeJSONObject);
+
+			resultJSONObject.put(rdfPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_TYPE,
+							 containerTypesJSONArray);
+
+			Map<Object,JSONObject> visitedObjects = new HashMap<>();
+			addExtendedProperties(namespaceMappings,
+								  reverseNamespaceMappings,
+								  resultJSONObject,
+								  (IExtendedResource) responseInfo.getContainer(),
+								  properties,
+								  visitedObjects);
+		}
+
+
+		if (responseInfoAbout != null)
 		{
-			resultJSONObject.put(JSON_PROPERTY_PREFIXES,
-								 namespaces);
+			// Ensure we have an oslc prefix
+			final String oslcPrefix = ensureNamespacePrefix(OslcConstants.OSLC_CORE_NAMESPACE_PREFIX,
+															OslcConstants.OSLC_CORE_NAMESPACE,
+															namespaceMappings,
+															reverseNamespaceMappings);
+
+			final JSONObject responseInfoJSONObject = new JSONObject();
+
+			responseInfoJSONObject.put(rdfPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_ABOUT,
+									   responseInfoAbout);
+
+
+
+			if (responseInfo != null)
+			{
+				responseInfoJSONObject.put(oslcPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_TOTAL_COUNT,
+						responseInfo.totalCount() == null ? memberCount : responseInfo.totalCount());
+
+				if (responseInfo.nextPage() != null)
+				{
+					final JSONObject nextPageJSONObject = new JSONObject();
+					nextPageJSONObject.put(rdfPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_RESOURCE,
+							responseInfo.nextPage());
+					responseInfoJSONObject.put(oslcPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_NEXT_PAGE,
+							nextPageJSONObject);
+				}
+
+				final JSONArray responseInfoTypesJSONArray = new JSONArray();
+
+				final JSONObject responseInfoTypeJSONObject = new JSONObject();
+
+				responseInfoTypeJSONObject.put(rdfPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_RESOURCE,
+											OslcConstants.TYPE_RESPONSE_INFO);
+
+				responseInfoTypesJSONArray.add(responseInfoTypeJSONObject);
+
+				responseInfoJSONObject.put(rdfPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_TYPE,
+										responseInfoTypesJSONArray);
+
+				resultJSONObject.put(oslcPrefix + JSON_PROPERTY_DELIMITER + JSON_PROPERTY_SUFFIX_RESPONSE_INFO,
+									responseInfoJSONObject);
+
+				Map<Object,JSONObject> visitedObjects = new HashMap<>();
+				addExtendedProperties(namespaceMappings,
+									  reverseNamespaceMappings,
+									  responseInfoJSONObject,
+									  (IExtendedResource) responseInfo,
+									  properties,
+									  visitedObjects);
+			}
 		}
 
-		return resultJSONObject;
+		return rdfsPrefix;
 	}
 
 	public static Object[] fromJSON(final JSONObject jsonObject,
@@ -334,29 +640,9 @@ public final class JsonHelper
 		final Map<String, String> reverseNamespaceMappings = new HashMap<>();
 
 		// First read the prefixes and set up maps so we can create full property definition values later
-		final Object prefixes = jsonObject.opt(JSON_PROPERTY_PREFIXES);
-
-		if (prefixes instanceof JSONObject)
-		{
-			final JSONObject prefixesJSONObject = (JSONObject) prefixes;
-
-			@SuppressWarnings({"unchecked", "cast"})
-			final Set<Map.Entry<String, Object>> prefixesEntrySet = (Set<Map.Entry<String, Object>>)  prefixesJSONObject.entrySet();
-			for (final Map.Entry<String, Object> prefixEntry : prefixesEntrySet)
-			{
-				final String prefix	   = prefixEntry.getKey();
-				final Object namespace = prefixEntry.getValue();
-
-				if (namespace instanceof String)
-				{
-					namespaceMappings.put(prefix,
-										  namespace.toString());
-
-					reverseNamespaceMappings.put(namespace.toString(),
-												 prefix.toString());
-				}
-			}
-		}
+		readPrefixes(jsonObject.opt(JSON_PROPERTY_PREFIXES),
+					 namespaceMappings,
+					 reverseNamespaceMappings);
 
 		// We have to know the reverse mapping for the rdf namespace
 		final String rdfPrefix = reverseNamespaceMappings.get(OslcConstants.RDF_NAMESPACE);
@@ -405,29 +691,11 @@ public final class JsonHelper
 			{
 				if (object instanceof JSONObject)
 				{
-					final JSONObject resourceJSONObject = (JSONObject) object;
-
-					if (URI.class.equals(beanClass)) {
-						String uri = resourceJSONObject.optString(rdfPrefix + JSON_PROPERTY_DELIMITER
-								+ JSON_PROPERTY_SUFFIX_RESOURCE);
-
-						beans.add(URI.create(uri));
-					}
-					else
-					{
-						final Object bean = beanClass.newInstance();
-						HashSet<String> rdfTypes = new HashSet<>();
-
-						fromJSON(rdfPrefix,
-								 namespaceMappings,
-								 classPropertyDefinitionsToSetMethods,
-								 resourceJSONObject,
-								 beanClass,
-								 bean,
-								 rdfTypes);
-
-						beans.add(bean);
-					}
+					beans.add(fromJSONMember(rdfPrefix,
+											 namespaceMappings,
+											 classPropertyDefinitionsToSetMethods,
+											 (JSONObject) object,
+											 beanClass));
 				}
 			}
 		}
@@ -451,11 +719,130 @@ public final class JsonHelper
 														  beans.size()));
 	}
 
+	/**
+	 * Reads the same documents as {@link #fromJSON(JSONObject, Class)} with an event parser,
+	 * converting each element of the {@code rdfs:member} or {@code oslc:results} array as soon
+	 * as it has been read instead of building the whole document first. Documents whose prefixes
+	 * follow the members, and single resources, are converted once they have been read.
+	 *
+	 * @since 7.0.0
+	 */
+	public static Object[] fromJSON(final Reader   reader,
+									final Class<?> beanClass)
+		   throws DatatypeConfigurationException,
+				  IllegalAccessException,
+				  IllegalArgumentException,
+				  InstantiationException,
+				  InvocationTargetException,
+				  OslcCoreApplicationException,
+				  URISyntaxException
+	{
+		final StreamingJsonReader streamingReader = new StreamingJsonReader(beanClass);
+
+		final List<Object> beans;
+
+		try
+		{
+			JSONParser.parse(reader,
+							 streamingReader);
+
+			beans = streamingReader.getBeans();
+		}
+		catch (final StreamingJsonReader.ConversionException exception)
+		{
+			final Exception cause = exception.getCause();
+
+			if (cause instanceof DatatypeConfigurationException) throw (DatatypeConfigurationException) cause;
+			if (cause instanceof IllegalAccessException) throw (IllegalAccessException) cause;
+			if (cause instanceof InstantiationException) throw (InstantiationException) cause;
+			if (cause instanceof InvocationTargetException) throw (InvocationTargetException) cause;
+			if (cause instanceof OslcCoreApplicationException) throw (OslcCoreApplicationException) cause;
+			if (cause instanceof URISyntaxException) throw (URISyntaxException) cause;
+
+			throw exception;
+		}
+
+		if (beans == null)
+		{
+			return fromJSON(streamingReader.getDocument(),
+							beanClass);
+		}
+
+		return beans.toArray((Object[]) Array.newInstance(beanClass,
+														  beans.size()));
+	}
+
+	/**
+	 * Reads the {@code prefixes} object of an RDF/JSON document into the given maps.
+	 */
+	static void readPrefixes(final Object			   prefixes,
+							 final Map<String, String> namespaceMappings,
+							 final Map<String, String> reverseNamespaceMappings)
+	{
+		if (prefixes instanceof JSONObject)
+		{
+			final JSONObject prefixesJSONObject = (JSONObject) prefixes;
+
+			@SuppressWarnings({"unchecked", "cast"})
+			final Set<Map.Entry<String, Object>> prefixesEntrySet = (Set<Map.Entry<String, Object>>)  prefixesJSONObject.entrySet();
+			for (final Map.Entry<String, Object> prefixEntry : prefixesEntrySet)
+			{
+				final String prefix	   = prefixEntry.getKey();
+				final Object namespace = prefixEntry.getValue();
+
+				if (namespace instanceof String)
+				{
+					namespaceMappings.put(prefix,
+										  namespace.toString());
+
+					reverseNamespaceMappings.put(namespace.toString(),
+												 prefix.toString());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Converts one element of an {@code rdfs:member} or {@code oslc:results} array.
+	 */
+	static Object fromJSONMember(final String							   rdfPrefix,
+								 final Map<String, String>				   namespaceMappings,
+								 final Map<Class<?>, Map<String, Method>> classPropertyDefinitionsToSetMethods,
+								 final JSONObject						   resourceJSONObject,
+								 final Class<?>						   beanClass)
+		   throws DatatypeConfigurationException,
+				  IllegalAccessException,
+				  IllegalArgumentException,
+				  InstantiationException,
+				  InvocationTargetException,
+				  OslcCoreApplicationException,
+				  URISyntaxException
+	{
+		if (URI.class.equals(beanClass)) {
+			String uri = resourceJSONObject.optString(rdfPrefix + JSON_PROPERTY_DELIMITER
+					+ JSON_PROPERTY_SUFFIX_RESOURCE);
+
+			return URI.create(uri);
+		}
+
+		final Object bean = beanClass.newInstance();
+		HashSet<String> rdfTypes = new HashSet<>();
+
+		fromJSON(rdfPrefix,
+				 namespaceMappings,
+				 classPropertyDefinitionsToSetMethods,
+				 resourceJSONObject,
+				 beanClass,
+				 bean,
+				 rdfTypes);
+
+		return bean;
+	}
+
 	private static void buildAttributeResource(final Map<String, String>	namespaceMappings,
 											   final Map<String, String>	reverseNamespaceMappings,
 											   final Class<?>				resourceClass,
-											   final Method					method,
-											   final OslcPropertyDefinition propertyDefinitionAnnotation,
+											   final ResourcePropertyDescriptor propertyDescriptor,
 											   final JSONObject				jsonObject,
 											   final Object					value,
 											   final Map<String, Object>	nestedProperties,
@@ -467,33 +854,20 @@ public final class JsonHelper
 				   JSONException,
 				   OslcCoreApplicationException
 	{
-		final String propertyDefinition = propertyDefinitionAnnotation.value();
-
-		String name;
-		final OslcName nameAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method,
-																					  OslcName.class);
-
-		if (nameAnnotation != null)
-		{
-			name = nameAnnotation.value();
-		}
-		else
-		{
-			name = getDefaultPropertyName(method);
-		}
+		final Method method = propertyDescriptor.getGetter();
+		final String propertyDefinition = propertyDescriptor.getPropertyDefinition();
+		final String name = propertyDescriptor.getName();
 
 		if (!propertyDefinition.endsWith(name))
 		{
 			throw new OslcCoreInvalidPropertyDefinitionException(resourceClass,
 																 method,
-																 propertyDefinitionAnnotation);
+																 propertyDescriptor.getPropertyDefinitionAnnotation());
 		}
 
 		final boolean isRdfContainer;
 
-		final OslcRdfCollectionType collectionType =
-			InheritedMethodAnnotationHelper.getAnnotation(method,
-														  OslcRdfCollectionType.class);
+		final OslcRdfCollectionType collectionType = propertyDescriptor.getRdfCollectionTypeAnnotation();
 
 		if (collectionType != null &&
 				OslcConstants.RDF_NAMESPACE.equals(collectionType.namespaceURI()) &&
@@ -768,65 +1142,48 @@ public final class JsonHelper
 			return;
 		}
 
-		for (final Method method : objectClass.getMethods())
+		for (final ResourcePropertyDescriptor propertyDescriptor : ResourceClassDescriptor.of(objectClass).getProperties())
 		{
-			if (method.getParameterTypes().length == 0)
+			final Object value = propertyDescriptor.getValue(object);
+
+			if (value != null)
 			{
-				final String methodName = method.getName();
-				if (((methodName.startsWith(METHOD_NAME_START_GET)) &&
-					 (methodName.length() > METHOD_NAME_START_GET_LENGTH)) ||
-					((methodName.startsWith(METHOD_NAME_START_IS)) &&
-					 (methodName.length() > METHOD_NAME_START_IS_LENGTH)))
+				Map<String, Object> nestedProperties = null;
+				boolean onlyNested = false;
+
+				if (properties != null)
 				{
-					final OslcPropertyDefinition oslcPropertyDefinitionAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method,
-																																  OslcPropertyDefinition.class);
+					@SuppressWarnings("unchecked")
+					final Map<String, Object> map = (Map<String, Object>)properties.get(propertyDescriptor.getPropertyDefinition());
 
-					if (oslcPropertyDefinitionAnnotation != null)
+					if (map != null)
 					{
-						final Object value = method.invoke(object);
-
-						if (value != null)
-						{
-							Map<String, Object> nestedProperties = null;
-							boolean onlyNested = false;
-
-							if (properties != null)
-							{
-								@SuppressWarnings("unchecked")
-								final Map<String, Object> map = (Map<String, Object>)properties.get(oslcPropertyDefinitionAnnotation.value());
-
-								if (map != null)
-								{
-									nestedProperties = map;
-								}
-								else if (properties instanceof SingletonWildcardProperties &&
-										 ! (properties instanceof NestedWildcardProperties))
-								{
-									nestedProperties = OSLC4JConstants.OSL4J_PROPERTY_SINGLETON;
-								}
-								else if (properties instanceof NestedWildcardProperties)
-								{
-									nestedProperties = ((NestedWildcardProperties)properties).commonNestedProperties();
-									onlyNested = ! (properties instanceof SingletonWildcardProperties);
-								}
-								else
-								{
-									continue;
-								}
-							}
-
-							buildAttributeResource(namespaceMappings,
-												   reverseNamespaceMappings,
-												   objectClass,
-												   method,
-												   oslcPropertyDefinitionAnnotation,
-												   jsonObject,
-												   value,
-												   nestedProperties,
-												   onlyNested);
-						}
+						nestedProperties = map;
+					}
+					else if (properties instanceof SingletonWildcardProperties &&
+							 ! (properties instanceof NestedWildcardProperties))
+					{
+						nestedProperties = OSLC4JConstants.OSL4J_PROPERTY_SINGLETON;
+					}
+					else if (properties instanceof NestedWildcardProperties)
+					{
+						nestedProperties = ((NestedWildcardProperties)properties).commonNestedProperties();
+						onlyNested = ! (properties instanceof SingletonWildcardProperties);
+					}
+					else
+					{
+						continue;
 					}
 				}
+
+				buildAttributeResource(namespaceMappings,
+									   reverseNamespaceMappings,
+									   objectClass,
+									   propertyDescriptor,
+									   jsonObject,
+									   value,
+									   nestedProperties,
+									   onlyNested);
 			}
 		}
 
@@ -1022,10 +1379,7 @@ public final class JsonHelper
 				return null;
 			}
 
-			final GregorianCalendar calendar = new GregorianCalendar();
-			calendar.setTime((Date) object);
-
-			return DatatypeFactory.newInstance().newXMLGregorianCalendar(calendar).toString();
+			return LiteralConverter.formatLocalDateTime((Date) object);
 		}
 		else if (object instanceof URI)
 		{
@@ -1059,25 +1413,6 @@ public final class JsonHelper
 		return null;
 	}
 
-	private static String getDefaultPropertyName(final Method method)
-	{
-		final String methodName	   = method.getName();
-		final int	 startingIndex = methodName.startsWith(METHOD_NAME_START_GET) ? METHOD_NAME_START_GET_LENGTH : METHOD_NAME_START_IS_LENGTH;
-		final int	 endingIndex   = startingIndex + 1;
-
-		// We want the name to start with a lower-case letter
-		final String lowercasedFirstCharacter = methodName.substring(startingIndex,
-																	 endingIndex).toLowerCase(Locale.ENGLISH);
-
-		if (methodName.length() == endingIndex)
-		{
-			return lowercasedFirstCharacter;
-		}
-
-		return lowercasedFirstCharacter +
-			   methodName.substring(endingIndex);
-	}
-
 	private static Object handleLocalResource(final Map<String, String> namespaceMappings,
 											  final Map<String, String> reverseNamespaceMappings,
 											  final Class<?>			resourceClass,
@@ -1175,10 +1510,7 @@ public final class JsonHelper
 				return null;
 			}
 
-			final GregorianCalendar calendar = new GregorianCalendar();
-			calendar.setTime((Date) object);
-
-			return DatatypeFactory.newInstance().newXMLGregorianCalendar(calendar).toString();
+			return LiteralConverter.formatLocalDateTime((Date) object);
 		}
 		else if (object instanceof IReifiedResource)
 		{
@@ -1418,65 +1750,13 @@ public final class JsonHelper
 															final Map<String, String>	  reverseNamespaceMappings,
 															final Class<? extends Object> objectClass)
 	{
-		final OslcSchema oslcSchemaAnnotation = objectClass.getPackage().getAnnotation(OslcSchema.class);
-		if (oslcSchemaAnnotation != null)
-		{
-			final OslcNamespaceDefinition[] oslcNamespaceDefinitionAnnotations = oslcSchemaAnnotation.value();
-			for (final OslcNamespaceDefinition oslcNamespaceDefinitionAnnotation : oslcNamespaceDefinitionAnnotations)
-			{
-				final String prefix		  = oslcNamespaceDefinitionAnnotation.prefix();
-				final String namespaceURI = oslcNamespaceDefinitionAnnotation.namespaceURI();
-
-				namespaceMappings.put(prefix,
-									  namespaceURI);
-
-				reverseNamespaceMappings.put(namespaceURI,
-											 prefix);
-			}
-			//Adding custom prefixes obtained from an implementation, if there is an implementation.
-			Class<? extends IOslcCustomNamespaceProvider> customNamespaceProvider = oslcSchemaAnnotation.customNamespaceProvider();
-			if(!customNamespaceProvider.isInterface())
-			{
-				try {
-					IOslcCustomNamespaceProvider customNamespaceProviderImpl = customNamespaceProvider.newInstance();
-					Map<String, String> customNamespacePrefixes = customNamespaceProviderImpl.getCustomNamespacePrefixes();
-					if(null != customNamespacePrefixes)
-					{
-						for(Map.Entry<String, String> namespaceEntry : customNamespacePrefixes.entrySet())
-						{
-							namespaceMappings.put(namespaceEntry.getKey(), namespaceEntry.getValue());
-							reverseNamespaceMappings.put(namespaceEntry.getValue(), namespaceEntry.getKey());
-						}
-					}
-				} catch (IllegalAccessException e) {
-					throw new RuntimeException("The custom namespace provider implementation: "+
-											   customNamespaceProvider.getClass().getName() +
-											   ", must have a public no args construtor", e);
-				} catch (InstantiationException e) {
-					throw new RuntimeException("The custom namespace provider must not be a abstract, nor interface class and " +
-											   "must have a public no args constructor", e);
-				}
-			}
-		}
-
-		final Class<?> superClass = objectClass.getSuperclass();
-		if (superClass != null)
-		{
-			recursivelyCollectNamespaceMappings(namespaceMappings,
-												reverseNamespaceMappings,
-												superClass);
-		}
+		ResourceNamespaces.of(objectClass).forEach((prefix, namespaceURI) -> {
+			namespaceMappings.put(prefix,
+								  namespaceURI);
 
-		final Class<?>[] interfaces = objectClass.getInterfaces();
-		if (interfaces != null)
-		{
-			for (final Class<?> interfac : interfaces)
-			{
-				recursivelyCollectNamespaceMappings(namespaceMappings,
-													reverseNamespaceMappings,
-													interfac);
-			}
-		}
+			reverseNamespaceMappings.put(namespaceURI,
+										 prefix);
+		});
 	}
 
 	/**
@@ -1590,8 +1870,17 @@ public final class JsonHelper
 		if (bean instanceof IExtendedResource)
 		{
 			extendedResource = (IExtendedResource) bean;
-			extendedProperties = new HashMap<>();
-			extendedResource.setExtendedProperties(extendedProperties);
+			// Reuse the empty map of a newly created resource
+			if (extendedResource.getExtendedProperties() instanceof ExtendedProperties
+					&& extendedResource.getExtendedProperties().isEmpty())
+			{
+				extendedProperties = extendedResource.getExtendedProperties();
+			}
+			else
+			{
+				extendedProperties = new ExtendedProperties();
+				extendedResource.setExtendedProperties(extendedProperties);
+			}
 		}
 		else
 		{
@@ -1664,7 +1953,7 @@ public final class JsonHelper
 						}
 						else
 						{
-							final QName qName = new QName(namespace,
+							final QName qName = ExtendedProperties.qName(namespace,
 									  name,
 									  namespacePrefix);
 
@@ -1815,17 +2104,10 @@ public final class JsonHelper
 			}
 
 			// Check if it's in the OSLC date format.
-			try
-			{
-				return DatatypeFactory.newInstance()
-						.newXMLGregorianCalendar((String) jsonValue)
-						.toGregorianCalendar().getTime();
-			}
-			catch (IllegalArgumentException e)
-			{
-				// It's not a date. Treat it as a string.
-				return jsonValue;
-			}
+			final Date date = LiteralConverter.tryParseDate((String) jsonValue);
+
+			// If it's not a date, treat it as a string.
+			return date != null ? date : jsonValue;
 		}
 		else if (jsonValue instanceof Integer) {
 
@@ -2228,7 +2510,7 @@ public final class JsonHelper
 			}
 			else if (BigInteger.class == setMethodComponentParameterClass)
 			{
-				return new BigInteger(stringValue);
+				return LiteralConverter.parseInteger(stringValue);
 			}
 			else if ((Float.class == setMethodComponentParameterClass) || (Float.TYPE == setMethodComponentParameterClass))
 			{
@@ -2272,7 +2554,7 @@ public final class JsonHelper
 			}
 			else if (Date.class == setMethodComponentParameterClass)
 			{
-				return DatatypeFactory.newInstance().newXMLGregorianCalendar(stringValue).toGregorianCalendar().getTime();
+				return LiteralConverter.parseDate(stringValue);
 			}
 		}
 
@@ -2292,57 +2574,7 @@ public final class JsonHelper
 	private static Map<String, Method> createPropertyDefinitionToSetMethods(final Class<?> beanClass)
 			throws OslcCoreApplicationException
 	{
-		final Map<String, Method> result = new HashMap<>();
-		final Method[] methods = beanClass.getMethods();
-		for (final Method method : methods)
-		{
-			if (method.getParameterTypes().length == 0)
-			{
-				final String getMethodName = method.getName();
-				if (((getMethodName.startsWith(METHOD_NAME_START_GET)) &&
-					 (getMethodName.length() > METHOD_NAME_START_GET_LENGTH)) ||
-					((getMethodName.startsWith(METHOD_NAME_START_IS)) &&
-					 (getMethodName.length() > METHOD_NAME_START_IS_LENGTH)))
-				{
-					final OslcPropertyDefinition oslcPropertyDefinitionAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method,
-																																  OslcPropertyDefinition.class);
-
-					if (oslcPropertyDefinitionAnnotation != null)
-					{
-						// We need to find the set companion setMethod
-						final String setMethodName;
-						if (getMethodName.startsWith(METHOD_NAME_START_GET))
-						{
-							setMethodName = METHOD_NAME_START_SET +
-											getMethodName.substring(METHOD_NAME_START_GET_LENGTH);
-						}
-						else
-						{
-							setMethodName = METHOD_NAME_START_SET +
-											getMethodName.substring(METHOD_NAME_START_IS_LENGTH);
-						}
-
-						final Class<?> getMethodReturnType = method.getReturnType();
-						try
-						{
-							final Method setMethod = beanClass.getMethod(setMethodName,
-																		 getMethodReturnType);
-
-							result.put(oslcPropertyDefinitionAnnotation.value(),
-									   setMethod);
-						}
-						catch (final NoSuchMethodException exception)
-						{
-							throw new OslcCoreMissingSetMethodException(beanClass,
-																		method,
-																		exception);
-						}
-					}
-				}
-			}
-		}
-
-		return result;
+		return ResourceClassDescriptor.of(beanClass).getSetMethods();
 	}
 
 }
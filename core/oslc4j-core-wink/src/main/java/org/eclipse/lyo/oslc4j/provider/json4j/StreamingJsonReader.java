@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.json4j;
+
+import java.lang.reflect.Method;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.jena.atlas.json.io.JSONHandler;
+import org.apache.wink.json4j.JSONArray;
+import org.apache.wink.json4j.JSONObject;
+import org.eclipse.lyo.oslc4j.core.model.OslcConstants;
+
+/**
+ * Receives the events of Jena's JSON parser and converts the elements of the top-level
+ * {@code rdfs:member} (or {@code oslc:results}) array as soon as each one is complete, so
+ * only one member is held as a {@link JSONObject} at a time. Members can only be converted
+ * once the {@code prefixes} have been read; everything seen before that is kept in
+ * {@link #getDocument()} for {@link JsonHelper#fromJSON(JSONObject, Class)}.
+ * {@link JsonHelper#writeJSON} writes every prefix before the members, but other writers may
+ * not: a member that uses a prefix which is not declared yet, and every member after it, is
+ * converted at the end of the document.
+ */
+final class StreamingJsonReader implements JSONHandler {
+
+    private static final String MEMBER = "member";
+    private static final String RESULTS = "results";
+    private static final String PREFIXES = "prefixes";
+
+    /** Stands in for JSON {@code null}, which the value stack cannot hold. */
+    private static final Object NULL = new Object();
+
+    private final Class<?> beanClass;
+
+    private final Map<String, String> namespaceMappings = new HashMap<>();
+    private final Map<String, String> reverseNamespaceMappings = new HashMap<>();
+    private final Map<Class<?>, Map<String, Method>> classPropertyDefinitionsToSetMethods = new HashMap<>();
+
+    private final Deque<Object> containers = new ArrayDeque<>();
+    private final Deque<Object> values = new ArrayDeque<>();
+    private final Deque<String> keys = new ArrayDeque<>();
+
+    private JSONObject document;
+    private String rdfPrefix;
+    private String memberKey;
+    private String resultsKey;
+
+    private JSONArray streamedArray;
+    private List<Object> streamedBeans;
+    private List<Object> members;
+    private List<Object> results;
+    private List<JSONObject> deferredMembers;
+    private List<JSONObject> deferredResults;
+
+    StreamingJsonReader(final Class<?> beanClass) {
+        this.beanClass = beanClass;
+    }
+
+    /**
+     * @return the converted members, or {@code null} if the document has to be converted as a
+     *         whole from {@link #getDocument()}
+     */
+    List<Object> getBeans() {
+        deferredMembers = convertDeferred(deferredMembers, members);
+        deferredResults = convertDeferred(deferredResults, results);
+        return members != null ? members : results;
+    }
+
+    /**
+     * @return the top-level object without the members that have already been converted
+     */
+    JSONObject getDocument() {
+        return document;
+    }
+
+    @Override
+    public void startParse(final long currLine, final long currCol) {
+        // nothing to set up
+    }
+
+    @Override
+    public void finishParse(final long currLine, final long currCol) {
+        // deferred members are converted by getBeans()
+    }
+
+    @Override
+    public void startObject(final long currLine, final long currCol) {
+        final JSONObject jsonObject = new JSONObject();
+        if (document == null) {
+            document = jsonObject;
+        }
+        containers.push(jsonObject);
+    }
+
+    @Override
+    public void finishObject(final long currLine, final long currCol) {
+        push(containers.pop());
+    }
+
+    @Override
+    public void startPair(final long currLine, final long currCol) {
+        // the key arrives as a string value
+    }
+
+    @Override
+    public void keyPair(final long currLine, final long currCol) {
+        keys.push(pop().toString());
+    }
+
+    @Override
+    public void finishPair(final long currLine, final long currCol) {
+        final Object value = pop();
+        final String key = keys.pop();
+        final JSONObject jsonObject = (JSONObject) containers.peek();
+
+        if (jsonObject == document) {
+            if (value == streamedArray) {
+                // keep an empty array so a document without members still looks like a collection
+                streamedArray = null;
+            } else if (PREFIXES.equals(key)) {
+                readPrefixes(value);
+            }
+        }
+
+        jsonObject.put((Object) key, value);
+    }
+
+    @Override
+    public void startArray(final long currLine, final long currCol) {
+        final JSONArray jsonArray = new JSONArray();
+
+        if (containers.peek() == document && rdfPrefix != null) {
+            final String key = keys.peek();
+            if (key.equals(memberKey) && members == null) {
+                members = new ArrayList<>();
+                streamedBeans = members;
+                streamedArray = jsonArray;
+            } else if (key.equals(resultsKey) && results == null) {
+                results = new ArrayList<>();
+                streamedBeans = results;
+                streamedArray = jsonArray;
+            }
+        }
+
+        containers.push(jsonArray);
+    }
+
+    @Override
+    public void element(final long currLine, final long currCol) {
+        final Object value = pop();
+        final JSONArray jsonArray = (JSONArray) containers.peek();
+
+        if (jsonArray == streamedArray) {
+            if (value instanceof JSONObject) {
+                final List<JSONObject> deferred = streamedBeans == members ? deferredMembers : deferredResults;
+                if (deferred == null && isDeclared(value)) {
+                    streamedBeans.add(convert((JSONObject) value));
+                } else if (streamedBeans == members) {
+                    deferredMembers = defer(deferredMembers, (JSONObject) value);
+                } else {
+                    deferredResults = defer(deferredResults, (JSONObject) value);
+                }
+            }
+        } else {
+            jsonArray.add(value);
+        }
+    }
+
+    @Override
+    public void finishArray(final long currLine, final long currCol) {
+        push(containers.pop());
+    }
+
+    @Override
+    public void valueString(final String image, final long currLine, final long currCol) {
+        push(image);
+    }
+
+    @Override
+    public void valueInteger(final String image, final long currLine, final long currCol) {
+        // same types as the JSON4J parser: Integer if it fits, otherwise Long
+        final BigInteger integer = new BigInteger(image);
+        if (integer.bitLength() < Integer.SIZE) {
+            push(integer.intValue());
+        } else if (integer.bitLength() < Long.SIZE) {
+            push(integer.longValue());
+        } else {
+            push(Double.valueOf(image));
+        }
+    }
+
+    @Override
+    public void valueDouble(final String image, final long currLine, final long currCol) {
+        push(Double.valueOf(image));
+    }
+
+    @Override
+    public void valueDecimal(final String image, final long currLine, final long currCol) {
+        push(Double.valueOf(image));
+    }
+
+    @Override
+    public void valueBoolean(final boolean b, final long currLine, final long currCol) {
+        push(b);
+    }
+
+    @Override
+    public void valueNull(final long currLine, final long currCol) {
+        push(null);
+    }
+
+    private void push(final Object value) {
+        values.push(value != null ? value : NULL);
+    }
+
+    private Object pop() {
+        final Object value = values.pop();
+        return value != NULL ? value : null;
+    }
+
+    private boolean isDeclared(final Object value) {
+        if (value instanceof JSONObject) {
+            for (final Object entry : ((JSONObject) value).entrySet()) {
+                final Map.Entry<?, ?> property = (Map.Entry<?, ?>) entry;
+                final String key = property.getKey().toString();
+                final int delimiter = key.indexOf(':');
+                if (delimiter > 0 && !namespaceMappings.containsKey(key.substring(0, delimiter))) {
+                    return false;
+                }
+                if (!isDeclared(property.getValue())) {
+                    return false;
+                }
+            }
+        } else if (value instanceof JSONArray) {
+            for (final Object element : (JSONArray) value) {
+                if (!isDeclared(element)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static List<JSONObject> defer(final List<JSONObject> deferred, final JSONObject member) {
+        final List<JSONObject> list = deferred != null ? deferred : new ArrayList<>();
+        list.add(member);
+        return list;
+    }
+
+    private List<JSONObject> convertDeferred(final List<JSONObject> deferred, final List<Object> beans) {
+        if (deferred != null) {
+            for (final JSONObject member : deferred) {
+                beans.add(convert(member));
+            }
+        }
+        return null;
+    }
+
+    private void readPrefixes(final Object prefixes) {
+        JsonHelper.readPrefixes(prefixes, namespaceMappings, reverseNamespaceMappings);
+
+        rdfPrefix = reverseNamespaceMappings.get(OslcConstants.RDF_NAMESPACE);
+
+        final String rdfsPrefix = reverseNamespaceMappings.get(OslcConstants.RDFS_NAMESPACE);
+        memberKey = rdfsPrefix != null ? rdfsPrefix + ':' + MEMBER : null;
+
+        final String oslcPrefix = reverseNamespaceMappings.get(OslcConstants.OSLC_CORE_NAMESPACE);
+        resultsKey = oslcPrefix != null ? oslcPrefix + ':' + RESULTS : null;
+    }
+
+    private Object convert(final JSONObject resourceJSONObject) {
+        try {
+            return JsonHelper.fromJSONMember(rdfPrefix, namespaceMappings, classPropertyDefinitionsToSetMethods,
+                    resourceJSONObject, beanClass);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ConversionException(e);
+        }
+    }
+
+    /**
+     * Carries a checked exception of the member conversion through the parser callbacks.
+     */
+    static final class ConversionException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        ConversionException(final Exception cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized Exception getCause() {
+            return (Exception) super.getCause();
+        }
+    }
+}
@@ -13,7 +13,8 @@
  */
 package org.eclipse.lyo.oslc4j.core;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.lyo.oslc4j.core.annotation.OslcSchema;
@@ -28,20 +29,23 @@ import org.eclipse.lyo.oslc4j.core.annotation.OslcSchema;
  * This class is a singleton instance, that can be obtained
  * calling {@link #getInstance()}, since it works with
  * any request even if there are no annotation mapping.
+ * <p>
+ * The mappings are published as an immutable snapshot that is replaced
+ * (copy-on-write) whenever they change, so readers never need to lock.
  *
  * @author Daniel Figueiredo Caetano
  */
 public class OslcGlobalNamespaceProvider {
 
-    private static OslcGlobalNamespaceProvider instance;
+    private static final OslcGlobalNamespaceProvider instance = new OslcGlobalNamespaceProvider();
 
-    private Map<String, String> prefixDefinitionMap;
+    private volatile Map<String, String> prefixDefinitionMap;
 
     /**
      * Private construct for singleton pattern.
      */
     private OslcGlobalNamespaceProvider() {
-        this.prefixDefinitionMap = new HashMap<>();
+        this.prefixDefinitionMap = Collections.emptyMap();
     }
 
     /**
@@ -49,10 +53,7 @@ public class OslcGlobalNamespaceProvider {
      *
      * @return singleton class instance.
      */
-    public static synchronized OslcGlobalNamespaceProvider getInstance() {
-        if (null == instance) {
-            instance = new OslcGlobalNamespaceProvider();
-        }
+    public static OslcGlobalNamespaceProvider getInstance() {
         return instance;
     }
 
@@ -63,8 +64,12 @@ public class OslcGlobalNamespaceProvider {
      * <p>
      * key	 - prefix
      * value - namespace
+     * <p>
+     * The returned map is an unmodifiable snapshot; use
+     * {@link #setPrefixDefinitionMap(Map)} or
+     * {@link #putPrefixDefinition(String, String)} to change the mappings.
      *
-     * @return empty hash map instance if there are no global
+     * @return empty map instance if there are no global
      * namespace mappings.
      */
     public Map<String, String> getPrefixDefinitionMap() {
@@ -74,15 +79,29 @@ public class OslcGlobalNamespaceProvider {
     /**
      * Sets the global prefix definition map with the given map.
      * Note that this operation overrides the current map.
+     * The map is copied, later changes to it are not seen.
      *
      * @param prefixDefinitionMap that will replace the current.
      */
-    public void setPrefixDefinitionMap(Map<String, String> prefixDefinitionMap) {
+    public synchronized void setPrefixDefinitionMap(Map<String, String> prefixDefinitionMap) {
         if (null == prefixDefinitionMap) {
-            this.prefixDefinitionMap.clear();
+            this.prefixDefinitionMap = Collections.emptyMap();
         } else {
-            this.prefixDefinitionMap = prefixDefinitionMap;
+            this.prefixDefinitionMap = Collections.unmodifiableMap(new LinkedHashMap<>(prefixDefinitionMap));
         }
     }
 
+    /**
+     * Adds or replaces a single global prefix definition.
+     *
+     * @param prefix the namespace prefix
+     * @param namespace the namespace URI
+     * @since 7.0.0
+     */
+    public synchronized void putPrefixDefinition(String prefix, String namespace) {
+        Map<String, String> copy = new LinkedHashMap<>(this.prefixDefinitionMap);
+        copy.put(prefix, namespace);
+        this.prefixDefinitionMap = Collections.unmodifiableMap(copy);
+    }
+
 }
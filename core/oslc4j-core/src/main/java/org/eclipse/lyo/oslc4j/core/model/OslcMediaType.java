@@ -41,6 +41,19 @@ public interface OslcMediaType {
 	public final static String TEXT_TURTLE = TEXT + "/" + TURTLE;
 	public final static MediaType TEXT_TURTLE_TYPE = new MediaType(TEXT, TURTLE);
 
+	public final static String N_TRIPLES = "n-triples";
+	public final static String APPLICATION_N_TRIPLES = APPLICATION + "/" + N_TRIPLES;
+	public final static MediaType APPLICATION_N_TRIPLES_TYPE = new MediaType(APPLICATION, N_TRIPLES);
+
+	// Jena's binary RDF encodings, meant for traffic between Lyo-based services
+	public final static String RDF_THRIFT = "rdf+thrift";
+	public final static String APPLICATION_RDF_THRIFT = APPLICATION + "/" + RDF_THRIFT;
+	public final static MediaType APPLICATION_RDF_THRIFT_TYPE = new MediaType(APPLICATION, RDF_THRIFT);
+
+	public final static String RDF_PROTOBUF = "rdf+protobuf";
+	public final static String APPLICATION_RDF_PROTOBUF = APPLICATION + "/" + RDF_PROTOBUF;
+	public final static MediaType APPLICATION_RDF_PROTOBUF_TYPE = new MediaType(APPLICATION, RDF_PROTOBUF);
+
 	public final static String X_OSLC_COMPACT_XML = "x-oslc-compact+xml";
 	public final static String APPLICATION_X_OSLC_COMPACT_XML = APPLICATION + "/" + X_OSLC_COMPACT_XML;
 	public final static MediaType APPLICATION_X_OSLC_COMPACT_XML_TYPE = new MediaType(APPLICATION, X_OSLC_COMPACT_XML);
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.core.model;
+
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Strategy used by {@link ResourcePropertyDescriptor} to turn the getter and
+ * setter of an OSLC property into functional accessors.
+ * <p>
+ * Accessors may throw any exception raised by the underlying method unchanged;
+ * the descriptor wraps it into an {@link java.lang.reflect.InvocationTargetException}.
+ *
+ * @see PropertyAccessors
+ * @since 7.0.0
+ */
+public interface PropertyAccessorFactory {
+
+    /**
+     * @param getter a public, zero-argument instance method
+     * @return a function that invokes the getter on the bean passed to it
+     */
+    Function<Object, Object> createGetter(Method getter);
+
+    /**
+     * @param setter a public, single-argument instance method
+     * @return a consumer that invokes the setter on the bean with the value passed to it
+     */
+    BiConsumer<Object, Object> createSetter(Method setter);
+}
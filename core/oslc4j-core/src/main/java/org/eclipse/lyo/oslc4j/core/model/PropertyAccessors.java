@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.core.model;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Built-in {@link PropertyAccessorFactory} strategies and the process-wide
+ * selection of the active one.
+ * <ul>
+ * <li>{@link #LAMBDA} (default) spins a {@link Function}/{@link BiConsumer}
+ * implementation per method through {@link LambdaMetafactory}, which the JIT can
+ * inline like a direct call. Methods that cannot be linked this way (e.g. in
+ * packages that are not open to Lyo) fall back to {@link #METHOD_HANDLE}.</li>
+ * <li>{@link #METHOD_HANDLE} wraps a {@link MethodHandle} adapted to
+ * {@code (Object)Object}.</li>
+ * <li>{@link #REFLECTION} uses {@link Method#invoke(Object, Object...)}, as
+ * Lyo did before 7.0.0.</li>
+ * </ul>
+ * The strategy is read from the {@value OSLC4JConstants#OSLC4J_PROPERTY_ACCESSORS}
+ * system property ({@code lambda}, {@code methodhandle} or {@code reflection})
+ * or set with {@link #setFactory(PropertyAccessorFactory)}. Accessors are bound
+ * to a property on first use, so the strategy should be chosen before the
+ * first resource is marshalled.
+ *
+ * @since 7.0.0
+ */
+public final class PropertyAccessors {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyAccessors.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    public static final PropertyAccessorFactory REFLECTION = new PropertyAccessorFactory() {
+        @Override
+        public Function<Object, Object> createGetter(final Method getter) {
+            return bean -> {
+                try {
+                    return getter.invoke(bean);
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new ReflectiveAccessException(e);
+                }
+            };
+        }
+
+        @Override
+        public BiConsumer<Object, Object> createSetter(final Method setter) {
+            return (bean, value) -> {
+                try {
+                    setter.invoke(bean, value);
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new ReflectiveAccessException(e);
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            return "reflection";
+        }
+    };
+
+    public static final PropertyAccessorFactory METHOD_HANDLE = new PropertyAccessorFactory() {
+        @Override
+        public Function<Object, Object> createGetter(final Method getter) {
+            final MethodHandle handle = unreflect(getter).asType(GETTER_TYPE);
+            return bean -> {
+                try {
+                    return handle.invokeExact(bean);
+                } catch (RuntimeException | java.lang.Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new ReflectiveAccessException(new InvocationTargetException(t));
+                }
+            };
+        }
+
+        @Override
+        public BiConsumer<Object, Object> createSetter(final Method setter) {
+            final MethodHandle handle = unreflect(setter).asType(SETTER_TYPE);
+            return (bean, value) -> {
+                try {
+                    handle.invokeExact(bean, value);
+                } catch (RuntimeException | java.lang.Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new ReflectiveAccessException(new InvocationTargetException(t));
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            return "methodhandle";
+        }
+    };
+
+    public static final PropertyAccessorFactory LAMBDA = new PropertyAccessorFactory() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public Function<Object, Object> createGetter(final Method getter) {
+            try {
+                final MethodHandles.Lookup lookup = privateLookup(getter);
+                final MethodHandle handle = lookup.unreflect(getter);
+                final CallSite site = LambdaMetafactory.metafactory(lookup,
+                        "apply",
+                        MethodType.methodType(Function.class),
+                        GETTER_TYPE,
+                        handle,
+                        MethodType.methodType(wrap(getter.getReturnType()), getter.getDeclaringClass()));
+                return (Function<Object, Object>) site.getTarget().invoke();
+            } catch (Throwable t) {
+                log.debug("Falling back to a method handle for {}", getter, t);
+                return METHOD_HANDLE.createGetter(getter);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public BiConsumer<Object, Object> createSetter(final Method setter) {
+            try {
+                final MethodHandles.Lookup lookup = privateLookup(setter);
+                final MethodHandle handle = lookup.unreflect(setter);
+                final CallSite site = LambdaMetafactory.metafactory(lookup,
+                        "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        SETTER_TYPE,
+                        handle,
+                        MethodType.methodType(void.class, setter.getDeclaringClass(),
+                                wrap(setter.getParameterTypes()[0])));
+                return (BiConsumer<Object, Object>) site.getTarget().invoke();
+            } catch (Throwable t) {
+                log.debug("Falling back to a method handle for {}", setter, t);
+                return METHOD_HANDLE.createSetter(setter);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "lambda";
+        }
+    };
+
+    private static volatile PropertyAccessorFactory factory = fromSystemProperty();
+
+    private PropertyAccessors() {
+        super();
+    }
+
+    /**
+     * @return the strategy used for properties that have not been accessed yet
+     */
+    public static PropertyAccessorFactory getFactory() {
+        return factory;
+    }
+
+    /**
+     * Replaces the accessor strategy. Properties that have already been accessed
+     * keep their accessors.
+     *
+     * @param newFactory the strategy to use; {@code null} restores the default
+     */
+    public static void setFactory(final PropertyAccessorFactory newFactory) {
+        factory = newFactory != null ? newFactory : fromSystemProperty();
+    }
+
+    /**
+     * @param name {@code lambda}, {@code methodhandle} or {@code reflection} (case-insensitive)
+     * @return the built-in strategy with the given name
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static PropertyAccessorFactory forName(final String name) {
+        switch (name.trim().toLowerCase(Locale.ENGLISH)) {
+            case "lambda":
+                return LAMBDA;
+            case "methodhandle":
+                return METHOD_HANDLE;
+            case "reflection":
+                return REFLECTION;
+            default:
+                throw new IllegalArgumentException("Unknown property accessor strategy: " + name);
+        }
+    }
+
+    private static PropertyAccessorFactory fromSystemProperty() {
+        final String property = System.getProperty(OSLC4JConstants.OSLC4J_PROPERTY_ACCESSORS);
+        if (property == null || property.isBlank()) {
+            return LAMBDA;
+        }
+        try {
+            return forName(property);
+        } catch (IllegalArgumentException e) {
+            log.error("System property '{}' holds illegal value: '{}' (only 'lambda', 'methodhandle' or "
+                    + "'reflection' are allowed)", OSLC4JConstants.OSLC4J_PROPERTY_ACCESSORS, property);
+            return LAMBDA;
+        }
+    }
+
+    private static MethodHandles.Lookup privateLookup(final Method method) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(method.getDeclaringClass(), LOOKUP);
+    }
+
+    private static MethodHandle unreflect(final Method method) {
+        try {
+            return privateLookup(method).unreflect(method);
+        } catch (IllegalAccessException e) {
+            try {
+                return LOOKUP.unreflect(method);
+            } catch (IllegalAccessException e2) {
+                throw new IllegalStateException("Cannot access " + method, e2);
+            }
+        }
+    }
+
+    private static Class<?> wrap(final Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    /**
+     * Carries the checked exception of a reflective call through the functional
+     * accessor interfaces; unwrapped by {@link ResourcePropertyDescriptor}.
+     */
+    static final class ReflectiveAccessException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        ReflectiveAccessException(final ReflectiveOperationException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized ReflectiveOperationException getCause() {
+            return (ReflectiveOperationException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.core.model;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lyo.oslc4j.core.annotation.OslcPropertyDefinition;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
+import org.eclipse.lyo.oslc4j.core.exception.OslcCoreMissingSetMethodException;
+
+/**
+ * Per-class registry of the reflective metadata used to marshal and unmarshal
+ * OSLC resources.
+ * <p>
+ * The first call to {@link #of(Class)} walks {@link Class#getMethods()} and the
+ * annotation inheritance chain once; the resulting immutable descriptor is kept
+ * in a {@link ClassValue}, so later lookups are lock-free and the entry goes
+ * away together with the class loader.
+ * <p>
+ * The property list preserves the order of {@link Class#getMethods()}, which
+ * keeps the output of the marshallers unchanged.
+ *
+ * @see ResourcePropertyDescriptor
+ * @since 7.0.0
+ */
+public final class ResourceClassDescriptor {
+
+    private static final ClassValue<ResourceClassDescriptor> DESCRIPTORS = new ClassValue<>() {
+        @Override
+        protected ResourceClassDescriptor computeValue(final Class<?> type) {
+            return new ResourceClassDescriptor(type);
+        }
+    };
+
+    private final Class<?> resourceClass;
+    private final boolean resourceShape;
+    private final List<ResourcePropertyDescriptor> properties;
+    private final Map<String, ResourcePropertyDescriptor> propertiesByDefinition;
+    private final Map<String, Integer> indexesByDefinition;
+    private final Map<String, Method> setMethods;
+    private final ResourcePropertyDescriptor firstPropertyWithoutSetter;
+
+    private ResourceClassDescriptor(final Class<?> resourceClass) {
+        this.resourceClass = resourceClass;
+        this.resourceShape = resourceClass.getAnnotation(OslcResourceShape.class) != null;
+
+        final List<ResourcePropertyDescriptor> propertyList = new ArrayList<>();
+        final Map<String, ResourcePropertyDescriptor> byDefinition = new HashMap<>();
+        final Map<String, Integer> indexes = new HashMap<>();
+        final Map<String, Method> setters = new HashMap<>();
+        ResourcePropertyDescriptor missingSetter = null;
+
+        for (final Method method : resourceClass.getMethods()) {
+            if (method.getParameterCount() != 0 || !ResourcePropertyDescriptor.isGetterName(method.getName())) {
+                continue;
+            }
+
+            final OslcPropertyDefinition propertyDefinitionAnnotation =
+                    InheritedMethodAnnotationHelper.getAnnotation(method, OslcPropertyDefinition.class);
+            if (propertyDefinitionAnnotation == null) {
+                continue;
+            }
+
+            final ResourcePropertyDescriptor property = new ResourcePropertyDescriptor(resourceClass,
+                    method, propertyDefinitionAnnotation);
+            indexes.put(property.getPropertyDefinition(), propertyList.size());
+            propertyList.add(property);
+            byDefinition.put(property.getPropertyDefinition(), property);
+
+            if (property.getSetter() != null) {
+                setters.put(property.getPropertyDefinition(), property.getSetter());
+            } else if (missingSetter == null) {
+                missingSetter = property;
+            }
+        }
+
+        this.properties = Collections.unmodifiableList(propertyList);
+        this.propertiesByDefinition = Collections.unmodifiableMap(byDefinition);
+        this.indexesByDefinition = Collections.unmodifiableMap(indexes);
+        this.setMethods = Collections.unmodifiableMap(setters);
+        this.firstPropertyWithoutSetter = missingSetter;
+    }
+
+    /**
+     * Returns the (cached) descriptor of a class.
+     *
+     * @param resourceClass any class; classes without OSLC properties get an
+     *                      empty descriptor
+     * @return the descriptor, never {@code null}
+     */
+    public static ResourceClassDescriptor of(final Class<?> resourceClass) {
+        return DESCRIPTORS.get(resourceClass);
+    }
+
+    public Class<?> getResourceClass() {
+        return resourceClass;
+    }
+
+    /**
+     * @return {@code true} if the class is annotated with {@link OslcResourceShape}
+     */
+    public boolean isResourceShape() {
+        return resourceShape;
+    }
+
+    /**
+     * @return all OSLC properties of the class, in {@link Class#getMethods()}
+     * order. Duplicate property definitions are retained so that callers can
+     * report them.
+     */
+    public List<ResourcePropertyDescriptor> getProperties() {
+        return properties;
+    }
+
+    /**
+     * @param propertyDefinition property definition URI
+     * @return the property for the given definition, or {@code null}
+     */
+    public ResourcePropertyDescriptor getProperty(final String propertyDefinition) {
+        return propertiesByDefinition.get(propertyDefinition);
+    }
+
+    /**
+     * @param propertyDefinition property definition URI
+     * @return the position of the property in {@link #getProperties()}, or
+     * {@code -1}
+     */
+    public int indexOf(final String propertyDefinition) {
+        final Integer index = indexesByDefinition.get(propertyDefinition);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the property definition to setter mapping used by the
+     * unmarshallers.
+     *
+     * @return an immutable map keyed by property definition URI
+     * @throws OslcCoreMissingSetMethodException if any OSLC property of the class
+     * lacks a companion setter
+     */
+    public Map<String, Method> getSetMethods() throws OslcCoreMissingSetMethodException {
+        verifySetters();
+        return setMethods;
+    }
+
+    /**
+     * @throws OslcCoreMissingSetMethodException if any OSLC property of the class
+     * lacks a companion setter
+     */
+    public void verifySetters() throws OslcCoreMissingSetMethodException {
+        if (firstPropertyWithoutSetter != null) {
+            firstPropertyWithoutSetter.getRequiredSetter();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.core.model;
+
+import java.lang.reflect.InvocationTargetException;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+
+import org.eclipse.lyo.oslc4j.core.exception.OslcCoreApplicationException;
+
+/**
+ * Reads the OSLC properties of a resource bean without reflection.
+ * <p>
+ * Implementations are generated at build time by the OSLC4J annotation
+ * processor for every concrete {@code @OslcResourceShape} class and registered
+ * as {@link java.util.ServiceLoader} services. Serializers look them up through
+ * {@link ResourceMarshallers} and fall back to {@link ResourceClassDescriptor}
+ * when a class has none.
+ * <p>
+ * A marshaller only reads the property values; serializers convert them to
+ * RDF the same way for both paths, in {@link ResourceClassDescriptor#getProperties()}
+ * order.
+ *
+ * @param <T> the resource class
+ * @see ResourceUnmarshaller
+ * @since 7.0.0
+ */
+public interface ResourceMarshaller<T> {
+
+    /**
+     * @return the exact class handled by this marshaller; subclasses are not covered
+     */
+    Class<T> getResourceClass();
+
+    /**
+     * Passes the current value of every OSLC property of the resource to the
+     * writer, including {@code null} values.
+     *
+     * @param resource the bean to read
+     * @param writer   receives the property values
+     */
+    void marshal(T resource, PropertyWriter writer)
+            throws DatatypeConfigurationException, IllegalAccessException, InvocationTargetException,
+            OslcCoreApplicationException;
+
+    /**
+     * Callback receiving the value of one OSLC property.
+     */
+    @FunctionalInterface
+    interface PropertyWriter {
+        /**
+         * @param propertyDefinition the {@code @OslcPropertyDefinition} of the property
+         * @param value              the getter result, boxed if primitive
+         */
+        void write(String propertyDefinition, Object value)
+                throws DatatypeConfigurationException, IllegalAccessException, InvocationTargetException,
+                OslcCoreApplicationException;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.core.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+
+import org.eclipse.lyo.oslc4j.core.OSLC4JUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lookup of the {@link ResourceMarshaller} and {@link ResourceUnmarshaller}
+ * services generated for resource classes.
+ * <p>
+ * Services are discovered once per class loader through {@link ServiceLoader}
+ * and the result of a lookup is cached per class. Generated (un)marshallers can
+ * be switched off with the
+ * {@value org.eclipse.lyo.oslc4j.core.OSLC4JConstants#OSLC4J_GENERATED_MARSHALLERS}
+ * system property.
+ *
+ * @since 7.0.0
+ */
+public final class ResourceMarshallers {
+
+    private static final Logger log = LoggerFactory.getLogger(ResourceMarshallers.class);
+
+    private static final Map<ClassLoader, Services> SERVICES = new WeakHashMap<>();
+
+    private static final ClassValue<ResourceMarshaller<?>> MARSHALLERS = new ClassValue<>() {
+        @Override
+        protected ResourceMarshaller<?> computeValue(final Class<?> type) {
+            return servicesFor(type.getClassLoader()).marshallers.get(type);
+        }
+    };
+
+    private static final ClassValue<ResourceUnmarshaller<?>> UNMARSHALLERS = new ClassValue<>() {
+        @Override
+        protected ResourceUnmarshaller<?> computeValue(final Class<?> type) {
+            return servicesFor(type.getClassLoader()).unmarshallers.get(type);
+        }
+    };
+
+    private ResourceMarshallers() {
+        super();
+    }
+
+    /**
+     * @param resourceClass the exact class of the bean
+     * @return the generated marshaller, or {@code null} if there is none or
+     * generated marshallers are disabled
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ResourceMarshaller<T> getMarshaller(final Class<T> resourceClass) {
+        if (!OSLC4JUtils.useGeneratedMarshallers()) {
+            return null;
+        }
+        return (ResourceMarshaller<T>) MARSHALLERS.get(resourceClass);
+    }
+
+    /**
+     * @param resourceClass the exact class of the bean
+     * @return the generated unmarshaller, or {@code null} if there is none or
+     * generated marshallers are disabled
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ResourceUnmarshaller<T> getUnmarshaller(final Class<T> resourceClass) {
+        if (!OSLC4JUtils.useGeneratedMarshallers()) {
+            return null;
+        }
+        return (ResourceUnmarshaller<T>) UNMARSHALLERS.get(resourceClass);
+    }
+
+    private static Services servicesFor(final ClassLoader classLoader) {
+        final ClassLoader loader = classLoader != null ? classLoader : ClassLoader.getSystemClassLoader();
+        synchronized (SERVICES) {
+            return SERVICES.computeIfAbsent(loader, Services::new);
+        }
+    }
+
+    private static final class Services {
+        private final Map<Class<?>, ResourceMarshaller<?>> marshallers;
+        private final Map<Class<?>, ResourceUnmarshaller<?>> unmarshallers;
+
+        private Services(final ClassLoader loader) {
+            final Map<Class<?>, ResourceMarshaller<?>> marshallerMap = new HashMap<>();
+            final Map<Class<?>, ResourceUnmarshaller<?>> unmarshallerMap = new HashMap<>();
+            try {
+                for (final ResourceMarshaller<?> marshaller : ServiceLoader.load(ResourceMarshaller.class, loader)) {
+                    marshallerMap.putIfAbsent(marshaller.getResourceClass(), marshaller);
+                }
+                for (final ResourceUnmarshaller<?> unmarshaller
+                        : ServiceLoader.load(ResourceUnmarshaller.class, loader)) {
+                    unmarshallerMap.putIfAbsent(unmarshaller.getResourceClass(), unmarshaller);
+                }
+            } catch (ServiceConfigurationError e) {
+                log.warn("Generated OSLC marshallers could not be loaded, falling back to reflection", e);
+                marshallerMap.clear();
+                unmarshallerMap.clear();
+            }
+            log.debug("Found {} generated OSLC marshallers and {} unmarshallers", marshallerMap.size(),
+                    unmarshallerMap.size());
+            this.marshallers = Collections.unmodifiableMap(marshallerMap);
+            this.unmarshallers = Collections.unmodifiableMap(unmarshallerMap);
+        }
+    }
+}
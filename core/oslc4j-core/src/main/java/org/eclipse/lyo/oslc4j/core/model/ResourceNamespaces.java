@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.core.model;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.eclipse.lyo.oslc4j.core.annotation.OslcNamespaceDefinition;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcSchema;
+
+/**
+ * The namespace prefix mappings that the {@link OslcSchema} annotations of the
+ * packages of a class, its superclasses and its interfaces contribute to a
+ * marshalled resource.
+ * <p>
+ * The class hierarchy is walked once per class and the result is kept in a
+ * {@link ClassValue}. The mappings of custom namespace providers are cached as
+ * well, unless {@link IOslcCustomNamespaceProvider#isDynamic()} says otherwise;
+ * dynamic providers are still instantiated on every use.
+ *
+ * @since 7.0.0
+ */
+public final class ResourceNamespaces {
+
+    private static final ClassValue<ResourceNamespaces> NAMESPACES = new ClassValue<>() {
+        @Override
+        protected ResourceNamespaces computeValue(final Class<?> type) {
+            return new ResourceNamespaces(type);
+        }
+    };
+
+    /**
+     * Contributes mappings in declaration order.
+     */
+    private interface Step {
+        void apply(BiConsumer<String, String> action);
+    }
+
+    private final List<Step> steps;
+    /**
+     * All mappings merged (later ones win), or {@code null} if a dynamic
+     * provider is involved.
+     */
+    private final Map<String, String> staticMappings;
+
+    private ResourceNamespaces(final Class<?> resourceClass) {
+        final List<Step> collectedSteps = new ArrayList<>();
+        collect(resourceClass, collectedSteps);
+        this.steps = Collections.unmodifiableList(collectedSteps);
+
+        boolean dynamic = false;
+        for (final Step step : collectedSteps) {
+            dynamic |= step instanceof DynamicProviderStep;
+        }
+        if (dynamic) {
+            this.staticMappings = null;
+        } else {
+            final Map<String, String> merged = new LinkedHashMap<>();
+            forEach(merged::put);
+            this.staticMappings = Collections.unmodifiableMap(merged);
+        }
+    }
+
+    /**
+     * Returns the (cached) namespace mappings of a class.
+     *
+     * @param resourceClass any class
+     * @return the mappings, never {@code null}
+     */
+    public static ResourceNamespaces of(final Class<?> resourceClass) {
+        return NAMESPACES.get(resourceClass);
+    }
+
+    /**
+     * Adds the mappings to a prefix to namespace map, overriding existing
+     * prefixes.
+     *
+     * @param namespaceMappings map keyed by prefix
+     */
+    public void addTo(final Map<String, String> namespaceMappings) {
+        if (staticMappings != null) {
+            namespaceMappings.putAll(staticMappings);
+        } else {
+            forEach(namespaceMappings::put);
+        }
+    }
+
+    /**
+     * Passes every prefix and namespace to the action, in the order in which
+     * the annotations are found. A prefix may be passed more than once.
+     *
+     * @param action receives a prefix and its namespace
+     */
+    public void forEach(final BiConsumer<String, String> action) {
+        for (final Step step : steps) {
+            step.apply(action);
+        }
+    }
+
+    private static void collect(final Class<?> resourceClass, final List<Step> steps) {
+        final Package resourcePackage = resourceClass.getPackage();
+        final OslcSchema oslcSchemaAnnotation = resourcePackage != null
+                ? resourcePackage.getAnnotation(OslcSchema.class)
+                : null;
+
+        if (oslcSchemaAnnotation != null) {
+            final List<String[]> mappings = new ArrayList<>();
+            for (final OslcNamespaceDefinition oslcNamespaceDefinitionAnnotation : oslcSchemaAnnotation.value()) {
+                mappings.add(new String[] {oslcNamespaceDefinitionAnnotation.prefix(),
+                        oslcNamespaceDefinitionAnnotation.namespaceURI()});
+            }
+
+            // Adding custom prefixes obtained from an implementation, if there is an implementation.
+            final Class<? extends IOslcCustomNamespaceProvider> customNamespaceProvider =
+                    oslcSchemaAnnotation.customNamespaceProvider();
+            if (!customNamespaceProvider.isInterface()) {
+                final IOslcCustomNamespaceProvider provider = newProvider(customNamespaceProvider);
+                if (provider.isDynamic()) {
+                    steps.add(new StaticStep(mappings));
+                    steps.add(new DynamicProviderStep(customNamespaceProvider));
+                } else {
+                    addAll(mappings, provider.getCustomNamespacePrefixes());
+                    steps.add(new StaticStep(mappings));
+                }
+            } else {
+                steps.add(new StaticStep(mappings));
+            }
+        }
+
+        final Class<?> superClass = resourceClass.getSuperclass();
+        if (superClass != null) {
+            collect(superClass, steps);
+        }
+
+        for (final Class<?> interfac : resourceClass.getInterfaces()) {
+            collect(interfac, steps);
+        }
+    }
+
+    private static void addAll(final List<String[]> mappings, final Map<String, String> customNamespacePrefixes) {
+        if (customNamespacePrefixes != null) {
+            for (final Map.Entry<String, String> entry : customNamespacePrefixes.entrySet()) {
+                mappings.add(new String[] {entry.getKey(), entry.getValue()});
+            }
+        }
+    }
+
+    private static IOslcCustomNamespaceProvider newProvider(
+            final Class<? extends IOslcCustomNamespaceProvider> customNamespaceProvider) {
+        try {
+            return customNamespaceProvider.getDeclaredConstructor().newInstance();
+        } catch (IllegalAccessException | NoSuchMethodException e) {
+            throw new RuntimeException("The custom namespace provider implementation: "
+                    + customNamespaceProvider.getName() + ", must have a public no args construtor", e);
+        } catch (InstantiationException | InvocationTargetException e) {
+            throw new RuntimeException("The custom namespace provider must not be a abstract,"
+                    + " nor interface class and must have a public no args constructor", e);
+        }
+    }
+
+    private static final class StaticStep implements Step {
+        private final String[][] mappings;
+
+        StaticStep(final List<String[]> mappings) {
+            this.mappings = mappings.toArray(new String[0][]);
+        }
+
+        @Override
+        public void apply(final BiConsumer<String, String> action) {
+            for (final String[] mapping : mappings) {
+                action.accept(mapping[0], mapping[1]);
+            }
+        }
+    }
+
+    private static final class DynamicProviderStep implements Step {
+        private final Class<? extends IOslcCustomNamespaceProvider> providerClass;
+
+        DynamicProviderStep(final Class<? extends IOslcCustomNamespaceProvider> providerClass) {
+            this.providerClass = providerClass;
+        }
+
+        @Override
+        public void apply(final BiConsumer<String, String> action) {
+            final Map<String, String> customNamespacePrefixes = newProvider(providerClass)
+                    .getCustomNamespacePrefixes();
+            if (customNamespacePrefixes != null) {
+                customNamespacePrefixes.forEach(action);
+            }
+        }
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.core.model;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.eclipse.lyo.oslc4j.core.annotation.OslcName;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcOccurs;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcPropertyDefinition;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcRdfCollectionType;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcValueType;
+import org.eclipse.lyo.oslc4j.core.exception.OslcCoreMissingSetMethodException;
+
+/**
+ * Immutable description of a single OSLC property of a resource class, i.e. a
+ * getter annotated (directly or through inheritance) with
+ * {@link OslcPropertyDefinition}, together with its companion setter and the
+ * mapping annotations that the marshallers need on every call.
+ * <p>
+ * Instances are created once per class by {@link ResourceClassDescriptor}.
+ * Property values are read and written through accessors created by the active
+ * {@link PropertyAccessorFactory} on first use.
+ *
+ * @see ResourceClassDescriptor
+ * @since 7.0.0
+ */
+public final class ResourcePropertyDescriptor {
+
+    private static final String METHOD_NAME_START_GET = "get";
+    private static final String METHOD_NAME_START_IS  = "is";
+    private static final String METHOD_NAME_START_SET = "set";
+
+    private static final int METHOD_NAME_START_GET_LENGTH = METHOD_NAME_START_GET.length();
+    private static final int METHOD_NAME_START_IS_LENGTH  = METHOD_NAME_START_IS.length();
+
+    private final Class<?> resourceClass;
+    private final Method getter;
+    private final Method setter;
+    private final NoSuchMethodException setterLookupFailure;
+    private final OslcPropertyDefinition propertyDefinitionAnnotation;
+    private final OslcName nameAnnotation;
+    private final OslcValueType valueTypeAnnotation;
+    private final OslcOccurs occursAnnotation;
+    private final OslcRdfCollectionType rdfCollectionTypeAnnotation;
+    private final String name;
+
+    private final Class<?> valueType;
+    private final boolean multiValued;
+    private final Class<?> reifiedType;
+    private final Method reifiedValueSetter;
+
+    private volatile Function<Object, Object> getterAccessor;
+    private volatile BiConsumer<Object, Object> setterAccessor;
+    private volatile BiConsumer<Object, Object> reifiedValueAccessor;
+
+    ResourcePropertyDescriptor(final Class<?> resourceClass,
+                               final Method getter,
+                               final OslcPropertyDefinition propertyDefinitionAnnotation) {
+        this.resourceClass = resourceClass;
+        this.getter = getter;
+        this.propertyDefinitionAnnotation = propertyDefinitionAnnotation;
+        this.nameAnnotation = InheritedMethodAnnotationHelper.getAnnotation(getter, OslcName.class);
+        this.valueTypeAnnotation = InheritedMethodAnnotationHelper.getAnnotation(getter, OslcValueType.class);
+        this.occursAnnotation = InheritedMethodAnnotationHelper.getAnnotation(getter, OslcOccurs.class);
+        this.rdfCollectionTypeAnnotation = InheritedMethodAnnotationHelper.getAnnotation(getter,
+                OslcRdfCollectionType.class);
+        this.name = nameAnnotation != null ? nameAnnotation.value() : getDefaultPropertyName(getter);
+
+        Method setMethod = null;
+        NoSuchMethodException lookupFailure = null;
+        try {
+            setMethod = resourceClass.getMethod(getSetMethodName(getter), getter.getReturnType());
+        } catch (final NoSuchMethodException exception) {
+            lookupFailure = exception;
+        }
+        this.setter = setMethod;
+        this.setterLookupFailure = lookupFailure;
+
+        // Resolve the Java type of a single value as seen by the setter
+        Class<?> componentType = setMethod != null ? setMethod.getParameterTypes()[0] : getter.getReturnType();
+        boolean multiple = componentType.isArray();
+        if (multiple) {
+            componentType = componentType.getComponentType();
+        } else if (Collection.class.isAssignableFrom(componentType)) {
+            multiple = true;
+            final Class<?> typeArgument = getSingleClassTypeArgument(setMethod != null
+                    ? setMethod.getGenericParameterTypes()[0]
+                    : getter.getGenericReturnType());
+            if (typeArgument != null) {
+                componentType = typeArgument;
+            }
+        }
+
+        Class<?> reifiedClass = null;
+        Method reifiedSetter = null;
+        if (IReifiedResource.class.isAssignableFrom(componentType)) {
+            reifiedClass = componentType;
+            final Class<?> typeArgument = getSingleClassTypeArgument(componentType.getGenericSuperclass());
+            if (typeArgument != null) {
+                componentType = typeArgument;
+            }
+
+            // Find a setter for the actual value.
+            for (final Method method : reifiedClass.getMethods()) {
+                if ("setValue".equals(method.getName())
+                        && method.getParameterCount() == 1
+                        && method.getParameterTypes()[0].isAssignableFrom(componentType)) {
+                    reifiedSetter = method;
+                    break;
+                }
+            }
+        }
+
+        this.valueType = componentType;
+        this.multiValued = multiple;
+        this.reifiedType = reifiedClass;
+        this.reifiedValueSetter = reifiedSetter;
+    }
+
+    /**
+     * @return the class this property was resolved against
+     */
+    public Class<?> getResourceClass() {
+        return resourceClass;
+    }
+
+    /**
+     * @return the annotated getter method
+     */
+    public Method getGetter() {
+        return getter;
+    }
+
+    /**
+     * @return the companion setter, or {@code null} if the class does not declare
+     * a public setter taking the getter's return type
+     * @see #getRequiredSetter()
+     */
+    public Method getSetter() {
+        return setter;
+    }
+
+    /**
+     * @return the companion setter
+     * @throws OslcCoreMissingSetMethodException if the class does not declare a
+     * public setter taking the getter's return type
+     */
+    public Method getRequiredSetter() throws OslcCoreMissingSetMethodException {
+        if (setter == null) {
+            throw new OslcCoreMissingSetMethodException(resourceClass, getter, setterLookupFailure);
+        }
+        return setter;
+    }
+
+    /**
+     * @return the property definition URI, i.e. the value of {@link OslcPropertyDefinition}
+     */
+    public String getPropertyDefinition() {
+        return propertyDefinitionAnnotation.value();
+    }
+
+    public OslcPropertyDefinition getPropertyDefinitionAnnotation() {
+        return propertyDefinitionAnnotation;
+    }
+
+    /**
+     * @return the local name of the property: the {@link OslcName} value if
+     * present, otherwise derived from the getter name
+     */
+    public String getName() {
+        return name;
+    }
+
+    public OslcName getNameAnnotation() {
+        return nameAnnotation;
+    }
+
+    public OslcValueType getValueTypeAnnotation() {
+        return valueTypeAnnotation;
+    }
+
+    public OslcOccurs getOccursAnnotation() {
+        return occursAnnotation;
+    }
+
+    public OslcRdfCollectionType getRdfCollectionTypeAnnotation() {
+        return rdfCollectionTypeAnnotation;
+    }
+
+    /**
+     * @return {@code true} if the property is annotated as an
+     * {@link ValueType#XMLLiteral}
+     */
+    public boolean isXmlLiteral() {
+        return valueTypeAnnotation != null && ValueType.XMLLiteral.equals(valueTypeAnnotation.value());
+    }
+
+    /**
+     * @return the Java type of a single value: the setter parameter type, its
+     * array component type or its collection type argument, unwrapped from
+     * {@link IReifiedResource} if applicable
+     */
+    public Class<?> getValueType() {
+        return valueType;
+    }
+
+    /**
+     * @return {@code true} if the setter takes an array or a collection
+     */
+    public boolean isMultiValued() {
+        return multiValued;
+    }
+
+    /**
+     * @return the {@link IReifiedResource} implementation wrapping each value, or
+     * {@code null} if the property is not reified
+     */
+    public Class<?> getReifiedType() {
+        return reifiedType;
+    }
+
+    /**
+     * Reads the property value from a bean.
+     *
+     * @param bean instance of the resource class
+     * @return the getter result
+     * @throws IllegalAccessException if the reflective strategy is not allowed to call the getter
+     * @throws InvocationTargetException if the getter throws
+     */
+    public Object getValue(final Object bean) throws IllegalAccessException, InvocationTargetException {
+        Function<Object, Object> accessor = getterAccessor;
+        if (accessor == null) {
+            accessor = PropertyAccessors.getFactory().createGetter(getter);
+            getterAccessor = accessor;
+        }
+
+        try {
+            return accessor.apply(bean);
+        } catch (PropertyAccessors.ReflectiveAccessException e) {
+            throw unwrap(e);
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Writes the property value to a bean.
+     *
+     * @param bean  instance of the resource class
+     * @param value the setter argument
+     * @throws OslcCoreMissingSetMethodException if the property has no setter
+     * @throws IllegalAccessException if the reflective strategy is not allowed to call the setter
+     * @throws InvocationTargetException if the setter throws
+     */
+    public void setValue(final Object bean, final Object value)
+            throws OslcCoreMissingSetMethodException, IllegalAccessException, InvocationTargetException {
+        BiConsumer<Object, Object> accessor = setterAccessor;
+        if (accessor == null) {
+            accessor = PropertyAccessors.getFactory().createSetter(getRequiredSetter());
+            setterAccessor = accessor;
+        }
+
+        invoke(accessor, bean, value);
+    }
+
+    /**
+     * Sets the actual value of a reified resource created for this property.
+     *
+     * @param reifiedResource instance of {@link #getReifiedType()}
+     * @param value           the value to wrap
+     * @return {@code false} if the reified type has no compatible {@code setValue} method
+     * @throws IllegalAccessException if the reflective strategy is not allowed to call the setter
+     * @throws InvocationTargetException if the setter throws
+     */
+    public boolean setReifiedValue(final Object reifiedResource, final Object value)
+            throws IllegalAccessException, InvocationTargetException {
+        if (reifiedValueSetter == null) {
+            return false;
+        }
+
+        BiConsumer<Object, Object> accessor = reifiedValueAccessor;
+        if (accessor == null) {
+            accessor = PropertyAccessors.getFactory().createSetter(reifiedValueSetter);
+            reifiedValueAccessor = accessor;
+        }
+
+        invoke(accessor, reifiedResource, value);
+        return true;
+    }
+
+    private static void invoke(final BiConsumer<Object, Object> accessor, final Object bean, final Object value)
+            throws IllegalAccessException, InvocationTargetException {
+        try {
+            accessor.accept(bean, value);
+        } catch (PropertyAccessors.ReflectiveAccessException e) {
+            throw unwrap(e);
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    private static InvocationTargetException unwrap(final PropertyAccessors.ReflectiveAccessException e)
+            throws IllegalAccessException {
+        final ReflectiveOperationException cause = e.getCause();
+        if (cause instanceof IllegalAccessException) {
+            throw (IllegalAccessException) cause;
+        }
+        return (InvocationTargetException) cause;
+    }
+
+    private static Class<?> getSingleClassTypeArgument(final Type type) {
+        if (type instanceof ParameterizedType) {
+            final Type[] actualTypeArguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (actualTypeArguments.length == 1 && actualTypeArguments[0] instanceof Class) {
+                return (Class<?>) actualTypeArguments[0];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Looks up an annotation that is not cached by this descriptor, following the
+     * same inheritance rules as {@link InheritedMethodAnnotationHelper}.
+     */
+    public <T extends Annotation> T getAnnotation(final Class<T> annotationClass) {
+        return InheritedMethodAnnotationHelper.getAnnotation(getter, annotationClass);
+    }
+
+    static boolean isGetterName(final String methodName) {
+        return ((methodName.startsWith(METHOD_NAME_START_GET)) &&
+                (methodName.length() > METHOD_NAME_START_GET_LENGTH)) ||
+               ((methodName.startsWith(METHOD_NAME_START_IS)) &&
+                (methodName.length() > METHOD_NAME_START_IS_LENGTH));
+    }
+
+    private static String getSetMethodName(final Method getter) {
+        final String getMethodName = getter.getName();
+        if (getMethodName.startsWith(METHOD_NAME_START_GET)) {
+            return METHOD_NAME_START_SET + getMethodName.substring(METHOD_NAME_START_GET_LENGTH);
+        }
+        return METHOD_NAME_START_SET + getMethodName.substring(METHOD_NAME_START_IS_LENGTH);
+    }
+
+    private static String getDefaultPropertyName(final Method method) {
+        final String methodName    = method.getName();
+        final int    startingIndex = methodName.startsWith(METHOD_NAME_START_GET)
+                ? METHOD_NAME_START_GET_LENGTH
+                : METHOD_NAME_START_IS_LENGTH;
+        final int    endingIndex   = startingIndex + 1;
+
+        // We want the name to start with a lower-case letter
+        final String lowercasedFirstCharacter = methodName.substring(startingIndex,
+                endingIndex).toLowerCase(Locale.ENGLISH);
+
+        if (methodName.length() == endingIndex) {
+            return lowercasedFirstCharacter;
+        }
+
+        return lowercasedFirstCharacter + methodName.substring(endingIndex);
+    }
+
+    @Override
+    public String toString() {
+        return resourceClass.getName() + "#" + getter.getName() + " <" + getPropertyDefinition() + ">";
+    }
+}
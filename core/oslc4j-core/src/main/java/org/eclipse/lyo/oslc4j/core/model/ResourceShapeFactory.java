@@ -41,7 +41,6 @@ import org.eclipse.lyo.oslc4j.core.annotation.OslcMaxSize;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcMemberProperty;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcName;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcOccurs;
-import org.eclipse.lyo.oslc4j.core.annotation.OslcPropertyDefinition;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcRange;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcReadOnly;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcRepresentation;
@@ -152,52 +151,36 @@ public class ResourceShapeFactory {
 
 		final Set<String> propertyDefinitions = new HashSet<>();
 
-		for (final Method method : resourceClass.getMethods()) {
-			if (method.getParameterTypes().length == 0) {
-				final String methodName = method.getName();
-				final int methodNameLength = methodName.length();
-				if (((methodName.startsWith(METHOD_NAME_START_GET)) && (methodNameLength > METHOD_NAME_START_GET_LENGTH)) ||
-					((methodName.startsWith(METHOD_NAME_START_IS)) && (methodNameLength > METHOD_NAME_START_IS_LENGTH))) {
-					final OslcPropertyDefinition propertyDefinitionAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method, OslcPropertyDefinition.class);
-					if (propertyDefinitionAnnotation != null) {
-						final String propertyDefinition = propertyDefinitionAnnotation.value();
-						if (propertyDefinitions.contains(propertyDefinition)) {
-							throw new OslcCoreDuplicatePropertyDefinitionException(resourceClass, propertyDefinitionAnnotation);
-						}
-
-						propertyDefinitions.add(propertyDefinition);
-
-						final Property property = createProperty(baseURI, resourceClass, method, propertyDefinitionAnnotation, verifiedClasses);
-						resourceShape.addProperty(property);
-
-						validateSetMethodExists(resourceClass, method);
-					}
-				}
+		for (final ResourcePropertyDescriptor propertyDescriptor : ResourceClassDescriptor.of(resourceClass).getProperties()) {
+			final String propertyDefinition = propertyDescriptor.getPropertyDefinition();
+			if (propertyDefinitions.contains(propertyDefinition)) {
+				throw new OslcCoreDuplicatePropertyDefinitionException(resourceClass, propertyDescriptor.getPropertyDefinitionAnnotation());
 			}
+
+			propertyDefinitions.add(propertyDefinition);
+
+			final Property property = createProperty(baseURI, resourceClass, propertyDescriptor, verifiedClasses);
+			resourceShape.addProperty(property);
+
+			validateSetMethodExists(resourceClass, propertyDescriptor.getGetter());
 		}
 
 		return resourceShape;
 	}
 
 	@SuppressWarnings("rawtypes") // supress warning when casting Arrays.asList() to a Collection
-	private static Property createProperty(final String baseURI, final Class<?> resourceClass, final Method method, final OslcPropertyDefinition propertyDefinitionAnnotation, final Set<Class<?>> verifiedClasses) throws OslcCoreApplicationException, URISyntaxException {
-		final String name;
-		final OslcName nameAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method, OslcName.class);
-		if (nameAnnotation != null) {
-			name = nameAnnotation.value();
-		} else {
-			name = getDefaultPropertyName(method);
-		}
-
-		final String propertyDefinition = propertyDefinitionAnnotation.value();
+	private static Property createProperty(final String baseURI, final Class<?> resourceClass, final ResourcePropertyDescriptor propertyDescriptor, final Set<Class<?>> verifiedClasses) throws OslcCoreApplicationException, URISyntaxException {
+		final Method method = propertyDescriptor.getGetter();
+		final String name = propertyDescriptor.getName();
+		final String propertyDefinition = propertyDescriptor.getPropertyDefinition();
 
 		if (!propertyDefinition.endsWith(name)) {
-			throw new OslcCoreInvalidPropertyDefinitionException(resourceClass, method, propertyDefinitionAnnotation);
+			throw new OslcCoreInvalidPropertyDefinitionException(resourceClass, method, propertyDescriptor.getPropertyDefinitionAnnotation());
 		}
 
 		final Class<?> returnType = method.getReturnType();
 		final Occurs occurs;
-		final OslcOccurs occursAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method, OslcOccurs.class);
+		final OslcOccurs occursAnnotation = propertyDescriptor.getOccursAnnotation();
 		if (occursAnnotation != null) {
 			occurs = occursAnnotation.value();
 			validateUserSpecifiedOccurs(resourceClass, method, occursAnnotation);
@@ -230,7 +213,7 @@ public class ResourceShapeFactory {
 		}
 
 		final ValueType valueType;
-		final OslcValueType valueTypeAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method, OslcValueType.class);
+		final OslcValueType valueTypeAnnotation = propertyDescriptor.getValueTypeAnnotation();
 		if (valueTypeAnnotation != null) {
 			valueType = valueTypeAnnotation.value();
 		} else {
@@ -240,17 +223,17 @@ public class ResourceShapeFactory {
 		final Property property = new Property(name, occurs, new URI(propertyDefinition), valueType);
 
 		property.setTitle(property.getName());
-		final OslcTitle titleAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method, OslcTitle.class);
+		final OslcTitle titleAnnotation = propertyDescriptor.getAnnotation(OslcTitle.class);
 		if (titleAnnotation != null) {
 			property.setTitle(titleAnnotation.value());
 		}
 
-		final OslcDescription descriptionAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method, OslcDescription.class);
+		final OslcDescription descriptionAnnotation = propertyDescriptor.getAnnotation(OslcDescription.class);
 		if (descriptionAnnotation != null) {
 			property.setDescription(descriptionAnnotation.value());
 		}
 
-		final OslcRange rangeAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method, OslcRange.class);
+		final OslcRange rangeAnnotation = propertyDescriptor.getAnnotation(OslcRange.class);
 		if (rangeAnnotation != null) {
 			for (final String range : rangeAnnotation.value()) {
 				property.addRange(new URI(range));
@@ -258,7 +241,7 @@ public class ResourceShapeFactory {
 		}
 
         final Representation representation;
-		final OslcRepresentation representationAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method, OslcRepresentation.class);
+		final OslcRepresentation representationAnnotation = propertyDescriptor.getAnnotation(OslcRepresentation.class);
 		if (representationAnnotation != null) {
 			representation = representationAnnotation.value();
 			property.setRepresentation(new URI(representation.toString()));
@@ -269,43 +252,43 @@ public class ResourceShapeFactory {
 			}
 		}
 
-		final OslcAllowedValue allowedValueAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method, OslcAllowedValue.class);
+		final OslcAllowedValue allowedValueAnnotation = propertyDescriptor.getAnnotation(OslcAllowedValue.class);
 
 		if (allowedValueAnnotation != null) {
 			property.setAllowedValuesCollection((Collection) Arrays.asList(allowedValueAnnotation.value()));
 		}
 
-		final OslcAllowedValues allowedValuesAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method, OslcAllowedValues.class);
+		final OslcAllowedValues allowedValuesAnnotation = propertyDescriptor.getAnnotation(OslcAllowedValues.class);
 		if (allowedValuesAnnotation != null) {
 			property.setAllowedValuesRef(new URI(allowedValuesAnnotation.value()));
 		}
 
-		final OslcDefaultValue defaultValueAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method, OslcDefaultValue.class);
+		final OslcDefaultValue defaultValueAnnotation = propertyDescriptor.getAnnotation(OslcDefaultValue.class);
 		if (defaultValueAnnotation != null) {
 			property.setDefaultValue(defaultValueAnnotation.value());
 		}
 
-		final OslcHidden hiddenAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method, OslcHidden.class);
+		final OslcHidden hiddenAnnotation = propertyDescriptor.getAnnotation(OslcHidden.class);
 		if (hiddenAnnotation != null) {
 			property.setHidden(hiddenAnnotation.value());
 		}
 
-		final OslcMemberProperty memberPropertyAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method, OslcMemberProperty.class);
+		final OslcMemberProperty memberPropertyAnnotation = propertyDescriptor.getAnnotation(OslcMemberProperty.class);
 		if (memberPropertyAnnotation != null) {
 			property.setMemberProperty(memberPropertyAnnotation.value());
 		}
 
-		final OslcReadOnly readOnlyAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method, OslcReadOnly.class);
+		final OslcReadOnly readOnlyAnnotation = propertyDescriptor.getAnnotation(OslcReadOnly.class);
 		if (readOnlyAnnotation != null) {
 			property.setReadOnly(readOnlyAnnotation.value());
 		}
 
-		final OslcMaxSize maxSizeAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method, OslcMaxSize.class);
+		final OslcMaxSize maxSizeAnnotation = propertyDescriptor.getAnnotation(OslcMaxSize.class);
 		if (maxSizeAnnotation != null) {
 			property.setMaxSize(maxSizeAnnotation.value());
 		}
 
-		final OslcValueShape valueShapeAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method, OslcValueShape.class);
+		final OslcValueShape valueShapeAnnotation = propertyDescriptor.getAnnotation(OslcValueShape.class);
 		if (valueShapeAnnotation != null) {
 			property.setValueShape(new URI(baseURI + "/" + valueShapeAnnotation.value()));
 		}
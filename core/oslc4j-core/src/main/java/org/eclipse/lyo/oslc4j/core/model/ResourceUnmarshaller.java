@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.core.model;
+
+/**
+ * Creates resource beans and writes their OSLC properties without reflection.
+ * <p>
+ * Implementations are generated at build time by the OSLC4J annotation
+ * processor for every concrete {@code @OslcResourceShape} class with a public
+ * no-argument constructor, and registered as {@link java.util.ServiceLoader}
+ * services. Value conversion stays with the caller: the unmarshaller only
+ * receives values that already have the Java type of the setter parameter.
+ *
+ * @param <T> the resource class
+ * @see ResourceMarshaller
+ * @since 7.0.0
+ */
+public interface ResourceUnmarshaller<T> {
+
+    /**
+     * @return the exact class handled by this unmarshaller; subclasses are not covered
+     */
+    Class<T> getResourceClass();
+
+    /**
+     * @return a new instance created with the no-argument constructor
+     */
+    T newInstance();
+
+    /**
+     * Calls the setter of an OSLC property.
+     *
+     * @param resource           the bean to update
+     * @param propertyDefinition the {@code @OslcPropertyDefinition} of the property
+     * @param value              the setter argument; arrays and collections must
+     *                           already have the setter parameter type
+     * @return {@code false} if the class has no settable property with this definition
+     * @throws ClassCastException if the value does not match the setter parameter type
+     */
+    boolean setValue(T resource, String propertyDefinition, Object value);
+}
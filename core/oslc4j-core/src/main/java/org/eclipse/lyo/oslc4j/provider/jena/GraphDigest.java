@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.system.StreamRDFBase;
+import org.eclipse.lyo.oslc4j.provider.jena.TermHasher.Hash;
+
+/**
+ * Computes a hash of the triples sent to it that does not depend on their order,
+ * on duplicates or on blank node labels, so that the same resource state always
+ * yields the same hash.
+ * <p>
+ * Each triple is hashed on its own and the hashes are added up. A blank node is
+ * hashed by the triples it is the subject of, refined over a few rounds so that
+ * nested blank nodes are told apart by their content too.
+ * <p>
+ * Used by the {@code OslcEntityTagFilter} of oslc4j-jena-provider. Not
+ * thread-safe; create one digest per graph.
+ *
+ * @since 7.0.0
+ */
+public class GraphDigest extends StreamRDFBase {
+
+    // Nested OSLC resources are rarely deeper than this
+    private static final int MAX_ROUNDS = 8;
+
+    private final Set<Triple> triples = new HashSet<>();
+    private final TermHasher hasher = new TermHasher();
+
+    @Override
+    public void triple(final Triple triple) {
+        triples.add(triple);
+    }
+
+    /**
+     * @return the 128-bit hash of the triples received so far
+     */
+    public byte[] digest() {
+        Map<Node, Hash> blankNodes = new HashMap<>();
+        for (final Triple triple : triples) {
+            if (triple.getSubject().isBlank()) {
+                blankNodes.put(triple.getSubject(), Hash.ZERO);
+            }
+        }
+
+        final int rounds = Math.min(blankNodes.size(), MAX_ROUNDS);
+        for (int round = 0; round < rounds; round++) {
+            final Map<Node, Hash> refined = new HashMap<>();
+            for (final Triple triple : triples) {
+                if (triple.getSubject().isBlank()) {
+                    refined.merge(triple.getSubject(),
+                            hasher.hash(term(triple.getPredicate(), blankNodes), term(triple.getObject(), blankNodes)),
+                            Hash::add);
+                }
+            }
+            if (refined.equals(blankNodes)) {
+                break;
+            }
+            blankNodes = refined;
+        }
+
+        Hash sum = Hash.ZERO;
+        for (final Triple triple : triples) {
+            sum = sum.add(hasher.hash(term(triple.getSubject(), blankNodes), term(triple.getPredicate(), blankNodes),
+                    term(triple.getObject(), blankNodes)));
+        }
+        return ByteBuffer.allocate(16).putLong(sum.high()).putLong(sum.low()).array();
+    }
+
+    private static String term(final Node node, final Map<Node, Hash> blankNodes) {
+        if (node.isBlank()) {
+            final Hash hash = blankNodes.getOrDefault(node, Hash.ZERO);
+            return "_:" + Long.toHexString(hash.high()) + ':' + Long.toHexString(hash.low());
+        }
+        return TermHasher.term(node);
+    }
+}
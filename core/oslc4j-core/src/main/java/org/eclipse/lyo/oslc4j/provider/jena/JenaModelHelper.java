@@ -34,6 +34,9 @@ import org.apache.jena.rdf.model.Seq;
 import org.apache.jena.rdf.model.SimpleSelector;
 import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.jena.graph.BlankNodeId;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.riot.system.StreamRDF;
 import org.apache.jena.datatypes.DatatypeFormatException;
 import org.apache.jena.datatypes.xsd.XSDDatatype;
 import org.apache.jena.datatypes.xsd.XSDDateTime;
@@ -41,7 +44,6 @@ import org.apache.jena.datatypes.xsd.impl.XMLLiteralType;
 import org.apache.jena.datatypes.xsd.impl.XSDDateType;
 import org.apache.jena.vocabulary.RDF;
 import org.apache.jena.vocabulary.RDFS;
-import org.apache.jena.util.ResourceUtils;
 
 import org.eclipse.lyo.oslc4j.core.*;
 import org.eclipse.lyo.oslc4j.core.annotation.*;
@@ -54,7 +56,6 @@ import org.w3c.dom.Element;
 
 import javax.xml.XMLConstants;
 import javax.xml.datatype.DatatypeConfigurationException;
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.namespace.QName;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
@@ -71,6 +72,9 @@ import java.net.URISyntaxException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 @SuppressWarnings({"unused", "WeakerAccess"})
@@ -86,13 +90,6 @@ public final class JenaModelHelper
     private static final String RDF_BAG	 = "Bag";
     private static final String RDF_SEQ	 = "Seq";
 
-    private static final String METHOD_NAME_START_GET = "get";
-    private static final String METHOD_NAME_START_IS  = "is";
-    private static final String METHOD_NAME_START_SET = "set";
-
-    private static final int METHOD_NAME_START_GET_LENGTH = METHOD_NAME_START_GET.length();
-    private static final int METHOD_NAME_START_IS_LENGTH  = METHOD_NAME_START_IS.length();
-
     private static final String GENERATED_PREFIX_START = "j.";
 
     /**
@@ -133,6 +130,279 @@ public final class JenaModelHelper
 
         final Model model = ModelFactory.createDefaultModel();
 
+        final Resource descriptionResource = buildDescriptionResource(model,
+                descriptionAbout,
+                responseInfoAbout,
+                responseInfo,
+                objects.length,
+                properties);
+
+        // add global namespace mappings
+        final Map<String, String> namespaceMappings = new HashMap<>(OslcGlobalNamespaceProvider
+                .getInstance()
+                .getPrefixDefinitionMap());
+
+        if (useParallelMarshalling(objects.length))
+        {
+            handleResourcesInParallel(descriptionResource,
+                    objects,
+                    model,
+                    namespaceMappings,
+                    properties);
+        }
+        else
+        {
+            for (final Object object : objects)
+            {
+                handleSingleResource(descriptionResource,
+                        object,
+                        model,
+                        namespaceMappings,
+                        properties);
+            }
+        }
+
+        if (descriptionAbout != null)
+        {
+            ensureDescriptionNamespacePrefixes(responseInfoAbout,
+                    namespaceMappings);
+        }
+
+        // Set the namespace prefixes
+        for (final Map.Entry<String, String> namespaceMapping : namespaceMappings.entrySet())
+        {
+            model.setNsPrefix(namespaceMapping.getKey(),
+                    namespaceMapping.getValue());
+        }
+
+        Instant finish = Instant.now();
+        logger.trace("createJenaModel - Execution Duration: {} ms", Duration.between(start, finish).toMillis());
+        return model;
+    }
+
+    private static boolean useParallelMarshalling(final int objectCount)
+    {
+        return OSLC4JUtils.useParallelMarshalling()
+                && objectCount >= Math.max(2, OSLC4JUtils.getParallelMarshallingThreshold())
+                && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * Marshals contiguous slices of the objects on the common fork-join pool.
+     * <p>
+     * Every slice is built into its own model and collects its own namespace
+     * mappings. Both are merged in slice order, so later mappings win exactly as
+     * they do when marshalling serially. The visited resources are tracked per
+     * top-level resource anyway, so slices share no mutable state.
+     */
+    private static void handleResourcesInParallel(final Resource			 descriptionResource,
+                                                  final Object[]			 objects,
+                                                  final Model				 model,
+                                                  final Map<String, String> namespaceMappings,
+                                                  final Map<String, Object> properties)
+            throws DatatypeConfigurationException,
+            IllegalAccessException,
+            IllegalArgumentException,
+            InvocationTargetException,
+            OslcCoreApplicationException
+    {
+        final int slices = Math.min(ForkJoinPool.getCommonPoolParallelism(), objects.length);
+        final List<CompletableFuture<Model>> futures = new ArrayList<>(slices);
+        final List<Map<String, String>> sliceNamespaceMappings = new ArrayList<>(slices);
+
+        for (int slice = 0; slice < slices; slice++)
+        {
+            final int from = (int) ((long) objects.length * slice / slices);
+            final int to = (int) ((long) objects.length * (slice + 1) / slices);
+            final Map<String, String> sliceMappings = new HashMap<>();
+            sliceNamespaceMappings.add(sliceMappings);
+
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                final Model sliceModel = ModelFactory.createDefaultModel();
+                final Resource sliceDescriptionResource = descriptionResource != null
+                        ? sliceModel.createResource(descriptionResource.getURI())
+                        : null;
+                try
+                {
+                    for (int i = from; i < to; i++)
+                    {
+                        handleSingleResource(sliceDescriptionResource,
+                                objects[i],
+                                sliceModel,
+                                sliceMappings,
+                                properties);
+                    }
+                }
+                catch (final DatatypeConfigurationException | IllegalAccessException
+                        | InvocationTargetException | OslcCoreApplicationException e)
+                {
+                    throw new CompletionException(e);
+                }
+                return sliceModel;
+            }));
+        }
+
+        for (int slice = 0; slice < slices; slice++)
+        {
+            final Model sliceModel;
+            try
+            {
+                sliceModel = futures.get(slice).join();
+            }
+            catch (final CompletionException e)
+            {
+                throw rethrowMarshallingException(e.getCause());
+            }
+            model.add(sliceModel);
+            namespaceMappings.putAll(sliceNamespaceMappings.get(slice));
+        }
+    }
+
+    private static RuntimeException rethrowMarshallingException(final Throwable cause)
+            throws DatatypeConfigurationException,
+            IllegalAccessException,
+            InvocationTargetException,
+            OslcCoreApplicationException
+    {
+        if (cause instanceof DatatypeConfigurationException)
+        {
+            throw (DatatypeConfigurationException) cause;
+        }
+        if (cause instanceof IllegalAccessException)
+        {
+            throw (IllegalAccessException) cause;
+        }
+        if (cause instanceof InvocationTargetException)
+        {
+            throw (InvocationTargetException) cause;
+        }
+        if (cause instanceof OslcCoreApplicationException)
+        {
+            throw (OslcCoreApplicationException) cause;
+        }
+        if (cause instanceof RuntimeException)
+        {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof java.lang.Error)
+        {
+            throw (java.lang.Error) cause;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    /**
+     * Marshals resources into a stream of triples instead of a {@link Model}.
+     * <p>
+     * Every resource is built in a scratch model that is sent to the stream and
+     * discarded before the next one is handled, so the memory used does not grow
+     * with the number of resources. Triples of a scratch model are sent grouped by
+     * subject. Prefixes are sent before the first triple that may need them.
+     *
+     * @param objects resources to marshal
+     * @param stream  destination; {@link StreamRDF#start()} and
+     *                {@link StreamRDF#finish()} are called by this method
+     */
+    public static void createJenaStream(final Object[] objects, final StreamRDF stream)
+            throws DatatypeConfigurationException,
+            IllegalAccessException,
+            IllegalArgumentException,
+            InvocationTargetException,
+            OslcCoreApplicationException
+    {
+        createJenaStream(null,
+                null,
+                null,
+                objects,
+                null,
+                stream);
+    }
+
+    static void createJenaStream(final String descriptionAbout, final String responseInfoAbout,
+            final ResponseInfo<?> responseInfo, final Object[] objects, final Map<String, Object> properties,
+            final StreamRDF stream)
+            throws DatatypeConfigurationException, IllegalAccessException, IllegalArgumentException,
+            InvocationTargetException, OslcCoreApplicationException {
+
+        Instant start = Instant.now();
+
+        final Map<String, String> namespaceMappings = new HashMap<>(OslcGlobalNamespaceProvider
+                .getInstance()
+                .getPrefixDefinitionMap());
+        if (descriptionAbout != null)
+        {
+            ensureDescriptionNamespacePrefixes(responseInfoAbout,
+                    namespaceMappings);
+        }
+        final Map<String, String> sentNamespaceMappings = new HashMap<>();
+
+        stream.start();
+
+        if (descriptionAbout != null)
+        {
+            final Model model = ModelFactory.createDefaultModel();
+            buildDescriptionResource(model,
+                    descriptionAbout,
+                    responseInfoAbout,
+                    responseInfo,
+                    objects.length,
+                    properties);
+            sendToStream(model, namespaceMappings, sentNamespaceMappings, stream);
+        }
+
+        for (final Object object : objects)
+        {
+            final Model model = ModelFactory.createDefaultModel();
+            final Resource descriptionResource = descriptionAbout != null
+                    ? model.createResource(descriptionAbout)
+                    : null;
+
+            handleSingleResource(descriptionResource,
+                    object,
+                    model,
+                    namespaceMappings,
+                    properties);
+            sendToStream(model, namespaceMappings, sentNamespaceMappings, stream);
+        }
+
+        stream.finish();
+
+        Instant finish = Instant.now();
+        logger.trace("createJenaStream - Execution Duration: {} ms", Duration.between(start, finish).toMillis());
+    }
+
+    private static void sendToStream(final Model model,
+                                     final Map<String, String> namespaceMappings,
+                                     final Map<String, String> sentNamespaceMappings,
+                                     final StreamRDF stream)
+    {
+        for (final Map.Entry<String, String> namespaceMapping : namespaceMappings.entrySet())
+        {
+            if (!namespaceMapping.getValue().equals(sentNamespaceMappings.put(namespaceMapping.getKey(),
+                    namespaceMapping.getValue())))
+            {
+                stream.prefix(namespaceMapping.getKey(),
+                        namespaceMapping.getValue());
+            }
+        }
+
+        final Graph graph = model.getGraph();
+        final ResIterator subjects = model.listSubjects();
+        while (subjects.hasNext())
+        {
+            graph.find(subjects.next().asNode(), Node.ANY, Node.ANY).forEachRemaining(stream::triple);
+        }
+    }
+
+    private static Resource buildDescriptionResource(final Model model,
+                                                     final String descriptionAbout,
+                                                     final String responseInfoAbout,
+                                                     final ResponseInfo<?> responseInfo,
+                                                     final int objectCount,
+                                                     final Map<String, Object> properties)
+            throws DatatypeConfigurationException, IllegalAccessException, IllegalArgumentException,
+            InvocationTargetException, OslcCoreApplicationException
+    {
         Resource descriptionResource = null;
 
         if (descriptionAbout != null)
@@ -165,7 +435,7 @@ public final class JenaModelHelper
                 if (responseInfo != null)
                 {
                     final int totalCount = responseInfo.totalCount() == null
-                            ? objects.length
+                            ? objectCount
                             : responseInfo.totalCount();
                     responseInfoResource.addProperty(
                             model.createProperty(OslcConstants.OSLC_CORE_NAMESPACE, PROPERTY_TOTAL_COUNT),
@@ -192,51 +462,29 @@ public final class JenaModelHelper
             }
         }
 
-        // add global namespace mappings
-        final Map<String, String> namespaceMappings = new HashMap<>(OslcGlobalNamespaceProvider
-                .getInstance()
-                .getPrefixDefinitionMap());
-
-        for (final Object object : objects)
-        {
-            handleSingleResource(descriptionResource,
-                    object,
-                    model,
-                    namespaceMappings,
-                    properties);
-        }
-
-        if (descriptionAbout != null)
-        {
-            // Ensure we have an rdf prefix
-            ensureNamespacePrefix(OslcConstants.RDF_NAMESPACE_PREFIX,
-                    OslcConstants.RDF_NAMESPACE,
-                    namespaceMappings);
+        return descriptionResource;
+    }
 
-            // Ensure we have an rdfs prefix
-            ensureNamespacePrefix(OslcConstants.RDFS_NAMESPACE_PREFIX,
-                    OslcConstants.RDFS_NAMESPACE,
-                    namespaceMappings);
+    private static void ensureDescriptionNamespacePrefixes(final String responseInfoAbout,
+                                                           final Map<String, String> namespaceMappings)
+    {
+        // Ensure we have an rdf prefix
+        ensureNamespacePrefix(OslcConstants.RDF_NAMESPACE_PREFIX,
+                OslcConstants.RDF_NAMESPACE,
+                namespaceMappings);
 
-            if (responseInfoAbout != null)
-            {
-                // Ensure we have an oslc prefix
-                ensureNamespacePrefix(OslcConstants.OSLC_CORE_NAMESPACE_PREFIX,
-                        OslcConstants.OSLC_CORE_NAMESPACE,
-                        namespaceMappings);
-            }
-        }
+        // Ensure we have an rdfs prefix
+        ensureNamespacePrefix(OslcConstants.RDFS_NAMESPACE_PREFIX,
+                OslcConstants.RDFS_NAMESPACE,
+                namespaceMappings);
 
-        // Set the namespace prefixes
-        for (final Map.Entry<String, String> namespaceMapping : namespaceMappings.entrySet())
+        if (responseInfoAbout != null)
         {
-            model.setNsPrefix(namespaceMapping.getKey(),
-                    namespaceMapping.getValue());
+            // Ensure we have an oslc prefix
+            ensureNamespacePrefix(OslcConstants.OSLC_CORE_NAMESPACE_PREFIX,
+                    OslcConstants.OSLC_CORE_NAMESPACE,
+                    namespaceMappings);
         }
-
-        Instant finish = Instant.now();
-        logger.trace("createJenaModel - Execution Duration: {} ms", Duration.between(start, finish).toMillis());
-        return model;
     }
 
     private static void handleSingleResource(final Resource			descriptionResource,
@@ -253,8 +501,7 @@ public final class JenaModelHelper
         final Class<?> objectClass = object.getClass();
 
         // Collect the namespace prefix -> namespace mappings
-        recursivelyCollectNamespaceMappings(namespaceMappings,
-                objectClass);
+        ResourceNamespaces.of(objectClass).addTo(namespaceMappings);
 
         final Resource mainResource;
 
@@ -337,10 +584,41 @@ public final class JenaModelHelper
      * @throws LyoModelException if the model cannot be unmarshalled into instances of the
      *                               provided class
      */
-    @SuppressWarnings({"unchecked", "deprecation"})
     public static <T> T unmarshal(final Resource resource, Class<T> clazz) throws LyoModelException {
+        return unmarshal(resource, clazz, null);
+    }
+
+    /**
+     * Unmarshals only the selected properties of a resource. Statements about
+     * other properties are skipped without converting their values or calling
+     * setters.
+     * <p>
+     * The selection uses the nested property map produced for output by
+     * {@code QueryUtils.invertSelectedProperties} from an {@code oslc.select} or
+     * {@code oslc.properties} clause (see
+     * {@link OSLC4JConstants#OSLC4J_SELECTED_PROPERTIES}): keys are property
+     * URIs, values the selection for the nested resource, and
+     * {@link OSLC4JConstants#OSL4J_PROPERTY_SINGLETON} selects no nested
+     * properties. {@link SingletonWildcardProperties} and
+     * {@link NestedWildcardProperties} maps select all properties. The
+     * {@code rdf:type} and subject URI of a resource are always set.
+     *
+     * @param resource Jena resource to be unmarshalled
+     * @param clazz Lyo resource class/interface instance to assist reflection
+     * @param selectedProperties the properties to unmarshal; {@code null} for all
+     * @param <T>   Same resource class/interface to make the method generic
+     *
+     * @return an unmarshalled resource class instance
+     *
+     * @throws LyoModelException if the model cannot be unmarshalled into instances of the
+     *                               provided class
+     * @since 7.0.0
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T unmarshal(final Resource resource, Class<T> clazz,
+                                  final Map<String, Object> selectedProperties) throws LyoModelException {
         try {
-            return (T)JenaModelHelper.fromJenaResource(resource, clazz);
+            return (T) fromJenaResource(resource, clazz, selectedProperties);
         } catch (DatatypeConfigurationException | IllegalAccessException |
                 InvocationTargetException | InstantiationException | OslcCoreApplicationException
                 | NoSuchMethodException | URISyntaxException e) {
@@ -358,21 +636,29 @@ public final class JenaModelHelper
             IllegalArgumentException,
             InstantiationException, InvocationTargetException, OslcCoreApplicationException,
             URISyntaxException, SecurityException, NoSuchMethodException {
+        return fromJenaResource(resource, beanClass, null);
+    }
+
+    private static Object fromJenaResource(final Resource resource, Class<?> beanClass,
+                                           final Map<String, Object> selectedProperties)
+            throws DatatypeConfigurationException, IllegalAccessException,
+            IllegalArgumentException,
+            InstantiationException, InvocationTargetException, OslcCoreApplicationException,
+            URISyntaxException, SecurityException, NoSuchMethodException {
         ResourcePackages.mapPackage(beanClass.getPackage());
         Optional<Class<?>> mostConcreteResourceClass = ResourcePackages.getClassOf(resource, beanClass);
         if (mostConcreteResourceClass.isPresent()) {
             beanClass = mostConcreteResourceClass.get();
         }
-        final Object   newInstance = beanClass.newInstance();
-        final Map<Class<?>, Map<String, Method>> classPropertyDefinitionsToSetMethods = new HashMap<>();
-        final Map<String,Object> visitedResources = new HashMap<>();
+        final Object   newInstance = newInstance(beanClass);
+        final Map<Node,Object> visitedResources = new HashMap<>();
         final HashSet<String> rdfTypes = new HashSet<>();
-        fromResource(classPropertyDefinitionsToSetMethods,
-                beanClass,
+        fromResource(beanClass,
                 newInstance,
                 resource,
                 visitedResources,
-                rdfTypes);
+                rdfTypes,
+                selectedProperties);
 
         return newInstance;
     }
@@ -390,10 +676,30 @@ public final class JenaModelHelper
      * @throws LyoModelException if the model cannot be unmarshalled into instances of the
      *                               provided class
      */
-    @SuppressWarnings({"unchecked", "deprecation"})
     public static <T> T[] unmarshal(final Model model, Class<T> clazz) throws LyoModelException {
+        return unmarshal(model, clazz, null);
+    }
+
+    /**
+     * Unmarshals only the selected properties of the resources in a model. See
+     * {@link #unmarshal(Resource, Class, Map)} for the format of the selection.
+     *
+     * @param model Jena model with RDF resources to be unmarshalled
+     * @param clazz Lyo resource class instance to assist reflection
+     * @param selectedProperties the properties to unmarshal; {@code null} for all
+     * @param <T>   Same resource class to make the method generic
+     *
+     * @return an array of unmarshalled resource class instances
+     *
+     * @throws LyoModelException if the model cannot be unmarshalled into instances of the
+     *                               provided class
+     * @since 7.0.0
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T[] unmarshal(final Model model, Class<T> clazz,
+                                    final Map<String, Object> selectedProperties) throws LyoModelException {
         try {
-            final Object[] objects = JenaModelHelper.fromJenaModel(model, clazz);
+            final Object[] objects = fromJenaModel(model, clazz, selectedProperties);
             return (T[]) objects;
         } catch (DatatypeConfigurationException | IllegalAccessException |
                 InvocationTargetException | InstantiationException | OslcCoreApplicationException
@@ -411,6 +717,15 @@ public final class JenaModelHelper
             IllegalArgumentException,
             InstantiationException, InvocationTargetException, OslcCoreApplicationException,
             URISyntaxException, SecurityException, NoSuchMethodException {
+        return fromJenaModel(model, beanClass, null);
+    }
+
+    private static Object[] fromJenaModel(final Model model, final Class<?> beanClass,
+                                          final Map<String, Object> selectedProperties)
+            throws DatatypeConfigurationException, IllegalAccessException,
+            IllegalArgumentException,
+            InstantiationException, InvocationTargetException, OslcCoreApplicationException,
+            URISyntaxException, SecurityException, NoSuchMethodException {
 
         Instant start = Instant.now();
 
@@ -429,7 +744,7 @@ public final class JenaModelHelper
                         model.getResource(qualifiedName));
                 List<Resource> resourceList = listSubjects.toList();
 
-                createObjectResultList(beanClass, results, resourceList);
+                createObjectResultList(beanClass, results, resourceList, selectedProperties);
             } else {
                 // get the list of subjects that have rdf:type element
                 listSubjects = model.listSubjectsWithProperty(RDF.type);
@@ -452,7 +767,7 @@ public final class JenaModelHelper
                     }
                 }
 
-                createObjectResultList(beanClass, results, resourceList);
+                createObjectResultList(beanClass, results, resourceList, selectedProperties);
             }
 
         } else if (URI.class.equals(beanClass)) {
@@ -499,6 +814,59 @@ public final class JenaModelHelper
         throw new IllegalArgumentException("Link cannot be followed in this model");
     }
 
+    /**
+     * Creates a read-only view of a resource that implements a resource interface
+     * (for example {@code IChangeRequest}). Unlike {@link #unmarshal(Resource, Class)},
+     * nothing is decoded up front: the statements of a property are converted the first
+     * time its getter is called and the value is then kept. {@code getAbout()} is
+     * available on every view through {@link IResource}; setters and other methods throw
+     * {@link UnsupportedOperationException}.
+     * A getter whose statements cannot be converted throws {@link LyoModelException}
+     * naming the property.
+     * <p>
+     * Views read the Jena {@link Resource} they were created for, so the model must not
+     * be closed or changed while they are in use. Like Jena models, views are not
+     * thread-safe.
+     *
+     * @param resource      Jena resource to be viewed
+     * @param viewInterface interface with {@link OslcPropertyDefinition} getters
+     * @param <T>           Same interface to make the method generic
+     *
+     * @return a view of the resource
+     *
+     * @throws IllegalArgumentException if {@code viewInterface} is not an interface
+     * @since 7.0.0
+     */
+    public static <T> T unmarshalView(final Resource resource, final Class<T> viewInterface)
+    {
+        return ResourceView.create(resource, viewInterface);
+    }
+
+    /**
+     * Creates read-only views (see {@link #unmarshalView(Resource, Class)}) of all
+     * resources in a model whose {@code rdf:type} is the type described by the
+     * interface.
+     *
+     * @param model         Jena model with RDF resources to be viewed
+     * @param viewInterface interface annotated with {@link OslcNamespace} and {@link OslcName}
+     * @param <T>           Same interface to make the method generic
+     *
+     * @return the views, in the order in which the model lists the resources
+     *
+     * @since 7.0.0
+     */
+    public static <T> List<T> unmarshalViews(final Model model, final Class<T> viewInterface)
+    {
+        final Resource type = model.getResource(TypeFactory.getQualifiedName(viewInterface));
+        final List<T> views = new ArrayList<>();
+        final ResIterator subjects = model.listSubjectsWithProperty(RDF.type, type);
+        while (subjects.hasNext())
+        {
+            views.add(ResourceView.create(subjects.next(), viewInterface));
+        }
+        return views;
+    }
+
     /**
      * Skolemize all blank node by replacing them with equivalent resources with an ephemeral
      * URI of
@@ -517,31 +885,54 @@ public final class JenaModelHelper
      * <p>
      * See <a href="https://www.w3.org/TR/rdf11-concepts/#section-skolemization">RDF 1.1 //
      * Replacing Blank Nodes with IRIs</a> for further guidance.
+     * <p>
+     * The blank nodes are replaced on the underlying graph in a single pass, both as subjects
+     * and as objects. The function is called once per blank node.
      *
      * @param m                 Jena model to skolemize
      * @param skolemUriFunction Lambda function that returns ("mints") a resource URI for a BNode.
      */
     public static void skolemize(final Model m, Function<BlankNodeId, String> skolemUriFunction) {
-        final ResIterator resIterator = m.listSubjects();
-        while (resIterator.hasNext()) {
-            final Resource resource = resIterator.nextResource();
-            if (resource != null && resource.isAnon()) {
-                final String skolemURI = skolemUriFunction.apply(resource.getId().getBlankNodeId
-                        ());
-                ResourceUtils.renameResource(resource, skolemURI);
-            }
-        }
+        Skolemizer.skolemize(m.getGraph(), node -> skolemUriFunction.apply(node.getBlankNodeId()));
+    }
+
+    /**
+     * Skolemize all blank nodes by replacing them with URIs of form 'urn:skolem:%hash%', where
+     * the hash is computed from the triples around each blank node.
+     *
+     * @param m Jena model to skolemize
+     * @see #skolemizeByContent(Model, String)
+     */
+    public static void skolemizeByContent(final Model m) {
+        skolemizeByContent(m, "urn:skolem:");
+    }
+
+    /**
+     * Skolemize all blank nodes by replacing them with URIs made of the given prefix and a hash
+     * of the triples around each blank node (its properties, the resources referring to it and,
+     * recursively, the same for the blank nodes among them).
+     * <p>
+     * Unlike {@link #skolemize(Model, Function)}, the URIs do not depend on the blank node
+     * labels, so the same graph parsed twice is skolemized to the same triples. Blank nodes that
+     * cannot be told apart by their content and position get a numbered suffix.
+     *
+     * @param m         Jena model to skolemize
+     * @param uriPrefix prefix of the minted URIs, e.g.
+     *                  'https://example.com/.well-known/genid/'
+     */
+    public static void skolemizeByContent(final Model m, final String uriPrefix) {
+        Skolemizer.skolemizeByContent(m.getGraph(), uriPrefix);
     }
 
     private static List<Object> createObjectResultList(Class<?> beanClass,
-                                                       List<Object> results, List<Resource> listSubjects)
+                                                       List<Object> results, List<Resource> listSubjects,
+                                                       final Map<String, Object> selectedProperties)
             throws IllegalAccessException, InstantiationException,
             DatatypeConfigurationException, InvocationTargetException,
             OslcCoreApplicationException, URISyntaxException,
             NoSuchMethodException {
         if (null != listSubjects) {
             ResourcePackages.mapPackage(beanClass.getPackage());
-            final Map<Class<?>, Map<String, Method>> classPropertyDefinitionsToSetMethods = new HashMap<>();
             Class<?> originalBeanClass = beanClass;
             for (final Resource resource : listSubjects) {
                 beanClass = originalBeanClass;
@@ -553,16 +944,16 @@ public final class JenaModelHelper
                         continue;
                     }
                 }
-                final Object   newInstance = beanClass.newInstance();
-                final Map<String,Object> visitedResources = new HashMap<>();
+                final Object   newInstance = newInstance(beanClass);
+                final Map<Node,Object> visitedResources = new HashMap<>();
                 final HashSet<String> rdfTypes = new HashSet<>();
 
-                fromResource(classPropertyDefinitionsToSetMethods,
-                        beanClass,
+                fromResource(beanClass,
                         newInstance,
                         resource,
                         visitedResources,
-                        rdfTypes);
+                        rdfTypes,
+                        selectedProperties);
 
                 results.add(newInstance);
             }
@@ -572,12 +963,12 @@ public final class JenaModelHelper
     }
 
     @SuppressWarnings("unchecked")
-    private static void fromResource(final Map<Class<?>, Map<String, Method>> classPropertyDefinitionsToSetMethods,
-                                     final Class<?>							  beanClass,
+    private static void fromResource(final Class<?>							  beanClass,
                                      final Object							  bean,
                                      final Resource							  resource,
-                                     Map<String,Object>				  visitedResources,
-                                     HashSet<String>					  rdfTypes)
+                                     Map<Node,Object>				  visitedResources,
+                                     HashSet<String>					  rdfTypes,
+                                     final Map<String, Object>				  properties)
             throws DatatypeConfigurationException,
             IllegalAccessException,
             IllegalArgumentException,
@@ -588,16 +979,12 @@ public final class JenaModelHelper
             SecurityException,
             NoSuchMethodException
     {
-        Map<String, Method> setMethodMap = classPropertyDefinitionsToSetMethods.get(beanClass);
-        if (setMethodMap == null)
-        {
-            setMethodMap = createPropertyDefinitionToSetMethods(beanClass);
-
-            classPropertyDefinitionsToSetMethods.put(beanClass,
-                    setMethodMap);
-        }
+        final ResourceClassDescriptor classDescriptor = ResourceClassDescriptor.of(beanClass);
+        classDescriptor.verifySetters();
+        final ResourceUnmarshaller<Object> unmarshaller = (ResourceUnmarshaller<Object>) ResourceMarshallers
+                .getUnmarshaller(beanClass);
 
-        visitedResources.put(getVisitedResourceName(resource),bean);
+        visitedResources.put(resource.asNode(),bean);
 
         if (bean instanceof IResource)
         {
@@ -622,12 +1009,17 @@ public final class JenaModelHelper
             }
         }
 
+        if (properties == OSLC4JConstants.OSL4J_PROPERTY_SINGLETON)
+        {
+            return;
+        }
+
         // Collect values for array properties. We do this since values for
         // arrays are not required to be contiguous.
         final Map<String, List<Object>> propertyDefinitionsToArrayValues = new HashMap<>();
 
         // Ensure a single-value property is not set more than once
-        final Set<Method> singleValueMethodsUsed = new HashSet<>();
+        final Set<ResourcePropertyDescriptor> singleValuePropertiesUsed = new HashSet<>();
 
         final StmtIterator listProperties = resource.listProperties();
 
@@ -636,8 +1028,7 @@ public final class JenaModelHelper
         if (bean instanceof IExtendedResource)
         {
             extendedResource = (IExtendedResource) bean;
-            extendedProperties = new HashMap<>();
-            extendedResource.setExtendedProperties(extendedProperties);
+            extendedProperties = newExtendedProperties(extendedResource);
         }
         else
         {
@@ -655,15 +1046,46 @@ public final class JenaModelHelper
             final Property	predicate = statement.getPredicate();
             final RDFNode	object	  = statement.getObject();
             final String uri	   = predicate.getURI();
-            final Method setMethod = setMethodMap.get(uri);
 
-            if (setMethod == null)
+            // Skip statements that are not selected, as buildProperty() does on output.
+            Map<String, Object> nestedProperties = null;
+            if (properties != null && !RDF_TYPE_URI.equals(uri))
+            {
+                @SuppressWarnings("unchecked")
+                final Map<String, Object> map = (Map<String, Object>) properties.get(uri);
+
+                if (map != null)
+                {
+                    nestedProperties = map;
+                }
+                else if (properties instanceof SingletonWildcardProperties &&
+                        ! (properties instanceof NestedWildcardProperties))
+                {
+                    nestedProperties = OSLC4JConstants.OSL4J_PROPERTY_SINGLETON;
+                }
+                else if (properties instanceof NestedWildcardProperties)
+                {
+                    nestedProperties = ((NestedWildcardProperties) properties).commonNestedProperties();
+                    if (! (properties instanceof SingletonWildcardProperties) && object.isLiteral())
+                    {
+                        continue;
+                    }
+                }
+                else
+                {
+                    continue;
+                }
+            }
+
+            final ResourcePropertyDescriptor propertyDescriptor = classDescriptor.getProperty(uri);
+
+            if (propertyDescriptor == null)
             {
                 if (RDF_TYPE_URI.equals(uri))
                 {
                     if (extendedResource != null)
                     {
-                        final URI type = new URI(object.asResource().getURI());
+                        final URI type = toURI(object.asResource().getURI());
                         extendedResource.addType(type);
                     }
                     // Otherwise ignore missing propertyDefinition for rdf:type.
@@ -683,10 +1105,10 @@ public final class JenaModelHelper
                         {
                             prefix = generatePrefix(resource.getModel(), predicate.getNameSpace());
                         }
-                        final QName key = new QName(predicate.getNameSpace(),
+                        final QName key = ExtendedProperties.qName(predicate.getNameSpace(),
                                 predicate.getLocalName(), prefix);
                         final Object value = handleExtendedPropertyValue(beanClass, object,
-                                visitedResources, key, rdfTypes);
+                                visitedResources, key, rdfTypes, nestedProperties);
                         final Object previous = extendedProperties.get(key);
 
                         if (previous == null)
@@ -714,352 +1136,459 @@ public final class JenaModelHelper
             else
             {
 
-                Class<?> setMethodComponentParameterClass = setMethod.getParameterTypes()[0];
+                final boolean multiple = propertyDescriptor.isMultiValued();
 
-                boolean multiple = setMethodComponentParameterClass.isArray();
+                final List<RDFNode> objects = listObjects(object,
+                        multiple,
+                        visitedResources);
 
-                if (multiple)
-                {
-                    setMethodComponentParameterClass = setMethodComponentParameterClass.getComponentType();
-                }
-                else if (Collection.class.isAssignableFrom(setMethodComponentParameterClass))
+                for (RDFNode o : objects)
                 {
-                    multiple = true;
-
-                    final Type genericParameterType = setMethod.getGenericParameterTypes()[0];
+                    final Object parameter = toParameter(beanClass,
+                            propertyDescriptor,
+                            statement,
+                            o,
+                            visitedResources,
+                            rdfTypes,
+                            nestedProperties);
 
-                    if (genericParameterType instanceof ParameterizedType)
+                    if (parameter != null)
                     {
-                        final ParameterizedType parameterizedType = (ParameterizedType) genericParameterType;
-                        final Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
-                        if (actualTypeArguments.length == 1)
+                        if (multiple)
+                        {
+                            List<Object> values = propertyDefinitionsToArrayValues.computeIfAbsent(uri, k -> new ArrayList<>());
+
+                            values.add(parameter);
+                        }
+                        else
                         {
-                            final Type actualTypeArgument = actualTypeArguments[0];
-                            if (actualTypeArgument instanceof Class)
+                            if (!singleValuePropertiesUsed.add(propertyDescriptor))
                             {
-                                setMethodComponentParameterClass = (Class<?>) actualTypeArgument;
+                                throw new OslcCoreMisusedOccursException(beanClass,
+                                        propertyDescriptor.getRequiredSetter());
                             }
+
+                            setValue(unmarshaller,
+                                    propertyDescriptor,
+                                    bean,
+                                    parameter);
                         }
                     }
                 }
+            }
+        }
 
-                final List<RDFNode> objects;
-                if (multiple && object.isResource() && (
-                        (object.asResource().hasProperty(RDF.first) && object.asResource()
-                                .hasProperty(RDF.rest))
-                                || (RDF.nil.equals(object)) || object.canAs(RDFList.class))) {
-                    objects = new ArrayList<>();
-                    Resource listNode = object.asResource();
-                    while (listNode != null && !RDF.nil.getURI().equals(listNode.getURI())) {
-                        visitedResources.put(getVisitedResourceName(listNode), new Object());
+        // Now, handle array and collection values since all are collected.
+        for (final Map.Entry<String, List<Object>> propertyDefinitionToArrayValues
+                : propertyDefinitionsToArrayValues.entrySet())
+        {
+            final String	   uri			  = propertyDefinitionToArrayValues.getKey();
+            final List<Object> values		  = propertyDefinitionToArrayValues.getValue();
+            final ResourcePropertyDescriptor propertyDescriptor = classDescriptor.getProperty(uri);
+            final Class<?>	   parameterClass = propertyDescriptor.getRequiredSetter().getParameterTypes()[0];
+
+            setValue(unmarshaller,
+                    propertyDescriptor,
+                    bean,
+                    toMultiValuedParameter(parameterClass, values));
+        }
+    }
 
-                        RDFNode o = listNode.getPropertyResourceValue(RDF.first);
-                        objects.add(o);
+    /**
+     * Sets an empty map of extended properties on a resource, reusing the one
+     * of a newly created resource.
+     */
+    private static Map<QName, Object> newExtendedProperties(final IExtendedResource extendedResource)
+    {
+        final Map<QName, Object> current = extendedResource.getExtendedProperties();
+        if (current instanceof ExtendedProperties && current.isEmpty())
+        {
+            return current;
+        }
 
-                        listNode = listNode.getPropertyResourceValue(RDF.rest);
-                    }
+        final Map<QName, Object> extendedProperties = new ExtendedProperties();
+        extendedResource.setExtendedProperties(extendedProperties);
+        return extendedProperties;
+    }
 
-                    visitedResources.put(getVisitedResourceName(object.asResource()), objects);
-                } else {
-                    final Class<? extends Container> collectionResourceClass =
-                            getRdfCollectionResourceClass(
-                                    object.getModel(),
-                                    object);
-                    if (multiple && collectionResourceClass != null) {
-                        objects = new ArrayList<>();
-                        Container container = object.as(collectionResourceClass);
-                        NodeIterator iterator = container.iterator();
-                        while (iterator.hasNext()) {
-                            RDFNode o = iterator.next();
-
-                            if (o.isResource()) {
-                                visitedResources.put(getVisitedResourceName(o.asResource()),
-                                        new Object());
-                            }
+    private static List<RDFNode> listObjects(final RDFNode object,
+                                             final boolean multiple,
+                                             final Map<Node,Object> visitedResources)
+    {
+        final List<RDFNode> objects;
+        if (multiple && object.isResource() && (
+                (object.asResource().hasProperty(RDF.first) && object.asResource()
+                        .hasProperty(RDF.rest))
+                        || (RDF.nil.equals(object)) || object.canAs(RDFList.class))) {
+            objects = new ArrayList<>();
+            Resource listNode = object.asResource();
+            while (listNode != null && !RDF.nil.getURI().equals(listNode.getURI())) {
+                visitedResources.put(listNode.asNode(), new Object());
 
-                            objects.add(o);
-                        }
+                RDFNode o = listNode.getPropertyResourceValue(RDF.first);
+                objects.add(o);
 
-                        visitedResources.put(getVisitedResourceName(object.asResource()), objects);
-                    } else {
-                        objects = Collections.singletonList(object);
+                listNode = listNode.getPropertyResourceValue(RDF.rest);
+            }
+
+            visitedResources.put(object.asResource().asNode(), objects);
+        } else {
+            final Class<? extends Container> collectionResourceClass =
+                    getRdfCollectionResourceClass(
+                            object.getModel(),
+                            object);
+            if (multiple && collectionResourceClass != null) {
+                objects = new ArrayList<>();
+                Container container = object.as(collectionResourceClass);
+                NodeIterator iterator = container.iterator();
+                while (iterator.hasNext()) {
+                    RDFNode o = iterator.next();
+
+                    if (o.isResource()) {
+                        visitedResources.put(o.asResource().asNode(),
+                                new Object());
                     }
+
+                    objects.add(o);
                 }
 
-                Class<?> reifiedClass = null;
-                if (IReifiedResource.class.isAssignableFrom(setMethodComponentParameterClass))
-                {
-                    reifiedClass = setMethodComponentParameterClass;
-                    final Type genericType = setMethodComponentParameterClass.getGenericSuperclass();
+                visitedResources.put(object.asResource().asNode(), objects);
+            } else {
+                objects = Collections.singletonList(object);
+            }
+        }
 
-                    if (genericType instanceof ParameterizedType)
+        return objects;
+    }
+
+    /**
+     * Decodes the value of a single property of a resource, as it would be passed to
+     * the setter of the property. Used by {@link ResourceView}.
+     *
+     * @param resource           the resource
+     * @param resourceClass      the class or interface declaring the property
+     * @param propertyDescriptor the property
+     * @return the value; an empty array or collection if a multi-valued property has no
+     * statements; {@code null} if a single-valued property has none
+     * @throws OslcCoreMisusedOccursException if a single-valued property has several values
+     */
+    static Object unmarshalProperty(final Resource					resource,
+                                    final Class<?>					resourceClass,
+                                    final ResourcePropertyDescriptor	propertyDescriptor)
+            throws DatatypeConfigurationException, IllegalAccessException, InvocationTargetException,
+            InstantiationException, OslcCoreApplicationException, NoSuchMethodException, URISyntaxException
+    {
+        final Map<Node,Object> visitedResources = new HashMap<>();
+        final HashSet<String> rdfTypes = getTypesFromResource(resource, new HashSet<>());
+        final boolean multiple = propertyDescriptor.isMultiValued();
+        final List<Object> values = new ArrayList<>();
+
+        final StmtIterator statements = resource.listProperties(
+                resource.getModel().createProperty(propertyDescriptor.getPropertyDefinition()));
+        while (statements.hasNext())
+        {
+            final Statement statement = statements.next();
+            for (final RDFNode o : listObjects(statement.getObject(), multiple, visitedResources))
+            {
+                final Object parameter = toParameter(resourceClass,
+                        propertyDescriptor,
+                        statement,
+                        o,
+                        visitedResources,
+                        rdfTypes,
+                        null);
+
+                if (parameter != null)
+                {
+                    if (!multiple && !values.isEmpty())
                     {
-                        final ParameterizedType parameterizedType = (ParameterizedType) genericType;
-                        final Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
-                        if (actualTypeArguments.length == 1)
-                        {
-                            final Type actualTypeArgument = actualTypeArguments[0];
-                            if (actualTypeArgument instanceof Class)
-                            {
-                                setMethodComponentParameterClass = (Class<?>) actualTypeArgument;
-                            }
-                        }
+                        throw new OslcCoreMisusedOccursException(resourceClass,
+                                propertyDescriptor.getGetter());
                     }
+                    values.add(parameter);
                 }
+            }
+        }
 
-                for (RDFNode o : objects)
+        if (multiple)
+        {
+            return toMultiValuedParameter(propertyDescriptor.getGetter().getReturnType(), values);
+        }
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    private static Object toParameter(final Class<?>					beanClass,
+                                      final ResourcePropertyDescriptor	propertyDescriptor,
+                                      final Statement					statement,
+                                      final RDFNode						o,
+                                      final Map<Node,Object>			visitedResources,
+                                      final HashSet<String>				rdfTypes,
+                                      final Map<String, Object>			nestedProperties)
+            throws DatatypeConfigurationException,
+            IllegalAccessException,
+            IllegalArgumentException,
+            InstantiationException,
+            InvocationTargetException,
+            OslcCoreApplicationException,
+            URISyntaxException,
+            SecurityException,
+            NoSuchMethodException
+    {
+        final Class<?> setMethodComponentParameterClass = propertyDescriptor.getValueType();
+        final Class<?> reifiedClass = propertyDescriptor.getReifiedType();
+
+        Object parameter = null;
+        if (o.isLiteral())
+        {
+            final Literal literal	 = o.asLiteral();
+            final String stringValue = literal.getString();
+
+            if (String.class == setMethodComponentParameterClass)
+            {
+                parameter = stringValue;
+            }
+            else if ((Boolean.class == setMethodComponentParameterClass) ||
+                    (Boolean.TYPE == setMethodComponentParameterClass))
+            {
+                // XML supports both 'true' and '1' for a true Boolean.
+                // Cannot use Boolean.parseBoolean since it supports case-insensitive TRUE.
+                if ((Boolean.TRUE.toString().equals(stringValue)) ||
+                        ("1".equals(stringValue)))
                 {
-                    Object parameter = null;
-                    if (o.isLiteral())
-                    {
-                        final Literal literal	 = o.asLiteral();
-                        final String stringValue = literal.getString();
+                    parameter = Boolean.TRUE;
+                }
+                // XML supports both 'false' and '0' for a false Boolean.
+                else if ((Boolean.FALSE.toString().equals(stringValue)) ||
+                        ("0".equals(stringValue)))
+                {
+                    parameter = Boolean.FALSE;
+                }
+                else
+                {
+                    throw new IllegalArgumentException("'" + stringValue +
+                            "' has wrong format for Boolean.");
+                }
+            }
+            else if ((Byte.class == setMethodComponentParameterClass) ||
+                    (Byte.TYPE == setMethodComponentParameterClass))
+            {
+                parameter = Byte.valueOf(stringValue);
+            }
+            else if ((Short.class == setMethodComponentParameterClass) ||
+                    (Short.TYPE == setMethodComponentParameterClass))
+            {
+                parameter = Short.valueOf(stringValue);
+            }
+            else if ((Integer.class == setMethodComponentParameterClass) ||
+                    (Integer.TYPE == setMethodComponentParameterClass))
+            {
+                parameter = Integer.valueOf(stringValue);
+            }
+            else if ((Long.class == setMethodComponentParameterClass) ||
+                    (Long.TYPE == setMethodComponentParameterClass))
+            {
+                parameter = Long.valueOf(stringValue);
+            }
+            else if (BigInteger.class == setMethodComponentParameterClass)
+            {
+                parameter = LiteralConverter.parseInteger(stringValue);
+            }
+            else if ((Float.class == setMethodComponentParameterClass) ||
+                    (Float.TYPE == setMethodComponentParameterClass))
+            {
+                parameter = LiteralConverter.parseFloat(stringValue);
+            }
+            else if ((Double.class == setMethodComponentParameterClass) ||
+                    (Double.TYPE == setMethodComponentParameterClass))
+            {
+                parameter = LiteralConverter.parseDouble(stringValue);
+            }
+            else if (Date.class == setMethodComponentParameterClass)
+            {
+                parameter = LiteralConverter.parseDate(stringValue);
+            }
+        }
+        else if (o.isResource())
+        {
+            final Resource nestedResource = o.asResource();
+
+            if (URI.class == setMethodComponentParameterClass)
+            {
+                final String nestedResourceURIString = nestedResource.getURI();
+
+                if (nestedResourceURIString != null)
+                {
+                    final URI nestedResourceURI = toURI(nestedResourceURIString);
 
-                        if (String.class == setMethodComponentParameterClass)
-                        {
-                            parameter = stringValue;
-                        }
-                        else if ((Boolean.class == setMethodComponentParameterClass) ||
-                                (Boolean.TYPE == setMethodComponentParameterClass))
-                        {
-                            // XML supports both 'true' and '1' for a true Boolean.
-                            // Cannot use Boolean.parseBoolean since it supports case-insensitive TRUE.
-                            if ((Boolean.TRUE.toString().equals(stringValue)) ||
-                                    ("1".equals(stringValue)))
-                            {
-                                parameter = Boolean.TRUE;
-                            }
-                            // XML supports both 'false' and '0' for a false Boolean.
-                            else if ((Boolean.FALSE.toString().equals(stringValue)) ||
-                                    ("0".equals(stringValue)))
-                            {
-                                parameter = Boolean.FALSE;
-                            }
-                            else
-                            {
-                                throw new IllegalArgumentException("'" + stringValue +
-                                        "' has wrong format for Boolean.");
-                            }
-                        }
-                        else if ((Byte.class == setMethodComponentParameterClass) ||
-                                (Byte.TYPE == setMethodComponentParameterClass))
-                        {
-                            parameter = Byte.valueOf(stringValue);
-                        }
-                        else if ((Short.class == setMethodComponentParameterClass) ||
-                                (Short.TYPE == setMethodComponentParameterClass))
-                        {
-                            parameter = Short.valueOf(stringValue);
-                        }
-                        else if ((Integer.class == setMethodComponentParameterClass) ||
-                                (Integer.TYPE == setMethodComponentParameterClass))
-                        {
-                            parameter = Integer.valueOf(stringValue);
-                        }
-                        else if ((Long.class == setMethodComponentParameterClass) ||
-                                (Long.TYPE == setMethodComponentParameterClass))
-                        {
-                            parameter = Long.valueOf(stringValue);
-                        }
-                        else if (BigInteger.class == setMethodComponentParameterClass)
-                        {
-                            parameter = new BigInteger(stringValue);
-                        }
-                        else if ((Float.class == setMethodComponentParameterClass) ||
-                                (Float.TYPE == setMethodComponentParameterClass))
-                        {
-                            parameter = XSDDatatype.XSDfloat.parseValidated(stringValue);
-                        }
-                        else if ((Double.class == setMethodComponentParameterClass) ||
-                                (Double.TYPE == setMethodComponentParameterClass))
-                        {
-                            parameter = XSDDatatype.XSDdouble.parseValidated(stringValue);
-                        }
-                        else if (Date.class == setMethodComponentParameterClass)
-                        {
-                            parameter = DatatypeFactory.newInstance()
-                                    .newXMLGregorianCalendar(stringValue)
-                                    .toGregorianCalendar()
-                                    .getTime();
-                        }
-                    }
-                    else if (o.isResource())
+                    if (OSLC4JUtils.relativeURIsAreDisabled() && !nestedResourceURI.isAbsolute())
                     {
-                        final Resource nestedResource = o.asResource();
-
-                        if (URI.class == setMethodComponentParameterClass)
-                        {
-                            final String nestedResourceURIString = nestedResource.getURI();
+                        throw new OslcCoreRelativeURIException(beanClass,
+                                propertyDescriptor.getRequiredSetter().getName(),
+                                nestedResourceURI);
+                    }
 
-                            if (nestedResourceURIString != null)
-                            {
-                                final URI nestedResourceURI = new URI(nestedResourceURIString);
+                    parameter = nestedResourceURI;
+                }
+            }
+            else
+            {
+                Optional<Class<?>> optionalResourceClass = ResourcePackages.getClassOf(
+                        nestedResource, setMethodComponentParameterClass);
+                Class<?> resourceClass = optionalResourceClass.isPresent()
+                        ? optionalResourceClass.get()
+                        : setMethodComponentParameterClass;
+                final Object nestedBean = newInstance(resourceClass);
+                fromResource(nestedBean.getClass(),
+                        nestedBean,
+                        nestedResource,
+                        visitedResources,
+                        rdfTypes,
+                        nestedProperties);
 
-                                if (OSLC4JUtils.relativeURIsAreDisabled() && !nestedResourceURI.isAbsolute())
-                                {
-                                    throw new OslcCoreRelativeURIException(beanClass,
-                                            setMethod.getName(),
-                                            nestedResourceURI);
-                                }
+                parameter = nestedBean;
+            }
+        }
 
-                                parameter = nestedResourceURI;
-                            }
-                        }
-                        else
-                        {
-                            Optional<Class<?>> optionalResourceClass = ResourcePackages.getClassOf(
-                                    nestedResource, setMethodComponentParameterClass);
-                            Class<?> resourceClass = optionalResourceClass.isPresent()
-                                    ? optionalResourceClass.get()
-                                    : setMethodComponentParameterClass;
-                            final Object nestedBean = resourceClass.newInstance();
-                            fromResource(classPropertyDefinitionsToSetMethods,
-                                    nestedBean.getClass(),
-                                    nestedBean,
-                                    nestedResource,
-                                    visitedResources,
-                                    rdfTypes);
-
-                            parameter = nestedBean;
-                        }
-                    }
+        if (parameter != null && reifiedClass != null)
+        {
+            // This property supports reified statements. Create the
+            // new resource to hold the value and any metadata.
+            final Object reifiedResource = reifiedClass.newInstance();
 
-                    if (parameter != null)
-                    {
-                        if (reifiedClass != null)
-                        {
-                            // This property supports reified statements. Create the
-                            // new resource to hold the value and any metadata.
-                            final Object reifiedResource = reifiedClass.newInstance();
+            // Set the actual value.
+            propertyDescriptor.setReifiedValue(reifiedResource, parameter);
 
-                            // Find a setter for the actual value.
-                            for (Method method : reifiedClass.getMethods())
-                            {
-                                if (!"setValue".equals(method.getName()))
-                                {
-                                    continue;
-                                }
-                                final Class<?>[] parameterTypes = method.getParameterTypes();
-                                if (parameterTypes.length == 1
-                                        && parameterTypes[0].isAssignableFrom(setMethodComponentParameterClass))
-                                {
-                                    method.invoke(reifiedResource, parameter);
-                                    break;
-                                }
-                            }
+            // Fill in any reified statements.
+            RSIterator rsIter = statement.listReifiedStatements();
+            while (rsIter.hasNext())
+            {
+                ReifiedStatement reifiedStatement = rsIter.next();
+                fromResource(reifiedClass,
+                        reifiedResource,
+                        reifiedStatement,
+                        visitedResources,
+                        rdfTypes,
+                        null);
+            }
 
-                            // Fill in any reified statements.
-                            RSIterator rsIter = statement.listReifiedStatements();
-                            while (rsIter.hasNext())
-                            {
-                                ReifiedStatement reifiedStatement = rsIter.next();
-                                fromResource(classPropertyDefinitionsToSetMethods,
-                                        reifiedClass,
-                                        reifiedResource,
-                                        reifiedStatement,
-                                        visitedResources,
-                                        rdfTypes);
-                            }
+            parameter = reifiedResource;
+        }
 
-                            parameter = reifiedResource;
-                        }
+        return parameter;
+    }
 
-                        if (multiple)
-                        {
-                            List<Object> values = propertyDefinitionsToArrayValues.computeIfAbsent(uri, k -> new ArrayList<>());
+    private static URI toURI(final String uri) throws URISyntaxException
+    {
+        return OSLC4JUtils.useUriInterning() ? UriInterner.uri(uri) : new URI(uri);
+    }
 
-                            values.add(parameter);
-                        }
-                        else
-                        {
-                            if (singleValueMethodsUsed.contains(setMethod))
-                            {
-                                throw new OslcCoreMisusedOccursException(beanClass,
-                                        setMethod);
-                            }
+    @SuppressWarnings("unchecked")
+    private static Object toMultiValuedParameter(final Class<?>	   parameterClass,
+                                                 final List<Object> values)
+            throws InstantiationException,
+            IllegalAccessException
+    {
+        if (parameterClass.isArray())
+        {
+            final Class<?> setMethodComponentParameterClass = parameterClass.getComponentType();
 
+            // To support primitive arrays, we have to use Array reflection to
+            // set individual elements. We cannot use Collection.toArray.
+            // Array.set will unwrap objects to their corresponding primitives.
+            final Object array = Array.newInstance(setMethodComponentParameterClass,
+                    values.size());
 
-                            setMethod.invoke(bean,
-                                    parameter);
+            int index = 0;
+            for (final Object value : values)
+            {
+                Array.set(array,
+                        index++,
+                        value);
+            }
 
-                            singleValueMethodsUsed.add(setMethod);
-                        }
-                    }
-                }
+            return array;
+        }
+        // Else - we are dealing with a collection or a subclass of collection
+        else
+        {
+            final Collection<Object> collection;
+
+            // Handle the Collection, List, Deque, Queue interfaces.
+            // Handle the AbstractCollection, AbstractList, AbstractSequentialList classes
+            if ((Collection.class			  == parameterClass) ||
+                    (List.class					  == parameterClass) ||
+                    (Deque.class				  == parameterClass) ||
+                    (Queue.class				  == parameterClass) ||
+                    (AbstractCollection.class	  == parameterClass) ||
+                    (AbstractList.class			  == parameterClass) ||
+                    (AbstractSequentialList.class == parameterClass))
+            {
+                collection = new LinkedList<>();
+            }
+            // Handle the Set interface
+            // Handle the AbstractSet class
+            else if ((Set.class			 == parameterClass) ||
+                    (AbstractSet.class	 == parameterClass))
+            {
+                collection = new HashSet<>();
+            }
+            // Handle the SortedSet and NavigableSet interfaces
+            else if ((SortedSet.class	 == parameterClass) ||
+                    (NavigableSet.class == parameterClass)) {
+                collection = new TreeSet<>();
+            }
+            // Not handled above.  Let's try newInstance with possible failure.
+            else
+            {
+                collection = ((Collection<Object>) parameterClass.newInstance());
             }
+
+            collection.addAll(values);
+
+            return collection;
         }
+    }
 
-        // Now, handle array and collection values since all are collected.
-        for (final Map.Entry<String, List<Object>> propertyDefinitionToArrayValues
-                : propertyDefinitionsToArrayValues.entrySet())
+    private static Object newInstance(final Class<?> beanClass)
+            throws InstantiationException,
+            IllegalAccessException
+    {
+        final ResourceUnmarshaller<?> unmarshaller = ResourceMarshallers.getUnmarshaller(beanClass);
+        if (unmarshaller != null)
         {
-            final String	   uri			  = propertyDefinitionToArrayValues.getKey();
-            final List<Object> values		  = propertyDefinitionToArrayValues.getValue();
-            final Method	   setMethod	  = setMethodMap.get(uri);
-            final Class<?>	   parameterClass = setMethod.getParameterTypes()[0];
-
-            if (parameterClass.isArray())
-            {
-                final Class<?> setMethodComponentParameterClass = parameterClass.getComponentType();
+            return unmarshaller.newInstance();
+        }
 
-                // To support primitive arrays, we have to use Array reflection to
-                // set individual elements. We cannot use Collection.toArray.
-                // Array.set will unwrap objects to their corresponding primitives.
-                final Object array = Array.newInstance(setMethodComponentParameterClass,
-                        values.size());
+        @SuppressWarnings("deprecation")
+        final Object newInstance = beanClass.newInstance();
+        return newInstance;
+    }
 
-                int index = 0;
-                for (final Object value : values)
+    private static void setValue(final ResourceUnmarshaller<Object>	 unmarshaller,
+                                 final ResourcePropertyDescriptor	 propertyDescriptor,
+                                 final Object						 bean,
+                                 final Object						 value)
+            throws OslcCoreMissingSetMethodException,
+            IllegalAccessException,
+            InvocationTargetException
+    {
+        if (unmarshaller != null)
+        {
+            try
+            {
+                if (unmarshaller.setValue(bean, propertyDescriptor.getPropertyDefinition(), value))
                 {
-                    Array.set(array,
-                            index++,
-                            value);
+                    return;
                 }
-
-                setMethod.invoke(bean,
-                        array);
             }
-            // Else - we are dealing with a collection or a subclass of collection
-            else
+            catch (final RuntimeException exception)
             {
-                final Collection<Object> collection;
-
-                // Handle the Collection, List, Deque, Queue interfaces.
-                // Handle the AbstractCollection, AbstractList, AbstractSequentialList classes
-                if ((Collection.class			  == parameterClass) ||
-                        (List.class					  == parameterClass) ||
-                        (Deque.class				  == parameterClass) ||
-                        (Queue.class				  == parameterClass) ||
-                        (AbstractCollection.class	  == parameterClass) ||
-                        (AbstractList.class			  == parameterClass) ||
-                        (AbstractSequentialList.class == parameterClass))
-                {
-                    collection = new LinkedList<>();
-                }
-                // Handle the Set interface
-                // Handle the AbstractSet class
-                else if ((Set.class			 == parameterClass) ||
-                        (AbstractSet.class	 == parameterClass))
-                {
-                    collection = new HashSet<>();
-                }
-                // Handle the SortedSet and NavigableSet interfaces
-                else if ((SortedSet.class	 == parameterClass) ||
-                        (NavigableSet.class == parameterClass)) {
-                    collection = new TreeSet<>();
-                }
-                // Not handled above.  Let's try newInstance with possible failure.
-                else
-                {
-                    collection = ((Collection<Object>) parameterClass.newInstance());
-                }
-
-                collection.addAll(values);
-
-                setMethod.invoke(bean,
-                        collection);
+                throw new InvocationTargetException(exception);
             }
         }
+
+        propertyDescriptor.setValue(bean,
+                value);
     }
 
     /**
@@ -1132,9 +1661,10 @@ public final class JenaModelHelper
 
     private static Object handleExtendedPropertyValue(final Class<?> beanClass,
                                                       final RDFNode object,
-                                                      Map<String,Object> visitedResources,
+                                                      Map<Node,Object> visitedResources,
                                                       final QName propertyQName,
-                                                      final HashSet<String> rdfTypes)
+                                                      final HashSet<String> rdfTypes,
+                                                      final Map<String, Object> nestedProperties)
             throws URISyntaxException,
             IllegalArgumentException,
             SecurityException,
@@ -1209,26 +1739,25 @@ public final class JenaModelHelper
 
         // Is this an inline resource? AND we have not visited it yet?
         if ((nestedResource.getURI() == null || nestedResource.listProperties().hasNext()) &&
-                (!visitedResources.containsKey(getVisitedResourceName(nestedResource))))
+                (!visitedResources.containsKey(nestedResource.asNode())))
         {
             final AbstractResource any = new AnyResource();
-            final Map<Class<?>, Map<String, Method>> classPropertyDefinitionsToSetMethods = new HashMap<>();
-            fromResource(classPropertyDefinitionsToSetMethods,
-                    AnyResource.class,
+            fromResource(AnyResource.class,
                     any,
                     nestedResource,
                     visitedResources,
-                    rdfTypes);
+                    rdfTypes,
+                    nestedProperties);
 
             return any;
         }
 
         if (nestedResource.getURI() == null || nestedResource.listProperties().hasNext())
         {
-            return visitedResources.get(getVisitedResourceName(nestedResource));
+            return visitedResources.get(nestedResource.asNode());
         } else {
             // It's a resource reference.
-            final URI nestedResourceURI = new URI(nestedResource.getURI());
+            final URI nestedResourceURI = toURI(nestedResource.getURI());
             if (OSLC4JUtils.relativeURIsAreDisabled() && !nestedResourceURI.isAbsolute())
             {
                 throw new OslcCoreRelativeURIException(beanClass, "<none>",
@@ -1239,67 +1768,6 @@ public final class JenaModelHelper
         }
     }
 
-    private static Map<String, Method> createPropertyDefinitionToSetMethods(final Class<?> beanClass)
-            throws OslcCoreApplicationException
-    {
-        final Map<String, Method> result = new HashMap<>();
-
-        final Method[] methods = beanClass.getMethods();
-
-        for (final Method method : methods)
-        {
-            if (method.getParameterTypes().length == 0)
-            {
-                final String getMethodName = method.getName();
-
-                if (((getMethodName.startsWith(METHOD_NAME_START_GET)) &&
-                        (getMethodName.length() > METHOD_NAME_START_GET_LENGTH)) ||
-                        ((getMethodName.startsWith(METHOD_NAME_START_IS)) &&
-                                (getMethodName.length() > METHOD_NAME_START_IS_LENGTH)))
-                {
-                    final OslcPropertyDefinition oslcPropertyDefinitionAnnotation =
-                            InheritedMethodAnnotationHelper.getAnnotation(method,
-                                    OslcPropertyDefinition.class);
-
-                    if (oslcPropertyDefinitionAnnotation != null)
-                    {
-                        // We need to find the set companion setMethod
-                        final String setMethodName;
-                        if (getMethodName.startsWith(METHOD_NAME_START_GET))
-                        {
-                            setMethodName = METHOD_NAME_START_SET +
-                                    getMethodName.substring(METHOD_NAME_START_GET_LENGTH);
-                        }
-                        else
-                        {
-                            setMethodName = METHOD_NAME_START_SET +
-                                    getMethodName.substring(METHOD_NAME_START_IS_LENGTH);
-                        }
-
-                        final Class<?> getMethodReturnType = method.getReturnType();
-
-                        try
-                        {
-                            final Method setMethod = beanClass.getMethod(setMethodName,
-                                    getMethodReturnType);
-
-                            result.put(oslcPropertyDefinitionAnnotation.value(),
-                                    setMethod);
-                        }
-                        catch (final NoSuchMethodException exception)
-                        {
-                            throw new OslcCoreMissingSetMethodException(beanClass,
-                                    method,
-                                    exception);
-                        }
-                    }
-                }
-            }
-        }
-
-        return result;
-    }
-
     private static void buildResource(final Object	 object,
                                       final Class<?> resourceClass,
                                       final Model	 model,
@@ -1316,67 +1784,46 @@ public final class JenaModelHelper
             return;
         }
 
-        for (final Method method : resourceClass.getMethods())
-        {
-            if (method.getParameterTypes().length == 0)
-            {
-                final String methodName = method.getName();
+        final ResourceClassDescriptor classDescriptor = ResourceClassDescriptor.of(resourceClass);
+        @SuppressWarnings("unchecked")
+        final ResourceMarshaller<Object> marshaller = (ResourceMarshaller<Object>) ResourceMarshallers
+                .getMarshaller(resourceClass);
 
-                if (((methodName.startsWith(METHOD_NAME_START_GET)) &&
-                        (methodName.length() > METHOD_NAME_START_GET_LENGTH)) ||
-                        ((methodName.startsWith(METHOD_NAME_START_IS)) &&
-                                (methodName.length() > METHOD_NAME_START_IS_LENGTH)))
+        if (marshaller != null)
+        {
+            // The generated code reads the properties in source order; they are
+            // written in the order of the reflective path
+            final List<ResourcePropertyDescriptor> propertyDescriptors = classDescriptor.getProperties();
+            final Object[] values = new Object[propertyDescriptors.size()];
+            marshaller.marshal(object, (propertyDefinition, value) -> {
+                final int index = classDescriptor.indexOf(propertyDefinition);
+
+                if (index >= 0)
                 {
-                    final OslcPropertyDefinition oslcPropertyDefinitionAnnotation =
-                            InheritedMethodAnnotationHelper.getAnnotation(method,
-                                    OslcPropertyDefinition.class);
-
-                    if (oslcPropertyDefinitionAnnotation != null)
-                    {
-                        final Object value = method.invoke(object);
-
-                        if (value != null)
-                        {
-                            Map<String, Object> nestedProperties = null;
-                            boolean onlyNested = false;
-
-                            if (properties != null)
-                            {
-                                @SuppressWarnings("unchecked")
-                                final Map<String, Object> map = (Map<String, Object>)properties
-                                        .get(oslcPropertyDefinitionAnnotation.value());
-
-                                if (map != null)
-                                {
-                                    nestedProperties = map;
-                                }
-                                else if (properties instanceof SingletonWildcardProperties &&
-                                        ! (properties instanceof NestedWildcardProperties))
-                                {
-                                    nestedProperties = OSLC4JConstants.OSL4J_PROPERTY_SINGLETON;
-                                }
-                                else if (properties instanceof NestedWildcardProperties)
-                                {
-                                    nestedProperties = ((NestedWildcardProperties)properties).commonNestedProperties();
-                                    onlyNested = ! (properties instanceof SingletonWildcardProperties);
-                                }
-                                else
-                                {
-                                    continue;
-                                }
-                            }
-
-                            buildAttributeResource(resourceClass,
-                                    method,
-                                    oslcPropertyDefinitionAnnotation,
-                                    model,
-                                    mainResource,
-                                    value,
-                                    nestedProperties,
-                                    onlyNested);
-                        }
-                    }
+                    values[index] = value;
                 }
+            });
+
+            for (int index = 0; index < values.length; index++)
+            {
+                buildProperty(resourceClass,
+                        propertyDescriptors.get(index),
+                        model,
+                        mainResource,
+                        values[index],
+                        properties);
+            }
+        }
+        else
+        {
+            for (final ResourcePropertyDescriptor propertyDescriptor : classDescriptor.getProperties())
+            {
+                buildProperty(resourceClass,
+                        propertyDescriptor,
+                        model,
+                        mainResource,
+                        propertyDescriptor.getValue(object),
+                        properties);
             }
         }
 
@@ -1394,6 +1841,61 @@ public final class JenaModelHelper
         }
     }
 
+    private static void buildProperty(final Class<?>					resourceClass,
+                                      final ResourcePropertyDescriptor	propertyDescriptor,
+                                      final Model						model,
+                                      final Resource					mainResource,
+                                      final Object						value,
+                                      final Map<String, Object>			properties)
+            throws DatatypeConfigurationException,
+            IllegalAccessException,
+            IllegalArgumentException,
+            InvocationTargetException,
+            OslcCoreApplicationException
+    {
+        if (value == null)
+        {
+            return;
+        }
+
+        Map<String, Object> nestedProperties = null;
+        boolean onlyNested = false;
+
+        if (properties != null)
+        {
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> map = (Map<String, Object>)properties
+                    .get(propertyDescriptor.getPropertyDefinition());
+
+            if (map != null)
+            {
+                nestedProperties = map;
+            }
+            else if (properties instanceof SingletonWildcardProperties &&
+                    ! (properties instanceof NestedWildcardProperties))
+            {
+                nestedProperties = OSLC4JConstants.OSL4J_PROPERTY_SINGLETON;
+            }
+            else if (properties instanceof NestedWildcardProperties)
+            {
+                nestedProperties = ((NestedWildcardProperties)properties).commonNestedProperties();
+                onlyNested = ! (properties instanceof SingletonWildcardProperties);
+            }
+            else
+            {
+                return;
+            }
+        }
+
+        buildAttributeResource(resourceClass,
+                propertyDescriptor,
+                model,
+                mainResource,
+                value,
+                nestedProperties,
+                onlyNested);
+    }
+
     protected static void handleExtendedProperties(final Class<?> resourceClass,
                                                    final Model model,
                                                    final Resource mainResource,
@@ -1589,8 +2091,6 @@ public final class JenaModelHelper
                 return;
             }
 
-            final Calendar cal = Calendar.getInstance();
-            cal.setTime((Date) value);
             RDFDatatype dataType = null;
 
             // Check if it is a Date field
@@ -1602,6 +2102,8 @@ public final class JenaModelHelper
             }
 
             if ( dataType != null && dataType instanceof XSDDateType) {
+                final Calendar cal = Calendar.getInstance();
+                cal.setTime((Date) value);
                 XSDDateTime valuec = new XSDDateTime( cal);
                 valuec.narrowType(XSDDatatype.XSDdate);
                 String valueDate = valuec.toString();
@@ -1610,7 +2112,8 @@ public final class JenaModelHelper
                 }
                 resource.addProperty(property, model.createTypedLiteral(valueDate, XSDDatatype.XSDdate));
             } else {
-                resource.addProperty(property, model.createTypedLiteral(cal));
+                resource.addProperty(property, model.createTypedLiteral(
+                        LiteralConverter.formatDateTime((Date) value), XSDDatatype.XSDdateTime));
             }
 
         }
@@ -1677,10 +2180,18 @@ public final class JenaModelHelper
                 return;
             }
 
-            resource.addProperty(property, model.createTypedLiteral(value));
+            resource.addProperty(property, toTypedLiteral(model, value));
         }
     }
 
+    private static Literal toTypedLiteral(final Model model, final Object value)
+    {
+        final RDFDatatype dataType = LiteralConverter.datatypeOf(value.getClass());
+        return dataType != null
+                ? model.createTypedLiteral(value, dataType)
+                : model.createTypedLiteral(value);
+    }
+
     private static Literal toLiteral(final Model model, final Float f)
     {
         if (f.compareTo(Float.POSITIVE_INFINITY) == 0)
@@ -1714,8 +2225,7 @@ public final class JenaModelHelper
     }
 
     private static void buildAttributeResource(final Class<?>				resourceClass,
-                                               final Method					method,
-                                               final OslcPropertyDefinition propertyDefinitionAnnotation,
+                                               final ResourcePropertyDescriptor propertyDescriptor,
                                                final Model					model,
                                                Resource						resource,
                                                final Object					value,
@@ -1727,38 +2237,23 @@ public final class JenaModelHelper
             InvocationTargetException,
             OslcCoreApplicationException
     {
-        final String propertyDefinition = propertyDefinitionAnnotation.value();
-
-        final OslcName nameAnnotation = InheritedMethodAnnotationHelper.getAnnotation(method,
-                OslcName.class);
-
-        final String name;
-        if (nameAnnotation != null)
-        {
-            name = nameAnnotation.value();
-        } else {
-            name = getDefaultPropertyName(method);
-        }
+        final Method method = propertyDescriptor.getGetter();
+        final String propertyDefinition = propertyDescriptor.getPropertyDefinition();
+        final String name = propertyDescriptor.getName();
 
         if (!propertyDefinition.endsWith(name)) {
             throw new OslcCoreInvalidPropertyDefinitionException(resourceClass,
                     method,
-                    propertyDefinitionAnnotation
+                    propertyDescriptor.getPropertyDefinitionAnnotation()
             );
         }
 
-        final OslcValueType valueTypeAnnotation = InheritedMethodAnnotationHelper
-                .getAnnotation(method, OslcValueType.class);
-
-        final boolean xmlLiteral = valueTypeAnnotation != null && ValueType.XMLLiteral.equals(
-                valueTypeAnnotation.value());
+        final boolean xmlLiteral = propertyDescriptor.isXmlLiteral();
 
         final Property attribute = model.createProperty(propertyDefinition);
 
         final Class<?> returnType = method.getReturnType();
-        final OslcRdfCollectionType collectionType =
-                InheritedMethodAnnotationHelper.getAnnotation(method,
-                        OslcRdfCollectionType.class);
+        final OslcRdfCollectionType collectionType = propertyDescriptor.getRdfCollectionTypeAnnotation();
         final List<RDFNode> rdfNodeContainer;
 
         if (collectionType != null &&
@@ -1954,7 +2449,7 @@ public final class JenaModelHelper
                 return;
             }
 
-            nestedNode = model.createTypedLiteral(value);
+            nestedNode = toTypedLiteral(model, value);
         }
         else if (value instanceof URI)
         {
@@ -1983,8 +2478,6 @@ public final class JenaModelHelper
                 return;
             }
 
-            final GregorianCalendar calendar = new GregorianCalendar();
-            calendar.setTime((Date) value);
             RDFDatatype dataType = null;
 
             // Check if it is a Date field
@@ -1996,6 +2489,8 @@ public final class JenaModelHelper
             }
 
             if ( dataType != null && dataType instanceof XSDDateType) {
+                final GregorianCalendar calendar = new GregorianCalendar();
+                calendar.setTime((Date) value);
                 XSDDateTime valuec = new XSDDateTime( calendar);
                 valuec.narrowType(XSDDatatype.XSDdate);
                 String valueDate = valuec.toString();
@@ -2004,7 +2499,8 @@ public final class JenaModelHelper
                 }
                 nestedNode = model.createTypedLiteral(valueDate, XSDDatatype.XSDdate);
             } else {
-                nestedNode = model.createTypedLiteral(calendar);
+                nestedNode = model.createTypedLiteral(LiteralConverter.formatDateTime((Date) value),
+                        XSDDatatype.XSDdateTime);
             }
         }
         else if (objectClass.getAnnotation(OslcResourceShape.class) != null)
@@ -2124,89 +2620,6 @@ public final class JenaModelHelper
         }
     }
 
-    private static String getDefaultPropertyName(final Method method)
-    {
-        final String methodName	   = method.getName();
-        final int	 startingIndex = methodName.startsWith(METHOD_NAME_START_GET)
-                ? METHOD_NAME_START_GET_LENGTH
-                : METHOD_NAME_START_IS_LENGTH;
-        final int	 endingIndex   = startingIndex + 1;
-
-        // We want the name to start with a lower-case letter
-        final String lowercasedFirstCharacter = methodName.substring(startingIndex,
-                endingIndex).toLowerCase(Locale.ENGLISH);
-
-        if (methodName.length() == endingIndex)
-        {
-            return lowercasedFirstCharacter;
-        }
-
-        return lowercasedFirstCharacter + methodName.substring(endingIndex);
-    }
-
-    private static void recursivelyCollectNamespaceMappings(final Map<String, String>	  namespaceMappings,
-                                                            final Class<?> resourceClass)
-    {
-        final OslcSchema oslcSchemaAnnotation = resourceClass.getPackage().getAnnotation(OslcSchema.class);
-
-        if (oslcSchemaAnnotation != null)
-        {
-            final OslcNamespaceDefinition[] oslcNamespaceDefinitionAnnotations = oslcSchemaAnnotation.value();
-
-            for (final OslcNamespaceDefinition oslcNamespaceDefinitionAnnotation :
-                    oslcNamespaceDefinitionAnnotations)
-            {
-                final String prefix		  = oslcNamespaceDefinitionAnnotation.prefix();
-                final String namespaceURI = oslcNamespaceDefinitionAnnotation.namespaceURI();
-
-                namespaceMappings.put(prefix,
-                        namespaceURI);
-            }
-            //Adding custom prefixes obtained from an implementation, if there is an implementation.
-            Class<? extends IOslcCustomNamespaceProvider> customNamespaceProvider =
-                    oslcSchemaAnnotation.customNamespaceProvider();
-            if(!customNamespaceProvider.isInterface())
-            {
-                try {
-                    IOslcCustomNamespaceProvider customNamespaceProviderImpl
-                            = customNamespaceProvider.newInstance();
-                    Map<String, String> customNamespacePrefixes = customNamespaceProviderImpl
-                            .getCustomNamespacePrefixes();
-                    if(null != customNamespacePrefixes)
-                    {
-                        namespaceMappings.putAll(customNamespacePrefixes);
-                    }
-                } catch (IllegalAccessException e) {
-                    throw new RuntimeException("The custom namespace provider implementation: "+
-                            customNamespaceProvider.getClass().getName() +
-                            ", must have a public no args construtor", e);
-                } catch (InstantiationException e) {
-                    throw new RuntimeException("The custom namespace provider must not be a abstract," +
-                            " nor interface class and must have a public no args constructor", e);
-                }
-            }
-        }
-
-        final Class<?> superClass = resourceClass.getSuperclass();
-
-        if (superClass != null)
-        {
-            recursivelyCollectNamespaceMappings(namespaceMappings,
-                    superClass);
-        }
-
-        final Class<?>[] interfaces = resourceClass.getInterfaces();
-
-        if (interfaces != null)
-        {
-            for (final Class<?> interfac : interfaces)
-            {
-                recursivelyCollectNamespaceMappings(namespaceMappings,
-                        interfac);
-            }
-        }
-    }
-
     private static void ensureNamespacePrefix(final String				prefix,
                                               final String				namespace,
                                               final Map<String, String> namespaceMappings)
@@ -2240,22 +2653,6 @@ public final class JenaModelHelper
         }
     }
 
-    private static String getVisitedResourceName(Resource resource)
-    {
-        String visitedResourceName;
-
-        if (resource.getURI() != null)
-        {
-            visitedResourceName = resource.getURI();
-        }
-        else
-        {
-            visitedResourceName = resource.getId().toString();
-        }
-
-        return visitedResourceName;
-    }
-
     private static Transformer createTransformer() {
         try {
             TransformerFactory factory = TransformerFactory.newInstance();
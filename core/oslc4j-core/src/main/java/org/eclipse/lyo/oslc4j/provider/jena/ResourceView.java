@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.jena.rdf.model.Resource;
+import org.eclipse.lyo.oslc4j.core.exception.LyoModelException;
+import org.eclipse.lyo.oslc4j.core.model.IResource;
+import org.eclipse.lyo.oslc4j.core.model.ResourceClassDescriptor;
+import org.eclipse.lyo.oslc4j.core.model.ResourcePropertyDescriptor;
+
+/**
+ * Backs the read-only views created by {@link JenaModelHelper#unmarshalView(Resource, Class)}.
+ * Each property is decoded with {@link JenaModelHelper#unmarshalProperty} on the first
+ * call of its getter; the result (including {@code null}) is kept for later calls.
+ * A property that cannot be decoded makes its getter throw {@link LyoModelException}.
+ */
+final class ResourceView implements InvocationHandler {
+
+    /** Getters of a view interface, keyed by the {@link Method} a proxy is invoked with. */
+    private static final ClassValue<Map<Method, ResourcePropertyDescriptor>> GETTERS = new ClassValue<>() {
+        @Override
+        protected Map<Method, ResourcePropertyDescriptor> computeValue(final Class<?> type) {
+            final Map<Method, ResourcePropertyDescriptor> getters = new HashMap<>();
+            for (final ResourcePropertyDescriptor property : ResourceClassDescriptor.of(type).getProperties()) {
+                getters.put(property.getGetter(), property);
+            }
+            return Collections.unmodifiableMap(getters);
+        }
+    };
+
+    private static final Object NULL = new Object();
+
+    private final Resource resource;
+    private final Class<?> viewInterface;
+    private final Map<Method, ResourcePropertyDescriptor> getters;
+    private final Map<Method, Object> values = new HashMap<>();
+
+    private ResourceView(final Resource resource, final Class<?> viewInterface) {
+        this.resource = resource;
+        this.viewInterface = viewInterface;
+        this.getters = GETTERS.get(viewInterface);
+    }
+
+    static <T> T create(final Resource resource, final Class<T> viewInterface) {
+        if (!viewInterface.isInterface()) {
+            throw new IllegalArgumentException(viewInterface.getName() + " is not an interface");
+        }
+        final Class<?>[] interfaces = IResource.class.isAssignableFrom(viewInterface)
+                ? new Class<?>[] {viewInterface}
+                : new Class<?>[] {viewInterface, IResource.class};
+        return viewInterface.cast(Proxy.newProxyInstance(viewInterface.getClassLoader(), interfaces,
+                new ResourceView(resource, viewInterface)));
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return viewInterface.getSimpleName() + " view of " + resource;
+            }
+        }
+        if (method.isDefault()) {
+            return InvocationHandler.invokeDefault(proxy, method, args);
+        }
+        if ("getAbout".equals(method.getName()) && method.getParameterCount() == 0) {
+            return resource.isURIResource() ? URI.create(resource.getURI()) : null;
+        }
+
+        final ResourcePropertyDescriptor property = getters.get(method);
+        if (property == null) {
+            throw new UnsupportedOperationException(viewInterface.getSimpleName()
+                    + " views are read-only: " + method.getName() + " is not supported");
+        }
+
+        Object value = values.get(method);
+        if (value == null) {
+            try {
+                value = JenaModelHelper.unmarshalProperty(resource, viewInterface, property);
+            } catch (final Exception e) {
+                // Checked exceptions would reach the caller as UndeclaredThrowableException
+                throw new LyoModelException("Cannot read " + property.getPropertyDefinition() + " of "
+                        + resource + " through " + viewInterface.getSimpleName() + '.' + method.getName(), e);
+            }
+            values.put(method, value != null ? value : NULL);
+        }
+        if (value == NULL || value == null) {
+            final Class<?> returnType = method.getReturnType();
+            return returnType.isPrimitive() ? Array.get(Array.newInstance(returnType, 1), 0) : null;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.eclipse.lyo.oslc4j.provider.jena.TermHasher.Hash;
+
+/**
+ * Replaces the blank nodes of a graph with IRIs in bulk.
+ * <p>
+ * The triples with a blank node are collected in one pass over the graph, each
+ * blank node is minted an IRI once, and the triples are then removed and added
+ * back with the IRIs in place. No model-level resource or statement objects
+ * are created.
+ *
+ * @since 7.0.0
+ */
+final class Skolemizer {
+
+    private Skolemizer() {
+    }
+
+    /**
+     * @param graph graph to skolemize
+     * @param mint  returns the IRI of a blank node
+     */
+    static void skolemize(final Graph graph, final Function<Node, String> mint) {
+        final List<Triple> triples = blankNodeTriples(graph);
+        final Map<Node, Node> iris = new HashMap<>();
+        for (final Triple triple : triples) {
+            if (triple.getSubject().isBlank()) {
+                iris.computeIfAbsent(triple.getSubject(), node -> NodeFactory.createURI(mint.apply(node)));
+            }
+            if (triple.getObject().isBlank()) {
+                iris.computeIfAbsent(triple.getObject(), node -> NodeFactory.createURI(mint.apply(node)));
+            }
+        }
+        replace(graph, triples, iris);
+    }
+
+    /**
+     * Mints each blank node an IRI from a hash of the triples around it, so that
+     * the same graph always gets the same IRIs, whatever its blank node labels.
+     * <p>
+     * A blank node is hashed by the triples it is the subject or the object of,
+     * refined until the hashes stop telling more blank nodes apart.
+     * Blank nodes that are still alike (the same content in the same place)
+     * are numbered in the order they are met.
+     *
+     * @param graph     graph to skolemize
+     * @param iriPrefix prefix of the minted IRIs
+     */
+    static void skolemizeByContent(final Graph graph, final String iriPrefix) {
+        final List<Triple> triples = blankNodeTriples(graph);
+        final Map<Node, Hash> hashes = new ContentHasher().hashes(triples);
+
+        final Map<Node, Node> iris = new HashMap<>();
+        final Map<Hash, Integer> alike = new HashMap<>();
+        for (final Map.Entry<Node, Hash> entry : hashes.entrySet()) {
+            final Hash hash = entry.getValue();
+            final int index = alike.merge(hash, 1, Integer::sum) - 1;
+            iris.put(entry.getKey(), NodeFactory.createURI(iriPrefix + hash + (index == 0 ? "" : "-" + index)));
+        }
+        replace(graph, triples, iris);
+    }
+
+    private static List<Triple> blankNodeTriples(final Graph graph) {
+        final List<Triple> triples = new ArrayList<>();
+        final ExtendedIterator<Triple> iterator = graph.find();
+        try {
+            while (iterator.hasNext()) {
+                final Triple triple = iterator.next();
+                if (triple.getSubject().isBlank() || triple.getObject().isBlank()) {
+                    triples.add(triple);
+                }
+            }
+        } finally {
+            iterator.close();
+        }
+        return triples;
+    }
+
+    private static void replace(final Graph graph, final List<Triple> triples, final Map<Node, Node> iris) {
+        for (final Triple triple : triples) {
+            graph.delete(triple);
+        }
+        for (final Triple triple : triples) {
+            graph.add(Triple.create(iris.getOrDefault(triple.getSubject(), triple.getSubject()),
+                    triple.getPredicate(), iris.getOrDefault(triple.getObject(), triple.getObject())));
+        }
+    }
+
+    private static final class ContentHasher {
+
+        private final TermHasher hasher = new TermHasher();
+        private final Map<Node, Integer> indexes = new LinkedHashMap<>();
+        // The hash of the triples between a blank node and IRIs or literals
+        private final List<Hash> fixed = new ArrayList<>();
+        // Each triple between two blank nodes is an edge from either end
+        private final List<Hash> edgeLabels = new ArrayList<>();
+        private int[] edgeFrom = new int[16];
+        private int[] edgeTo = new int[16];
+
+        /**
+         * @return the hash of every blank node, in the order the blank nodes are met
+         */
+        Map<Node, Hash> hashes(final List<Triple> triples) {
+            for (final Triple triple : triples) {
+                final Node subject = triple.getSubject();
+                final Node object = triple.getObject();
+                final String predicate = TermHasher.term(triple.getPredicate());
+                if (subject.isBlank() && object.isBlank()) {
+                    addEdge(index(subject), index(object), hasher.hash(">", predicate));
+                    addEdge(index(object), index(subject), hasher.hash("<", predicate));
+                } else if (subject.isBlank()) {
+                    final int index = index(subject);
+                    fixed.set(index, fixed.get(index).add(hasher.hash(">", predicate, TermHasher.term(object))));
+                } else {
+                    final int index = index(object);
+                    fixed.set(index, fixed.get(index).add(hasher.hash("<", predicate, TermHasher.term(subject))));
+                }
+            }
+
+            final Hash self = hasher.hash("@");
+            final int count = indexes.size();
+            final Block[] blocks = new Block[count];
+            final int[] positions = new int[count];
+            final TreeSet<Block> splitters = new TreeSet<>(Block.ORDER);
+            final Map<Hash, Block> initial = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                initial.computeIfAbsent(self.add(fixed.get(i)), Block::new).add(i, blocks, positions);
+            }
+            splitters.addAll(initial.values());
+
+            final int[][] incoming = incomingEdges(count);
+            while (!splitters.isEmpty()) {
+                split(splitters.pollFirst(), incoming, blocks, positions, splitters);
+            }
+
+            final Map<Node, Hash> hashes = new LinkedHashMap<>();
+            for (final Map.Entry<Node, Integer> entry : indexes.entrySet()) {
+                hashes.put(entry.getKey(), blocks[entry.getValue()].name);
+            }
+            return hashes;
+        }
+
+        /**
+         * Splits the blocks of the blank nodes with edges to the splitter by the
+         * labels of those edges. Of the parts of a block that is not waiting to
+         * be a splitter, all but the largest become splitters: splitting by the
+         * largest part is implied by the others, which keeps the refinement at
+         * O(m log n) even on long chains of alike blank nodes.
+         */
+        private void split(final Block splitter, final int[][] incoming, final Block[] blocks,
+                final int[] positions, final TreeSet<Block> splitters) {
+            final Map<Integer, Hash> signatures = new HashMap<>();
+            for (int member = 0; member < splitter.size; member++) {
+                for (final int edge : incoming[splitter.members[member]]) {
+                    signatures.merge(edgeFrom[edge], edgeLabels.get(edge), Hash::add);
+                }
+            }
+
+            final Map<Block, Map<Hash, List<Integer>>> touched = new HashMap<>();
+            for (final Map.Entry<Integer, Hash> entry : signatures.entrySet()) {
+                touched.computeIfAbsent(blocks[entry.getKey()], block -> new HashMap<>())
+                        .computeIfAbsent(entry.getValue(), signature -> new ArrayList<>()).add(entry.getKey());
+            }
+
+            for (final Map.Entry<Block, Map<Hash, List<Integer>>> entry : touched.entrySet()) {
+                final Block block = entry.getKey();
+                final Map<Hash, List<Integer>> groups = entry.getValue();
+                if (groups.size() == 1 && groups.values().iterator().next().size() == block.size) {
+                    continue;
+                }
+
+                final boolean waiting = splitters.remove(block);
+                final List<Block> parts = new ArrayList<>();
+                for (final Map.Entry<Hash, List<Integer>> group : groups.entrySet()) {
+                    final Block part = new Block(block.name.combine(group.getKey()));
+                    for (final int node : group.getValue()) {
+                        block.remove(node, positions);
+                        part.add(node, blocks, positions);
+                    }
+                    parts.add(part);
+                }
+                if (block.size > 0) {
+                    // The blank nodes without an edge to the splitter stay in the block
+                    block.name = block.name.combine(Hash.ZERO);
+                    parts.add(block);
+                }
+
+                if (waiting) {
+                    splitters.addAll(parts);
+                } else {
+                    final Block largest = parts.stream()
+                            .max(Comparator.comparingInt((Block part) -> part.size).thenComparing(Block.ORDER))
+                            .orElseThrow();
+                    for (final Block part : parts) {
+                        if (part != largest) {
+                            splitters.add(part);
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return the edges to each blank node
+         */
+        private int[][] incomingEdges(final int count) {
+            final int[] degrees = new int[count];
+            for (int edge = 0; edge < edgeLabels.size(); edge++) {
+                degrees[edgeTo[edge]]++;
+            }
+            final int[][] incoming = new int[count][];
+            for (int i = 0; i < count; i++) {
+                incoming[i] = new int[degrees[i]];
+            }
+            for (int edge = 0; edge < edgeLabels.size(); edge++) {
+                final int to = edgeTo[edge];
+                incoming[to][--degrees[to]] = edge;
+            }
+            return incoming;
+        }
+
+        private int index(final Node blankNode) {
+            final Integer index = indexes.get(blankNode);
+            if (index != null) {
+                return index;
+            }
+            indexes.put(blankNode, fixed.size());
+            fixed.add(Hash.ZERO);
+            return fixed.size() - 1;
+        }
+
+        private void addEdge(final int from, final int to, final Hash label) {
+            final int edge = edgeLabels.size();
+            if (edge == edgeFrom.length) {
+                edgeFrom = Arrays.copyOf(edgeFrom, edge * 2);
+                edgeTo = Arrays.copyOf(edgeTo, edge * 2);
+            }
+            edgeFrom[edge] = from;
+            edgeTo[edge] = to;
+            edgeLabels.add(label);
+        }
+    }
+
+    /**
+     * Blank nodes that the refinement has not told apart yet, named by a hash that
+     * does not depend on blank node labels.
+     */
+    private static final class Block {
+
+        static final Comparator<Block> ORDER =
+                Comparator.comparingLong((Block block) -> block.name.high()).thenComparingLong(block -> block.name.low());
+
+        Hash name;
+        int[] members = new int[1];
+        int size;
+
+        Block(final Hash name) {
+            this.name = name;
+        }
+
+        void add(final int node, final Block[] blocks, final int[] positions) {
+            if (size == members.length) {
+                members = Arrays.copyOf(members, size * 2);
+            }
+            blocks[node] = this;
+            positions[node] = size;
+            members[size++] = node;
+        }
+
+        void remove(final int node, final int[] positions) {
+            final int last = members[--size];
+            members[positions[node]] = last;
+            positions[last] = positions[node];
+        }
+    }
+}
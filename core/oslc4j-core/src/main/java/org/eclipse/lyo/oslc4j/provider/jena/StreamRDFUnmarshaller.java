@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.sparql.core.Quad;
+import org.apache.jena.sparql.graph.GraphFactory;
+import org.eclipse.lyo.oslc4j.core.exception.LyoModelException;
+
+/**
+ * Unmarshals the resources of a stream of triples (e.g. from a RIOT parser) and
+ * hands each bean to a consumer.
+ * <p>
+ * In incremental mode, triples are collected in blocks that are unmarshalled
+ * with {@link JenaModelHelper#unmarshal(Model, Class)} and then discarded. A
+ * block ends when a new subject starts and every blank node of the block has
+ * been both described and referenced, so the memory used is bounded by the
+ * largest resource rather than the whole document. This requires the triples
+ * of a resource, including those of its inline resources, to be contiguous, as
+ * in the output of {@link JenaModelHelper#createJenaStream(Object[], StreamRDF)}.
+ * A top-level blank node resource or a reified statement keeps its block open
+ * until the end of the stream.
+ * <p>
+ * Otherwise, the whole stream is unmarshalled at once when it finishes, exactly
+ * like a {@link Model} read in one go.
+ *
+ * @param <T> resource class
+ * @since 7.0.0
+ */
+public final class StreamRDFUnmarshaller<T> implements StreamRDF {
+
+    private final Class<T> beanClass;
+    private final Consumer<? super T> consumer;
+    private final boolean incremental;
+    private final PrefixMapping prefixes = PrefixMapping.Factory.create();
+
+    private Graph block = GraphFactory.createDefaultGraph();
+    private Node subject;
+    private final Set<Node> describedBlankNodes = new HashSet<>();
+    private final Set<Node> referencedBlankNodes = new HashSet<>();
+    private final Set<Node> openBlankNodes = new HashSet<>();
+
+    /**
+     * @param beanClass   class to unmarshal the resources into
+     * @param consumer    receives the beans in the order their blocks end
+     * @param incremental {@code true} to unmarshal each self-contained block as
+     *                    soon as it ends
+     */
+    public StreamRDFUnmarshaller(final Class<T> beanClass, final Consumer<? super T> consumer,
+            final boolean incremental) {
+        this.beanClass = beanClass;
+        this.consumer = consumer;
+        this.incremental = incremental;
+    }
+
+    @Override
+    public void start() {
+        // Nothing to do
+    }
+
+    @Override
+    public void triple(final Triple triple) {
+        final Node tripleSubject = triple.getSubject();
+        if (incremental && subject != null && !subject.equals(tripleSubject) && openBlankNodes.isEmpty()) {
+            unmarshalBlock();
+        }
+        subject = tripleSubject;
+
+        if (tripleSubject.isBlank() && describedBlankNodes.add(tripleSubject)) {
+            track(tripleSubject, referencedBlankNodes);
+        }
+        final Node object = triple.getObject();
+        if (object.isBlank() && referencedBlankNodes.add(object)) {
+            track(object, describedBlankNodes);
+        }
+
+        block.add(triple);
+    }
+
+    @Override
+    public void quad(final Quad quad) {
+        triple(quad.asTriple());
+    }
+
+    @Override
+    public void base(final String base) {
+        // IRIs are resolved by the parser
+    }
+
+    @Override
+    public void prefix(final String prefix, final String iri) {
+        prefixes.setNsPrefix(prefix, iri);
+    }
+
+    /**
+     * Unmarshals the last block. Calling this method again has no effect
+     * unless more triples have been received.
+     */
+    @Override
+    public void finish() throws LyoModelException {
+        unmarshalBlock();
+    }
+
+    private void track(final Node blankNode, final Set<Node> counterpart) {
+        if (counterpart.contains(blankNode)) {
+            openBlankNodes.remove(blankNode);
+        } else {
+            openBlankNodes.add(blankNode);
+        }
+    }
+
+    private void unmarshalBlock() throws LyoModelException {
+        if (block.isEmpty()) {
+            return;
+        }
+
+        final Model model = ModelFactory.createModelForGraph(block);
+        model.setNsPrefixes(prefixes);
+        for (final T bean : JenaModelHelper.unmarshal(model, beanClass)) {
+            consumer.accept(bean);
+        }
+
+        block = GraphFactory.createDefaultGraph();
+        subject = null;
+        describedBlankNodes.clear();
+        referencedBlankNodes.clear();
+        openBlankNodes.clear();
+    }
+}
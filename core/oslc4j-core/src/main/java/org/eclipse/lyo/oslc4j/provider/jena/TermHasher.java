@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.apache.jena.graph.Node;
+
+/**
+ * Hashes RDF terms to 128 bits with SHA-256, for the blank node hashing of
+ * {@link Skolemizer} and of {@link GraphDigest}.
+ * <p>
+ * Not thread-safe; create one hasher per graph.
+ */
+final class TermHasher {
+
+    private final MessageDigest sha256;
+
+    TermHasher() {
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the hash of a sequence of terms, each prefixed by its length
+     */
+    Hash hash(final String... terms) {
+        for (final String term : terms) {
+            final byte[] bytes = term.getBytes(StandardCharsets.UTF_8);
+            sha256.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+            sha256.update(bytes);
+        }
+        final ByteBuffer digest = ByteBuffer.wrap(sha256.digest());
+        return new Hash(digest.getLong(), digest.getLong());
+    }
+
+    /**
+     * @return the N-Triples-like form of an IRI or a literal
+     */
+    static String term(final Node node) {
+        if (node.isLiteral()) {
+            final String language = node.getLiteralLanguage();
+            return '"' + node.getLiteralLexicalForm() + '"'
+                    + (language.isEmpty() ? "^^" + node.getLiteralDatatypeURI() : "@" + language);
+        }
+        return '<' + node.toString() + '>';
+    }
+
+    record Hash(long high, long low) {
+        static final Hash ZERO = new Hash(0, 0);
+
+        /**
+         * Adds two hashes as 128-bit numbers, so that a sum of hashes does not
+         * depend on their order.
+         */
+        Hash add(final Hash other) {
+            final long sumLow = low + other.low;
+            final long carry = Long.compareUnsigned(sumLow, low) < 0 ? 1 : 0;
+            return new Hash(high + other.high + carry, sumLow);
+        }
+
+        /**
+         * Mixes this hash with another one; unlike {@link #add(Hash)}, the result depends on
+         * which hash is on which side, so that edge hashes can be summed up.
+         */
+        Hash combine(final Hash other) {
+            final long mixedHigh = mix(high ^ Long.rotateLeft(other.high, 29) ^ other.low);
+            final long mixedLow = mix(low ^ Long.rotateLeft(other.low, 37) ^ mixedHigh);
+            return new Hash(mixedHigh, mixedLow);
+        }
+
+        // The 64-bit finalizer of MurmurHash3
+        private static long mix(long value) {
+            value ^= value >>> 33;
+            value *= 0xff51afd7ed558ccdL;
+            value ^= value >>> 33;
+            value *= 0xc4ceb9fe1a85ec53L;
+            value ^= value >>> 33;
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%016x%016x", high, low);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+
+/**
+ * Shares the {@link URI} instances created while unmarshalling, see
+ * {@link OSLC4JConstants#OSLC4J_INTERN_URIS}. Only immutable URIs are shared:
+ * a {@link org.eclipse.lyo.oslc4j.core.model.Link} wrapping a URI is always a
+ * new instance, since its user may modify it.
+ * <p>
+ * The pool is a fixed-size table indexed by the hash of the URI, where a new
+ * value replaces the one in its slot. Memory is bounded and lookups need no
+ * lock, at the price of creating a new instance when two frequently used URIs
+ * collide. The URIs repeated across many resources (types, service providers,
+ * shapes, creators) stay in the table, while unique URIs come and go.
+ *
+ * @since 7.0.0
+ */
+final class UriInterner {
+
+    private static final int SIZE = 4096;
+
+    private static final AtomicReferenceArray<URI> URIS = new AtomicReferenceArray<>(SIZE);
+
+    private UriInterner() {
+    }
+
+    /**
+     * @param uri a URI string
+     * @return a shared URI equal to {@code new URI(uri)}
+     * @throws URISyntaxException if the string is not a URI
+     */
+    static URI uri(final String uri) throws URISyntaxException {
+        final int slot = slot(uri.hashCode());
+        final URI cached = URIS.get(slot);
+        if (cached != null && cached.toString().equals(uri)) {
+            return cached;
+        }
+        final URI value = new URI(uri);
+        URIS.set(slot, value);
+        return value;
+    }
+
+    private static int slot(final int hash) {
+        return (hash ^ (hash >>> 16)) & (SIZE - 1);
+    }
+}
@@ -18,79 +18,120 @@ import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ClassInfoList;
 import io.github.classgraph.ScanResult;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
-import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.jena.vocabulary.RDF;
+import org.eclipse.lyo.oslc4j.core.OSLC4JUtils;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
 import org.eclipse.lyo.oslc4j.core.model.TypeFactory;
+import org.eclipse.lyo.oslc4j.provider.jena.ordfm.ResourceTypeIndex.Entry;
+import org.eclipse.lyo.oslc4j.provider.jena.ordfm.ResourceTypeIndex.Indexed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Maps {@link RDF#type}s to the {@link OslcResourceShape} classes of registered
+ * packages.
+ * <p>
+ * The classes of the jars and directories that contain the index written by
+ * the OSLC4J annotation processor ({@value ResourceTypeIndex#INDEX}) are mapped
+ * from the index and only loaded when a resource of their type is resolved;
+ * the rest of the classpath is scanned. The mappings are published as an immutable snapshot,
+ * so {@link #getClassOf(Resource, Class...)} does not lock, and the class
+ * resolved for a set of types is remembered until the next package is mapped.
+ */
 public class ResourcePackages {
 
     /**
      * The logger of this class.
      */
-	private static final Logger LOGGER = LoggerFactory.getLogger(ResourcePackages.class);
-
-    /**
-     * The set of scanned packages.
-     */
-    static final Set<String> SCANNED_PACKAGES = new HashSet<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourcePackages.class);
 
     /**
-     * The RDFs-Classes types mapping.
+     * The scanned packages and RDFs-Classes types mappings.
      */
-    static final Map<String, List<Class<?>>> TYPES_MAPPINGS = new HashMap<>();
+    private static volatile Snapshot snapshot = Snapshot.EMPTY;
 
     private ResourcePackages() {}
 
     /**
-     * Scans a package (recursively) searching for classes annotated with
-     * {@link OslcResourceShape} and mapping them with an {@link RDF#type} built
-     * by the {@link TypeFactory#getQualifiedName(java.lang.Class)} method.
+     * Maps the classes of a package (recursively) annotated with
+     * {@link OslcResourceShape} with an {@link RDF#type} built by the
+     * {@link TypeFactory#getQualifiedName(java.lang.Class)} method. The classes
+     * are read from the {@value ResourceTypeIndex#INDEX} indexes, and the
+     * classpath elements without an index are scanned.
      * @param pkg the package to scan.
      */
-    public static synchronized void mapPackage(Package pkg) {
+    public static void mapPackage(Package pkg) {
         String packageName = pkg.getName();
-        if (SCANNED_PACKAGES.contains(packageName)) {
+        if (snapshot.scannedPackages.contains(packageName)) {
             LOGGER.trace("> package {} already scanned", packageName);
-        } else {
-            int counter = 0;
-            LOGGER.trace("> scanning package {}", packageName);
-            ClassGraph classGraph = new ClassGraph().acceptPackages(pkg.getName());
-            classGraph = classGraph.enableClassInfo().enableAnnotationInfo();
-            try (ScanResult scanResult = classGraph.scan()) {
-                ClassInfoList classInforList = scanResult.getClassesWithAnnotation(OslcResourceShape.class.getName());
-                for (ClassInfo classInfo : classInforList) {
-                    if (classInfo.isAbstract()) {
-                        LOGGER.trace("[-] Abstract class: {}", classInfo.getName());
-                    } else {
-                        try {
-                            Class<?> rdfClass = Class.forName(classInfo.getName(), true,
-                                Thread.currentThread().getContextClassLoader());
-                            String rdfType = TypeFactory.getQualifiedName(rdfClass);
-                            List<Class<?>> types = TYPES_MAPPINGS.computeIfAbsent(rdfType, k -> new ArrayList<>());
-                            types.add(rdfClass);
-                            counter ++;
-                            LOGGER.trace("[+] {} -> {}", rdfType, rdfClass);
-                        } catch (ClassNotFoundException ex) {
-                            LOGGER.trace("[-] Unexpected missing class: {}", classInfo.getName());
+            return;
+        }
+        synchronized (ResourcePackages.class) {
+            Snapshot current = snapshot;
+            if (current.scannedPackages.contains(packageName)) {
+                LOGGER.trace("> package {} already scanned", packageName);
+                return;
+            }
+            ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            Indexed indexed = OSLC4JUtils.useResourceTypeIndex()
+                ? ResourceTypeIndex.read(loader, packageName)
+                : Indexed.NONE;
+            // jars built without the annotation processor have no index
+            List<Entry> entries = new ArrayList<>(indexed.getEntries());
+            List<Entry> scanned = scanPackage(loader, packageName, indexed.getClasspathElements());
+            entries.addAll(scanned);
+            LOGGER.debug("< {} RDF classes indexed and {} found in package {}", indexed.getEntries().size(),
+                scanned.size(), packageName);
+            snapshot = current.with(packageName, entries);
+        }
+    }
+
+    private static List<Entry> scanPackage(ClassLoader loader, String packageName, Set<String> indexedElements) {
+        List<Entry> entries = new ArrayList<>();
+        LOGGER.trace("> scanning package {}", packageName);
+        ClassGraph classGraph = new ClassGraph().acceptPackages(packageName);
+        classGraph = classGraph.enableClassInfo().enableAnnotationInfo();
+        if (!indexedElements.isEmpty()) {
+            classGraph = classGraph.filterClasspathElementsByURL(
+                url -> !indexedElements.contains(ResourceTypeIndex.classpathElement(url.toString())));
+        }
+        try (ScanResult scanResult = classGraph.scan()) {
+            ClassInfoList classInforList = scanResult.getClassesWithAnnotation(OslcResourceShape.class.getName());
+            for (ClassInfo classInfo : classInforList) {
+                if (classInfo.isAbstract()) {
+                    LOGGER.trace("[-] Abstract class: {}", classInfo.getName());
+                } else {
+                    try {
+                        Class<?> rdfClass = Class.forName(classInfo.getName(), true, loader);
+                        String rdfType = TypeFactory.getQualifiedName(rdfClass);
+                        if (rdfType == null) {
+                            LOGGER.trace("[-] Class without RDF:type: {}", classInfo.getName());
+                            continue;
                         }
+                        entries.add(Entry.of(rdfType, rdfClass));
+                        LOGGER.trace("[+] {} -> {}", rdfType, rdfClass);
+                    } catch (ClassNotFoundException ex) {
+                        LOGGER.trace("[-] Unexpected missing class: {}", classInfo.getName());
                     }
                 }
             }
-            LOGGER.debug("< {} RDF classes found in package {}", counter, packageName);
-            SCANNED_PACKAGES.add(packageName);
         }
+        return entries;
     }
 
     /**
@@ -100,41 +141,33 @@ public class ResourcePackages {
      * @throws IllegalStateException if candidates contains at least two classes
      * belonging to different inheritance trees.
      */
-    private static Class<?> getMostConcreteClassOf(List<Class<?>> candidates) {
-        int size = candidates.size();
-        int index = 0;
-        do {
-            Class<?> pivot = candidates.get(index);
-            Iterator<Class<?>> iterator = candidates.iterator();
-            int currentIndex = -1;
-            while(iterator.hasNext()) {
-                Class<?> current = iterator.next();
-                currentIndex++;
-                if (!current.equals(pivot) && current.isAssignableFrom(pivot)) {
-                    iterator.remove();
-                    if (currentIndex < index) {
-                        //if we are removing an item located before the pivot (index position),
-                        //then decrement the index, since the size of the array is also reduced, making sure the pivot index is correct
-                        //in relation to the new size.
-                        index--;
-                    }
+    private static Entry getMostConcreteClassOf(List<Entry> candidates) {
+        List<Entry> mostConcrete = new ArrayList<>();
+        for (Entry candidate : candidates) {
+            boolean subclassed = false;
+            for (Entry other : candidates) {
+                if (other != candidate && other.isSubclassOf(candidate)) {
+                    subclassed = true;
+                    break;
                 }
             }
-            size = candidates.size();
-        } while(++index < size);
-        if (candidates.size() > 1) {
-            Iterator<Class<?>> iterator = candidates.iterator();
+            if (!subclassed) {
+                mostConcrete.add(candidate);
+            }
+        }
+        if (mostConcrete.size() > 1) {
+            Iterator<Entry> iterator = mostConcrete.iterator();
             StringBuilder sb = new StringBuilder("Multiple classes, ");
             sb.append("not in the same inheritance tree, are annotated ");
             sb.append("to map the same RDF:type: ");
-            sb.append(iterator.next().getName());
+            sb.append(iterator.next().getClassName());
             while(iterator.hasNext()) {
                 sb.append(", ");
-                sb.append(iterator.next().getName());
+                sb.append(iterator.next().getClassName());
             }
             throw new IllegalStateException(sb.toString());
         }
-        return candidates.get(0);
+        return mostConcrete.get(0);
     }
 
     /**
@@ -151,47 +184,85 @@ public class ResourcePackages {
      */
     public static Optional<Class<?>> getClassOf(Resource resource, Class<?>... preferredTypes) {
         LOGGER.trace("> resolving class for resource {}", resource.getURI());
+        Snapshot current = snapshot;
         StmtIterator rdfTypes = resource.listProperties(RDF.type);
-        List<Class<?>> candidates = new ArrayList<>();
-        synchronized(ResourcePackages.class) {
-            while(rdfTypes.hasNext()) {
-                Statement statement = rdfTypes.nextStatement();
-                String typeURI = statement.getObject().asResource().getURI();
-                List<Class<?>> rdfClasses = TYPES_MAPPINGS.get(typeURI);
-                if (rdfClasses == null) {
-                    LOGGER.trace("[-] Unmapped class(es) for RDF:type {}", typeURI);
-                } else if (rdfClasses.size() == 1) {
-                    candidates.add(rdfClasses.get(0));
-                    LOGGER.trace("[+] Candidate class {} found for RDF:type {}", rdfClasses.get(0).getName(), typeURI);
-                } else if (preferredTypes.length == 0) {
-                    StringBuilder sb = new StringBuilder();
-                    sb.append("'preferredTypes' argument is required when more than one class (");
-                    sb.append(rdfClasses.toString());
-                    sb.append(") are mapped to the same RDF:type (");
-                    sb.append(typeURI);
-                    sb.append(")");
-                    LOGGER.debug(sb.toString());
-                    throw new IllegalArgumentException(sb.toString());
-                } else {
-                    for(Class<?> preferredType : preferredTypes) {
-                        if (rdfClasses.contains(preferredType)) {
-                            candidates.add(preferredType);
+        Set<String> mappedTypes = new HashSet<>();
+        while(rdfTypes.hasNext()) {
+            RDFNode type = rdfTypes.nextStatement().getObject();
+            String typeURI = type.isURIResource() ? type.asResource().getURI() : null;
+            if (current.typesMappings.containsKey(typeURI)) {
+                mappedTypes.add(typeURI);
+            } else {
+                LOGGER.trace("[-] Unmapped class(es) for RDF:type {}", typeURI);
+            }
+        }
+        Optional<Class<?>> mappedClass = Optional.empty();
+        if (!mappedTypes.isEmpty()) {
+            Resolution resolution = new Resolution(mappedTypes, preferredTypes);
+            mappedClass = current.resolved.get(resolution);
+            if (mappedClass == null) {
+                // resolved outside of the map, since resolving may load (and initialize) a class
+                mappedClass = resolve(current, resolution);
+                current.resolved.putIfAbsent(resolution, mappedClass);
+            }
+        }
+        if (mappedClass.isPresent()) {
+            LOGGER.debug("< Mapped class {} for resource {}", mappedClass.get().getName(), resource.getURI());
+        } else {
+            LOGGER.debug("< Unmapped class for resource {}", resource.getURI());
+        }
+        return mappedClass;
+    }
+
+    private static Optional<Class<?>> resolve(Snapshot current, Resolution resolution) {
+        List<Entry> candidates = new ArrayList<>();
+        for (String typeURI : resolution.types) {
+            List<Entry> rdfClasses = current.typesMappings.get(typeURI);
+            if (rdfClasses.size() == 1) {
+                candidates.add(rdfClasses.get(0));
+                LOGGER.trace("[+] Candidate class {} found for RDF:type {}", rdfClasses.get(0).getClassName(), typeURI);
+            } else if (resolution.preferredTypes.isEmpty()) {
+                StringBuilder sb = new StringBuilder();
+                sb.append("'preferredTypes' argument is required when more than one class (");
+                sb.append(rdfClasses.toString());
+                sb.append(") are mapped to the same RDF:type (");
+                sb.append(typeURI);
+                sb.append(")");
+                LOGGER.debug(sb.toString());
+                throw new IllegalArgumentException(sb.toString());
+            } else {
+                preferred:
+                for(Class<?> preferredType : resolution.preferredTypes) {
+                    for (Entry rdfClass : rdfClasses) {
+                        if (rdfClass.getClassName().equals(preferredType.getName())) {
+                            candidates.add(rdfClass);
                             LOGGER.trace("[+] Preferred candidate class {} found for RDF:type {}",
                                 preferredType.getName(), typeURI);
-                            break;
+                            break preferred;
                         }
                     }
                 }
             }
         }
         if (candidates.isEmpty()) {
-            LOGGER.debug("< Unmapped class for resource {}", resource.getURI());
             return Optional.empty();
-        } else {
-            Class<?> mappedClass = (candidates.size() == 1 ? candidates.get(0) : getMostConcreteClassOf(candidates));
-            LOGGER.debug("< Mapped class {} for resource {}", mappedClass.getName(), resource.getURI());
-            return Optional.of(mappedClass);
         }
+        Entry mappedClass = (candidates.size() == 1 ? candidates.get(0) : getMostConcreteClassOf(candidates));
+        return Optional.of(mappedClass.getRdfClass());
+    }
+
+    /**
+     * @return the names of the mapped packages.
+     */
+    static Set<String> getScannedPackages() {
+        return snapshot.scannedPackages;
+    }
+
+    /**
+     * @return the classes mapped to each RDF type.
+     */
+    static Map<String, List<Entry>> getTypesMappings() {
+        return snapshot.typesMappings;
     }
 
     /**
@@ -199,8 +270,72 @@ public class ResourcePackages {
      *
      * @since 4.0.0.RC
      */
-    public static void reset() {
-        SCANNED_PACKAGES.clear();
-        TYPES_MAPPINGS.clear();
+    public static synchronized void reset() {
+        snapshot = Snapshot.EMPTY;
+    }
+
+    /**
+     * An immutable state of the registered packages.
+     */
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(Collections.emptySet(), Collections.emptyMap());
+
+        final Set<String> scannedPackages;
+        final Map<String, List<Entry>> typesMappings;
+        final ConcurrentMap<Resolution, Optional<Class<?>>> resolved = new ConcurrentHashMap<>();
+
+        private Snapshot(Set<String> scannedPackages, Map<String, List<Entry>> typesMappings) {
+            this.scannedPackages = scannedPackages;
+            this.typesMappings = typesMappings;
+        }
+
+        Snapshot with(String packageName, List<Entry> entries) {
+            Set<String> packages = new HashSet<>(scannedPackages);
+            packages.add(packageName);
+            Map<String, List<Entry>> mappings = new HashMap<>();
+            for (Map.Entry<String, List<Entry>> mapping : typesMappings.entrySet()) {
+                mappings.put(mapping.getKey(), new ArrayList<>(mapping.getValue()));
+            }
+            for (Entry entry : entries) {
+                List<Entry> types = mappings.computeIfAbsent(entry.getRdfType(), k -> new ArrayList<>());
+                // packages that contain each other share classes
+                if (types.stream().noneMatch(e -> e.getClassName().equals(entry.getClassName()))) {
+                    types.add(entry);
+                }
+            }
+            mappings.replaceAll((type, classes) -> Collections.unmodifiableList(classes));
+            return new Snapshot(Collections.unmodifiableSet(packages), Collections.unmodifiableMap(mappings));
+        }
+    }
+
+    /**
+     * The mapped RDF types of a resource and the preferred classes they are
+     * resolved with.
+     */
+    private static final class Resolution {
+        final Set<String> types;
+        final List<Class<?>> preferredTypes;
+
+        Resolution(Set<String> types, Class<?>[] preferredTypes) {
+            this.types = types;
+            this.preferredTypes = Arrays.asList(preferredTypes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Resolution)) {
+                return false;
+            }
+            Resolution other = (Resolution) o;
+            return types.equals(other.types) && preferredTypes.equals(other.preferredTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(types, preferredTypes);
+        }
     }
 }
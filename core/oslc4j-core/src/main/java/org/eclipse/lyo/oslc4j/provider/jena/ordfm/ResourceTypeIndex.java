@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena.ordfm;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the {@code rdf:type} index that the OSLC4J annotation processor writes
+ * to {@value #INDEX} and describes the classes mapped by {@link ResourcePackages}.
+ *
+ * @since 7.0.0
+ */
+final class ResourceTypeIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourceTypeIndex.class);
+
+    /**
+     * Location of the index; one {@code rdf:type<TAB>class<TAB>supertype,...}
+     * line per concrete {@code @OslcResourceShape} class.
+     */
+    static final String INDEX = "META-INF/lyo/oslc-resource-types";
+
+    private ResourceTypeIndex() {}
+
+    /**
+     * Reads the indexed classes of a package and its subpackages from all
+     * indexes visible to a class loader. An index only describes the classes of
+     * the classpath element (jar or directory) it was written to.
+     * @param loader the class loader to read the indexes and load the classes with.
+     * @param packageName the package.
+     * @return the indexed classes and the classpath elements they were read from;
+     * empty if no index can be read.
+     */
+    static Indexed read(ClassLoader loader, String packageName) {
+        List<Entry> entries = new ArrayList<>();
+        Set<String> elements = new HashSet<>();
+        String prefix = packageName + ".";
+        try {
+            Enumeration<URL> indexes = loader.getResources(INDEX);
+            while (indexes.hasMoreElements()) {
+                URL index = indexes.nextElement();
+                String url = index.toString();
+                elements.add(classpathElement(url.substring(0, url.length() - INDEX.length())));
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        String[] columns = line.split("\t", -1);
+                        if (columns.length != 3) {
+                            if (!line.isBlank()) {
+                                LOGGER.warn("Ignoring malformed line in {}: {}", index, line);
+                            }
+                            continue;
+                        }
+                        String className = columns[1];
+                        if (packageName.isEmpty() || className.startsWith(prefix)) {
+                            Set<String> supertypes = columns[2].isEmpty()
+                                ? Collections.emptySet()
+                                : new HashSet<>(Arrays.asList(columns[2].split(",")));
+                            entries.add(new Entry(columns[0], className, supertypes, loader, null));
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Cannot read {}; package {} will be scanned", INDEX, packageName, e);
+            return Indexed.NONE;
+        }
+        return new Indexed(entries, elements);
+    }
+
+    /**
+     * Normalizes the URL of a classpath element, so that the URLs of the same
+     * jar or directory compare equal whether they come from a class loader or
+     * from ClassGraph.
+     * @param url the URL of a jar or directory, or of its root entry.
+     * @return the normalized URL.
+     */
+    static String classpathElement(String url) {
+        String element = url;
+        if (element.endsWith("/")) {
+            element = element.substring(0, element.length() - 1);
+        }
+        if (element.endsWith("!")) {
+            element = element.substring(0, element.length() - 1);
+        }
+        if (element.startsWith("jar:") && !element.contains("!/")) {
+            element = element.substring("jar:".length());
+        }
+        if (element.startsWith("file:")) {
+            try {
+                element = Paths.get(URI.create(element)).normalize().toString();
+            } catch (IllegalArgumentException | FileSystemNotFoundException e) {
+                LOGGER.trace("Cannot normalize classpath element {}", element);
+            }
+        }
+        return element;
+    }
+
+    /**
+     * The classes read from the indexes of a package.
+     */
+    static final class Indexed {
+        static final Indexed NONE = new Indexed(Collections.emptyList(), Collections.emptySet());
+
+        private final List<Entry> entries;
+        private final Set<String> classpathElements;
+
+        private Indexed(List<Entry> entries, Set<String> classpathElements) {
+            this.entries = entries;
+            this.classpathElements = classpathElements;
+        }
+
+        /**
+         * @return the indexed classes of the package.
+         */
+        List<Entry> getEntries() {
+            return entries;
+        }
+
+        /**
+         * @return the {@link #classpathElement(String) normalized} classpath
+         * elements that have an index; their classes do not need to be scanned.
+         */
+        Set<String> getClasspathElements() {
+            return classpathElements;
+        }
+    }
+
+    /**
+     * A class mapped to an {@code rdf:type}. Indexed classes are loaded the
+     * first time they are chosen for a resource.
+     */
+    static final class Entry {
+        private final String rdfType;
+        private final String className;
+        private final Set<String> supertypes;
+        private final ClassLoader loader;
+        private volatile Class<?> rdfClass;
+
+        private Entry(String rdfType, String className, Set<String> supertypes, ClassLoader loader,
+                      Class<?> rdfClass) {
+            this.rdfType = rdfType;
+            this.className = className;
+            this.supertypes = supertypes;
+            this.loader = loader;
+            this.rdfClass = rdfClass;
+        }
+
+        /**
+         * Describes an already loaded class.
+         * @param rdfType the mapped type.
+         * @param rdfClass the class.
+         * @return the entry.
+         */
+        static Entry of(String rdfType, Class<?> rdfClass) {
+            Set<String> supertypes = new HashSet<>();
+            Deque<Class<?>> pending = new ArrayDeque<>();
+            pending.add(rdfClass);
+            while (!pending.isEmpty()) {
+                Class<?> current = pending.removeFirst();
+                if (current.getSuperclass() != null && current.getSuperclass() != Object.class) {
+                    pending.add(current.getSuperclass());
+                }
+                pending.addAll(Arrays.asList(current.getInterfaces()));
+                if (current != rdfClass) {
+                    supertypes.add(current.getName());
+                }
+            }
+            return new Entry(rdfType, rdfClass.getName(), supertypes, rdfClass.getClassLoader(), rdfClass);
+        }
+
+        String getRdfType() {
+            return rdfType;
+        }
+
+        String getClassName() {
+            return className;
+        }
+
+        /**
+         * @param other another mapped class.
+         * @return true if this class extends or implements the other one.
+         */
+        boolean isSubclassOf(Entry other) {
+            return supertypes.contains(other.className);
+        }
+
+        /**
+         * @return the class, loaded on first use.
+         * @throws IllegalStateException if the indexed class cannot be loaded.
+         */
+        Class<?> getRdfClass() {
+            Class<?> loaded = rdfClass;
+            if (loaded == null) {
+                try {
+                    loaded = Class.forName(className, true, loader);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    throw new IllegalStateException("Class " + className + " is listed in " + INDEX
+                        + " for RDF:type " + rdfType + " but cannot be loaded", e);
+                }
+                rdfClass = loaded;
+            }
+            return loaded;
+        }
+
+        @Override
+        public String toString() {
+            return className;
+        }
+    }
+}
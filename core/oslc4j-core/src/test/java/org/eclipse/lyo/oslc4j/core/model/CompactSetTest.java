@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.core.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URI;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class CompactSetTest {
+
+    @Test
+    public void behavesLikeHashSetAcrossTheArrayLimit() {
+        final Set<Integer> set = new CompactSet<>();
+        final Set<Integer> expected = new HashSet<>();
+
+        for (int i = 0; i < 2 * CompactSet.ARRAY_LIMIT; i++) {
+            assertThat(set.add(i)).isTrue();
+            assertThat(set.add(i)).isFalse();
+            expected.add(i);
+
+            assertThat(set).isEqualTo(expected).hasSameHashCodeAs(expected);
+        }
+        for (int i = 0; i < 2 * CompactSet.ARRAY_LIMIT; i += 2) {
+            assertThat(set.remove(i)).isTrue();
+            assertThat(set.remove(i)).isFalse();
+            expected.remove(i);
+
+            assertThat(set).isEqualTo(expected);
+        }
+
+        set.clear();
+        assertThat(set).isEmpty();
+        assertThat(set.add(1)).isTrue();
+        assertThat(set).containsExactly(1);
+    }
+
+    @Test
+    public void keepsInsertionOrderAndNullsInTheArray() {
+        final Set<String> set = new CompactSet<>();
+        set.add("b");
+        set.add(null);
+        set.add("a");
+
+        assertThat(set).containsExactly("b", null, "a");
+        assertThat(set.contains(null)).isTrue();
+    }
+
+    @Test
+    public void usesLinkEquality() {
+        final Set<Link> set = new CompactSet<>();
+        set.add(new Link(URI.create("http://example.com/a"), "A"));
+
+        assertThat(set.add(new Link(URI.create("http://example.com/a"), "other label"))).isFalse();
+        assertThat(set).hasSize(1);
+    }
+
+    @Test
+    public void iteratorRemoves() {
+        final Set<Integer> set = new CompactSet<>();
+        set.add(1);
+        set.add(2);
+        set.add(3);
+
+        final Iterator<Integer> iterator = set.iterator();
+        assertThat(iterator.next()).isEqualTo(1);
+        iterator.remove();
+        assertThat(iterator.next()).isEqualTo(2);
+        iterator.remove();
+        assertThatThrownBy(iterator::remove).isInstanceOf(IllegalStateException.class);
+
+        assertThat(set).containsExactly(3);
+    }
+
+    @Test
+    public void iteratorFailsAfterConcurrentModification() {
+        final Set<Integer> set = new CompactSet<>();
+        set.add(1);
+        set.add(2);
+
+        final Iterator<Integer> iterator = set.iterator();
+        iterator.next();
+        set.add(3);
+
+        assertThatThrownBy(iterator::next).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    public void isSerializable() throws Exception {
+        final Set<String> set = new CompactSet<>();
+        set.add("a");
+        set.add("b");
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(set);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(in.readObject()).isEqualTo(set);
+        }
+    }
+}
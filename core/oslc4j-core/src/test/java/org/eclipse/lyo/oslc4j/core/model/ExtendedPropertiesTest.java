@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.core.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+
+import org.junit.Test;
+
+public class ExtendedPropertiesTest {
+
+    private static final String NAMESPACE = "http://example.com/ns#";
+
+    @Test
+    public void behavesLikeHashMapAcrossTheArrayLimit() {
+        final Map<QName, Object> map = new ExtendedProperties();
+        final Map<QName, Object> expected = new HashMap<>();
+
+        for (int i = 0; i < 2 * ExtendedProperties.ARRAY_LIMIT; i++) {
+            assertThat(map.put(key(i), i)).isNull();
+            assertThat(map.put(key(i), -i)).isEqualTo(i);
+            expected.put(key(i), -i);
+
+            assertThat(map).isEqualTo(expected).hasSameHashCodeAs(expected);
+            assertThat(map.get(key(i))).isEqualTo(-i);
+        }
+        for (int i = 0; i < 2 * ExtendedProperties.ARRAY_LIMIT; i += 2) {
+            assertThat(map.remove(key(i))).isEqualTo(-i);
+            assertThat(map.remove(key(i))).isNull();
+            expected.remove(key(i));
+
+            assertThat(map).isEqualTo(expected);
+        }
+
+        map.clear();
+        assertThat(map).isEmpty();
+        map.put(key(1), "value");
+        assertThat(map).containsExactly(Map.entry(key(1), "value"));
+    }
+
+    @Test
+    public void keepsInsertionOrderInTheArray() {
+        final Map<QName, Object> map = new ExtendedProperties();
+        map.put(key(2), "b");
+        map.put(key(1), "a");
+        map.put(key(3), null);
+
+        assertThat(map.keySet()).containsExactly(key(2), key(1), key(3));
+        assertThat(map.containsKey(key(3))).isTrue();
+        assertThat(map.containsValue("a")).isTrue();
+    }
+
+    @Test
+    public void entriesAreWrittenThrough() {
+        final Map<QName, Object> map = new ExtendedProperties();
+        map.put(key(1), "a");
+        map.put(key(2), "b");
+        map.put(key(3), "c");
+
+        final Iterator<Map.Entry<QName, Object>> iterator = map.entrySet().iterator();
+        iterator.next().setValue("A");
+        iterator.next();
+        iterator.remove();
+        assertThatThrownBy(iterator::remove).isInstanceOf(IllegalStateException.class);
+
+        assertThat(map).containsExactly(Map.entry(key(1), "A"), Map.entry(key(3), "c"));
+    }
+
+    @Test
+    public void qNamesAreSharedAndKeepTheirPrefix() {
+        final QName qName = ExtendedProperties.qName(NAMESPACE, "shared", "ex");
+
+        assertThat(ExtendedProperties.qName(NAMESPACE, "shared", "ex")).isSameAs(qName);
+        assertThat(ExtendedProperties.qName(NAMESPACE, "shared", "other").getPrefix()).isEqualTo("other");
+        assertThat(ExtendedProperties.qName(null, "local", "")).isEqualTo(new QName("local"));
+        assertThatThrownBy(() -> ExtendedProperties.qName(NAMESPACE, "shared", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void isSerializable() throws Exception {
+        final Map<QName, Object> map = new ExtendedProperties();
+        map.put(key(1), "a");
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(map);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(in.readObject()).isEqualTo(map);
+        }
+    }
+
+    private static QName key(final int i) {
+        return new QName(NAMESPACE, "p" + i, "ex");
+    }
+}
@@ -0,0 +1,146 @@
+package org.eclipse.lyo.oslc4j.core.model;
+
+import org.eclipse.lyo.oslc4j.core.annotation.OslcPropertyDefinition;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PropertyAccessorsTest {
+
+    private static final String NS = "http://example.com/ns#";
+
+    private static final List<PropertyAccessorFactory> FACTORIES = List.of(PropertyAccessors.REFLECTION,
+            PropertyAccessors.METHOD_HANDLE, PropertyAccessors.LAMBDA);
+
+    @Test
+    public void accessorsReadAndWriteReferenceProperties() throws Exception {
+        final Method getter = Bean.class.getMethod("getTitle");
+        final Method setter = Bean.class.getMethod("setTitle", String.class);
+
+        for (final PropertyAccessorFactory factory : FACTORIES) {
+            final Bean bean = new Bean();
+            final BiConsumer<Object, Object> set = factory.createSetter(setter);
+            final Function<Object, Object> get = factory.createGetter(getter);
+
+            set.accept(bean, "title-" + factory);
+
+            assertThat(get.apply(bean)).as(factory.toString()).isEqualTo("title-" + factory);
+        }
+    }
+
+    @Test
+    public void accessorsBoxPrimitiveProperties() throws Exception {
+        final Method getter = Bean.class.getMethod("getCount");
+        final Method setter = Bean.class.getMethod("setCount", int.class);
+
+        for (final PropertyAccessorFactory factory : FACTORIES) {
+            final Bean bean = new Bean();
+            factory.createSetter(setter).accept(bean, 42);
+
+            assertThat(factory.createGetter(getter).apply(bean)).as(factory.toString()).isEqualTo(42);
+        }
+    }
+
+    @Test
+    public void lambdaAccessorsWorkForNonPublicClasses() throws Exception {
+        final Method getter = HiddenBean.class.getMethod("getTitle");
+
+        final HiddenBean bean = new HiddenBean();
+        bean.setTitle("hidden");
+
+        assertThat(PropertyAccessors.LAMBDA.createGetter(getter).apply(bean)).isEqualTo("hidden");
+    }
+
+    @Test
+    public void descriptorWrapsExceptionsOfAllStrategies() {
+        final ResourcePropertyDescriptor property = ResourceClassDescriptor.of(Bean.class)
+                .getProperty(NS + "failing");
+
+        for (final PropertyAccessorFactory factory : FACTORIES) {
+            PropertyAccessors.setFactory(factory);
+            try {
+                final ResourcePropertyDescriptor fresh = new ResourcePropertyDescriptor(Bean.class,
+                        property.getGetter(), property.getPropertyDefinitionAnnotation());
+
+                assertThatThrownBy(() -> fresh.getValue(new Bean()))
+                        .as(factory.toString())
+                        .isInstanceOf(InvocationTargetException.class)
+                        .hasCauseInstanceOf(UnsupportedOperationException.class);
+            } finally {
+                PropertyAccessors.setFactory(null);
+            }
+        }
+    }
+
+    @Test
+    public void descriptorUsesAccessors() throws Exception {
+        final ResourcePropertyDescriptor property = ResourceClassDescriptor.of(Bean.class)
+                .getProperty(NS + "title");
+        final Bean bean = new Bean();
+
+        property.setValue(bean, "value");
+
+        assertThat(bean.getTitle()).isEqualTo("value");
+        assertThat(property.getValue(bean)).isEqualTo("value");
+    }
+
+    @Test
+    public void factoryIsSelectedByName() {
+        assertThat(PropertyAccessors.forName("Lambda")).isSameAs(PropertyAccessors.LAMBDA);
+        assertThat(PropertyAccessors.forName("methodhandle")).isSameAs(PropertyAccessors.METHOD_HANDLE);
+        assertThat(PropertyAccessors.forName(" reflection ")).isSameAs(PropertyAccessors.REFLECTION);
+        assertThatThrownBy(() -> PropertyAccessors.forName("asm"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    public static class Bean {
+        private String title;
+        private int count;
+
+        @OslcPropertyDefinition(NS + "title")
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(final String title) {
+            this.title = title;
+        }
+
+        @OslcPropertyDefinition(NS + "count")
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(final int count) {
+            this.count = count;
+        }
+
+        @OslcPropertyDefinition(NS + "failing")
+        public String getFailing() {
+            throw new UnsupportedOperationException();
+        }
+
+        public void setFailing(final String failing) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    static class HiddenBean {
+        private String title;
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(final String title) {
+            this.title = title;
+        }
+    }
+}
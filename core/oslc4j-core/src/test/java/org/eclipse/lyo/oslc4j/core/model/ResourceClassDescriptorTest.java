@@ -0,0 +1,158 @@
+package org.eclipse.lyo.oslc4j.core.model;
+
+import org.eclipse.lyo.oslc4j.core.annotation.OslcName;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcNamespace;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcOccurs;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcPropertyDefinition;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcRdfCollectionType;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcValueType;
+import org.eclipse.lyo.oslc4j.core.exception.OslcCoreMissingSetMethodException;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceClassDescriptorTest {
+
+    private static final String NS = "http://example.com/ns#";
+
+    @Test
+    public void descriptorIsCachedPerClass() {
+        assertThat(ResourceClassDescriptor.of(Sample.class))
+                .isSameAs(ResourceClassDescriptor.of(Sample.class));
+    }
+
+    @Test
+    public void resolvesPropertiesAndAnnotations() throws Exception {
+        final ResourceClassDescriptor descriptor = ResourceClassDescriptor.of(Sample.class);
+
+        assertThat(descriptor.isResourceShape()).isTrue();
+        assertThat(descriptor.getProperties()).hasSize(3);
+
+        final ResourcePropertyDescriptor title = descriptor.getProperty(NS + "title");
+        assertThat(title.getName()).isEqualTo("title");
+        assertThat(title.getGetter().getName()).isEqualTo("getTitle");
+        assertThat(title.getRequiredSetter().getName()).isEqualTo("setTitle");
+        assertThat(title.isXmlLiteral()).isTrue();
+        assertThat(title.getOccursAnnotation().value()).isEqualTo(Occurs.ExactlyOne);
+
+        final ResourcePropertyDescriptor done = descriptor.getProperty(NS + "done");
+        assertThat(done.getName()).isEqualTo("done");
+        assertThat(done.getGetter().getName()).isEqualTo("isClosed");
+        assertThat(done.getRequiredSetter().getName()).isEqualTo("setClosed");
+
+        final ResourcePropertyDescriptor items = descriptor.getProperty(NS + "items");
+        assertThat(items.getRdfCollectionTypeAnnotation().collectionType()).isEqualTo("Seq");
+
+        assertThat(descriptor.getSetMethods()).containsOnlyKeys(NS + "title", NS + "done", NS + "items");
+    }
+
+    @Test
+    public void indexesFollowPropertyOrder() {
+        final ResourceClassDescriptor descriptor = ResourceClassDescriptor.of(Sample.class);
+
+        for (int index = 0; index < descriptor.getProperties().size(); index++) {
+            assertThat(descriptor.indexOf(descriptor.getProperties().get(index).getPropertyDefinition()))
+                    .isEqualTo(index);
+        }
+        assertThat(descriptor.indexOf(NS + "unknown")).isEqualTo(-1);
+    }
+
+    @Test
+    public void inheritsAnnotationsFromInterfaces() {
+        final ResourceClassDescriptor descriptor = ResourceClassDescriptor.of(SampleImpl.class);
+
+        assertThat(descriptor.isResourceShape()).isFalse();
+        assertThat(descriptor.getProperty(NS + "label")).isNotNull();
+        assertThat(descriptor.getProperty(NS + "label").getGetter().getDeclaringClass())
+                .isEqualTo(SampleImpl.class);
+    }
+
+    @Test(expected = OslcCoreMissingSetMethodException.class)
+    public void missingSetterIsReportedLazily() throws Exception {
+        final ResourceClassDescriptor descriptor = ResourceClassDescriptor.of(ReadOnly.class);
+
+        assertThat(descriptor.getProperties()).hasSize(1);
+        assertThat(descriptor.getProperties().get(0).getSetter()).isNull();
+
+        descriptor.getSetMethods();
+    }
+
+    @Test
+    public void plainClassHasNoProperties() {
+        assertThat(ResourceClassDescriptor.of(String.class).getProperties()).isEmpty();
+    }
+
+    @OslcNamespace(NS)
+    @OslcResourceShape(describes = NS + "Sample")
+    public static class Sample {
+        private String title;
+        private boolean closed;
+        private List<String> items;
+
+        @OslcPropertyDefinition(NS + "title")
+        @OslcValueType(ValueType.XMLLiteral)
+        @OslcOccurs(Occurs.ExactlyOne)
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(final String title) {
+            this.title = title;
+        }
+
+        @OslcPropertyDefinition(NS + "done")
+        @OslcName("done")
+        public boolean isClosed() {
+            return closed;
+        }
+
+        public void setClosed(final boolean closed) {
+            this.closed = closed;
+        }
+
+        @OslcPropertyDefinition(NS + "items")
+        @OslcRdfCollectionType(collectionType = "Seq")
+        public List<String> getItems() {
+            return items;
+        }
+
+        public void setItems(final List<String> items) {
+            this.items = items;
+        }
+
+        public String getUnmapped() {
+            return null;
+        }
+    }
+
+    public interface Labelled {
+        @OslcPropertyDefinition(NS + "label")
+        String getLabel();
+
+        void setLabel(String label);
+    }
+
+    public static class SampleImpl implements Labelled {
+        private String label;
+
+        @Override
+        public String getLabel() {
+            return label;
+        }
+
+        @Override
+        public void setLabel(final String label) {
+            this.label = label;
+        }
+    }
+
+    public static class ReadOnly {
+        @OslcPropertyDefinition(NS + "value")
+        public String getValue() {
+            return null;
+        }
+    }
+}
@@ -56,7 +56,12 @@ public class OslcGlobalNamespaceProviderTest {
 				"Global Namespace Map should not be null when created.",
 				globalNamespaceProvider.getPrefixDefinitionMap()
 		);
-		globalNamespaceProvider.getPrefixDefinitionMap().put("test", "http://anything.com");
+		globalNamespaceProvider.putPrefixDefinition("test", "http://anything.com");
+		Assert.assertEquals(
+				"Prefix definition should be added.",
+				"http://anything.com",
+				globalNamespaceProvider.getPrefixDefinitionMap().get("test")
+		);
 		globalNamespaceProvider.setPrefixDefinitionMap(null);
 		Assert.assertNotNull(
 				"Global Namespace Map should not be null.",
@@ -73,6 +78,27 @@ public class OslcGlobalNamespaceProviderTest {
 				"Global Namespace Map could not be set.",
 				globalNamespaceProvider.getPrefixDefinitionMap().isEmpty()
 		);
+		globalNamespaceProvider.setPrefixDefinitionMap(null);
+	}
+
+	/**
+	 * Tests that the published map is an immutable snapshot.
+	 */
+	@Test
+	public void testSnapshotIsImmutable() {
+		OslcGlobalNamespaceProvider globalNamespaceProvider = OslcGlobalNamespaceProvider.getInstance();
+		Map<String, String> namespaceMappings = new HashMap<>(1);
+		namespaceMappings.put("any", "http://any.test.com#");
+		globalNamespaceProvider.setPrefixDefinitionMap(namespaceMappings);
+		Map<String, String> snapshot = globalNamespaceProvider.getPrefixDefinitionMap();
+
+		namespaceMappings.put("other", "http://other.test.com#");
+		globalNamespaceProvider.putPrefixDefinition("next", "http://next.test.com#");
+
+		Assert.assertEquals("Snapshot should not change.", 1, snapshot.size());
+		Assert.assertThrows(UnsupportedOperationException.class, () -> snapshot.put("test", "http://anything.com"));
+		Assert.assertEquals(2, globalNamespaceProvider.getPrefixDefinitionMap().size());
+		globalNamespaceProvider.setPrefixDefinitionMap(null);
 	}
 
 }
@@ -16,18 +16,27 @@ package org.eclipse.lyo.oslc4j.provider.jena;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
+import org.apache.jena.irix.IRIs;
+import org.apache.jena.irix.IRIxResolver;
 import org.apache.jena.rdf.model.Model;
-import org.apache.jena.rdf.model.ModelFactory;
-import org.apache.jena.rdf.model.RDFReaderI;
 import org.apache.jena.rdf.model.RDFWriterI;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFFormat;
 import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.RDFParserBuilder;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFWriter;
 import org.apache.jena.util.FileUtils;
 import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
 import org.eclipse.lyo.oslc4j.core.OSLC4JUtils;
@@ -82,6 +91,16 @@ public abstract class AbstractOslcRdfXmlProvider
 	private static final Class<Error> CLASS_OSLC_ERROR		  = Error.class;
 	private static final ErrorHandler ERROR_HANDLER			  = new ErrorHandler();
 
+	// Relative URIs, commonly used in reified statements for OSLC link labels, are
+	// resolved against the system base like the RDFReaderI API did for an empty base.
+	// See this section of the CM specification for an example:
+	// http://open-services.net/bin/view/Main/CmSpecificationV2?sortcol=table;up=#Labels_for_Relationships
+	private static final String BASE_URI = IRIs.getBaseStr();
+	private static final IRIxResolver RESOLVER = IRIxResolver.create(BASE_URI).build();
+
+	// Parser templates are configured once per language and cloned for every request
+	private static final Map<Lang, RDFParserBuilder> PARSERS = new ConcurrentHashMap<>();
+
 	private @Context HttpHeaders		  httpHeaders;		  // Available only on the server
 	protected @Context HttpServletRequest httpServletRequest; // Available only on the server
 	private @Context Providers			  providers;		  // Available on both client and server
@@ -100,6 +119,64 @@ public abstract class AbstractOslcRdfXmlProvider
 						   final String							responseInfoURI,
 						   final ResponseInfo<?>				responseInfo)
 				throws WebApplicationException
+	{
+		writeObjectsTo(objects,
+					   outputStream,
+					   properties,
+					   descriptionURI,
+					   responseInfoURI,
+					   responseInfo,
+					   getSerializationLanguage(objects, baseMediaType),
+					   baseMediaType,
+					   takeMarshalledModel(objects, properties, descriptionURI)
+		);
+	}
+
+	/**
+	 * Returns the model that {@link OslcEntityTagFilter} marshalled the same
+	 * resources to, if any, so that they are not marshalled twice. Query results
+	 * are written with a description resource that the filter model lacks.
+	 */
+	private Model takeMarshalledModel(final Object[] objects, final Map<String, Object> properties,
+			final String descriptionURI)
+	{
+		final Object marshalled;
+		try
+		{
+			marshalled = httpServletRequest.getAttribute(OslcEntityTagFilter.MARSHALLED_MODEL);
+		}
+		catch (final RuntimeException exception)
+		{
+			// Client side, there is no request
+			return null;
+		}
+		if (!(marshalled instanceof OslcEntityTagFilter.MarshalledModel marshalledModel))
+		{
+			return null;
+		}
+		httpServletRequest.removeAttribute(OslcEntityTagFilter.MARSHALLED_MODEL);
+		return descriptionURI == null ? marshalledModel.reuseFor(objects, properties) : null;
+	}
+
+	/**
+	 * Serializes resources exactly like a GET response of the given media type,
+	 * e.g. to cache the bytes in {@link OslcDocumentCache}.
+	 */
+	static void writeTo(final Object[] objects, final MediaType baseMediaType, final OutputStream outputStream)
+	{
+		writeObjectsTo(objects,
+					   outputStream,
+					   null,
+					   null,
+					   null,
+					   null,
+					   getSerializationLanguage(objects, baseMediaType),
+					   baseMediaType,
+					   null
+		);
+	}
+
+	private static String getSerializationLanguage(final Object[] objects, final MediaType baseMediaType)
 	{
 		String serializationLanguage = getSerializationLanguage(baseMediaType);
 
@@ -114,30 +191,38 @@ public abstract class AbstractOslcRdfXmlProvider
 			serializationLanguage = FileUtils.langXMLAbbrev;
 			log.info("Using RDF/XML-ABBREV for ServiceProvider resources");
 		}
-
-		writeObjectsTo(objects,
-					   outputStream,
-					   properties,
-					   descriptionURI,
-					   responseInfoURI,
-					   responseInfo,
-					   serializationLanguage
-		);
+		return serializationLanguage;
 	}
 
-	private void writeObjectsTo(final Object[] objects, final OutputStream outputStream,
+	private static void writeObjectsTo(final Object[] objects, final OutputStream outputStream,
 			final Map<String, Object> properties, final String descriptionURI,
 			final String responseInfoURI, final ResponseInfo<?> responseInfo,
-			final String serializationLanguage) {
+			final String serializationLanguage, final MediaType baseMediaType, final Model marshalledModel) {
 		try
 		{
             Instant start = Instant.now();
 
-			final Model model = JenaModelHelper.createJenaModel(descriptionURI,
-																responseInfoURI,
-																responseInfo,
-																objects,
-																properties);
+			final StreamRDF stream = getStreamWriter(serializationLanguage, baseMediaType, outputStream);
+			if (stream != null)
+			{
+				JenaModelHelper.createJenaStream(descriptionURI,
+												 responseInfoURI,
+												 responseInfo,
+												 objects,
+												 properties,
+												 stream);
+				log.trace("writeObjectsTo - Streamed as {} in {} ms", serializationLanguage,
+						Duration.between(start, Instant.now()).toMillis());
+				return;
+			}
+
+			final Model model = marshalledModel != null
+					? marshalledModel
+					: JenaModelHelper.createJenaModel(descriptionURI,
+													  responseInfoURI,
+													  responseInfo,
+													  objects,
+													  properties);
 			RDFWriterI writer = getRdfWriter(serializationLanguage, model);
 
 			if (serializationLanguage.equals(FileUtils.langXML) || serializationLanguage.equals(FileUtils.langXMLAbbrev))
@@ -162,7 +247,63 @@ public abstract class AbstractOslcRdfXmlProvider
 		}
 	}
 
-	private RDFWriterI getRdfWriter(final String serializationLanguage, final Model model) {
+	/**
+	 * Returns a streaming writer if the media type is listed in
+	 * {@value OSLC4JConstants#OSLC4J_STREAMING_MEDIA_TYPES} and the language can be
+	 * written without a Model, otherwise {@code null}. The binary RDF encodings are
+	 * always streamed; their output does not depend on a Model.
+	 */
+	private static StreamRDF getStreamWriter(final String serializationLanguage,
+			final MediaType baseMediaType, final OutputStream outputStream) {
+		if (RDFLanguages.strLangRDFTHRIFT.equals(serializationLanguage)) {
+			return StreamRDFWriter.getWriterStream(outputStream, RDFFormat.RDF_THRIFT);
+		} else if (RDFLanguages.strLangRDFPROTO.equals(serializationLanguage)) {
+			return StreamRDFWriter.getWriterStream(outputStream, RDFFormat.RDF_PROTO);
+		}
+
+		if (!isStreamingMediaType(baseMediaType)) {
+			return null;
+		}
+
+		if (RDFLanguages.strLangNTriples.equals(serializationLanguage)) {
+			return StreamRDFWriter.getWriterStream(outputStream, RDFFormat.NTRIPLES);
+		} else if (RDFLanguages.strLangTurtle.equals(serializationLanguage)) {
+			return StreamRDFWriter.getWriterStream(outputStream, RDFFormat.TURTLE_BLOCKS);
+		} else if (RDFLanguages.strLangJSONLD.equals(serializationLanguage)) {
+			return new StreamRDFJsonLdWriter(outputStream);
+		}
+		return null;
+	}
+
+	/**
+	 * @return whether responses of the media type are streamed rather than
+	 * written from a Model
+	 */
+	static boolean isStreamed(final MediaType baseMediaType) {
+		final String serializationLanguage = getSerializationLanguage(baseMediaType);
+		return RDFLanguages.strLangRDFTHRIFT.equals(serializationLanguage)
+				|| RDFLanguages.strLangRDFPROTO.equals(serializationLanguage)
+				|| (isStreamingMediaType(baseMediaType)
+					&& (RDFLanguages.strLangNTriples.equals(serializationLanguage)
+						|| RDFLanguages.strLangTurtle.equals(serializationLanguage)
+						|| RDFLanguages.strLangJSONLD.equals(serializationLanguage)));
+	}
+
+	private static boolean isStreamingMediaType(final MediaType baseMediaType) {
+		for (final String mediaType : OSLC4JUtils.getStreamingMediaTypes()) {
+			try {
+				if (baseMediaType.isCompatible(MediaType.valueOf(mediaType))) {
+					return true;
+				}
+			} catch (IllegalArgumentException e) {
+				log.warn("System property '{}' holds an invalid media type: '{}'",
+						OSLC4JConstants.OSLC4J_STREAMING_MEDIA_TYPES, mediaType);
+			}
+		}
+		return false;
+	}
+
+	private static RDFWriterI getRdfWriter(final String serializationLanguage, final Model model) {
 		RDFWriterI writer;
 		if	(serializationLanguage.equals(FileUtils.langXMLAbbrev))
         {
@@ -240,7 +381,9 @@ public abstract class AbstractOslcRdfXmlProvider
 				descriptionURI,
 				responseInfoURI,
 				responseInfo,
-				serializationLanguage
+				serializationLanguage,
+				baseMediaType,
+				takeMarshalledModel(objects, properties, descriptionURI)
 		);
 	}
 
@@ -251,7 +394,7 @@ public abstract class AbstractOslcRdfXmlProvider
 	 * <p>
 	 * applicaton/xml yields abbreviated xml
 	 */
-	private String getSerializationLanguage(final MediaType baseMediaType) {
+	private static String getSerializationLanguage(final MediaType baseMediaType) {
 
 		if(baseMediaType == null) {
 			throw new IllegalArgumentException("Base media type can't be null");
@@ -262,6 +405,12 @@ public abstract class AbstractOslcRdfXmlProvider
 													 RDFLanguages.strLangTurtle));
 		mediaPairs.add(new AbstractMap.SimpleEntry<>(OslcMediaType.APPLICATION_JSON_LD_TYPE,
 													 RDFLanguages.strLangJSONLD));
+		mediaPairs.add(new AbstractMap.SimpleEntry<>(OslcMediaType.APPLICATION_N_TRIPLES_TYPE,
+													 RDFLanguages.strLangNTriples));
+		mediaPairs.add(new AbstractMap.SimpleEntry<>(OslcMediaType.APPLICATION_RDF_THRIFT_TYPE,
+													 RDFLanguages.strLangRDFTHRIFT));
+		mediaPairs.add(new AbstractMap.SimpleEntry<>(OslcMediaType.APPLICATION_RDF_PROTOBUF_TYPE,
+													 RDFLanguages.strLangRDFPROTO));
 		if (OSLC4JUtils.alwaysAbbrevXML()) {
 			// application/rdf+xml will be forcefully abbreviated
 			mediaPairs.add(new AbstractMap.SimpleEntry<>(OslcMediaType.APPLICATION_RDF_XML_TYPE,
@@ -290,27 +439,63 @@ public abstract class AbstractOslcRdfXmlProvider
 		throw new IllegalArgumentException("Base media type can't be matched to any writer");
 	}
 
+	/**
+	 * @return whether the providers have a writer for the media type
+	 */
+	static boolean isSerializable(final MediaType baseMediaType)
+	{
+		try
+		{
+			getSerializationLanguage(baseMediaType);
+			return true;
+		}
+		catch (final IllegalArgumentException exception)
+		{
+			return false;
+		}
+	}
+
 	protected Object[] readFrom(final Class<?>						 type,
 								final MediaType						 mediaType,
 								final MultivaluedMap<String, String> map,
 								final InputStream					 inputStream)
 			  throws WebApplicationException
 	{
-		final Model model = ModelFactory.createDefaultModel();
+		final List<Object> objects = new ArrayList<>();
 
-		RDFReaderI reader = getRdfReader(mediaType, model);
+		readFrom(type,
+				 mediaType,
+				 map,
+				 inputStream,
+				 objects::add);
+
+		return objects.toArray((Object[]) Array.newInstance(type, objects.size()));
+	}
 
+	/**
+	 * Parses the request body with a RIOT parser and hands each unmarshalled
+	 * resource to the consumer. With {@link OSLC4JUtils#useIncrementalParsing()},
+	 * resources are delivered while the body is being parsed.
+	 *
+	 * @see StreamRDFUnmarshaller
+	 */
+	protected void readFrom(final Class<?>						 type,
+							final MediaType						 mediaType,
+							final MultivaluedMap<String, String> map,
+							final InputStream					 inputStream,
+							final Consumer<Object>				 consumer)
+			  throws WebApplicationException
+	{
 		try
 		{
-			// Pass the empty string as the base URI. This allows Jena to
-			// resolve relative URIs commonly used to in reified statements
-			// for OSLC link labels. See this section of the CM specification
-			// for an example:
-			// http://open-services.net/bin/view/Main/CmSpecificationV2?sortcol=table;up=#Labels_for_Relationships
-
-			reader.read(model, inputStream, "");
-
-			return JenaModelHelper.unmarshal(model, type);
+			final StreamRDFUnmarshaller<?> unmarshaller = new StreamRDFUnmarshaller<>(type,
+																		consumer,
+																		OSLC4JUtils.useIncrementalParsing());
+			getRdfParser(mediaType)
+				.source(inputStream)
+				.parse(unmarshaller);
+			// Not every RIOT reader finishes the stream it writes to
+			unmarshaller.finish();
 		}
 		catch (final Exception exception)
 		{
@@ -321,17 +506,17 @@ public abstract class AbstractOslcRdfXmlProvider
 		}
 	}
 
-	private RDFReaderI getRdfReader(final MediaType mediaType, final Model model) {
-		RDFReaderI reader;
+	private RDFParserBuilder getRdfParser(final MediaType mediaType) {
 		final String language = getSerializationLanguage(mediaType);
-		if (language.equals(FileUtils.langXMLAbbrev))
-		{
-			reader = model.getReader(); // Default reader handles both xml and abbreviated xml
-		} else {
-			reader=model.getReader(language);
-		}
-		reader.setErrorHandler(ERROR_HANDLER);
-		return reader;
+		// The RDF/XML parser handles both xml and abbreviated xml
+		final Lang lang = language.equals(FileUtils.langXMLAbbrev)
+				? Lang.RDFXML
+				: RDFLanguages.nameToLang(language);
+		return PARSERS.computeIfAbsent(lang, key -> RDFParser.create()
+				.forceLang(key)
+				.base(BASE_URI)
+				.resolver(RESOLVER))
+			.clone();
 	}
 
 	protected Response buildBadRequestResponse(final Exception				   exception,
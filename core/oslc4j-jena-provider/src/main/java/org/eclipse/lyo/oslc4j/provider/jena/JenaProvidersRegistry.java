@@ -32,9 +32,18 @@ public final class JenaProvidersRegistry
 		PROVIDERS.add(OslcTurtleArrayProvider.class);
 		PROVIDERS.add(OslcTurtleCollectionProvider.class);
 		PROVIDERS.add(OslcTurtleProvider.class);
+		PROVIDERS.add(OslcNTriplesArrayProvider.class);
+		PROVIDERS.add(OslcNTriplesCollectionProvider.class);
+		PROVIDERS.add(OslcNTriplesProvider.class);
 		PROVIDERS.add(OslcJsonLdProvider.class);
 		PROVIDERS.add(OslcJsonLdArrayProvider.class);
 		PROVIDERS.add(OslcJsonLdCollectionProvider.class);
+		PROVIDERS.add(OslcRdfThriftProvider.class);
+		PROVIDERS.add(OslcRdfThriftArrayProvider.class);
+		PROVIDERS.add(OslcRdfThriftCollectionProvider.class);
+		PROVIDERS.add(OslcRdfProtobufProvider.class);
+		PROVIDERS.add(OslcRdfProtobufArrayProvider.class);
+		PROVIDERS.add(OslcRdfProtobufCollectionProvider.class);
 
 	}
 
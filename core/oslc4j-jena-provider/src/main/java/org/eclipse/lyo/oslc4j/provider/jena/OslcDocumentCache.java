@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URISyntaxException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.eclipse.lyo.oslc4j.core.OSLC4JUtils;
+import org.eclipse.lyo.oslc4j.core.exception.OslcCoreApplicationException;
+import org.eclipse.lyo.oslc4j.core.model.Publisher;
+import org.eclipse.lyo.oslc4j.core.model.ResourceShape;
+import org.eclipse.lyo.oslc4j.core.model.ResourceShapeFactory;
+import org.eclipse.lyo.oslc4j.core.model.ServiceProvider;
+import org.eclipse.lyo.oslc4j.core.model.ServiceProviderFactory;
+
+/**
+ * Caches the {@link ResourceShape}s and {@link ServiceProvider}s built by
+ * {@link ResourceShapeFactory} and {@link ServiceProviderFactory}, together with
+ * their serialized bytes and a strong {@link EntityTag} per media type.
+ * <p>
+ * Documents are keyed by the arguments of the factory methods. Each media type is
+ * serialized once, the same way the Jena providers write it, so a request
+ * endpoint can answer with
+ * <pre>
+ * return OslcDocumentCache.getInstance()
+ *         .getResourceShape(baseURI, OslcConstants.PATH_RESOURCE_SHAPES, shapePath, ChangeRequest.class)
+ *         .toResponse(request, mediaType);
+ * </pre>
+ * and conditional GETs are answered with {@code 304 Not Modified} without
+ * reflection or Jena. All documents are rebuilt after
+ * {@link OSLC4JUtils#setPublicURI(String)} or {@link OSLC4JUtils#setServletPath(String)}.
+ * <p>
+ * The cached resources are shared between requests and must not be modified.
+ * When the cache grows past its maximum size, the least recently used quarter
+ * of the documents is evicted.
+ *
+ * @since 7.0.0
+ */
+public final class OslcDocumentCache {
+
+    private static final OslcDocumentCache INSTANCE = new OslcDocumentCache(OSLC4JUtils.getDocumentCacheSize());
+
+    private final int maximumSize;
+    private final ConcurrentMap<List<Object>, Document<?>> documents = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /**
+     * @param maximumSize maximum number of cached documents
+     */
+    public OslcDocumentCache(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @return the cache shared by the application, sized by
+     * {@link OSLC4JConstants#OSLC4J_DOCUMENT_CACHE_SIZE}
+     */
+    public static OslcDocumentCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the cached shape built by
+     * {@link ResourceShapeFactory#createResourceShape(String, String, String, Class)}.
+     *
+     * @param baseURI            base URI of the service
+     * @param resourceShapesPath path of the resource shapes
+     * @param resourceShapePath  path of the shape
+     * @param resourceClass      the resource class described by the shape
+     * @return the cached document
+     * @throws OslcCoreApplicationException if the shape cannot be built
+     * @throws URISyntaxException           if the shape cannot be built
+     */
+    public Document<ResourceShape> getResourceShape(final String baseURI,
+                                                    final String resourceShapesPath,
+                                                    final String resourceShapePath,
+                                                    final Class<?> resourceClass)
+            throws OslcCoreApplicationException, URISyntaxException {
+        return get(Arrays.asList(ResourceShape.class, baseURI, resourceShapesPath, resourceShapePath, resourceClass),
+                () -> ResourceShapeFactory.createResourceShape(baseURI, resourceShapesPath, resourceShapePath,
+                        resourceClass));
+    }
+
+    /**
+     * Returns the cached service provider built by
+     * {@link ServiceProviderFactory#createServiceProvider(String, String, String, String, Publisher, Class[], Map)}.
+     *
+     * @param baseURI             base URI of the service
+     * @param genericBaseURI      generic base URI, e.g. for dialogs
+     * @param title               title of the service provider
+     * @param description         description of the service provider
+     * @param publisher           publisher of the service provider; compared by value
+     * @param resourceClasses     the classes of the services
+     * @param pathParameterValues values of the path parameters of the services
+     * @return the cached document
+     * @throws OslcCoreApplicationException if the service provider cannot be built
+     * @throws URISyntaxException           if the service provider cannot be built
+     */
+    public Document<ServiceProvider> getServiceProvider(final String baseURI,
+                                                        final String genericBaseURI,
+                                                        final String title,
+                                                        final String description,
+                                                        final Publisher publisher,
+                                                        final Class<?>[] resourceClasses,
+                                                        final Map<String, Object> pathParameterValues)
+            throws OslcCoreApplicationException, URISyntaxException {
+        final List<Object> publisherKey = publisher == null ? null : Arrays.asList(publisher.getAbout(),
+                publisher.getTitle(), publisher.getIdentifier(), publisher.getLabel(), publisher.getIcon());
+        final Map<String, Object> pathParameters = pathParameterValues == null
+                ? null
+                : new HashMap<>(pathParameterValues);
+        return get(Arrays.asList(ServiceProvider.class, baseURI, genericBaseURI, title, description, publisherKey,
+                        List.of(resourceClasses), pathParameters),
+                () -> ServiceProviderFactory.createServiceProvider(baseURI, genericBaseURI, title, description,
+                        publisher, resourceClasses, pathParameterValues));
+    }
+
+    /**
+     * Removes all documents.
+     */
+    public void clear() {
+        documents.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Document<T> get(final List<Object> key, final Builder<T> builder)
+            throws OslcCoreApplicationException, URISyntaxException {
+        final long version = OSLC4JUtils.getUriConfigurationVersion();
+        final Document<T> document = (Document<T>) documents.get(key);
+        if (document != null && document.uriConfigurationVersion == version) {
+            document.lastAccess = System.nanoTime();
+            return document;
+        }
+        if (document != null) {
+            // The URIs have changed; the other documents are stale as well
+            documents.values().removeIf(stale -> stale.uriConfigurationVersion != version);
+        }
+
+        final Document<T> built = new Document<>(builder.build(), version);
+        final Document<T> concurrent = (Document<T>) documents.putIfAbsent(key, built);
+        if (concurrent != null) {
+            return concurrent.uriConfigurationVersion == version ? concurrent : built;
+        }
+        if (documents.size() > maximumSize) {
+            evict();
+        }
+        return built;
+    }
+
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            // Another thread is already making room
+            return;
+        }
+        try {
+            final int excess = documents.size() - maximumSize * 3 / 4;
+            if (excess <= 0) {
+                return;
+            }
+            final List<Map.Entry<List<Object>, Document<?>>> leastRecentlyUsed =
+                    new ArrayList<>(documents.entrySet());
+            leastRecentlyUsed.sort(Comparator.comparingLong(mapping -> mapping.getValue().lastAccess));
+            for (final Map.Entry<List<Object>, Document<?>> mapping : leastRecentlyUsed.subList(0, excess)) {
+                documents.remove(mapping.getKey(), mapping.getValue());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Builder<T> {
+        T build() throws OslcCoreApplicationException, URISyntaxException;
+    }
+
+    /**
+     * A cached resource and its serialized representations.
+     *
+     * @param <T> the resource class
+     */
+    public static final class Document<T> {
+        private final T resource;
+        private final long uriConfigurationVersion;
+        private final ConcurrentMap<String, Representation> representations = new ConcurrentHashMap<>();
+        private volatile long lastAccess = System.nanoTime();
+
+        private Document(final T resource, final long uriConfigurationVersion) {
+            this.resource = resource;
+            this.uriConfigurationVersion = uriConfigurationVersion;
+        }
+
+        /**
+         * @return the cached resource, which must not be modified
+         */
+        public T getResource() {
+            return resource;
+        }
+
+        /**
+         * @param mediaType an RDF media type supported by the Jena providers
+         * @return a copy of the serialized resource
+         */
+        public byte[] getBytes(final MediaType mediaType) {
+            return representation(mediaType).bytes.clone();
+        }
+
+        /**
+         * @param mediaType an RDF media type supported by the Jena providers
+         * @return the strong entity tag of the serialized resource
+         */
+        public EntityTag getEntityTag(final MediaType mediaType) {
+            return representation(mediaType).entityTag;
+        }
+
+        /**
+         * Builds the response to a GET request: {@code 304 Not Modified} if the
+         * preconditions of the request match the entity tag of the media type,
+         * otherwise {@code 200 OK} with the serialized resource.
+         *
+         * @param request   the request, for conditional GETs; may be {@code null}
+         * @param mediaType the negotiated media type
+         * @return the response
+         */
+        public Response toResponse(final Request request, final MediaType mediaType) {
+            final Representation representation = representation(mediaType);
+            if (request != null) {
+                final Response.ResponseBuilder notModified =
+                        request.evaluatePreconditions(representation.entityTag);
+                if (notModified != null) {
+                    return notModified.tag(representation.entityTag).build();
+                }
+            }
+            return Response.ok(representation.bytes, mediaType).tag(representation.entityTag).build();
+        }
+
+        private Representation representation(final MediaType mediaType) {
+            final String key = (mediaType.getType() + '/' + mediaType.getSubtype()).toLowerCase(Locale.ROOT);
+            return representations.computeIfAbsent(key, k -> new Representation(resource, mediaType));
+        }
+    }
+
+    private static final class Representation {
+        private final byte[] bytes;
+        private final EntityTag entityTag;
+
+        private Representation(final Object resource, final MediaType mediaType) {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            AbstractOslcRdfXmlProvider.writeTo(new Object[] {resource}, mediaType, outputStream);
+            this.bytes = outputStream.toByteArray();
+            this.entityTag = new EntityTag(digest(bytes));
+        }
+
+        private static String digest(final byte[] bytes) {
+            try {
+                // 128 bits of SHA-256 are plenty to tell the representations apart
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes), 0, 16);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.system.StreamRDFOps;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.eclipse.lyo.oslc4j.core.model.FilteredResource;
+import org.eclipse.lyo.oslc4j.core.model.IVersionedResource;
+import org.eclipse.lyo.oslc4j.core.model.ResponseInfo;
+import org.eclipse.lyo.oslc4j.core.model.ResponseInfoArray;
+import org.eclipse.lyo.oslc4j.core.model.ResponseInfoCollection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds a weak {@code ETag} to the successful GET and HEAD responses that the Jena
+ * providers write, and answers the requests whose preconditions match it, e.g. an
+ * {@code If-None-Match} of a client polling an unchanged resource, with
+ * {@code 304 Not Modified} before the entity is serialized.
+ * <p>
+ * A single {@link IVersionedResource} supplies its own entity tag. For any other
+ * entity, the tag is a hash of the triples of the resources, which does not depend
+ * on their order or on blank node labels, and of the media type and paging
+ * information of the response.
+ * <p>
+ * Computing that hash marshals the entity to triples. Unless the response is
+ * streamed or is a query result, the filter hands the marshalled {@link Model} over
+ * to the provider, which serializes it instead of marshalling the entity a second
+ * time. Streamed responses and query results are marshalled twice: once to compute
+ * the hash and once to write them. Resources that can tell their version cheaply
+ * should implement {@link IVersionedResource} to avoid the extra pass.
+ * <p>
+ * The filter is not part of {@link JenaProvidersRegistry}; register it next to the
+ * providers to enable conditional GETs:
+ * <pre>
+ * classes.addAll(JenaProvidersRegistry.getProviders());
+ * classes.add(OslcEntityTagFilter.class);
+ * </pre>
+ * Responses that already have an {@code ETag} are left alone.
+ *
+ * @since 7.0.0
+ */
+@Provider
+public class OslcEntityTagFilter implements ContainerResponseFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(OslcEntityTagFilter.class);
+
+    /**
+     * Request property holding the {@link MarshalledModel} of the response entity.
+     */
+    static final String MARSHALLED_MODEL = OslcEntityTagFilter.class.getName() + ".marshalledModel";
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext) {
+        final String method = requestContext.getMethod();
+        if (!HttpMethod.GET.equals(method) && !HttpMethod.HEAD.equals(method)) {
+            return;
+        }
+        final MediaType mediaType = responseContext.getMediaType();
+        if (responseContext.getStatus() != Response.Status.OK.getStatusCode()
+                || !responseContext.hasEntity()
+                || responseContext.getHeaders().containsKey(HttpHeaders.ETAG)
+                || mediaType == null
+                || !AbstractOslcRdfXmlProvider.isSerializable(mediaType)) {
+            return;
+        }
+
+        // Query results are written with extra triples, and streamed responses from no model at all
+        final boolean keepModel = !(responseContext.getEntity() instanceof ResponseInfo<?>)
+                && !ProviderHelper.hasOslcQueryCapabilityMethodAnnot(responseContext.getEntityAnnotations())
+                && !AbstractOslcRdfXmlProvider.isStreamed(mediaType);
+        final EntityTag entityTag = getEntityTag(responseContext.getEntity(), mediaType, requestContext, keepModel);
+        if (entityTag == null) {
+            return;
+        }
+
+        final Response.ResponseBuilder preconditionResponse =
+                requestContext.getRequest().evaluatePreconditions(entityTag);
+        if (preconditionResponse != null) {
+            responseContext.setStatus(preconditionResponse.build().getStatus());
+            responseContext.setEntity(null);
+            requestContext.removeProperty(MARSHALLED_MODEL);
+        }
+        responseContext.getHeaders().putSingle(HttpHeaders.ETAG, entityTag);
+    }
+
+    /**
+     * Returns the entity tag of a response entity, or {@code null} if the Jena
+     * providers would not write it as RDF.
+     *
+     * @param keepModel whether to marshal the entity to a model and leave it in the
+     *                  {@link #MARSHALLED_MODEL} property of the request
+     */
+    static EntityTag getEntityTag(final Object entity, final MediaType mediaType,
+                                  final ContainerRequestContext requestContext, final boolean keepModel) {
+        Object[] objects;
+        @SuppressWarnings("unchecked")
+        Map<String, Object> properties = requestContext == null
+                ? null
+                : (Map<String, Object>) requestContext.getProperty(OSLC4JConstants.OSLC4J_SELECTED_PROPERTIES);
+        Object totalCount = requestContext == null
+                ? null
+                : requestContext.getProperty(OSLC4JConstants.OSLC4J_TOTAL_COUNT);
+        Object nextPage = requestContext == null
+                ? null
+                : requestContext.getProperty(OSLC4JConstants.OSLC4J_NEXT_PAGE);
+        URI containerAbout = null;
+
+        // Unwrap the entity the same way the providers do
+        if (entity instanceof ResponseInfo<?> responseInfo) {
+            properties = responseInfo.properties();
+            totalCount = responseInfo.totalCount();
+            nextPage = responseInfo.nextPage();
+            if (responseInfo.getContainer() != null) {
+                containerAbout = responseInfo.getContainer().getAbout();
+            }
+            objects = responseInfo instanceof ResponseInfoArray<?> array
+                    ? array.array()
+                    : ((ResponseInfoCollection<?>) responseInfo).collection().toArray();
+        } else if (entity instanceof FilteredResource<?> filteredResource) {
+            properties = filteredResource.properties();
+            objects = toArray(filteredResource.resource());
+        } else if (entity instanceof Object[] || entity instanceof Collection<?>) {
+            objects = toArray(entity);
+        } else if (ProviderHelper.isSingleLyoResourceType(entity.getClass())) {
+            objects = new Object[] {entity};
+        } else {
+            return null;
+        }
+
+        if (objects.length == 1 && objects[0] instanceof IVersionedResource versioned
+                && versioned.getETag() != null) {
+            return new EntityTag(versioned.getETag(), true);
+        }
+
+        final MessageDigest sha256;
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(sha256, (mediaType.getType() + '/' + mediaType.getSubtype()).toLowerCase(Locale.ROOT));
+        update(sha256, totalCount);
+        update(sha256, nextPage);
+        update(sha256, containerAbout);
+        try {
+            final GraphDigest graphDigest = new GraphDigest();
+            if (keepModel && requestContext != null) {
+                final Model model = JenaModelHelper.createJenaModel(null, null, null, objects, properties);
+                StreamRDFOps.sendGraphToStream(model.getGraph(), graphDigest);
+                requestContext.setProperty(MARSHALLED_MODEL, new MarshalledModel(objects, properties, model));
+            } else {
+                JenaModelHelper.createJenaStream(null, null, null, objects, properties, graphDigest);
+            }
+            sha256.update(graphDigest.digest());
+        } catch (Exception e) {
+            log.debug("No entity tag for a {} entity: {}", entity.getClass().getName(), e.getMessage());
+            return null;
+        }
+        // 128 bits of SHA-256 are plenty to tell the states apart
+        return new EntityTag(HexFormat.of().formatHex(sha256.digest(), 0, 16), true);
+    }
+
+    /**
+     * Resources marshalled by the filter, with the selected properties they were
+     * marshalled with.
+     */
+    record MarshalledModel(Object[] objects, Map<String, Object> properties, Model model) {
+
+        /**
+         * @return the model if it was marshalled from the same resource instances
+         * and selected properties, otherwise {@code null}
+         */
+        Model reuseFor(final Object[] otherObjects, final Map<String, Object> otherProperties) {
+            if (otherProperties != properties || otherObjects.length != objects.length) {
+                return null;
+            }
+            for (int i = 0; i < objects.length; i++) {
+                if (otherObjects[i] != objects[i]) {
+                    return null;
+                }
+            }
+            return model;
+        }
+    }
+
+    private static Object[] toArray(final Object object) {
+        if (object instanceof Object[] array) {
+            return array;
+        } else if (object instanceof Collection<?> collection) {
+            return collection.toArray();
+        }
+        return new Object[] {object};
+    }
+
+    private static void update(final MessageDigest digest, final Object value) {
+        final byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+}
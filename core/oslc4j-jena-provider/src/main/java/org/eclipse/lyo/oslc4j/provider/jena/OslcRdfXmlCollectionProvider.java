@@ -25,7 +25,6 @@ import java.util.AbstractCollection;
 import java.util.AbstractList;
 import java.util.AbstractSequentialList;
 import java.util.AbstractSet;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.HashSet;
@@ -183,11 +182,6 @@ public class OslcRdfXmlCollectionProvider
 
 				if (actualTypeArgument instanceof Class)
 				{
-					final Object[] objects = readFrom((Class<?>) actualTypeArgument,
-													  mediaType,
-													  map,
-													  inputStream);
-
 					final Collection<Object> collection;
 
 					// Handle the Collection, List, Deque, Queue interfaces.
@@ -234,7 +228,12 @@ public class OslcRdfXmlCollectionProvider
 						}
 					}
 
-					collection.addAll(Arrays.asList(objects));
+					// Resources are added as soon as they are unmarshalled
+					readFrom((Class<?>) actualTypeArgument,
+							 mediaType,
+							 map,
+							 inputStream,
+							 collection::add);
 
 					return collection;
 				}
@@ -12,15 +12,22 @@
  * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
  */
 package org.eclipse.lyo.oslc4j.provider.jena;
+import java.io.BufferedWriter;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.Writer;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -31,7 +38,6 @@ import org.apache.jena.rdf.model.*;
 import org.apache.jena.rdf.model.impl.Util;
 import org.apache.jena.util.CharEncoding;
 import org.apache.jena.util.FileUtils;
-import org.apache.jena.util.iterator.ExtendedIterator;
 import org.apache.jena.vocabulary.RDF;
 
 /**
@@ -246,8 +252,11 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 
 		//Note: The base parameter is not required.
 
+		//Index the model in a single pass:
+		ModelIndex index = new ModelIndex(model);
+
 		//Serialize the RDF model:
-		XMLWriter xmlWriter = new XMLWriter(writer, model, indent, tab);
+		XMLWriter xmlWriter = new XMLWriter(writer, model, index.namespaces, indent, tab);
 
 		//Note: XML declaration is shown when a) encoding is not UTF8/UTF16 (default) or b) configured.
 		if((showXmlDeclaration == null) || (Boolean.TRUE.equals(showXmlDeclaration))){
@@ -271,84 +280,42 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 		//Serialize the RDF model:
 		xmlWriter.rootStartTag(RDF.getURI(), RDF_ELEMENT_RDF);
 
-		//Resolve the objects of the model:
-		List<Resource> objects = new ArrayList<>();
-		//Filter the following statements:
-		//1) A subject of any other statement(s) in the model (reified statement).
-		//2) A literal resource as the object of the statement.
-		//3) A subject, predicate, or object as the predicate of the statement.
-		ExtendedIterator<Statement> statementIterator = model.listStatements().filterKeep(
-				statement -> {
-					Property predicate = statement.getPredicate();
-
-					return ((!statement.isReified()) && (statement.getObject().isResource())
-							&& (!RDF.subject.equals(predicate)) && (!RDF.predicate.equals(
-							predicate)) && (!RDF.object.equals(predicate)));
-				});
-
-		while (statementIterator.hasNext()) {
-
-			//Assumption: All statements have an URI or anonymous resource as the object.
-			Statement stmt = statementIterator.next();
-			logger.finest("Added model object: " + stmt.getSubject().toString() + " " + stmt.getPredicate().toString() + " " + stmt.getObject().toString());
-			Resource resource =	 stmt.getObject().asResource();
-
-			//Maintain uniqueness:
-			if(!objects.contains(resource)) {
-				objects.add(resource);
-			}
-		}
-
 		//Resolve the proposed root resources of the model.	 These include:
 		//1. Resources not the object of any other statements
 		//2. Other non-anonymous resources
 		List<Resource> rootResources = new ArrayList<>();
-		statementIterator = model.listStatements();
 
-		while (statementIterator.hasNext()) {
+		for (Resource subject : index.statementsBySubject.keySet()) {
 
-			Resource subject = statementIterator.next().getSubject();
+			if( ! (index.objects.contains(subject) && subject.isAnon()) ){
 
-			if( ! (objects.contains(subject) && subject.isAnon()) ){
+				rootResources.add(subject);
 
-				//Maintain uniqueness:
-				if(!rootResources.contains(subject)) {
-					rootResources.add(subject);
+				if (logger.isLoggable(Level.FINEST)) {
 					logger.finest("Added proposed root: " + subject.getURI());
 				}
 			}
 		}
 
-		//Test the candidate root resources to see if they are the objects of other root resource candidates.
-		//If a candidate is the object of another root resource candidate, propose it for removal from root resources.
+		//Test the candidate root resources to see if they are the objects of other resources.
+		//If a candidate is the object of another resource, propose it for removal from root resources.
 		//If all candidates are proposed for removal (i.e. fully cyclic graph), keep them all try to serialize.
 		Set<Resource> removalCandidates = new HashSet<>();
-		Set<Resource> rootTestAgainst = new HashSet<>();
-		rootTestAgainst.addAll(rootResources);
-		rootTestAgainst.addAll(objects);
 		for (Resource rootCandidate: rootResources) {
 			if (logger.isLoggable(Level.FINEST)) {
 				logger.finest("validating root candidate: " + rootCandidate.toString());
 			}
-			for (Resource rootTest: rootTestAgainst){
-				if (logger.isLoggable(Level.FINEST)) {
-					logger.finest("testing against resource: " + rootTest.toString());
-				}
-				if (!rootTest.equals(rootCandidate)) {
-					boolean rootCandidateIsObject = model.listStatements(rootTest, null, rootCandidate).hasNext();
-					if (rootCandidateIsObject) {
-						boolean objectIsReification = model.listStatements(rootTest, RDF.type, RDF.Statement).hasNext();
-						if (!objectIsReification) {
-							// checks if there is a self cyclic reference for the resource.
-							boolean isCyclic = isChild(model, new HashSet<>(), rootCandidate, rootCandidate);
-							if (!isCyclic) {
-								removalCandidates.add(rootCandidate);
-								if (logger.isLoggable(Level.FINEST)) {
-									logger.finest("removed: " + rootCandidate.toString());
-								}
-							}
+			for (Resource referrer : index.getReferrers(rootCandidate)) {
+				if (!referrer.equals(rootCandidate) && !model.contains(referrer, RDF.type, RDF.Statement)) {
+					// checks if there is a self cyclic reference for the resource.
+					boolean isCyclic = index.isCyclic(rootCandidate);
+					if (!isCyclic) {
+						removalCandidates.add(rootCandidate);
+						if (logger.isLoggable(Level.FINEST)) {
+							logger.finest("removed: " + rootCandidate.toString());
 						}
 					}
+					break;
 				}
 			}
 		}
@@ -358,29 +325,26 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 			rootResources.removeAll(removalCandidates);
 		}
 
-		List<Resource> serializedResources = new ArrayList<>();
+		Set<Resource> serializedResources = new HashSet<>();
 
 		for(Resource rootResource : rootResources){
 
-			if(!rootResource.canAs(ReifiedStatement.class) && (!serializedResources.contains(rootResource))){
+			if((!index.hasReifications || !rootResource.canAs(ReifiedStatement.class)) && serializedResources.add(rootResource)){
 
-				serializedResources.add(rootResource);
-				String rootResourceNameSpace = RDF.getURI();
-				String rootResourceName = RDF_ELEMENT_DESCRIPTION;
+				String rootResourceName = xmlWriter.descriptionName;
 
-				Statement rootResourceType = rootResource.getProperty(RDF.type);
+				Statement rootResourceType = index.typeBySubject.get(rootResource);
 				String rootResourceTypeURI = null;
 
 				if (rootResourceType != null) {
 
 					Resource rootResourceTypeResource = ((Resource)(rootResourceType.getObject()));
 
-					rootResourceNameSpace = rootResourceTypeResource.getNameSpace();
-					rootResourceName = rootResourceTypeResource.getLocalName();
+					rootResourceName = xmlWriter.qualifiedName(rootResourceTypeResource);
 					rootResourceTypeURI = rootResourceTypeResource.getURI();
 				}
 
-				xmlWriter.startTag(rootResourceNameSpace, rootResourceName, true);
+				xmlWriter.startTag(rootResourceName, true);
 
 				if(!rootResource.isAnon()){
 					xmlWriter.attribute(RDF.getURI(), RDF_ATTRIBUTE_ABOUT, (Util.substituteEntitiesInElementContent(rootResource.getURI())));
@@ -388,9 +352,9 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 
 				xmlWriter.closeStartTag(true);
 
-				serializeStatements(rootResource, xmlWriter, serializedResources, rootResourceTypeURI);
+				serializeStatements(rootResource, index, xmlWriter, rootResourceTypeURI);
 
-				xmlWriter.endTag(rootResourceNameSpace, rootResourceName, true);
+				xmlWriter.endTag(rootResourceName, true);
 			}
 		}
 
@@ -401,7 +365,7 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 
 			Resource reifiedStatement = reifiedStatementsIterator.next();
 
-			xmlWriter.startTag(RDF.getURI(), RDF_ELEMENT_DESCRIPTION, true);
+			xmlWriter.startTag(xmlWriter.descriptionName, true);
 
 			if(reifiedStatement.isAnon()){
 				xmlWriter.attribute(RDF.getURI(), RDF_ATTRIBUTE_ABOUT, ('#' + getShortId(reifiedStatement.getId())));
@@ -412,9 +376,9 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 
 			xmlWriter.closeStartTag(true);
 
-			serializeStatements(reifiedStatement, xmlWriter, serializedResources, null);
+			serializeStatements(reifiedStatement, index, xmlWriter, null);
 
-			xmlWriter.endTag(RDF.getURI(), RDF_ELEMENT_DESCRIPTION, true);
+			xmlWriter.endTag(xmlWriter.descriptionName, true);
 		}
 
 		xmlWriter.rootEndTag(RDF.getURI(), RDF_ELEMENT_RDF, true);
@@ -422,66 +386,16 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 		xmlWriter.end();
 	}
 
-	/**
-	 * Returns true if there is a path leading from <code>parent</code> to any
-	 * of the resources in <code>children</code>.
-	 *
-	 * @param model
-	 *			  model.
-	 * @param visitedResources
-	 *			  resource already visited during the search.
-	 * @param parent
-	 *			  parent resource.
-	 * @param children
-	 *			  children resources.
-	 * @return true if there is a path.
-	 */
-	private boolean isChild(Model model, Set<Resource> visitedResources, Resource parent, Resource... children) {
-		boolean isChild = false;
-		List<Resource> newChildren = new ArrayList<>();
-		outer: for (Resource child : children)
-		{
-			visitedResources.add(child);
-			List<Statement> list = model.listStatements(null, null, child).toList();
-			for (Statement stat : list)
-			{
-				RDFNode subject = stat.getSubject();
-				if (subject.isResource())
-				{
-					Resource subjectAsResource = subject.asResource();
-					if (subject.equals(parent))
-					{
-						isChild = true;
-						break outer;
-					}
-					else {
-						if (!visitedResources.contains(subjectAsResource))
-						{
-							newChildren.add(subjectAsResource);
-						}
-					}
-				}
-			}
-		}
-		if (!isChild && newChildren.size() > 0)
-		{
-			Resource[] childrenResources = new Resource[newChildren.size()];
-			isChild = isChild(model, visitedResources, parent, (Resource[]) newChildren.toArray(childrenResources));
-		}
-		return isChild;
-	}
-
-	private void serializeStatements(Resource resource, XMLWriter xmlWriter, List<Resource> serializedResources, String rootResourceTypeURI){
+	private void serializeStatements(Resource resource, ModelIndex index, XMLWriter xmlWriter, String rootResourceTypeURI){
 
-		StmtIterator statementIterator = resource.getModel().listStatements(resource, null, ((RDFNode)(null)));
 		Set<Statement> visitedStatements = new HashSet<>();
 
-		while (statementIterator.hasNext()) {
-			serializeStatement(statementIterator.next(), xmlWriter, serializedResources,visitedStatements, rootResourceTypeURI);
+		for (Statement statement : index.getStatements(resource)) {
+			serializeStatement(statement, index, xmlWriter, visitedStatements, rootResourceTypeURI);
 		}
 	}
 
-	private void serializeStatement(Statement statement, XMLWriter xmlWriter, List<Resource> serializedResources, Set<Statement> visitedStatements, String rootResourceTypeURI) {
+	private void serializeStatement(Statement statement, ModelIndex index, XMLWriter xmlWriter, Set<Statement> visitedStatements, String rootResourceTypeURI) {
 
 		visitedStatements.add(statement);
 		Model model = statement.getModel();
@@ -490,6 +404,7 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 		if ((!RDF.subject.equals(predicate)) && (!RDF.predicate.equals(predicate)) && (!RDF.object.equals(predicate))){
 
 			RDFNode object = statement.getObject();
+			String predicateName = xmlWriter.qualifiedName(predicate);
 
 			if (object.isResource()) {
 
@@ -504,9 +419,9 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 					}
 				}
 
-				xmlWriter.startTag(predicate.getNameSpace(), predicate.getLocalName(), true);
+				xmlWriter.startTag(predicateName, true);
 
-				if (statement.isReified()) {
+				if (index.hasReifications && statement.isReified()) {
 
 					RSIterator reifiedStatementsIterator = model.listReifiedStatements(statement);
 
@@ -528,37 +443,26 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 					xmlWriter.attribute(RDF.getURI(), RDF_ATTRIBUTE_PARSE_TYPE, RDF_CONSTANT_RESOURCE);
 				}
 
-				StmtIterator statementIterator = model.listStatements(resource, null, ((RDFNode)(null)));
-				Statement firstResourceStatement = null;
-				List<Statement> statementList = null;
-
-				//Need to fully retrieve next statement to test if it has been visited to generate the correct XML
-				//Convert the statement iterator into a list and use it later to serialize each statement
-				if (statementIterator.hasNext()) {
-					statementList = statementIterator.toList();
-					firstResourceStatement = statementList.get(0);
-				}
+				//The statements of the resource are needed up front to test if the first one has been visited
+				List<Statement> statementList = index.getStatements(resource);
 
-				if (firstResourceStatement != null && !visitedStatements.contains(
-						firstResourceStatement)) {
+				if (!statementList.isEmpty() && !visitedStatements.contains(statementList.get(0))) {
 
 					xmlWriter.closeStartTag(true);
 
-					String resourceNameSpace = RDF.getURI();
-					String resourceName = RDF_ELEMENT_DESCRIPTION;
+					String resourceName = xmlWriter.descriptionName;
 
-					Statement resourceType = resource.getProperty(RDF.type);
+					Statement resourceType = index.typeBySubject.get(resource);
 					String nestedResourceTypeURI = null;
 					if (resourceType != null) {
 
 						Resource resourceTypeResource = ((Resource)(resourceType.getObject()));
 
-						resourceNameSpace = resourceTypeResource.getNameSpace();
-						resourceName = resourceTypeResource.getLocalName();
+						resourceName = xmlWriter.qualifiedName(resourceTypeResource);
 						nestedResourceTypeURI = resourceTypeResource.getURI();
 					}
 
-					xmlWriter.startTag(resourceNameSpace, resourceName, true);
+					xmlWriter.startTag(resourceName, true);
 
 					if(!resource.isAnon()) {
 						xmlWriter.attribute(RDF.getURI(), RDF_ATTRIBUTE_ABOUT, (Util.substituteEntitiesInElementContent(resource.getURI())));
@@ -567,12 +471,12 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 					xmlWriter.closeStartTag(true);
 
 					for (Statement nextStatement : statementList) {
-						serializeStatement(nextStatement, xmlWriter, serializedResources, visitedStatements, nestedResourceTypeURI);
+						serializeStatement(nextStatement, index, xmlWriter, visitedStatements, nestedResourceTypeURI);
 					}
 
-					xmlWriter.endTag(resourceNameSpace, resourceName, true);
+					xmlWriter.endTag(resourceName, true);
 
-					xmlWriter.endTag(predicate.getNameSpace(), predicate.getLocalName(), true);
+					xmlWriter.endTag(predicateName, true);
 				}
 				else{
 
@@ -587,7 +491,7 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 
 				Literal literal = ((Literal)(object));
 
-				xmlWriter.startTag(predicate.getNameSpace(), predicate.getLocalName(), true);
+				xmlWriter.startTag(predicateName, true);
 
 				String language = literal.getLanguage();
 
@@ -615,7 +519,7 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 					xmlWriter.literal(Util.substituteEntitiesInElementContent(content));
 				}
 
-				xmlWriter.endTag(predicate.getNameSpace(), predicate.getLocalName(), false);
+				xmlWriter.endTag(predicateName, false);
 			}
 		}
 	}
@@ -634,6 +538,215 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 		return shortId;
 	}
 
+	/**
+	 * <p>Index of the statements of a model, built in a single pass over the model.</p>
+	 *
+	 * <p>The index replaces the per-resource lookups into the model while serializing.
+	 * The statements of each subject keep the order of {@link Model#listStatements()}.</p>
+	 */
+	private static class ModelIndex {
+
+		private final Map<Resource, List<Statement>> statementsBySubject = new LinkedHashMap<>();
+		private final Map<Resource, Statement> typeBySubject = new HashMap<>();
+		private final Map<Resource, List<Resource>> referrersByObject = new HashMap<>();
+		private final Set<Resource> objects = new HashSet<>();
+		private final Set<String> namespaces = new LinkedHashSet<>();
+		private boolean hasReifications = false;
+		private Set<Resource> cyclicResources = null;
+
+		public ModelIndex(Model model) {
+
+			StmtIterator statementIterator = model.listStatements();
+
+			while (statementIterator.hasNext()) {
+
+				Statement statement = statementIterator.next();
+				Resource subject = statement.getSubject();
+				Property predicate = statement.getPredicate();
+				RDFNode object = statement.getObject();
+
+				statementsBySubject.computeIfAbsent(subject, key -> new ArrayList<>()).add(statement);
+
+				if (RDF.subject.equals(predicate)) {
+					hasReifications = true;
+				}
+
+				if(object.isResource()){
+					referrersByObject.computeIfAbsent(object.asResource(), key -> new ArrayList<>()).add(subject);
+				}
+
+				//Filter the following predicates:
+				//A subject, predicate, or object as the predicate of the statement.
+				if ((!RDF.subject.equals(predicate)) && (!RDF.predicate.equals(predicate)) && (!RDF.object.equals(predicate))){
+
+					if(RDF.type.equals(predicate)){
+
+						typeBySubject.putIfAbsent(subject, statement);
+
+						namespaces.add(object.asResource().getNameSpace());
+					}
+					else{
+						namespaces.add(predicate.getNameSpace());
+					}
+
+					//Assumption: All statements have an URI or anonymous resource as the object.
+					if(object.isResource()){
+						objects.add(object.asResource());
+					}
+				}
+			}
+
+			//A reified statement is not a model object, which can only be decided once all statements are known:
+			if(hasReifications){
+
+				objects.clear();
+
+				for (List<Statement> statements : statementsBySubject.values()) {
+					for (Statement statement : statements) {
+
+						Property predicate = statement.getPredicate();
+
+						if ((!statement.isReified()) && (statement.getObject().isResource())
+								&& (!RDF.subject.equals(predicate)) && (!RDF.predicate.equals(predicate)) && (!RDF.object.equals(predicate))){
+							objects.add(statement.getObject().asResource());
+						}
+					}
+				}
+			}
+		}
+
+		/**
+		 * <p>Returns true if there is a path of statements leading from <code>resource</code>
+		 * back to itself.</p>
+		 */
+		public boolean isCyclic(Resource resource) {
+
+			if(cyclicResources == null){
+				cyclicResources = resolveCyclicResources();
+			}
+
+			return cyclicResources.contains(resource);
+		}
+
+		/**
+		 * <p>Resolves the resources on a cycle, being the strongly connected components with
+		 * more than one resource and the resources referencing themselves.</p>
+		 *
+		 * <p>Note: Tarjan's algorithm is run with an explicit stack, since the statements
+		 * may form paths too long for recursion.</p>
+		 */
+		private Set<Resource> resolveCyclicResources() {
+
+			Set<Resource> cyclic = new HashSet<>();
+
+			//Maps each visited resource to its index and low link:
+			Map<Resource, int[]> links = new HashMap<>();
+			Deque<Resource> component = new ArrayDeque<>();
+			Set<Resource> onComponent = new HashSet<>();
+			Deque<Resource> path = new ArrayDeque<>();
+			Deque<Iterator<Statement>> pathStatements = new ArrayDeque<>();
+			int counter = 0;
+
+			for (Resource root : statementsBySubject.keySet()) {
+
+				if(links.containsKey(root)){
+					continue;
+				}
+
+				links.put(root, new int[] {counter, counter});
+				counter++;
+				component.push(root);
+				onComponent.add(root);
+				path.push(root);
+				pathStatements.push(getStatements(root).iterator());
+
+				while (!path.isEmpty()) {
+
+					Resource resource = path.peek();
+					Iterator<Statement> statementIterator = pathStatements.peek();
+
+					if(statementIterator.hasNext()){
+
+						RDFNode object = statementIterator.next().getObject();
+
+						if(!object.isResource()){
+							continue;
+						}
+
+						Resource next = object.asResource();
+						int[] nextLinks = links.get(next);
+
+						if(next.equals(resource)){
+							cyclic.add(resource);
+						}
+						else if(nextLinks == null){
+
+							links.put(next, new int[] {counter, counter});
+							counter++;
+							component.push(next);
+							onComponent.add(next);
+							path.push(next);
+							pathStatements.push(getStatements(next).iterator());
+						}
+						else if(onComponent.contains(next)){
+
+							int[] resourceLinks = links.get(resource);
+
+							resourceLinks[1] = Math.min(resourceLinks[1], nextLinks[0]);
+						}
+					}
+					else{
+
+						path.pop();
+						pathStatements.pop();
+
+						int[] resourceLinks = links.get(resource);
+
+						if(!path.isEmpty()){
+
+							int[] parentLinks = links.get(path.peek());
+
+							parentLinks[1] = Math.min(parentLinks[1], resourceLinks[1]);
+						}
+
+						if(resourceLinks[0] == resourceLinks[1]){
+
+							Resource member = component.pop();
+							onComponent.remove(member);
+
+							if(!member.equals(resource)){
+
+								cyclic.add(member);
+
+								do {
+									member = component.pop();
+									onComponent.remove(member);
+									cyclic.add(member);
+								} while (!member.equals(resource));
+							}
+						}
+					}
+				}
+			}
+
+			return cyclic;
+		}
+
+		public List<Statement> getStatements(Resource subject) {
+
+			List<Statement> statements = statementsBySubject.get(subject);
+
+			return (statements == null ? Collections.emptyList() : statements);
+		}
+
+		public List<Resource> getReferrers(Resource object) {
+
+			List<Resource> referrers = referrersByObject.get(object);
+
+			return (referrers == null ? Collections.emptyList() : referrers);
+		}
+	}
+
 	/**
 	 * <p>XML writer or serializer.</p>
 	 *
@@ -641,6 +754,7 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 	 *
 	 * <ul>
 	 * <li>Indentation using tabs.</li>
+	 * <li>Buffered output with cached qualified names.</li>
 	 * </ul>
 	 *
 	 *
@@ -655,17 +769,20 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 
 		private final PrintWriter printWriter;
 		private final Map<String, String> namespaceMap;
+		private final Map<Resource, String> qualifiedNames = new HashMap<>();
+		private final String descriptionName;
 		private final int indent;
 		private final int tab;
 		private int tabCount = 0;
+		private char[] spaces = new char[0];
 
-		public XMLWriter(Writer writer, Model model, int indent, int tab) {
+		public XMLWriter(Writer writer, Model model, Set<String> namespaces, int indent, int tab) {
 
 			if(writer instanceof PrintWriter){
 				this.printWriter = ((PrintWriter)(writer));
 			}
 			else{
-				this.printWriter = new PrintWriter(writer);
+				this.printWriter = new PrintWriter(new BufferedWriter(writer));
 			}
 
 			//Create the namespace map that maps namespaces to namespace prefixes:
@@ -683,32 +800,31 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 
 			//Resolve and add the namespaces defined for the predicate and type object in each statement in the model:
 			int unknownNamespacePrefixCounter = 0;
-			ExtendedIterator<Statement> statementIterator = model.listStatements();
 
-			while (statementIterator.hasNext()) {
+			for (String namespace : namespaces) {
 
-				Statement statement = statementIterator.next();
-				Property predicate = statement.getPredicate();
+				if(!namespaceMap.containsKey(namespace)){
+					namespaceMap.put(namespace, "j." + (unknownNamespacePrefixCounter++)); //$NON-NLS-1$
+				}
+			}
 
-				if ((!RDF.subject.equals(predicate)) && (!RDF.predicate.equals(predicate)) && (!RDF.object.equals(predicate))){
+			this.descriptionName = namespaceMap.get(RDF.getURI()) + ':' + RDF_ELEMENT_DESCRIPTION;
+			this.indent = indent;
+			this.tab = tab;
+		}
 
-					String namespace;
+		public String qualifiedName(Resource resource) {
 
-					if(RDF.type.equals(predicate)){
-						namespace = statement.getObject().asResource().getNameSpace();
-					}
-					else{
-						namespace = predicate.getNameSpace();
-					}
+			String qualifiedName = qualifiedNames.get(resource);
 
-					if(!namespaceMap.containsKey(namespace)){
-						namespaceMap.put(namespace, "j." + (unknownNamespacePrefixCounter++)); //$NON-NLS-1$
-					}
-				}
+			if(qualifiedName == null){
+
+				qualifiedName = namespaceMap.get(resource.getNameSpace()) + ':' + resource.getLocalName();
+
+				qualifiedNames.put(resource, qualifiedName);
 			}
 
-			this.indent = indent;
-			this.tab = tab;
+			return qualifiedName;
 		}
 
 		public void xmlDeclaration(String encoding){
@@ -729,7 +845,10 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 
 			tabCount++;
 
-			startTag(namespaceUri, localName, false);
+			printWriter.print('<');
+			printWriter.print(namespaceMap.get(namespaceUri));
+			printWriter.print(':');
+			printWriter.print(localName);
 
 			//Serialize the namespace prefixes:
 			for(Entry<String, String> namespaceEntry : namespaceMap.entrySet()){
@@ -739,9 +858,12 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 				tab();
 				tab();
 
-				final String buffer = PREFIX_XMLNS + ':' + namespaceEntry.getValue() + "=\"" +
-						namespaceEntry.getKey() + '"';
-				printWriter.print(buffer);
+				printWriter.print(PREFIX_XMLNS);
+				printWriter.print(':');
+				printWriter.print(namespaceEntry.getValue());
+				printWriter.print("=\""); //$NON-NLS-1$
+				printWriter.print(namespaceEntry.getKey());
+				printWriter.print('"');
 			}
 
 			closeStartTag(true);
@@ -749,7 +871,7 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 			tabCount--;
 		}
 
-		public void startTag(String namespaceUri, String localName, boolean isChildStartTag) {
+		public void startTag(String qualifiedName, boolean isChildStartTag) {
 
 			if(isChildStartTag){
 
@@ -758,15 +880,19 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 				tab();
 			}
 
-			final String buffer = "<" + namespaceMap.get(namespaceUri) + ':' + localName;
-			printWriter.print(buffer);
+			printWriter.print('<');
+			printWriter.print(qualifiedName);
 		}
 
 		public void attribute(String namespaceUri, String localName, String value) {
 
-			final String buffer = " " + namespaceMap.get(namespaceUri) + ':' + localName + "=\"" +
-					value + '"';
-			printWriter.print(buffer);
+			printWriter.print(' ');
+			printWriter.print(namespaceMap.get(namespaceUri));
+			printWriter.print(':');
+			printWriter.print(localName);
+			printWriter.print("=\""); //$NON-NLS-1$
+			printWriter.print(value);
+			printWriter.print('"');
 		}
 
 		public void closeEmptyStartTag() {
@@ -780,7 +906,7 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 
 		public void closeStartTag(boolean isParent) {
 
-			printWriter.print(">"); //$NON-NLS-1$
+			printWriter.print('>');
 
 			if(isParent){
 				printWriter.println();
@@ -791,9 +917,17 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 			printWriter.print(literal);
 		}
 
-		public void endTag(String namespaceUri, String localName, boolean isParent) {
+		public void endTag(String qualifiedName, boolean isParent) {
 
-			rootEndTag(namespaceUri, localName, isParent);
+			if(isParent){
+				tab();
+			}
+
+			printWriter.print("</"); //$NON-NLS-1$
+			printWriter.print(qualifiedName);
+			printWriter.print('>');
+
+			printWriter.println();
 
 			tabCount--;
 		}
@@ -804,9 +938,11 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 				tab();
 			}
 
-			final String buffer = "</" + //$NON-NLS-1$
-					namespaceMap.get(namespaceUri) + ':' + localName + '>';
-			printWriter.print(buffer);
+			printWriter.print("</"); //$NON-NLS-1$
+			printWriter.print(namespaceMap.get(namespaceUri));
+			printWriter.print(':');
+			printWriter.print(localName);
+			printWriter.print('>');
 
 			printWriter.println();
 		}
@@ -817,13 +953,18 @@ public class RdfXmlAbbreviatedWriter implements RDFWriterI {
 
 		private void tab() {
 
-			char[] spaces = new char[(tab * tabCount) + indent];
+			int length = (tab * tabCount) + indent;
+
+			if(length > 0){
 
-			if(spaces.length > 0){
+				if(spaces.length < length){
 
-				Arrays.fill(spaces, ' ');
+					spaces = new char[Math.max(length, (spaces.length * 2))];
+
+					Arrays.fill(spaces, ' ');
+				}
 
-				printWriter.print(new String(spaces));
+				printWriter.write(spaces, 0, length);
 			}
 		}
 	}
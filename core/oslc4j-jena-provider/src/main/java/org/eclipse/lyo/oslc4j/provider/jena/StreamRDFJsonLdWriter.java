@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.jena.atlas.json.io.JSWriter;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.out.NodeFmtLib;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.sparql.core.Quad;
+import org.apache.jena.vocabulary.RDF;
+
+/**
+ * Writes a stream of triples as a JSON-LD document in expanded form: a top-level
+ * array with one node object per run of triples sharing a subject.
+ * <p>
+ * Only the triples of the current subject are held in memory. Subjects that
+ * reappear later in the stream get another node object, which JSON-LD
+ * processors merge. Prefixes are not used since expanded form has no context.
+ *
+ * @since 7.0.0
+ */
+final class StreamRDFJsonLdWriter implements StreamRDF {
+
+    private static final String RDF_TYPE = RDF.type.getURI();
+
+    private final Writer out;
+    private final List<Triple> pending = new ArrayList<>();
+    private Node subject;
+    private boolean firstNode = true;
+
+    StreamRDFJsonLdWriter(final OutputStream outputStream) {
+        this.out = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void start() {
+        write("[");
+    }
+
+    @Override
+    public void triple(final Triple triple) {
+        if (subject != null && !subject.equals(triple.getSubject())) {
+            writeNode();
+        }
+        subject = triple.getSubject();
+        pending.add(triple);
+    }
+
+    @Override
+    public void quad(final Quad quad) {
+        triple(quad.asTriple());
+    }
+
+    @Override
+    public void base(final String base) {
+        // Expanded form only uses absolute IRIs
+    }
+
+    @Override
+    public void prefix(final String prefix, final String iri) {
+        // Expanded form has no context
+    }
+
+    @Override
+    public void finish() {
+        writeNode();
+        write("\n]\n");
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeNode() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        final List<Node> types = new ArrayList<>();
+        final Map<String, List<Node>> values = new LinkedHashMap<>();
+        for (final Triple triple : pending) {
+            final String predicate = triple.getPredicate().getURI();
+            if (RDF_TYPE.equals(predicate) && !triple.getObject().isLiteral()) {
+                types.add(triple.getObject());
+            } else {
+                values.computeIfAbsent(predicate, k -> new ArrayList<>()).add(triple.getObject());
+            }
+        }
+
+        final StringBuilder node = new StringBuilder(firstNode ? "\n  {" : ",\n  {");
+        node.append("\n    \"@id\": ").append(quote(id(subject)));
+        if (!types.isEmpty()) {
+            node.append(",\n    \"@type\": [");
+            for (int i = 0; i < types.size(); i++) {
+                node.append(i == 0 ? " " : ", ").append(quote(id(types.get(i))));
+            }
+            node.append(" ]");
+        }
+        for (final Map.Entry<String, List<Node>> entry : values.entrySet()) {
+            node.append(",\n    ").append(quote(entry.getKey())).append(": [");
+            final List<Node> objects = entry.getValue();
+            for (int i = 0; i < objects.size(); i++) {
+                node.append(i == 0 ? " " : ", ");
+                appendValue(node, objects.get(i));
+            }
+            node.append(" ]");
+        }
+        node.append("\n  }");
+        write(node.toString());
+
+        firstNode = false;
+        pending.clear();
+        subject = null;
+    }
+
+    private static void appendValue(final StringBuilder node, final Node object) {
+        if (!object.isLiteral()) {
+            node.append("{ \"@id\": ").append(quote(id(object))).append(" }");
+            return;
+        }
+
+        node.append("{ \"@value\": ").append(quote(object.getLiteralLexicalForm()));
+        final String language = object.getLiteralLanguage();
+        final String datatype = object.getLiteralDatatypeURI();
+        if (language != null && !language.isEmpty()) {
+            node.append(", \"@language\": ").append(quote(language));
+        } else if (datatype != null && !XSDDatatype.XSDstring.getURI().equals(datatype)) {
+            node.append(", \"@type\": ").append(quote(datatype));
+        }
+        node.append(" }");
+    }
+
+    private static String id(final Node node) {
+        if (node.isBlank()) {
+            return "_:" + NodeFmtLib.encodeBNodeLabel(node.getBlankNodeLabel());
+        }
+        return node.getURI();
+    }
+
+    private static String quote(final String value) {
+        return JSWriter.outputQuotedString(value);
+    }
+
+    private void write(final String value) {
+        try {
+            out.write(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.riot.system.StreamRDFWriter;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.eclipse.lyo.oslc4j.core.model.OslcMediaType;
+import org.eclipse.lyo.oslc4j.core.model.Service;
+import org.eclipse.lyo.oslc4j.core.model.ServiceProvider;
+import org.junit.After;
+import org.junit.Test;
+
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+
+public class IncrementalParsingTest {
+
+    @After
+    public void tearDown() {
+        System.clearProperty(OSLC4JConstants.OSLC4J_INCREMENTAL_PARSING);
+    }
+
+    @Test
+    public void resourcesAreDeliveredWhenTheirBlockEnds() throws Exception {
+        final Model model = JenaModelHelper.createJenaModel(new Object[] {serviceProvider(1)});
+        final List<ServiceProvider> delivered = new ArrayList<>();
+        final StreamRDFUnmarshaller<ServiceProvider> sink = new StreamRDFUnmarshaller<>(ServiceProvider.class,
+                delivered::add, true);
+
+        sink.start();
+        // Resource first, then its blank nodes: the block stays open until they are described
+        model.listStatements(model.getResource("http://example.com/providers/1"), null, (RDFNode) null)
+                .forEachRemaining(statement -> sink.triple(statement.asTriple()));
+        model.listStatements().filterDrop(statement -> statement.getSubject().isURIResource())
+                .forEachRemaining(statement -> sink.triple(statement.asTriple()));
+        assertThat(delivered).isEmpty();
+
+        sink.triple(Triple.create(model.createResource("http://example.com/other").asNode(),
+                model.createProperty("http://example.com/ns#p").asNode(),
+                model.createLiteral("x").asNode()));
+        assertThat(delivered).hasSize(1);
+        assertThat(delivered.get(0).getServices()).hasSize(1);
+
+        sink.finish();
+        assertThat(delivered).hasSize(1);
+    }
+
+    @Test
+    public void incrementalTurtleMatchesModel() throws Exception {
+        assertCollectionRead(RDFFormat.TURTLE_BLOCKS, OslcMediaType.TEXT_TURTLE_TYPE, true);
+    }
+
+    @Test
+    public void incrementalNTriplesMatchesModel() throws Exception {
+        assertCollectionRead(RDFFormat.NTRIPLES, OslcMediaType.APPLICATION_N_TRIPLES_TYPE, true);
+    }
+
+    @Test
+    public void nonIncrementalReadMatchesModel() throws Exception {
+        assertCollectionRead(RDFFormat.TURTLE_BLOCKS, OslcMediaType.TEXT_TURTLE_TYPE, false);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void assertCollectionRead(final RDFFormat format, final MediaType mediaType,
+            final boolean incremental) throws Exception {
+        System.setProperty(OSLC4JConstants.OSLC4J_INCREMENTAL_PARSING, String.valueOf(incremental));
+
+        final Object[] objects = new Object[10];
+        for (int i = 0; i < objects.length; i++) {
+            objects[i] = serviceProvider(i);
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JenaModelHelper.createJenaStream(objects, StreamRDFWriter.getWriterStream(out, format));
+
+        final GenericType<List<ServiceProvider>> genericType = new GenericType<>() {};
+        final Collection<Object> collection = new OslcRdfXmlCollectionProvider().readFrom(
+                (Class) List.class, genericType.getType(), null, mediaType, new MultivaluedHashMap<>(),
+                new ByteArrayInputStream(out.toByteArray()));
+
+        assertThat(collection).hasSize(objects.length);
+        assertThat(JenaModelHelper.createJenaModel(collection.toArray())
+                .isIsomorphicWith(JenaModelHelper.createJenaModel(objects))).isTrue();
+    }
+
+    private static ServiceProvider serviceProvider(final int id) {
+        final ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setAbout(URI.create("http://example.com/providers/" + id));
+        serviceProvider.setTitle("Provider " + id);
+        serviceProvider.addService(new Service(URI.create("http://open-services.net/ns/cm#")));
+        return serviceProvider;
+    }
+}
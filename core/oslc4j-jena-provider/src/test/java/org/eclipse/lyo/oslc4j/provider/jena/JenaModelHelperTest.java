@@ -18,14 +18,26 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import javax.xml.datatype.DatatypeConfigurationException;
 
 import org.apache.jena.datatypes.DatatypeFormatException;
 import org.apache.jena.ext.com.google.common.collect.ImmutableList;
 import org.apache.jena.rdf.model.Model;
 import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcName;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcNamespace;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcPropertyDefinition;
 import org.eclipse.lyo.oslc4j.core.exception.LyoModelException;
 import org.eclipse.lyo.oslc4j.core.exception.OslcCoreApplicationException;
+import org.eclipse.lyo.oslc4j.core.exception.OslcCoreRelativeURIException;
+import org.eclipse.lyo.oslc4j.core.model.IResource;
+import org.eclipse.lyo.oslc4j.core.model.OslcConstants;
+import org.eclipse.lyo.oslc4j.core.model.ResponseInfoArray;
+import org.eclipse.lyo.oslc4j.core.model.Service;
 import org.eclipse.lyo.oslc4j.core.model.ServiceProvider;
 import org.eclipse.lyo.oslc4j.provider.jena.helpers.RDFHelper;
 import org.eclipse.lyo.oslc4j.provider.jena.resources.Container;
@@ -114,4 +126,133 @@ public class JenaModelHelperTest {
         final ServiceProvider resource = JenaModelHelper.unmarshal(model.getResource("http://example.com/test"), ServiceProvider.class);
 //        assertEquals(56, resource.getExtendedProperties().size());
     }
+
+    @Test
+    public void testParallelMarshalling() throws Exception {
+        final Object[] objects = new Object[100];
+        for (int i = 0; i < objects.length; i++) {
+            final ServiceProvider serviceProvider = new ServiceProvider();
+            serviceProvider.setAbout(URI.create("http://example.com/providers/" + i));
+            serviceProvider.setTitle("Provider " + i);
+            serviceProvider.addService(new Service(URI.create("http://open-services.net/ns/cm#")));
+            objects[i] = serviceProvider;
+        }
+        final ResponseInfoArray<Object> responseInfo = new ResponseInfoArray<>(objects, null, 100, (String) null);
+
+        final Model serial = JenaModelHelper.createJenaModel("http://example.com/providers",
+                "http://example.com/providers?oslc.pageSize=100", responseInfo, objects, null);
+        final Model parallel;
+        System.setProperty(OSLC4JConstants.OSLC4J_PARALLEL_MARSHALLING, "true");
+        System.setProperty(OSLC4JConstants.OSLC4J_PARALLEL_MARSHALLING_THRESHOLD, "10");
+        try {
+            parallel = JenaModelHelper.createJenaModel("http://example.com/providers",
+                    "http://example.com/providers?oslc.pageSize=100", responseInfo, objects, null);
+
+            final ServiceProvider relative = new ServiceProvider();
+            relative.setAbout(URI.create("providers/relative"));
+            objects[objects.length - 1] = relative;
+            assertThrows(OslcCoreRelativeURIException.class, () -> JenaModelHelper.createJenaModel(objects));
+        } finally {
+            System.clearProperty(OSLC4JConstants.OSLC4J_PARALLEL_MARSHALLING);
+            System.clearProperty(OSLC4JConstants.OSLC4J_PARALLEL_MARSHALLING_THRESHOLD);
+        }
+
+        assertTrue(parallel.isIsomorphicWith(serial));
+        assertEquals(serial.getNsPrefixMap(), parallel.getNsPrefixMap());
+    }
+
+    @Test
+    public void testUnmarshalSelectedProperties() throws Exception {
+        final ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setAbout(URI.create("http://example.com/providers/1"));
+        serviceProvider.setTitle("Provider");
+        serviceProvider.setDescription("Description");
+        final Service service = new Service(URI.create("http://open-services.net/ns/cm#"));
+        service.setUsages(new URI[] {URI.create("http://example.com/usage")});
+        serviceProvider.addService(service);
+        final Model model = JenaModelHelper.createJenaModel(new Object[] {serviceProvider});
+
+        final Map<String, Object> titleOnly = new HashMap<>();
+        titleOnly.put(OslcConstants.DCTERMS_NAMESPACE + "title", OSLC4JConstants.OSL4J_PROPERTY_SINGLETON);
+        final ServiceProvider titled = JenaModelHelper.unmarshal(model, ServiceProvider.class, titleOnly)[0];
+
+        assertEquals(serviceProvider.getAbout(), titled.getAbout());
+        assertEquals("Provider", titled.getTitle());
+        assertNull(titled.getDescription());
+        assertEquals(0, titled.getServices().length);
+
+        final Map<String, Object> domainOnly = new HashMap<>();
+        domainOnly.put(OslcConstants.OSLC_CORE_NAMESPACE + "domain", OSLC4JConstants.OSL4J_PROPERTY_SINGLETON);
+        final Map<String, Object> services = new HashMap<>();
+        services.put(OslcConstants.OSLC_CORE_NAMESPACE + "service", domainOnly);
+        final ServiceProvider withServices = JenaModelHelper.unmarshal(model.getResource(
+                serviceProvider.getAbout().toString()), ServiceProvider.class, services);
+
+        assertNull(withServices.getTitle());
+        assertEquals(1, withServices.getServices().length);
+        assertEquals(service.getDomain(), withServices.getServices()[0].getDomain());
+        assertEquals(0, withServices.getServices()[0].getUsages().length);
+
+        final ServiceProvider all = JenaModelHelper.unmarshal(model, ServiceProvider.class, null)[0];
+        assertEquals("Description", all.getDescription());
+        assertEquals(1, all.getServices()[0].getUsages().length);
+    }
+
+    @Test
+    public void testUnmarshalViews() throws Exception {
+        final ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setAbout(URI.create("http://example.com/providers/1"));
+        serviceProvider.setTitle("Provider");
+        serviceProvider.setCreated(new Date(0));
+        serviceProvider.setDetails(new URI[] {URI.create("http://example.com/details")});
+        serviceProvider.addService(new Service(URI.create("http://open-services.net/ns/cm#")));
+        final Model model = JenaModelHelper.createJenaModel(new Object[] {serviceProvider});
+
+        final List<ServiceProviderView> views = JenaModelHelper.unmarshalViews(model, ServiceProviderView.class);
+
+        assertEquals(1, views.size());
+        final ServiceProviderView view = views.get(0);
+        assertEquals(serviceProvider.getAbout(), ((IResource) view).getAbout());
+        assertEquals("Provider", view.getTitle());
+        assertSame(view.getTitle(), view.getTitle());
+        assertEquals(new Date(0), view.getCreated());
+        assertNull(view.getDescription());
+        assertEquals(0, view.getPrefixDefinitionCount());
+        assertArrayEquals(serviceProvider.getDetails(), view.getDetails());
+        assertEquals(1, view.getServices().length);
+        assertEquals(URI.create("http://open-services.net/ns/cm#"), view.getServices()[0].getDomain());
+        assertEquals("Provider (1 services)", view.getSummary());
+
+        assertThrows(UnsupportedOperationException.class, () -> view.setTitle("Changed"));
+        assertThrows(IllegalArgumentException.class,
+                () -> JenaModelHelper.unmarshalView(model.createResource(), ServiceProvider.class));
+    }
+
+    @OslcNamespace(OslcConstants.OSLC_CORE_NAMESPACE)
+    @OslcName("ServiceProvider")
+    public interface ServiceProviderView {
+        @OslcPropertyDefinition(OslcConstants.DCTERMS_NAMESPACE + "title")
+        String getTitle();
+
+        void setTitle(String title);
+
+        @OslcPropertyDefinition(OslcConstants.DCTERMS_NAMESPACE + "created")
+        Date getCreated();
+
+        @OslcPropertyDefinition(OslcConstants.DCTERMS_NAMESPACE + "description")
+        String getDescription();
+
+        @OslcPropertyDefinition(OslcConstants.OSLC_CORE_NAMESPACE + "prefixDefinitionCount")
+        int getPrefixDefinitionCount();
+
+        @OslcPropertyDefinition(OslcConstants.OSLC_CORE_NAMESPACE + "details")
+        URI[] getDetails();
+
+        @OslcPropertyDefinition(OslcConstants.OSLC_CORE_NAMESPACE + "service")
+        Service[] getServices();
+
+        default String getSummary() {
+            return getTitle() + " (" + getServices().length + " services)";
+        }
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.Collections;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.eclipse.lyo.oslc4j.core.OSLC4JUtils;
+import org.eclipse.lyo.oslc4j.core.model.OslcConstants;
+import org.eclipse.lyo.oslc4j.core.model.OslcMediaType;
+import org.eclipse.lyo.oslc4j.core.model.Publisher;
+import org.eclipse.lyo.oslc4j.core.model.ResourceShape;
+import org.eclipse.lyo.oslc4j.core.model.ResourceShapeFactory;
+import org.eclipse.lyo.oslc4j.core.model.ServiceProvider;
+import org.eclipse.lyo.oslc4j.provider.jena.test.resources.TestResource;
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.junit.After;
+import org.junit.Test;
+
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.RuntimeDelegate;
+
+public class OslcDocumentCacheTest {
+
+    private static final String BASE_URI = "http://example.com/services";
+
+    private final OslcDocumentCache cache = OslcDocumentCache.getInstance();
+
+    @After
+    public void tearDown() {
+        cache.clear();
+    }
+
+    @Test
+    public void documentsAreBuiltOnce() throws Exception {
+        final OslcDocumentCache.Document<ResourceShape> shape = getShape();
+
+        assertThat(getShape()).isSameAs(shape);
+        assertThat(cache.getServiceProvider(BASE_URI, BASE_URI, "Provider", null, new Publisher("Lyo", "lyo"),
+                new Class<?>[0], Collections.emptyMap()))
+                .isSameAs(cache.getServiceProvider(BASE_URI, BASE_URI, "Provider", null,
+                        new Publisher("Lyo", "lyo"), new Class<?>[0], Collections.emptyMap()));
+        assertThat(cache.getServiceProvider(BASE_URI, BASE_URI, "Other", null, null, new Class<?>[0], null)
+                .getResource()).isInstanceOf(ServiceProvider.class);
+    }
+
+    @Test
+    public void representationsMatchTheProviders() throws Exception {
+        final OslcDocumentCache.Document<ResourceShape> shape = getShape();
+
+        final Model turtle = ModelFactory.createDefaultModel();
+        RDFDataMgr.read(turtle, new ByteArrayInputStream(shape.getBytes(OslcMediaType.TEXT_TURTLE_TYPE)), Lang.TURTLE);
+        final Model expected = JenaModelHelper.createJenaModel(new Object[] {
+                ResourceShapeFactory.createResourceShape(BASE_URI, OslcConstants.PATH_RESOURCE_SHAPES, "test",
+                        TestResource.class)});
+
+        assertThat(turtle.isIsomorphicWith(expected)).isTrue();
+        assertThat(shape.getEntityTag(OslcMediaType.TEXT_TURTLE_TYPE).isWeak()).isFalse();
+        assertThat(shape.getEntityTag(OslcMediaType.TEXT_TURTLE_TYPE))
+                .isEqualTo(shape.getEntityTag(OslcMediaType.TEXT_TURTLE_TYPE))
+                .isNotEqualTo(shape.getEntityTag(OslcMediaType.APPLICATION_RDF_XML_TYPE));
+    }
+
+    @Test
+    public void conditionalGetsAreAnswered() throws Exception {
+        final OslcDocumentCache.Document<ResourceShape> shape = getShape();
+        final EntityTag entityTag = shape.getEntityTag(OslcMediaType.TEXT_TURTLE_TYPE);
+
+        final Response ok = shape.toResponse(request(null), OslcMediaType.TEXT_TURTLE_TYPE);
+        assertThat(ok.getStatus()).isEqualTo(200);
+        assertThat(ok.getEntityTag()).isEqualTo(entityTag);
+        assertThat((byte[]) ok.getEntity()).isEqualTo(shape.getBytes(OslcMediaType.TEXT_TURTLE_TYPE));
+
+        final Response notModified = shape.toResponse(request(entityTag), OslcMediaType.TEXT_TURTLE_TYPE);
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        assertThat(notModified.getEntity()).isNull();
+        assertThat(notModified.getEntityTag()).isEqualTo(entityTag);
+
+        assertThat(shape.toResponse(request(new EntityTag("other")), OslcMediaType.TEXT_TURTLE_TYPE).getStatus())
+                .isEqualTo(200);
+    }
+
+    @Test
+    public void documentsAreRebuiltWhenThePublicUriChanges() throws Exception {
+        final String publicURI = OSLC4JUtils.getPublicURI();
+        final OslcDocumentCache.Document<ResourceShape> shape = getShape();
+        try {
+            OSLC4JUtils.setPublicURI("http://example.org/adaptor");
+
+            assertThat(getShape()).isNotSameAs(shape);
+            assertThat(getShape()).isSameAs(getShape());
+        } finally {
+            OSLC4JUtils.setPublicURI(publicURI);
+        }
+    }
+
+    @Test
+    public void leastRecentlyUsedDocumentsAreEvicted() throws Exception {
+        final OslcDocumentCache bounded = new OslcDocumentCache(4);
+        final OslcDocumentCache.Document<?>[] shapes = new OslcDocumentCache.Document<?>[4];
+        for (int i = 0; i < shapes.length; i++) {
+            shapes[i] = getShape(bounded, i);
+        }
+        assertThat(getShape(bounded, 0)).isSameAs(shapes[0]);
+
+        // Going past 4 documents evicts down to 3: the two least recently used go
+        final OslcDocumentCache.Document<ResourceShape> added = getShape(bounded, 4);
+
+        assertThat(getShape(bounded, 0)).isSameAs(shapes[0]);
+        assertThat(getShape(bounded, 3)).isSameAs(shapes[3]);
+        assertThat(getShape(bounded, 4)).isSameAs(added);
+        assertThat(getShape(bounded, 1)).isNotSameAs(shapes[1]);
+    }
+
+    private static OslcDocumentCache.Document<ResourceShape> getShape(final OslcDocumentCache cache, final int index)
+            throws Exception {
+        return cache.getResourceShape(BASE_URI, OslcConstants.PATH_RESOURCE_SHAPES, "test" + index,
+                TestResource.class);
+    }
+
+    private OslcDocumentCache.Document<ResourceShape> getShape() throws Exception {
+        return cache.getResourceShape(BASE_URI, OslcConstants.PATH_RESOURCE_SHAPES, "test", TestResource.class);
+    }
+
+    private static ContainerRequest request(final EntityTag ifNoneMatch) {
+        final ContainerRequest request = new ContainerRequest(URI.create(BASE_URI + "/"),
+                URI.create(BASE_URI + "/resourceShapes/test"), "GET", null, new MapPropertiesDelegate(), null);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH,
+                    RuntimeDelegate.getInstance().createHeaderDelegate(EntityTag.class).toString(ifNoneMatch));
+        }
+        return request;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcNamespace;
+import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
+import org.eclipse.lyo.oslc4j.core.model.IVersionedResource;
+import org.eclipse.lyo.oslc4j.core.model.OslcConstants;
+import org.eclipse.lyo.oslc4j.core.model.OslcMediaType;
+import org.eclipse.lyo.oslc4j.core.model.Service;
+import org.eclipse.lyo.oslc4j.core.model.ServiceProvider;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.servlet.ServletContainer;
+import org.glassfish.jersey.test.DeploymentContext;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.ServletDeploymentContext;
+import org.glassfish.jersey.test.grizzly.GrizzlyWebTestContainerFactory;
+import org.glassfish.jersey.test.spi.TestContainerFactory;
+import org.junit.jupiter.api.Test;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+public class OslcEntityTagFilterTest extends JerseyTest {
+
+    @Override
+    protected TestContainerFactory getTestContainerFactory() {
+        return new GrizzlyWebTestContainerFactory();
+    }
+
+    @Override
+    protected DeploymentContext configureDeployment() {
+        return ServletDeploymentContext.builder(configure()).servlet(new ServletContainer(configure())).build();
+    }
+
+    @Override
+    protected ResourceConfig configure() {
+        return new ResourceConfig(EntityTagResource.class)
+                .registerClasses(JenaProvidersRegistry.getProviders())
+                .register(OslcEntityTagFilter.class);
+    }
+
+    @Test
+    public void matchingIfNoneMatchIsNotModified() {
+        final Response response = target("/etag/provider").request(OslcMediaType.TEXT_TURTLE_TYPE).get();
+        final EntityTag entityTag = response.getEntityTag();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(entityTag).isNotNull();
+        assertThat(entityTag.isWeak()).isTrue();
+
+        final Response notModified = target("/etag/provider").request(OslcMediaType.TEXT_TURTLE_TYPE)
+                .header(HttpHeaders.IF_NONE_MATCH, entityTag).get();
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        assertThat(notModified.getEntityTag()).isEqualTo(entityTag);
+        assertThat(notModified.hasEntity()).isFalse();
+    }
+
+    @Test
+    public void entityTagDependsOnStateAndMediaType() {
+        final EntityTag turtle = target("/etag/provider").request(OslcMediaType.TEXT_TURTLE_TYPE).get()
+                .getEntityTag();
+
+        assertThat(target("/etag/provider").request(OslcMediaType.TEXT_TURTLE_TYPE).get().getEntityTag())
+                .isEqualTo(turtle);
+        assertThat(target("/etag/provider").request(OslcMediaType.APPLICATION_RDF_XML_TYPE).get()
+                .getEntityTag()).isNotEqualTo(turtle);
+        assertThat(target("/etag/changed").request(OslcMediaType.TEXT_TURTLE_TYPE).get().getEntityTag())
+                .isNotEqualTo(turtle);
+
+        final Response modified = target("/etag/changed").request(OslcMediaType.TEXT_TURTLE_TYPE)
+                .header(HttpHeaders.IF_NONE_MATCH, turtle).get();
+        assertThat(modified.getStatus()).isEqualTo(200);
+        assertThat(modified.readEntity(String.class)).contains("Changed");
+    }
+
+    @Test
+    public void versionedResourceSuppliesEntityTag() {
+        final Response response = target("/etag/versioned").request(OslcMediaType.TEXT_TURTLE_TYPE).get();
+        assertThat(response.getEntityTag()).isEqualTo(new EntityTag("42", true));
+
+        final Response notModified = target("/etag/versioned").request(OslcMediaType.TEXT_TURTLE_TYPE)
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"42\"").get();
+        assertThat(notModified.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    public void writerReusesTheModelOfTheFilter() {
+        CountingServiceProvider.marshalled.set(0);
+        final Response response = target("/etag/counting").request(OslcMediaType.APPLICATION_RDF_XML_TYPE).get();
+        assertThat(response.getEntityTag()).isNotNull();
+        assertThat(response.readEntity(String.class)).contains("Provider");
+        assertThat(CountingServiceProvider.marshalled).hasValue(1);
+
+        // N-Triples are streamed, so the entity is marshalled again to be written
+        CountingServiceProvider.marshalled.set(0);
+        assertThat(target("/etag/counting").request(OslcMediaType.APPLICATION_N_TRIPLES_TYPE).get()
+                .readEntity(String.class)).contains("Provider");
+        assertThat(CountingServiceProvider.marshalled).hasValue(2);
+    }
+
+    @Test
+    public void plainEntitiesHaveNoEntityTag() {
+        assertThat(target("/etag/text").request(MediaType.TEXT_PLAIN_TYPE).get().getEntityTag()).isNull();
+    }
+
+    @Test
+    public void graphDigestIgnoresBlankNodeLabelsButNotNesting() {
+        assertThat(digest("a", "x", "1", "b", "y", "2")).isEqualTo(digest("c", "y", "2", "d", "x", "1"));
+        // Swapping values between two nested resources is a change
+        assertThat(digest("a", "x", "1", "b", "y", "2")).isNotEqualTo(digest("a", "x", "2", "b", "y", "1"));
+    }
+
+    private static byte[] digest(final String... blankNameValue) {
+        final GraphDigest digest = new GraphDigest();
+        final var resource = NodeFactory.createURI("http://example.com/r");
+        final var nested = NodeFactory.createURI("http://example.com/ns#nested");
+        for (int i = 0; i < blankNameValue.length; i += 3) {
+            final var blank = NodeFactory.createBlankNode(blankNameValue[i]);
+            digest.triple(Triple.create(resource, nested, blank));
+            digest.triple(Triple.create(blank, NodeFactory.createURI("http://example.com/ns#name"),
+                    NodeFactory.createLiteral(blankNameValue[i + 1])));
+            digest.triple(Triple.create(blank, NodeFactory.createURI("http://example.com/ns#value"),
+                    NodeFactory.createLiteral(blankNameValue[i + 2])));
+        }
+        return digest.digest();
+    }
+
+    private static ServiceProvider serviceProvider(final ServiceProvider serviceProvider, final String title) {
+        serviceProvider.setAbout(URI.create("http://example.com/providers/1"));
+        serviceProvider.setTitle(title);
+        serviceProvider.setCreated(new Date(0));
+        serviceProvider.addService(new Service(URI.create("http://open-services.net/ns/cm#")));
+        serviceProvider.addService(new Service(URI.create("http://open-services.net/ns/rm#")));
+        return serviceProvider;
+    }
+
+    @OslcNamespace(OslcConstants.OSLC_CORE_NAMESPACE)
+    @OslcResourceShape(title = "Versioned Service Provider", describes = OslcConstants.TYPE_SERVICE_PROVIDER)
+    public static class VersionedServiceProvider extends ServiceProvider implements IVersionedResource {
+        @Override
+        public String getETag() {
+            return "42";
+        }
+    }
+
+    @OslcNamespace(OslcConstants.OSLC_CORE_NAMESPACE)
+    @OslcResourceShape(title = "Counting Service Provider", describes = OslcConstants.TYPE_SERVICE_PROVIDER)
+    public static class CountingServiceProvider extends ServiceProvider {
+        static final AtomicInteger marshalled = new AtomicInteger();
+
+        @Override
+        public String getTitle() {
+            marshalled.incrementAndGet();
+            return super.getTitle();
+        }
+    }
+
+    @Path("/etag")
+    public static class EntityTagResource {
+        @GET
+        @Path("provider")
+        @Produces({OslcMediaType.TEXT_TURTLE, OslcMediaType.APPLICATION_RDF_XML})
+        public ServiceProvider getProvider() {
+            return serviceProvider(new ServiceProvider(), "Provider");
+        }
+
+        @GET
+        @Path("changed")
+        @Produces(OslcMediaType.TEXT_TURTLE)
+        public ServiceProvider getChangedProvider() {
+            return serviceProvider(new ServiceProvider(), "Changed");
+        }
+
+        @GET
+        @Path("versioned")
+        @Produces(OslcMediaType.TEXT_TURTLE)
+        public ServiceProvider getVersionedProvider() {
+            return serviceProvider(new VersionedServiceProvider(), "Provider");
+        }
+
+        @GET
+        @Path("counting")
+        @Produces({OslcMediaType.APPLICATION_RDF_XML, OslcMediaType.APPLICATION_N_TRIPLES})
+        public ServiceProvider getCountingProvider() {
+            return serviceProvider(new CountingServiceProvider(), "Provider");
+        }
+
+        @GET
+        @Path("text")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String getText() {
+            return "Hello world";
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.vocabulary.RDF;
+import org.junit.Test;
+
+public class SkolemizationTest {
+
+    private static final String TURTLE = """
+            @prefix ex: <http://example.com/ns#> .
+            <http://example.com/a> ex:creator [ ex:name "Alice" ; ex:address [ ex:city "Ghent" ] ] ;
+                ex:tag [ ex:label "x" ] , [ ex:label "x" ] .
+            <http://example.com/b> ex:creator [ ex:name "Alice" ; ex:address [ ex:city "Ghent" ] ] .
+            _:loop ex:next _:loop .
+            <http://example.com/c> ex:ref _:empty .
+            """;
+
+    @Test
+    public void skolemizeReplacesAllBlankNodes() {
+        final Model model = parse();
+        final long size = model.size();
+
+        JenaModelHelper.skolemize(model);
+
+        assertThat(model.size()).isEqualTo(size);
+        assertNoBlankNodes(model);
+        assertThat(model.listSubjects().toList()).anyMatch(r -> r.getURI().startsWith("urn:skolem:"));
+    }
+
+    @Test
+    public void skolemizeByContentIsDeterministic() {
+        final Model first = parse();
+        final Model second = parse();
+        final long size = first.size();
+
+        JenaModelHelper.skolemizeByContent(first, "https://example.com/.well-known/genid/");
+        JenaModelHelper.skolemizeByContent(second, "https://example.com/.well-known/genid/");
+
+        assertNoBlankNodes(first);
+        assertThat(first.size()).isEqualTo(size);
+        assertThat(first.getGraph().isIsomorphicWith(second.getGraph())).isTrue();
+        assertThat(first.difference(second).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void skolemizeByContentTellsApartLocalResourcesOfDifferentParents() {
+        final Model model = parse();
+
+        JenaModelHelper.skolemizeByContent(model);
+
+        final RDFNode creatorOfA = model.getResource("http://example.com/a")
+                .getProperty(model.createProperty("http://example.com/ns#creator")).getObject();
+        final RDFNode creatorOfB = model.getResource("http://example.com/b")
+                .getProperty(model.createProperty("http://example.com/ns#creator")).getObject();
+        assertThat(creatorOfA).isNotEqualTo(creatorOfB);
+        assertThat(model.getResource("http://example.com/a")
+                .listProperties(model.createProperty("http://example.com/ns#tag")).toList()).hasSize(2);
+    }
+
+    @Test(timeout = 10_000)
+    public void skolemizeByContentTellsApartTheNodesOfALongList() {
+        final StringBuilder turtle = new StringBuilder("<http://example.com/list> <http://example.com/ns#items> (");
+        for (int i = 0; i < 20_000; i++) {
+            turtle.append(" \"x\"");
+        }
+        final String list = turtle.append(" ) .").toString();
+        final Model first = ModelFactory.createDefaultModel().read(new StringReader(list), null, "TURTLE");
+        final Model second = ModelFactory.createDefaultModel().read(new StringReader(list), null, "TURTLE");
+
+        JenaModelHelper.skolemizeByContent(first, "https://example.com/.well-known/genid/");
+        JenaModelHelper.skolemizeByContent(second, "https://example.com/.well-known/genid/");
+
+        assertNoBlankNodes(first);
+        // The list nodes differ by their distance to either end, so none is numbered
+        assertThat(first.listSubjectsWithProperty(RDF.first).toList()).hasSize(20_000)
+                .noneMatch(node -> node.getURI().matches(".*/genid/\\p{XDigit}+-\\d+"));
+        assertThat(first.difference(second).isEmpty()).isTrue();
+    }
+
+    private static Model parse() {
+        return ModelFactory.createDefaultModel().read(new StringReader(TURTLE), null, "TURTLE");
+    }
+
+    private static void assertNoBlankNodes(final Model model) {
+        for (final Statement statement : model.listStatements().toList()) {
+            assertThat(statement.getSubject().isAnon()).isFalse();
+            assertThat(statement.getObject().isAnon()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.net.URI;
+import java.util.Date;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.riot.system.StreamRDFWriter;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.eclipse.lyo.oslc4j.core.model.OslcMediaType;
+import org.eclipse.lyo.oslc4j.core.model.PrefixDefinition;
+import org.eclipse.lyo.oslc4j.core.model.ResponseInfoArray;
+import org.eclipse.lyo.oslc4j.core.model.Service;
+import org.eclipse.lyo.oslc4j.core.model.ServiceProvider;
+import org.junit.After;
+import org.junit.Test;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+
+public class StreamingSerializationTest {
+
+    @After
+    public void tearDown() {
+        System.clearProperty(OSLC4JConstants.OSLC4J_STREAMING_MEDIA_TYPES);
+    }
+
+    @Test
+    public void streamedTurtleMatchesModel() throws Exception {
+        assertStreamedOutputMatchesModel(OslcMediaType.TEXT_TURTLE_TYPE, Lang.TURTLE);
+    }
+
+    @Test
+    public void streamedNTriplesMatchesModel() throws Exception {
+        assertStreamedOutputMatchesModel(OslcMediaType.APPLICATION_N_TRIPLES_TYPE, Lang.NTRIPLES);
+    }
+
+    @Test
+    public void streamedJsonLdMatchesModel() throws Exception {
+        assertStreamedOutputMatchesModel(OslcMediaType.APPLICATION_JSON_LD_TYPE, Lang.JSONLD);
+    }
+
+    @Test
+    public void streamedQueryResultMatchesModel() throws Exception {
+        final Object[] objects = {serviceProvider(1), serviceProvider(2)};
+        final ResponseInfoArray<Object> responseInfo = new ResponseInfoArray<>(objects, null, 2,
+                "http://example.com/providers?page=2");
+
+        final Model expected = JenaModelHelper.createJenaModel("http://example.com/providers",
+                "http://example.com/providers?page=1", responseInfo, objects, null);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JenaModelHelper.createJenaStream("http://example.com/providers",
+                "http://example.com/providers?page=1", responseInfo, objects, null,
+                StreamRDFWriter.getWriterStream(out, RDFFormat.TURTLE_BLOCKS));
+
+        assertThat(parse(out, Lang.TURTLE).isIsomorphicWith(expected)).isTrue();
+    }
+
+    @Test
+    public void mediaTypesAreNotStreamedUnlessConfigured() throws Exception {
+        System.setProperty(OSLC4JConstants.OSLC4J_STREAMING_MEDIA_TYPES, "");
+
+        final ByteArrayOutputStream out = write(OslcMediaType.TEXT_TURTLE_TYPE);
+
+        // Jena's pretty Turtle writer nests blank nodes, the streaming writer does not
+        assertThat(out.toString("UTF-8")).contains("[");
+        assertThat(parse(out, Lang.TURTLE).isIsomorphicWith(expectedModel())).isTrue();
+    }
+
+    @Test
+    public void binaryFormatsAreAlwaysStreamed() throws Exception {
+        System.setProperty(OSLC4JConstants.OSLC4J_STREAMING_MEDIA_TYPES, "");
+
+        assertThat(parse(write(OslcMediaType.APPLICATION_RDF_THRIFT_TYPE), Lang.RDFTHRIFT)
+                .isIsomorphicWith(expectedModel())).isTrue();
+        assertThat(parse(write(OslcMediaType.APPLICATION_RDF_PROTOBUF_TYPE), Lang.RDFPROTO)
+                .isIsomorphicWith(expectedModel())).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void binaryFormatsAreReadBack() throws Exception {
+        final ByteArrayOutputStream out = write(OslcMediaType.APPLICATION_RDF_THRIFT_TYPE);
+
+        final Object[] objects = new OslcRdfThriftArrayProvider().readFrom((Class) ServiceProvider[].class,
+                ServiceProvider[].class, new Annotation[0], OslcMediaType.APPLICATION_RDF_THRIFT_TYPE,
+                new MultivaluedHashMap<>(), new ByteArrayInputStream(out.toByteArray()));
+
+        assertThat(objects).hasSize(2);
+        assertThat(JenaModelHelper.createJenaModel(objects).isIsomorphicWith(expectedModel())).isTrue();
+    }
+
+    private void assertStreamedOutputMatchesModel(final MediaType mediaType, final Lang lang) throws Exception {
+        System.setProperty(OSLC4JConstants.OSLC4J_STREAMING_MEDIA_TYPES, mediaType.toString());
+
+        final ByteArrayOutputStream out = write(mediaType);
+
+        assertThat(parse(out, lang).isIsomorphicWith(expectedModel())).isTrue();
+    }
+
+    private static ByteArrayOutputStream write(final MediaType mediaType) throws Exception {
+        final Object[] objects = {serviceProvider(1), serviceProvider(2)};
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new OslcRdfXmlArrayProvider().writeTo(objects, objects.getClass(), ServiceProvider.class,
+                ServiceProvider.class.getAnnotations(), mediaType, new MultivaluedHashMap<>(), out);
+        return out;
+    }
+
+    private static Model expectedModel() throws Exception {
+        return JenaModelHelper.createJenaModel(new Object[] {serviceProvider(1), serviceProvider(2)});
+    }
+
+    private static Model parse(final ByteArrayOutputStream out, final Lang lang) {
+        final Model model = ModelFactory.createDefaultModel();
+        RDFDataMgr.read(model, new ByteArrayInputStream(out.toByteArray()), lang);
+        return model;
+    }
+
+    private static ServiceProvider serviceProvider(final int id) {
+        final ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setAbout(URI.create("http://example.com/providers/" + id));
+        serviceProvider.setTitle("Provider \"" + id + "\"\nå");
+        serviceProvider.setDescription("Description of provider " + id);
+        serviceProvider.setCreated(new Date(0));
+        serviceProvider.addService(new Service(URI.create("http://open-services.net/ns/cm#")));
+        serviceProvider.setPrefixDefinitions(new PrefixDefinition[] {
+                new PrefixDefinition("ex", URI.create("http://example.com/ns#"))});
+        return serviceProvider;
+    }
+}
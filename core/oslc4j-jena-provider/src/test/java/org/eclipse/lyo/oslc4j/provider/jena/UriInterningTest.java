@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.jena;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+
+import org.apache.jena.rdf.model.Model;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.eclipse.lyo.oslc4j.core.model.Link;
+import org.eclipse.lyo.oslc4j.provider.jena.test.resources.ResourceWithReifiedLinks;
+import org.junit.After;
+import org.junit.Test;
+
+public class UriInterningTest {
+
+    private static final URI TARGET = URI.create("http://example.com/target");
+
+    @After
+    public void tearDown() {
+        System.clearProperty(OSLC4JConstants.OSLC4J_INTERN_URIS);
+    }
+
+    @Test
+    public void repeatedUrisAreSharedWhenEnabled() throws Exception {
+        System.setProperty(OSLC4JConstants.OSLC4J_INTERN_URIS, "true");
+
+        final ResourceWithReifiedLinks[] resources = unmarshal();
+
+        assertThat(resources).hasSize(2);
+        assertThat(resources[0].getLinkWithNoLabel().getValue())
+                .isSameAs(resources[1].getLinkWithNoLabel().getValue());
+        assertThat(resources[0].getTypes().iterator().next()).isSameAs(resources[1].getTypes().iterator().next());
+    }
+
+    @Test
+    public void linksAreNeverShared() throws Exception {
+        System.setProperty(OSLC4JConstants.OSLC4J_INTERN_URIS, "true");
+
+        final ResourceWithReifiedLinks[] resources = unmarshal();
+        resources[0].getLinkWithNoLabel().setLabel("modified");
+
+        assertThat(resources[0].getLinkWithNoLabel()).isNotSameAs(resources[1].getLinkWithNoLabel());
+        assertThat(resources[1].getLinkWithNoLabel().getLabel()).isNull();
+        assertThat(resources[0].getLinkWithLabel().getLabel()).isEqualTo("label 1");
+        assertThat(resources[1].getLinkWithLabel().getLabel()).isEqualTo("label 2");
+        assertThat(resources[0].getLinkWithLabel().getValue())
+                .isSameAs(resources[1].getLinkWithLabel().getValue());
+    }
+
+    @Test
+    public void valuesAreNotSharedByDefault() throws Exception {
+        final ResourceWithReifiedLinks[] resources = unmarshal();
+
+        assertThat(resources[0].getLinkWithNoLabel()).isNotSameAs(resources[1].getLinkWithNoLabel())
+                .isEqualTo(resources[1].getLinkWithNoLabel());
+        assertThat(resources[0].getTypes().iterator().next()).isNotSameAs(resources[1].getTypes().iterator().next());
+    }
+
+    private static ResourceWithReifiedLinks[] unmarshal() throws Exception {
+        final Model model = JenaModelHelper.createJenaModel(new Object[] {resource(1), resource(2)});
+        return JenaModelHelper.unmarshal(model, ResourceWithReifiedLinks.class);
+    }
+
+    private static ResourceWithReifiedLinks resource(final int id) throws Exception {
+        final ResourceWithReifiedLinks resource = new ResourceWithReifiedLinks(
+                URI.create("http://example.com/resources/" + id));
+        resource.setLinkWithNoLabel(new Link(TARGET));
+        resource.setLinkWithLabel(new Link(TARGET, "label " + id));
+        return resource;
+    }
+}
@@ -1,5 +1,10 @@
 package org.eclipse.lyo.oslc4j.provider.jena.ordfm;
 
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Optional;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
@@ -12,7 +17,9 @@ import org.eclipse.lyo.oslc4j.provider.jena.resources.WildDog;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +31,9 @@ public class ResourcePackagesTests {
 
     private final Logger log = LoggerFactory.getLogger(ResourcePackagesTests.class);
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     private Resource resource;
 
     @Before
@@ -40,12 +50,34 @@ public class ResourcePackagesTests {
     @Test
     public void testMapPackage() {
         ResourcePackages.mapPackage(Pet.class.getPackage());
-        for (String aPackage : ResourcePackages.SCANNED_PACKAGES) {
+        for (String aPackage : ResourcePackages.getScannedPackages()) {
             log.info("Scanned package: {}", aPackage);
         }
 
-        Assert.assertEquals(1, ResourcePackages.SCANNED_PACKAGES.size());
-        Assert.assertEquals(7, ResourcePackages.TYPES_MAPPINGS.keySet().size());
+        Assert.assertEquals(1, ResourcePackages.getScannedPackages().size());
+        Assert.assertEquals(7, ResourcePackages.getTypesMappings().keySet().size());
+    }
+
+    @Test
+    public void testMapPackage_indexDoesNotHideOtherClasspathElements() throws Exception {
+        File root = folder.newFolder("indexed");
+        File index = new File(root, ResourceTypeIndex.INDEX);
+        Assert.assertTrue(index.getParentFile().mkdirs());
+        Files.write(index.toPath(), ("http://locahost:7001/vocabulary/Indexed\t" + Pet.class.getPackage().getName()
+            + ".Indexed\t\n").getBytes(StandardCharsets.UTF_8));
+
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {root.toURI().toURL()}, original)) {
+            thread.setContextClassLoader(loader);
+            ResourcePackages.mapPackage(Pet.class.getPackage());
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+
+        // the indexed class plus the 7 scanned ones of the test classes, which have no index
+        Assert.assertEquals(8, ResourcePackages.getTypesMappings().keySet().size());
+        Assert.assertTrue(ResourcePackages.getTypesMappings().containsKey("http://locahost:7001/vocabulary/Indexed"));
     }
 
     @Test
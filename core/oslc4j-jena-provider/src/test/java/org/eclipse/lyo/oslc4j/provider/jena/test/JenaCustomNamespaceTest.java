@@ -20,6 +20,7 @@ import javax.xml.namespace.QName;
 import org.apache.jena.rdf.model.Model;
 import org.eclipse.lyo.oslc4j.core.OslcGlobalNamespaceProvider;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcSchema;
+import org.eclipse.lyo.oslc4j.core.model.ResourceNamespaces;
 import org.eclipse.lyo.oslc4j.core.test.customnamespace.CustomNamespaceResource;
 import org.eclipse.lyo.oslc4j.provider.jena.JenaModelHelper;
 import org.junit.Test;
@@ -72,6 +73,22 @@ public class JenaCustomNamespaceTest {
 		Model model = JenaModelHelper.createJenaModel(new Object[]{namespaceResource});
 		assertCustomNamespaces(model, GLOBAL_PREFIX, GLOBAL_URL);
 	}
+
+	/**
+	 * Checks that the mappings of a class are collected once and still
+	 * include the prefixes of the custom namespace provider.
+	 */
+	@Test
+	public void testResourceNamespacesAreCached() {
+		ResourceNamespaces namespaces = ResourceNamespaces.of(CustomNamespaceResource.class);
+		assertSame(namespaces, ResourceNamespaces.of(CustomNamespaceResource.class));
+
+		Map<String, String> namespaceMappings = new HashMap<>();
+		namespaces.addTo(namespaceMappings);
+		assertEquals(TEST1_URL, namespaceMappings.get(TEST1_PREFIX));
+		assertEquals(TEST2_URL, namespaceMappings.get(TEST2_PREFIX));
+		assertEquals(CUSTOM_URL, namespaceMappings.get(CUSTOM_PREFIX));
+	}
 	
 	/**
 	 * Creates a new instance adding some test values.
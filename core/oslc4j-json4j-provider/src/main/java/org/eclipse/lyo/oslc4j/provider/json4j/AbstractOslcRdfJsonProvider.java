@@ -13,9 +13,14 @@
  */
 package org.eclipse.lyo.oslc4j.provider.json4j;
 
+import java.io.BufferedWriter;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
@@ -109,8 +114,6 @@ public abstract class AbstractOslcRdfJsonProvider
 
 		}
 
-		final JSONObject jsonObject;
-
 		@SuppressWarnings("unchecked")
 		final Map<String, Object> properties = isClientSide ?
 			null :
@@ -126,14 +129,12 @@ public abstract class AbstractOslcRdfJsonProvider
 
 		try
 		{
-			jsonObject = JsonHelper.createJSON(descriptionURI,
-											   responseInfoURI,
-											   responseInfo,
-											   objects,
-											   properties);
-
-			jsonObject.write(outputStream,
-							 true);
+			writeJSON(descriptionURI,
+					  responseInfoURI,
+					  responseInfo,
+					  objects,
+					  properties,
+					  outputStream);
 		}
 		catch (final Exception exception)
 		{
@@ -152,17 +153,14 @@ public abstract class AbstractOslcRdfJsonProvider
 						   final ResponseInfo<?>					responseInfo)
 				throws WebApplicationException
 	{
-		final JSONObject jsonObject;
-
 		try
 		{
-			jsonObject = JsonHelper.createJSON(descriptionURI,
-											   responseInfoURI,
-											   responseInfo,
-											   objects,
-											   properties);
-
-			jsonObject.write(outputStream, true);
+			writeJSON(descriptionURI,
+					  responseInfoURI,
+					  responseInfo,
+					  objects,
+					  properties,
+					  outputStream);
 		}
 		catch (final Exception exception)
 		{
@@ -171,6 +169,37 @@ public abstract class AbstractOslcRdfJsonProvider
 		}
 	}
 
+	private static void writeJSON(final String			   descriptionURI,
+								  final String			   responseInfoURI,
+								  final ResponseInfo<?>	   responseInfo,
+								  final Object[]		   objects,
+								  final Map<String, Object> properties,
+								  final OutputStream	   outputStream)
+			throws Exception
+	{
+		if (OSLC4JUtils.useJsonStreaming())
+		{
+			final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+			JsonHelper.writeJSON(descriptionURI,
+								 responseInfoURI,
+								 responseInfo,
+								 objects,
+								 properties,
+								 writer);
+
+			return;
+		}
+
+		final JSONObject jsonObject = JsonHelper.createJSON(descriptionURI,
+															responseInfoURI,
+															responseInfo,
+															objects,
+															properties);
+
+		jsonObject.write(outputStream, true);
+	}
+
 	 protected static boolean isReadable(final Class<?>	 type,
 										final MediaType requiredMediaType,
 										final MediaType actualMediaType)
@@ -187,6 +216,12 @@ public abstract class AbstractOslcRdfJsonProvider
 	{
 		try
 		{
+			if (OSLC4JUtils.useJsonStreaming())
+			{
+				return JsonHelper.fromJSON(new InputStreamReader(inputStream, StandardCharsets.UTF_8),
+										   type);
+			}
+
 			final JSONObject jsonObject = new JSONObject(inputStream);
 
 			return JsonHelper.fromJSON(jsonObject,
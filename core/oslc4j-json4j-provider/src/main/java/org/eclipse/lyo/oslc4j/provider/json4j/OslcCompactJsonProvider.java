@@ -33,6 +33,9 @@ import jakarta.ws.rs.ext.Provider;
 
 /**
  * Use JSON-LD support in Jena provider.
+ * <p>
+ * A {@link Compact} document is a single resource, so it is built as a whole
+ * even when {@code org.eclipse.lyo.oslc4j.jsonStreaming} is enabled.
  */
 @Deprecated
 @Provider
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc4j.provider.json4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URI;
+import java.util.Arrays;
+
+import javax.xml.namespace.QName;
+
+import org.apache.wink.json4j.JSONObject;
+import org.eclipse.lyo.oslc4j.core.model.AnyResource;
+import org.eclipse.lyo.oslc4j.core.model.ResponseInfoArray;
+import org.eclipse.lyo.oslc4j.provider.json4j.JsonHelper;
+import org.eclipse.lyo.oslc4j.provider.json4j.test.resources.TestResource;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("deprecation")
+public class JsonStreamingTest {
+
+    private static final String QUERY_URI = "http://example.com/query";
+    private static final String LATE_NAMESPACE = "http://late.example.com/ns#";
+    private static final String DEEP_NAMESPACE = "http://deep.example.com/ns#";
+
+    @Test
+    public void streamedDocumentMatchesTree() throws Exception {
+        final TestResource[] resources = createResources(3);
+
+        final JSONObject tree = JsonHelper.createJSON(QUERY_URI, QUERY_URI, responseInfo(), resources, null);
+        final String streamed = writeJSON(resources);
+
+        assertThat(streamed).startsWith("{\"prefixes\":");
+        // JSONObject is a raw Map
+        assertThat((Object) new JSONObject(streamed)).isEqualTo(tree);
+    }
+
+    @Test
+    public void streamedDocumentIsReadBack() throws Exception {
+        final TestResource[] resources = createResources(3);
+
+        final Object[] beans = JsonHelper.fromJSON(new StringReader(writeJSON(resources)), TestResource.class);
+
+        assertThat(beans).hasSize(3);
+        assertThat(Arrays.stream(beans).map(bean -> ((TestResource) bean).getAproperty()))
+                .containsExactly("value-0", "value-1", "value-2");
+        assertThat(((TestResource) beans[2]).getAbout()).isEqualTo(resources[2].getAbout());
+    }
+
+    @Test
+    public void extendedNamespacesAreDeclaredBeforeTheMembers() throws Exception {
+        final TestResource[] resources = createResources(2);
+        final AnyResource nested = new AnyResource();
+        nested.getExtendedProperties().put(new QName(DEEP_NAMESPACE, "depth", "deep"), "deep value");
+        resources[1].getExtendedProperties().put(new QName(LATE_NAMESPACE, "extra", "late"), "late value");
+        resources[1].getExtendedProperties().put(new QName(LATE_NAMESPACE, "nested", "late"), nested);
+
+        final String streamed = writeJSON(resources);
+
+        final int members = streamed.indexOf("\"rdfs:member\":");
+        assertThat(streamed.indexOf("\"prefixes\":")).isEqualTo(streamed.lastIndexOf("\"prefixes\":"));
+        assertThat(streamed.substring(0, members)).contains("\"late\":", "\"deep\":");
+        assertThat(streamed.substring(members)).contains("\"late:extra\"", "\"deep:depth\"");
+        assertThat(new JSONObject(streamed).getJSONObject("prefixes").get("late")).isEqualTo(LATE_NAMESPACE);
+
+        final Object[] beans = JsonHelper.fromJSON(new StringReader(streamed), TestResource.class);
+
+        assertThat(beans).hasSize(2);
+        assertThat(((TestResource) beans[0]).getAproperty()).isEqualTo("value-0");
+        assertThat(((TestResource) beans[1]).getExtendedProperties())
+                .containsEntry(new QName(LATE_NAMESPACE, "extra", "late"), "late value");
+    }
+
+    @Test
+    public void prefixesAfterMembersAreReadAsTree() throws Exception {
+        final TestResource[] resources = createResources(2);
+        final JSONObject tree = JsonHelper.createJSON(QUERY_URI, QUERY_URI, responseInfo(), resources, null);
+        final String membersFirst = "{\"rdfs:member\":" + tree.get("rdfs:member")
+                + ",\"prefixes\":" + tree.get("prefixes") + "}";
+
+        final Object[] beans = JsonHelper.fromJSON(new StringReader(membersFirst), TestResource.class);
+
+        assertThat(beans).hasSize(2);
+        assertThat(((TestResource) beans[1]).getAproperty()).isEqualTo("value-1");
+    }
+
+    @Test
+    public void singleResourceIsRead() throws Exception {
+        final TestResource[] resources = createResources(1);
+        final JSONObject single = JsonHelper.createJSON(null, null, null, resources, null);
+
+        final Object[] beans = JsonHelper.fromJSON(new StringReader(single.write()), TestResource.class);
+
+        assertThat(beans).hasSize(1);
+        assertThat(((TestResource) beans[0]).getAbout()).isEqualTo(resources[0].getAbout());
+        assertThat(single.opt("rdfs:member")).isNull();
+    }
+
+    private static String writeJSON(final Object[] resources) throws Exception {
+        final StringWriter writer = new StringWriter();
+        JsonHelper.writeJSON(QUERY_URI, QUERY_URI, responseInfo(), resources, null, writer);
+        return writer.toString();
+    }
+
+    private static ResponseInfoArray<Object> responseInfo() {
+        return new ResponseInfoArray<>(null, null, null, (String) null);
+    }
+
+    private static TestResource[] createResources(final int count) {
+        final TestResource[] resources = new TestResource[count];
+        for (int i = 0; i < count; i++) {
+            resources[i] = new TestResource(URI.create("http://example.com/resources/" + i));
+            resources[i].setAproperty("value-" + i);
+        }
+        return resources;
+    }
+}
@@ -24,7 +24,6 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.text.SimpleDateFormat;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -47,6 +46,7 @@ import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcTitle;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcValueType;
 import org.eclipse.lyo.oslc4j.core.model.AbstractResource;
+import org.eclipse.lyo.oslc4j.core.model.CompactSet;
 import org.eclipse.lyo.oslc4j.core.model.Link;
 import org.eclipse.lyo.oslc4j.core.model.Occurs;
 import org.eclipse.lyo.oslc4j.core.model.OslcConstants;
@@ -82,13 +82,13 @@ public class AutomationPlan
 {
     // Start of user code attributeAnnotation:contributor
     // End of user code
-    private Set<Link> contributor = new HashSet<>();
+    private Set<Link> contributor = new CompactSet<>();
     // Start of user code attributeAnnotation:created
     // End of user code
     private Date created;
     // Start of user code attributeAnnotation:creator
     // End of user code
-    private Set<Link> creator = new HashSet<>();
+    private Set<Link> creator = new CompactSet<>();
     // Start of user code attributeAnnotation:description
     // End of user code
     private String description;
@@ -100,28 +100,28 @@ public class AutomationPlan
     private Date modified;
     // Start of user code attributeAnnotation:type
     // End of user code
-    private Set<Link> type = new HashSet<>();
+    private Set<Link> type = new CompactSet<>();
     // Start of user code attributeAnnotation:subject
     // End of user code
-    private Set<String> subject = new HashSet<>();
+    private Set<String> subject = new CompactSet<>();
     // Start of user code attributeAnnotation:title
     // End of user code
     private String title;
     // Start of user code attributeAnnotation:instanceShape
     // End of user code
-    private Set<Link> instanceShape = new HashSet<>();
+    private Set<Link> instanceShape = new CompactSet<>();
     // Start of user code attributeAnnotation:serviceProvider
     // End of user code
-    private Set<Link> serviceProvider = new HashSet<>();
+    private Set<Link> serviceProvider = new CompactSet<>();
     // Start of user code attributeAnnotation:parameterDefinition
     // End of user code
-    private Set<Link> parameterDefinition = new HashSet<>();
+    private Set<Link> parameterDefinition = new CompactSet<>();
     // Start of user code attributeAnnotation:usesExecutionEnvironment
     // End of user code
-    private Set<Link> usesExecutionEnvironment = new HashSet<>();
+    private Set<Link> usesExecutionEnvironment = new CompactSet<>();
     // Start of user code attributeAnnotation:futureAction
     // End of user code
-    private Set<Link> futureAction = new HashSet<>();
+    private Set<Link> futureAction = new CompactSet<>();
 
     // Start of user code classAttributes
     // End of user code
@@ -24,7 +24,6 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.text.SimpleDateFormat;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -47,6 +46,7 @@ import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcTitle;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcValueType;
 import org.eclipse.lyo.oslc4j.core.model.AbstractResource;
+import org.eclipse.lyo.oslc4j.core.model.CompactSet;
 import org.eclipse.lyo.oslc4j.core.model.Link;
 import org.eclipse.lyo.oslc4j.core.model.Occurs;
 import org.eclipse.lyo.oslc4j.core.model.OslcConstants;
@@ -104,13 +104,13 @@ public class ChangeRequest
     private String identifier;
     // Start of user code attributeAnnotation:subject
     // End of user code
-    private Set<String> subject = new HashSet<>();
+    private Set<String> subject = new CompactSet<>();
     // Start of user code attributeAnnotation:creator
     // End of user code
-    private Set<Link> creator = new HashSet<>();
+    private Set<Link> creator = new CompactSet<>();
     // Start of user code attributeAnnotation:contributor
     // End of user code
-    private Set<Link> contributor = new HashSet<>();
+    private Set<Link> contributor = new CompactSet<>();
     // Start of user code attributeAnnotation:created
     // End of user code
     private Date created;
@@ -119,10 +119,10 @@ public class ChangeRequest
     private Date modified;
     // Start of user code attributeAnnotation:serviceProvider
     // End of user code
-    private Set<Link> serviceProvider = new HashSet<>();
+    private Set<Link> serviceProvider = new CompactSet<>();
     // Start of user code attributeAnnotation:instanceShape
     // End of user code
-    private Set<Link> instanceShape = new HashSet<>();
+    private Set<Link> instanceShape = new CompactSet<>();
     // Start of user code attributeAnnotation:discussedBy
     // End of user code
     private Link discussedBy;
@@ -152,37 +152,37 @@ public class ChangeRequest
     private Boolean verified;
     // Start of user code attributeAnnotation:relatedChangeRequest
     // End of user code
-    private Set<Link> relatedChangeRequest = new HashSet<>();
+    private Set<Link> relatedChangeRequest = new CompactSet<>();
     // Start of user code attributeAnnotation:affectsPlanItem
     // End of user code
-    private Set<Link> affectsPlanItem = new HashSet<>();
+    private Set<Link> affectsPlanItem = new CompactSet<>();
     // Start of user code attributeAnnotation:affectedByDefect
     // End of user code
-    private Set<Link> affectedByDefect = new HashSet<>();
+    private Set<Link> affectedByDefect = new CompactSet<>();
     // Start of user code attributeAnnotation:tracksRequirement
     // End of user code
-    private Set<Link> tracksRequirement = new HashSet<>();
+    private Set<Link> tracksRequirement = new CompactSet<>();
     // Start of user code attributeAnnotation:implementsRequirement
     // End of user code
-    private Set<Link> implementsRequirement = new HashSet<>();
+    private Set<Link> implementsRequirement = new CompactSet<>();
     // Start of user code attributeAnnotation:affectsRequirement
     // End of user code
-    private Set<Link> affectsRequirement = new HashSet<>();
+    private Set<Link> affectsRequirement = new CompactSet<>();
     // Start of user code attributeAnnotation:tracksChangeSet
     // End of user code
-    private Set<Link> tracksChangeSet = new HashSet<>();
+    private Set<Link> tracksChangeSet = new CompactSet<>();
     // Start of user code attributeAnnotation:parent
     // End of user code
-    private Set<Link> parent = new HashSet<>();
+    private Set<Link> parent = new CompactSet<>();
     // Start of user code attributeAnnotation:priority
     // End of user code
-    private Set<Link> priority = new HashSet<>();
+    private Set<Link> priority = new CompactSet<>();
     // Start of user code attributeAnnotation:state
     // End of user code
     private Link state;
     // Start of user code attributeAnnotation:authorizer
     // End of user code
-    private Set<Link> authorizer = new HashSet<>();
+    private Set<Link> authorizer = new CompactSet<>();
 
     // Start of user code classAttributes
     // End of user code
@@ -25,7 +25,6 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.text.SimpleDateFormat;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -48,6 +47,7 @@ import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcTitle;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcValueType;
 import org.eclipse.lyo.oslc4j.core.model.AbstractResource;
+import org.eclipse.lyo.oslc4j.core.model.CompactSet;
 import org.eclipse.lyo.oslc4j.core.model.Link;
 import org.eclipse.lyo.oslc4j.core.model.Occurs;
 import org.eclipse.lyo.oslc4j.core.model.OslcConstants;
@@ -86,7 +86,7 @@ public class Stream
 {
     // Start of user code attributeAnnotation:accepts
     // End of user code
-    private Set<Link> accepts = new HashSet<>();
+    private Set<Link> accepts = new CompactSet<>();
     // Start of user code attributeAnnotation:baselines
     // End of user code
     private Link baselines;
@@ -95,7 +95,7 @@ public class Stream
     private Link previousBaseline;
     // Start of user code attributeAnnotation:wasDerivedFrom
     // End of user code
-    private Set<Link> wasDerivedFrom = new HashSet<>();
+    private Set<Link> wasDerivedFrom = new CompactSet<>();
 
     // Start of user code classAttributes
     // End of user code
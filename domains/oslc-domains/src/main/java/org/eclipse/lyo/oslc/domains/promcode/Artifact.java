@@ -25,7 +25,6 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.text.SimpleDateFormat;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -48,6 +47,7 @@ import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcTitle;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcValueType;
 import org.eclipse.lyo.oslc4j.core.model.AbstractResource;
+import org.eclipse.lyo.oslc4j.core.model.CompactSet;
 import org.eclipse.lyo.oslc4j.core.model.Link;
 import org.eclipse.lyo.oslc4j.core.model.Occurs;
 import org.eclipse.lyo.oslc4j.core.model.OslcConstants;
@@ -82,10 +82,10 @@ public class Artifact
     private Link isPartOf;
     // Start of user code attributeAnnotation:producedFor
     // End of user code
-    private Set<String> producedFor = new HashSet<String>();
+    private Set<String> producedFor = new CompactSet<>();
     // Start of user code attributeAnnotation:targets
     // End of user code
-    private Set<Link> targets = new HashSet<Link>();
+    private Set<Link> targets = new CompactSet<>();
     
     // Start of user code classAttributes
     // End of user code
@@ -25,7 +25,6 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.text.SimpleDateFormat;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -48,6 +47,7 @@ import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcTitle;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcValueType;
 import org.eclipse.lyo.oslc4j.core.model.AbstractResource;
+import org.eclipse.lyo.oslc4j.core.model.CompactSet;
 import org.eclipse.lyo.oslc4j.core.model.Link;
 import org.eclipse.lyo.oslc4j.core.model.Occurs;
 import org.eclipse.lyo.oslc4j.core.model.OslcConstants;
@@ -87,13 +87,13 @@ public class Report
     private Link oslc_promcodeBelongsTo;
     // Start of user code attributeAnnotation:oslc_promcodeCollects
     // End of user code
-    private Set<Link> oslc_promcodeCollects = new HashSet<Link>();
+    private Set<Link> oslc_promcodeCollects = new CompactSet<>();
     // Start of user code attributeAnnotation:correspondsTo
     // End of user code
     private Link correspondsTo;
     // Start of user code attributeAnnotation:includes
     // End of user code
-    private Set<Link> includes = new HashSet<Link>();
+    private Set<Link> includes = new CompactSet<>();
     
     // Start of user code classAttributes
     // End of user code
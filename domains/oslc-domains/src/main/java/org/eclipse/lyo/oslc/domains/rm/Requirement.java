@@ -24,7 +24,6 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.text.SimpleDateFormat;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -47,6 +46,7 @@ import org.eclipse.lyo.oslc4j.core.annotation.OslcResourceShape;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcTitle;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcValueType;
 import org.eclipse.lyo.oslc4j.core.model.AbstractResource;
+import org.eclipse.lyo.oslc4j.core.model.CompactSet;
 import org.eclipse.lyo.oslc4j.core.model.Link;
 import org.eclipse.lyo.oslc4j.core.model.Occurs;
 import org.eclipse.lyo.oslc4j.core.model.OslcConstants;
@@ -94,13 +94,13 @@ public class Requirement
     private String shortTitle;
     // Start of user code attributeAnnotation:subject
     // End of user code
-    private Set<String> subject = new HashSet<>();
+    private Set<String> subject = new CompactSet<>();
     // Start of user code attributeAnnotation:creator
     // End of user code
-    private Set<Link> creator = new HashSet<>();
+    private Set<Link> creator = new CompactSet<>();
     // Start of user code attributeAnnotation:contributor
     // End of user code
-    private Set<Link> contributor = new HashSet<>();
+    private Set<Link> contributor = new CompactSet<>();
     // Start of user code attributeAnnotation:created
     // End of user code
     private Date created;
@@ -109,52 +109,52 @@ public class Requirement
     private Date modified;
     // Start of user code attributeAnnotation:serviceProvider
     // End of user code
-    private Set<Link> serviceProvider = new HashSet<>();
+    private Set<Link> serviceProvider = new CompactSet<>();
     // Start of user code attributeAnnotation:instanceShape
     // End of user code
-    private Set<Link> instanceShape = new HashSet<>();
+    private Set<Link> instanceShape = new CompactSet<>();
     // Start of user code attributeAnnotation:elaboratedBy
     // End of user code
-    private Set<Link> elaboratedBy = new HashSet<>();
+    private Set<Link> elaboratedBy = new CompactSet<>();
     // Start of user code attributeAnnotation:elaborates
     // End of user code
-    private Set<Link> elaborates = new HashSet<>();
+    private Set<Link> elaborates = new CompactSet<>();
     // Start of user code attributeAnnotation:specifiedBy
     // End of user code
-    private Set<Link> specifiedBy = new HashSet<>();
+    private Set<Link> specifiedBy = new CompactSet<>();
     // Start of user code attributeAnnotation:specifies
     // End of user code
-    private Set<Link> specifies = new HashSet<>();
+    private Set<Link> specifies = new CompactSet<>();
     // Start of user code attributeAnnotation:affectedBy
     // End of user code
-    private Set<Link> affectedBy = new HashSet<>();
+    private Set<Link> affectedBy = new CompactSet<>();
     // Start of user code attributeAnnotation:trackedBy
     // End of user code
-    private Set<Link> trackedBy = new HashSet<>();
+    private Set<Link> trackedBy = new CompactSet<>();
     // Start of user code attributeAnnotation:implementedBy
     // End of user code
-    private Set<Link> implementedBy = new HashSet<>();
+    private Set<Link> implementedBy = new CompactSet<>();
     // Start of user code attributeAnnotation:validatedBy
     // End of user code
-    private Set<Link> validatedBy = new HashSet<>();
+    private Set<Link> validatedBy = new CompactSet<>();
     // Start of user code attributeAnnotation:satisfiedBy
     // End of user code
-    private Set<Link> satisfiedBy = new HashSet<>();
+    private Set<Link> satisfiedBy = new CompactSet<>();
     // Start of user code attributeAnnotation:satisfies
     // End of user code
-    private Set<Link> satisfies = new HashSet<>();
+    private Set<Link> satisfies = new CompactSet<>();
     // Start of user code attributeAnnotation:decomposedBy
     // End of user code
-    private Set<Link> decomposedBy = new HashSet<>();
+    private Set<Link> decomposedBy = new CompactSet<>();
     // Start of user code attributeAnnotation:decomposes
     // End of user code
-    private Set<Link> decomposes = new HashSet<>();
+    private Set<Link> decomposes = new CompactSet<>();
     // Start of user code attributeAnnotation:constrainedBy
     // End of user code
-    private Set<Link> constrainedBy = new HashSet<>();
+    private Set<Link> constrainedBy = new CompactSet<>();
     // Start of user code attributeAnnotation:constrains
     // End of user code
-    private Set<Link> constrains = new HashSet<>();
+    private Set<Link> constrains = new CompactSet<>();
 
     // Start of user code classAttributes
     // End of user code
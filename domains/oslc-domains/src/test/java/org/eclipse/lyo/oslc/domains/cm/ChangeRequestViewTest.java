@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.oslc.domains.cm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.vocabulary.DCTerms;
+import org.apache.jena.vocabulary.RDF;
+import org.eclipse.lyo.oslc.domains.DctermsVocabularyConstants;
+import org.eclipse.lyo.oslc4j.core.exception.LyoModelException;
+import org.eclipse.lyo.oslc4j.core.exception.OslcCoreMisusedOccursException;
+import org.eclipse.lyo.oslc4j.core.model.IResource;
+import org.eclipse.lyo.oslc4j.provider.jena.JenaModelHelper;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Reads a change request through a view of {@link IChangeRequest}.
+ */
+public class ChangeRequestViewTest {
+
+    private static final String ABOUT = "http://example.com/changeRequests/1";
+
+    @Test
+    public void gettersReadTheResource() {
+        final Resource resource = changeRequest();
+        resource.addProperty(DCTerms.identifier, "1");
+
+        final IChangeRequest view = JenaModelHelper.unmarshalView(resource, IChangeRequest.class);
+
+        assertThat(((IResource) view).getAbout()).isEqualTo(URI.create(ABOUT));
+        assertThat(view.getIdentifier()).isEqualTo("1");
+        assertThat(view.getCreated()).isNull();
+    }
+
+    @Test
+    public void undecodablePropertyIsNamed() {
+        final Resource resource = changeRequest();
+        resource.addProperty(DCTerms.identifier, "1");
+        resource.addProperty(DCTerms.identifier, "2");
+
+        final IChangeRequest view = JenaModelHelper.unmarshalView(resource, IChangeRequest.class);
+
+        assertThatThrownBy(view::getIdentifier)
+                .isInstanceOf(LyoModelException.class)
+                .hasMessageContaining(DctermsVocabularyConstants.DUBLIN_CORE_NAMSPACE + "identifier")
+                .hasMessageContaining("IChangeRequest.getIdentifier")
+                .hasCauseInstanceOf(OslcCoreMisusedOccursException.class);
+    }
+
+    private static Resource changeRequest() {
+        final Model model = ModelFactory.createDefaultModel();
+        return model.createResource(ABOUT)
+                .addProperty(RDF.type, model.createResource(Oslc_cmDomainConstants.CHANGEREQUEST_TYPE));
+    }
+}
@@ -172,6 +172,28 @@ public interface Store {
             String prefixes, String where, String searchTerms,
             int limit, int offset) throws StoreAccessException, ModelUnmarshallingException;
 
+    /**
+     * Alternative to {@link Store#getResources(URI, Class, String, String, String, int, int)} that
+     * sorts the resources by the given {@code oslc.orderBy} expression. Resources matching more
+     * {@code oslc.searchTerms} come first, resources that sort equally are ordered by URI.
+     * <p>
+     * The default implementation ignores {@code orderBy} and delegates to
+     * {@link Store#getResources(URI, Class, String, String, String, int, int)}.
+     *
+     * @param orderBy       sort keys, as defined by oslc.orderBy at
+     *                      <a href="https://tools.oasis-open.org/version-control/browse/wsvn/oslc-core/trunk/specs/oslc-query.html">https://tools.oasis-open.org/version-control/browse/wsvn/oslc-core/trunk/specs/oslc-query.html</a>.
+     *                      May be null.
+     *
+     * @return list of OSLC resources in query order, size is less or equal to 'limit'
+     *
+     * @since 7.0.0
+     */
+    default <T extends IResource> List<T> getResources(URI namedGraphUri, Class<T> clazz,
+            String prefixes, String where, String searchTerms, String orderBy,
+            int limit, int offset) throws StoreAccessException, ModelUnmarshallingException {
+        return getResources(namedGraphUri, clazz, prefixes, where, searchTerms, limit, offset);
+    }
+
     /**
      * Alternative to {@link Store#getResources(URI, Class, String, String, String, int, int)} with additional parameters for inlined resources.
      * These parameters extend the default query from:
@@ -229,8 +251,7 @@ public interface Store {
      * language
      * (<a href="https://tools.oasis-open.org/version-control/svn/oslc-core/trunk/specs/oslc-query.html">https://tools.oasis-open.org/version-control/svn/oslc-core/trunk/specs/oslc-query.html</a>)
      * If the {@code namedGraph} is null, the query is applied on all {@code namedGraph} in the triplestore.
-     * The method currently only provides support for terms of type Comparisons, where the operator
-     * is {@code 'EQUALS'}, and the operand is either a {@link String} or a {@link URI}.
+     * All terms of the where clause are supported and evaluated by the triplestore.
      *
      * @param namedGraph    namedGraphUri URI of a named graph under which resources were stored
      * @param prefixes      defines the prefixes for prefixed names that appear in the oslc.where
@@ -250,8 +271,7 @@ public interface Store {
      * Retrieve a Jena model that satisfies the given where parameter as defined in the OSLC Query
      * language (<a href="https://tools.oasis-open.org/version-control/svn/oslc-core/trunk/specs/oslc-query.html">https://tools.oasis-open.org/version-control/svn/oslc-core/trunk/specs/oslc-query.html</a>)
      * If the {@code namedGraph} is null, the query is applied on all {@code namedGraph} in the triplestore.
-     * The method currently only provides support for terms of type Comparisons, where the operator
-     * is {@code 'EQUALS'}, and the operand is either a {@link String} or a {@link URI}.
+     * All terms of the where clause are supported and evaluated by the triplestore.
      *
      * @param namedGraph    namedGraphUri URI of a named graph under which resources were stored
      * @param prefixes      defines the prefixes for prefixed names that appear in the {@code oslc.where}
@@ -271,6 +291,24 @@ public interface Store {
     Model getResources(URI namedGraph, String prefixes, String where, String searchTerms, int limit, int offset);
 
 
+    /**
+     * Alternative to {@link Store#getResources(URI, String, String, String, int, int)} that pages
+     * through the resources in the order given by an {@code oslc.orderBy} expression.
+     * <p>
+     * The default implementation ignores {@code orderBy} and delegates to
+     * {@link Store#getResources(URI, String, String, String, int, int)}.
+     *
+     * @param orderBy       sort keys, as defined by oslc.orderBy at
+     *                      <a href="https://tools.oasis-open.org/version-control/browse/wsvn/oslc-core/trunk/specs/oslc-query.html">https://tools.oasis-open.org/version-control/browse/wsvn/oslc-core/trunk/specs/oslc-query.html</a>.
+     *                      May be null.
+     *
+     * @since 7.0.0
+     */
+    default Model getResources(URI namedGraph, String prefixes, String where, String searchTerms, String orderBy,
+            int limit, int offset) {
+        return getResources(namedGraph, prefixes, where, searchTerms, limit, offset);
+    }
+
     /**
      * Alternative to {@link Store#getResources(URI, String, String, String, int, int)} with
      * additional parameters for inlined resources.
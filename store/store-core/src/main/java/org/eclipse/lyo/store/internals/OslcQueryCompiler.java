@@ -0,0 +1,397 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.store.internals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.jena.arq.querybuilder.SelectBuilder;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.SortCondition;
+import org.apache.jena.sparql.core.TriplePath;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.expr.E_Add;
+import org.apache.jena.sparql.expr.E_Conditional;
+import org.apache.jena.sparql.expr.E_Datatype;
+import org.apache.jena.sparql.expr.E_Equals;
+import org.apache.jena.sparql.expr.E_Exists;
+import org.apache.jena.sparql.expr.E_GreaterThan;
+import org.apache.jena.sparql.expr.E_GreaterThanOrEqual;
+import org.apache.jena.sparql.expr.E_LessThan;
+import org.apache.jena.sparql.expr.E_LessThanOrEqual;
+import org.apache.jena.sparql.expr.E_LogicalAnd;
+import org.apache.jena.sparql.expr.E_NotEquals;
+import org.apache.jena.sparql.expr.E_OneOf;
+import org.apache.jena.sparql.expr.E_Regex;
+import org.apache.jena.sparql.expr.E_Str;
+import org.apache.jena.sparql.expr.E_StrLowerCase;
+import org.apache.jena.sparql.expr.Expr;
+import org.apache.jena.sparql.expr.ExprList;
+import org.apache.jena.sparql.expr.ExprVar;
+import org.apache.jena.sparql.expr.NodeValue;
+import org.apache.jena.sparql.path.Path;
+import org.apache.jena.sparql.path.PathFactory;
+import org.apache.jena.sparql.syntax.ElementFilter;
+import org.apache.jena.sparql.syntax.ElementGroup;
+import org.apache.jena.vocabulary.RDF;
+import org.eclipse.lyo.core.query.ComparisonTerm;
+import org.eclipse.lyo.core.query.CompoundTerm;
+import org.eclipse.lyo.core.query.InTerm;
+import org.eclipse.lyo.core.query.OrderByClause;
+import org.eclipse.lyo.core.query.PName;
+import org.eclipse.lyo.core.query.QueryEvaluator;
+import org.eclipse.lyo.core.query.QueryValues;
+import org.eclipse.lyo.core.query.ScopedSortTerm;
+import org.eclipse.lyo.core.query.SearchTermsClause;
+import org.eclipse.lyo.core.query.SimpleSortTerm;
+import org.eclipse.lyo.core.query.SimpleTerm;
+import org.eclipse.lyo.core.query.SortTerm;
+import org.eclipse.lyo.core.query.SortTerms;
+import org.eclipse.lyo.core.query.Value;
+import org.eclipse.lyo.core.query.WhereClause;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.eclipse.lyo.oslc4j.core.OSLC4JUtils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Compiles parsed OSLC query clauses to SPARQL graph patterns on the
+ * variable {@code ?s}, which stands for the selected resources.
+ * <p>
+ * The compiled patterns follow {@link QueryEvaluator}: a term of an
+ * {@code oslc.where} clause holds if it holds for at least one value of
+ * the property, {@code *} stands for any property, and literals compare
+ * by value as in SPARQL. A term of {@code oslc.searchTerms} matches a
+ * resource with a string literal containing all words of the term,
+ * resources matching more terms ranking first. {@code oslc.orderBy}
+ * sorts by {@code OPTIONAL} values, so resources without a value sort
+ * as SPARQL {@code ORDER BY} sorts unbound variables.
+ * <p>
+ * Compiled queries are immutable and cached by their parsed clauses, so
+ * clauses from the {@link org.eclipse.lyo.core.query.ParsedQueryCache}
+ * are compiled once.
+ *
+ * @since 7.0.0
+ */
+public final class OslcQueryCompiler {
+
+    /**
+     * The variable standing for the selected resources.
+     */
+    public static final Var SUBJECT = Var.alloc("s");
+
+    /**
+     * The variable bound to the number of matching search terms when
+     * more than one term is given.
+     */
+    public static final Var SCORE = Var.alloc("_score");
+
+    private static final ExprList TEXT_DATATYPES = new ExprList(List.of(
+            NodeValue.makeNode(NodeFactory.createURI(XSDDatatype.XSDstring.getURI())),
+            NodeValue.makeNode(NodeFactory.createURI(RDF.dtLangString.getURI())),
+            NodeValue.makeNode(NodeFactory.createURI(RDF.dtXMLLiteral.getURI()))));
+
+    private static final String WORD_BOUNDARY = "[^\\p{L}\\p{N}]";
+
+    private final Cache<Key, CompiledQuery> cache;
+
+    /**
+     * @return the shared compiler, whose cache is sized by
+     * {@link OSLC4JConstants#OSLC4J_QUERY_CACHE_SIZE}
+     */
+    public static OslcQueryCompiler getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * @param maximumSize maximum number of cached compiled queries
+     */
+    public OslcQueryCompiler(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    /**
+     * Compile the clauses of an OSLC query. Any clause may be null.
+     *
+     * @throws IllegalArgumentException if a prefixed name has an undeclared prefix
+     */
+    public CompiledQuery compile(final WhereClause where, final SearchTermsClause searchTerms,
+            final OrderByClause orderBy) {
+        final Key key = new Key(where, searchTerms == null || searchTerms.isEmpty() ? null :
+                List.copyOf(searchTerms), orderBy);
+        CompiledQuery compiled = cache.getIfPresent(key);
+        if (compiled == null) {
+            // Compiled at most a few times if several threads race, the results are equal
+            compiled = new Compilation().compile(key);
+            cache.put(key, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Remove all cached compiled queries.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * The SPARQL form of an OSLC query.
+     *
+     * @param patterns       triple patterns of the {@code oslc.where} clause
+     * @param filters        filters of the {@code oslc.where} and {@code oslc.searchTerms} clauses
+     * @param score          expression bound to {@link #SCORE}, or null
+     * @param sortPatterns   optional patterns binding the sort variables
+     * @param sortConditions sort conditions, the search score first
+     */
+    public record CompiledQuery(List<Triple> patterns, List<Expr> filters, Expr score,
+            List<TriplePath> sortPatterns, List<SortCondition> sortConditions) {
+
+        public CompiledQuery {
+            patterns = List.copyOf(patterns);
+            filters = List.copyOf(filters);
+            sortPatterns = List.copyOf(sortPatterns);
+            sortConditions = List.copyOf(sortConditions);
+        }
+
+        /**
+         * Add the patterns and filters selecting the resources to a query.
+         */
+        public void addWhere(final SelectBuilder query) {
+            for (Triple pattern : patterns) {
+                query.addWhere(pattern);
+            }
+            if (score != null) {
+                query.addBind(score, SCORE);
+            }
+            for (Expr filter : filters) {
+                query.addFilter(filter);
+            }
+        }
+
+        /**
+         * Add the optional sort patterns and the sort conditions to a query
+         * already given the {@link #addWhere(SelectBuilder) patterns}.
+         */
+        public void addOrderBy(final SelectBuilder query) {
+            addOrderBy(query, query);
+        }
+
+        /**
+         * Add the optional sort patterns to the query giving the {@link #addWhere(SelectBuilder)
+         * patterns}, such as one nested in a {@code GRAPH}, and the sort conditions to the query
+         * selecting from it.
+         */
+        public void addOrderBy(final SelectBuilder patterns, final SelectBuilder query) {
+            for (TriplePath sortPattern : sortPatterns) {
+                patterns.addOptional(sortPattern);
+            }
+            for (SortCondition sortCondition : sortConditions) {
+                query.addOrderBy(sortCondition);
+            }
+        }
+    }
+
+    private record Key(WhereClause where, List<String> searchTerms, OrderByClause orderBy) {
+    }
+
+    /**
+     * State of a single compilation, for fresh variable names
+     */
+    private static final class Compilation {
+
+        private final List<Triple> patterns = new ArrayList<>();
+        private final List<Expr> filters = new ArrayList<>();
+        private final List<TriplePath> sortPatterns = new ArrayList<>();
+        private final List<SortCondition> sortConditions = new ArrayList<>();
+        private Expr score;
+        private int variables;
+
+        CompiledQuery compile(final Key key) {
+            if (key.where() != null) {
+                where(SUBJECT, key.where().children());
+            }
+            if (key.searchTerms() != null) {
+                searchTerms(key.searchTerms());
+            }
+            if (key.orderBy() != null) {
+                orderBy(key.orderBy(), null);
+            }
+            return new CompiledQuery(patterns, filters, score, sortPatterns, sortConditions);
+        }
+
+        // oslc.where
+
+        private void where(final Node subject, final List<SimpleTerm> terms) {
+            for (SimpleTerm term : terms) {
+                final Node predicate = predicate(term.property());
+
+                switch (term.type()) {
+                    case COMPARISON:
+                        final ComparisonTerm comparison = (ComparisonTerm) term;
+                        final Node operand = QueryValues.toNode(comparison.operand());
+                        if (comparison.operator() == ComparisonTerm.Operator.EQUALS
+                                && isTermEquality(comparison.operand())) {
+                            patterns.add(Triple.create(subject, predicate, operand));
+                        } else {
+                            final Var value = variable("_w");
+                            patterns.add(Triple.create(subject, predicate, value));
+                            filters.add(comparison(comparison.operator(), new ExprVar(value),
+                                    NodeValue.makeNode(operand)));
+                        }
+                        break;
+
+                    case IN_TERM:
+                        final ExprList values = new ExprList();
+                        for (Value value : ((InTerm) term).values()) {
+                            values.add(NodeValue.makeNode(QueryValues.toNode(value)));
+                        }
+                        final Var value = variable("_w");
+                        patterns.add(Triple.create(subject, predicate, value));
+                        filters.add(new E_OneOf(new ExprVar(value), values));
+                        break;
+
+                    default:
+                        final Var object = variable("_w");
+                        patterns.add(Triple.create(subject, predicate, object));
+                        where(object, ((CompoundTerm) term).children());
+                        break;
+                }
+            }
+        }
+
+        private Node predicate(final PName property) {
+            if (property.prefix == null && "*".equals(property.local)) {
+                return variable("_p");
+            }
+            return NodeFactory.createURI(QueryValues.iri(property));
+        }
+
+        /**
+         * Equal values of these operands are the same RDF term, so that
+         * equality is a plain triple pattern that the store can look up
+         */
+        private static boolean isTermEquality(final Value operand) {
+            switch (operand.type()) {
+                case URI_REF:
+                case STRING:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        private static Expr comparison(final ComparisonTerm.Operator operator, final Expr left,
+                final Expr right) {
+            switch (operator) {
+                case EQUALS:
+                    return new E_Equals(left, right);
+                case NOT_EQUALS:
+                    return new E_NotEquals(left, right);
+                case LESS_THAN:
+                    return new E_LessThan(left, right);
+                case GREATER_THAN:
+                    return new E_GreaterThan(left, right);
+                case LESS_EQUALS:
+                    return new E_LessThanOrEqual(left, right);
+                default:
+                    return new E_GreaterThanOrEqual(left, right);
+            }
+        }
+
+        // oslc.searchTerms
+
+        private void searchTerms(final List<String> searchTerms) {
+            final List<Expr> matches = new ArrayList<>();
+            for (String searchTerm : searchTerms) {
+                final List<String> words = QueryValues.searchWords(searchTerm);
+                if (!words.isEmpty()) {
+                    matches.add(new E_Exists(containsWords(words)));
+                }
+            }
+
+            if (matches.isEmpty()) {
+                filters.add(NodeValue.FALSE);
+            } else if (matches.size() == 1) {
+                filters.add(matches.get(0));
+            } else {
+                for (Expr match : matches) {
+                    final Expr count = new E_Conditional(match, NodeValue.makeInteger(1),
+                            NodeValue.makeInteger(0));
+                    score = score == null ? count : new E_Add(score, count);
+                }
+                filters.add(new E_GreaterThan(new ExprVar(SCORE), NodeValue.makeInteger(0)));
+                sortConditions.add(new SortCondition(SCORE, Query.ORDER_DESCENDING));
+            }
+        }
+
+        /**
+         * @return {@code { ?s ?_tp ?_to FILTER(...) }} for a string literal
+         * {@code ?_to} containing all the words
+         */
+        private static ElementGroup containsWords(final List<String> words) {
+            final Var text = Var.alloc("_to");
+            final Expr lowerCase = new E_StrLowerCase(new E_Str(new ExprVar(text)));
+
+            Expr filter = new E_OneOf(new E_Datatype(new ExprVar(text)), TEXT_DATATYPES);
+            for (String word : words) {
+                // Words consist of letters and digits only, no need to quote them
+                filter = new E_LogicalAnd(filter, new E_Regex(lowerCase, NodeValue.makeString(
+                        "(^|" + WORD_BOUNDARY + ")" + word + "(" + WORD_BOUNDARY + "|$)"), null));
+            }
+
+            final ElementGroup group = new ElementGroup();
+            group.addTriplePattern(Triple.create(SUBJECT, Var.alloc("_tp"), text));
+            group.addElementFilter(new ElementFilter(filter));
+            return group;
+        }
+
+        // oslc.orderBy
+
+        private void orderBy(final SortTerms sortTerms, final Path scope) {
+            for (SortTerm sortTerm : sortTerms.children()) {
+                final Path link = PathFactory.pathLink(
+                        NodeFactory.createURI(QueryValues.iri(sortTerm.identifier())));
+                final Path path = scope == null ? link : PathFactory.pathSeq(scope, link);
+
+                if (sortTerm.type() == SortTerm.Type.SCOPED) {
+                    orderBy(((ScopedSortTerm) sortTerm).sortTerms(), path);
+                } else {
+                    final Var value = variable("_sort");
+                    sortPatterns.add(new TriplePath(SUBJECT, path, value));
+                    sortConditions.add(new SortCondition(value,
+                            ((SimpleSortTerm) sortTerm).ascending() ? Query.ORDER_ASCENDING :
+                                    Query.ORDER_DESCENDING));
+                }
+            }
+        }
+
+        private Var variable(final String prefix) {
+            return Var.alloc(prefix + variables++);
+        }
+    }
+
+    private static final class Holder {
+        private static final OslcQueryCompiler INSTANCE =
+                new OslcQueryCompiler(OSLC4JUtils.getQueryCacheSize());
+    }
+}
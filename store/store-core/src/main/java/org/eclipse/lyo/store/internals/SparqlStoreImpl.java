@@ -6,8 +6,10 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -44,6 +46,7 @@ import org.apache.jena.query.ParameterizedSparqlString;
 import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryExecution;
 import org.apache.jena.query.QuerySolutionMap;
+import org.apache.jena.query.ResultSet;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Resource;
@@ -55,17 +58,10 @@ import org.apache.jena.sparql.expr.E_Regex;
 import org.apache.jena.sparql.modify.request.QuadDataAcc;
 import org.apache.jena.sparql.modify.request.UpdateDataInsert;
 import org.apache.jena.update.UpdateProcessor;
-import org.eclipse.lyo.core.query.ComparisonTerm;
-import org.eclipse.lyo.core.query.ComparisonTerm.Operator;
-import org.eclipse.lyo.core.query.DecimalValue;
-import org.eclipse.lyo.core.query.PName;
+import org.eclipse.lyo.core.query.OrderByClause;
 import org.eclipse.lyo.core.query.ParseException;
-import org.eclipse.lyo.core.query.QueryUtils;
-import org.eclipse.lyo.core.query.SimpleTerm;
-import org.eclipse.lyo.core.query.SimpleTerm.Type;
-import org.eclipse.lyo.core.query.StringValue;
-import org.eclipse.lyo.core.query.UriRefValue;
-import org.eclipse.lyo.core.query.Value;
+import org.eclipse.lyo.core.query.ParsedQueryCache;
+import org.eclipse.lyo.core.query.SearchTermsClause;
 import org.eclipse.lyo.core.query.WhereClause;
 import org.eclipse.lyo.oslc4j.core.OSLC4JUtils;
 import org.eclipse.lyo.oslc4j.core.annotation.OslcName;
@@ -76,6 +72,7 @@ import org.eclipse.lyo.oslc4j.provider.jena.JenaModelHelper;
 import org.eclipse.lyo.store.ModelUnmarshallingException;
 import org.eclipse.lyo.store.Store;
 import org.eclipse.lyo.store.StoreAccessException;
+import org.eclipse.lyo.store.internals.OslcQueryCompiler.CompiledQuery;
 import org.eclipse.lyo.store.internals.query.JenaQueryExecutor;
 import org.eclipse.lyo.store.internals.query.SparqlQueryExecutorBasicAuthImpl;
 import org.eclipse.lyo.store.internals.query.SparqlQueryExecutorImpl;
@@ -315,11 +312,78 @@ public class SparqlStoreImpl implements Store {
             null, null);
     }
 
+    @Override
+    public <T extends IResource> List<T> getResources(final URI namedGraph, final Class<T> clazz, final String prefixes,
+            final String where, final String searchTerms, final String orderBy, final int limit, final int offset)
+        throws StoreAccessException, ModelUnmarshallingException {
+
+        checkNamedGraph(namedGraph);
+
+        String _prefixes = (StringUtils.isEmpty(prefixes) ? "" : prefixes + ",") + oslcQueryPrefixes(clazz);
+        String _where = (StringUtils.isEmpty(where) ? "" : where + " and ") + oslcQueryWhere(clazz);
+        SelectBuilder distinctResourcesQuery = constructSparqlWhere(namedGraph, _prefixes, _where, searchTerms,
+            orderBy, limit, offset, true, null, null);
+
+        // The DESCRIBE result is a model, so select the ordered subjects first and describe only those
+        SelectBuilder subjectsQuery = new SelectBuilder();
+        subjectsQuery.addVar("s")
+        .addSubQuery(distinctResourcesQuery);
+
+        final Map<URI, Integer> positions = new HashMap<>();
+        queryExecutor.beginRead();
+        try {
+            String subjectsQueryString = subjectsQuery.build().toString();
+            log.trace("SPARQL Select query for oslc.where='{}', oslc.orderBy='{}':\n{}", where, orderBy,
+                subjectsQueryString);
+            final ResultSet results = queryExecutor.prepareSparqlQuery(subjectsQueryString).execSelect();
+            while (results.hasNext()) {
+                final Resource subject = results.next().getResource("s");
+                if (subject.isURIResource()) {
+                    positions.putIfAbsent(URI.create(subject.getURI()), positions.size());
+                }
+            }
+        } finally {
+            queryExecutor.end();
+        }
+
+        if (positions.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        SelectBuilder membersQuery = new SelectBuilder();
+        membersQuery.addVar("s")
+        .setDistinct(true)
+        .addWhereValueVar("?s", positions.keySet().stream().map(uri -> new ResourceImpl(uri.toString())).toArray());
+
+        Model model = describe(membersQuery, null, where);
+        List<T> resources = getResourcesFromModel(model, clazz);
+        resources.sort(Comparator.comparing(resource -> positions.getOrDefault(resource.getAbout(),
+            Integer.MAX_VALUE)));
+        return resources;
+    }
+
     @Override
     public Model getResources(final URI namedGraph, final String prefixes, final String where, final String searchTerms,
                               final int limit, final int offset, List<String> additionalDistinctVars,
                               SelectBuilder additionalQueryFilter) {
+        checkNamedGraph(namedGraph);
+
+        SelectBuilder distinctResourcesQuery = constructSparqlWhere(namedGraph, prefixes, where, searchTerms, null,
+            limit, offset, false, additionalDistinctVars, additionalQueryFilter);
+        return describe(distinctResourcesQuery, additionalDistinctVars, where);
+    }
+
+    @Override
+    public Model getResources(final URI namedGraph, final String prefixes, final String where, final String searchTerms,
+                              final String orderBy, final int limit, final int offset) {
+        checkNamedGraph(namedGraph);
 
+        SelectBuilder distinctResourcesQuery = constructSparqlWhere(namedGraph, prefixes, where, searchTerms, orderBy,
+            limit, offset, false, null, null);
+        return describe(distinctResourcesQuery, null, where);
+    }
+
+    private void checkNamedGraph(final URI namedGraph) {
         if (namedGraph != null) {
             //Make sure the designated namedGraph exists, if it is specified.
             //Otherwise, the search occurs across all named graphs.
@@ -327,12 +391,17 @@ public class SparqlStoreImpl implements Store {
                 throw new IllegalArgumentException("Named graph" + namedGraph + " was missing from the triplestore");
             }
         }
+    }
+
+    private Model describe(final SelectBuilder distinctResourcesQuery, final List<String> additionalDistinctVars,
+                           final String where) {
+        SelectBuilder sparqlWhereQuery = new SelectBuilder();
+        sparqlWhereQuery.addVar( "s p o" )
+            .addSubQuery(distinctResourcesQuery);
 
-        SelectBuilder sparqlWhereQuery = constructSparqlWhere (prefixes, where, searchTerms, limit, offset,
-            additionalDistinctVars, additionalQueryFilter);
         DescribeBuilder describeBuilder = new DescribeBuilder();
         describeBuilder.addVar("s")
-        .addGraph((namedGraph != null) ? new ResourceImpl(String.valueOf(namedGraph)) : "?g", sparqlWhereQuery);
+        .addWhere(sparqlWhereQuery);
 
         if (null != additionalDistinctVars) {
             for (String additionalDistinctVar : additionalDistinctVars) {
@@ -583,20 +652,32 @@ public class SparqlStoreImpl implements Store {
     }
 
     /**
-     * This method currently only provides support for terms of type {@link Type#COMPARISON}, where the operator is
-     * 'EQUALS', and the operand is either a {@link String} or a {@link URI}.
+     * Select the distinct resources {@code ?s} satisfying an OSLC query. The clauses are compiled
+     * by the {@link OslcQueryCompiler}. A {@code searchTerms} value that is not a valid
+     * oslc.searchTerms expression is matched as a regular expression against all objects, as
+     * before oslc.searchTerms were supported.
+     * <p>
+     * The clauses are matched inside the {@code GRAPH} pattern of the select, so that its sort and
+     * its limit and offset apply once across all named graphs when {@code namedGraph} is null.
+     *
+     * @param namedGraph the graph to search, or null to search all named graphs
+     * @param ordered whether to sort the results even when they are not paged
      */
-    private SelectBuilder constructSparqlWhere(final String prefixes, final String where, final String searchTerms,
-                                               final int limit, final int offset, List<String> additionalDistinctVars,
+    private SelectBuilder constructSparqlWhere(final URI namedGraph, final String prefixes, final String where,
+                                               final String searchTerms, final String orderBy, final int limit,
+                                               final int offset, final boolean ordered,
+                                               List<String> additionalDistinctVars,
                                                SelectBuilder additionalQueryFilter) {
 
         SelectBuilder distinctResourcesQuery = new SelectBuilder();
+        SelectBuilder graphPatterns = new SelectBuilder();
+        ParsedQueryCache parsedQueryCache = ParsedQueryCache.getInstance();
 
         //Setup prefixes
-        Map<String, String> prefixesMap = new HashMap<>();
+        Map<String, String> prefixesMap = Collections.emptyMap();
         try {
             if (!StringUtils.isEmpty(prefixes)) {
-                prefixesMap = QueryUtils.parsePrefixes(prefixes);
+                prefixesMap = parsedQueryCache.parsePrefixes(prefixes);
                 for (Entry<String, String> prefix : prefixesMap.entrySet()) {
                     distinctResourcesQuery.addPrefix(prefix.getKey(), prefix.getValue());
                 }
@@ -605,10 +686,47 @@ public class SparqlStoreImpl implements Store {
             throw new IllegalArgumentException("prefixesExpression could not be parsed", e);
         }
 
+        WhereClause whereClause = null;
+        try {
+            if (!StringUtils.isEmpty(where)) {
+                whereClause = parsedQueryCache.parseWhere(where, prefixesMap);
+            }
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("whereExpression could not be parsed", e);
+        }
+
+        SearchTermsClause searchTermsClause = null;
+        String searchRegex = null;
+        if (!StringUtils.isEmpty(searchTerms)) {
+            try {
+                searchTermsClause = parsedQueryCache.parseSearchTerms(searchTerms);
+            } catch (ParseException e) {
+                searchTermsClause = null;
+            }
+            if (searchTermsClause == null || searchTermsClause.isEmpty()) {
+                searchRegex = searchTerms;
+            }
+        }
+
+        OrderByClause orderByClause = null;
+        try {
+            if (!StringUtils.isEmpty(orderBy)) {
+                orderByClause = parsedQueryCache.parseOrderBy(orderBy, prefixesMap);
+            }
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("orderByExpression could not be parsed", e);
+        }
+
+        CompiledQuery compiledQuery = OslcQueryCompiler.getInstance().compile(whereClause, searchTermsClause,
+            orderByClause);
+
         distinctResourcesQuery
         .addVar( "s" )
-        .setDistinct(true)
-        .addWhere( "?s", "?p", "?o");
+        .setDistinct(true);
+
+        if (compiledQuery.patterns().isEmpty() || searchRegex != null) {
+            graphPatterns.addWhere( "?s", "?p", "?o");
+        }
 
         if (null != additionalDistinctVars) {
             for (String additionalDistinctVar : additionalDistinctVars) {
@@ -616,71 +734,29 @@ public class SparqlStoreImpl implements Store {
             }
         }
         if (null != additionalQueryFilter) {
-            distinctResourcesQuery.addWhere(additionalQueryFilter);
+            graphPatterns.addWhere(additionalQueryFilter);
         }
 
-        //Setup where
-        WhereClause whereClause = null;
-        try {
-            if (!StringUtils.isEmpty(where)) {
-                whereClause = QueryUtils.parseWhere(where, prefixesMap);
-                List<SimpleTerm> parseChildren = whereClause.children();
-                for (SimpleTerm simpleTerm : parseChildren) {
-                    Type termType = simpleTerm.type();
-                    PName property = simpleTerm.property();
-
-                    if (!termType.equals(Type.COMPARISON)) {
-                        throw new UnsupportedOperationException("only support for terms of type Comparisons");
-                    }
-                    ComparisonTerm aComparisonTerm = (ComparisonTerm) simpleTerm;
-                    if (!aComparisonTerm.operator().equals(Operator.EQUALS)) {
-                        throw new UnsupportedOperationException(
-                            "only support for terms of type Comparisons, where the operator is 'EQUALS'");
-                    }
-
-                    Value comparisonOperand = aComparisonTerm.operand();
-                    Value.Type operandType = comparisonOperand.type();
-                    String predicate;
-                    if (property.local.equals("*")) {
-                        predicate = "?p";
-                    } else {
-                        predicate = property.toString();
-                    }
-
-                    switch (operandType) {
-                        case DECIMAL:
-                            DecimalValue decimalOperand = (DecimalValue) comparisonOperand;
-                            distinctResourcesQuery.addWhere("?s", predicate, decimalOperand.value());
-                            break;
-                        case STRING:
-                            StringValue stringOperand = (StringValue) comparisonOperand;
-                            distinctResourcesQuery.addWhere("?s", predicate, "\"" + stringOperand.value() + "\"");
-                            break;
-                        case URI_REF:
-                            UriRefValue uriOperand = (UriRefValue) comparisonOperand;
-                            distinctResourcesQuery.addWhere("?s", predicate, new ResourceImpl(uriOperand.value()));
-                            break;
-                        default:
-                            throw new UnsupportedOperationException("only support for terms of type Comparisons," +
-                                " where the operator is 'EQUALS', and the operand is either a String, an Integer or a URI");
-                    }
-                }
-            }
-        } catch (ParseException e) {
-            throw new IllegalArgumentException("whereExpression could not be parsed", e);
-        }
+        compiledQuery.addWhere(graphPatterns);
 
-        //Setup searchTerms
-        //Add a sparql filter "FILTER regex(?o, "<searchTerms>", "i")" to the distinctResourcesQuery
-        if (!StringUtils.isEmpty(searchTerms)) {
+        //Add a sparql filter "FILTER regex(?o, "<searchTerms>", "i")" to the graph patterns
+        if (searchRegex != null) {
             ExprFactory factory = new ExprFactory();
-            E_Regex regex = factory.regex(factory.str("?o"), searchTerms, "i");
-            distinctResourcesQuery.addFilter(regex);
+            E_Regex regex = factory.regex(factory.str("?o"), searchRegex, "i");
+            graphPatterns.addFilter(regex);
         }
 
+        boolean sorted = ordered || limit > 0 || offset > 0;
+        if (sorted) {
+            compiledQuery.addOrderBy(graphPatterns, distinctResourcesQuery);
+        }
+        distinctResourcesQuery.addGraph((namedGraph != null) ? new ResourceImpl(String.valueOf(namedGraph)) : "?g",
+            graphPatterns);
 
-        if ((limit > 0 || offset > 0) && (! OSLC4JUtils.isLyoStorePagingUnsafe())) {
-            distinctResourcesQuery.addOrderBy("?s", Order.ASCENDING);
+        if (sorted) {
+            if (! OSLC4JUtils.isLyoStorePagingUnsafe()) {
+                distinctResourcesQuery.addOrderBy("?s", Order.ASCENDING);
+            }
         }
 
         if (limit > 0) {
@@ -690,11 +766,7 @@ public class SparqlStoreImpl implements Store {
             distinctResourcesQuery.setOffset(offset);
         }
 
-        SelectBuilder constructSelectQuery = new SelectBuilder();
-        constructSelectQuery.addVar( "s p o" )
-            .addSubQuery(distinctResourcesQuery);
-
-        return constructSelectQuery;
+        return distinctResourcesQuery;
     }
 
 }
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringReader;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.jena.arq.querybuilder.Order;
+import org.apache.jena.arq.querybuilder.SelectBuilder;
+import org.apache.jena.graph.Node;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.QueryExecutionFactory;
+import org.apache.jena.query.ReadWrite;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.tdb.TDBFactory;
+import org.eclipse.lyo.core.query.ParseException;
+import org.eclipse.lyo.core.query.QueryEvaluator;
+import org.eclipse.lyo.core.query.QueryUtils;
+import org.eclipse.lyo.oslc4j.core.OSLC4JConstants;
+import org.eclipse.lyo.store.internals.OslcQueryCompiler;
+import org.eclipse.lyo.store.internals.OslcQueryCompiler.CompiledQuery;
+import org.eclipse.lyo.store.internals.SparqlStoreImpl;
+import org.eclipse.lyo.store.internals.query.DatasetQueryExecutorImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the SPARQL compiled by {@link OslcQueryCompiler} on an in-memory TDB dataset and checks
+ * that it selects the same resources as the {@link QueryEvaluator}.
+ */
+public class OslcQueryCompilerTest {
+
+    private static final String PREFIXES = "qm=<http://qm.example.com/ns#>,"
+            + "xsd=<http://www.w3.org/2001/XMLSchema#>,ex=<http://example.com/>";
+
+    private static final String DATA = "@prefix qm: <http://qm.example.com/ns#> .\n"
+            + "@prefix xsd: <http://www.w3.org/2001/XMLSchema#> .\n"
+            + "@prefix ex: <http://example.com/> .\n"
+            + "ex:a qm:size 12 ; qm:weight \"1.50\"^^xsd:decimal ; qm:title \"Alpha test\"@en ;\n"
+            + "  qm:state \"Open\" ; qm:done false ; qm:owner ex:alice ;\n"
+            + "  qm:modified \"2026-01-01T10:00:00Z\"^^xsd:dateTime .\n"
+            + "ex:b qm:size \"10.0\"^^xsd:double ; qm:weight 2.5 ; qm:title \"Beta\" ;\n"
+            + "  qm:state \"Closed\" ; qm:done true ; qm:owner ex:bob , ex:carol ;\n"
+            + "  qm:modified \"2026-01-01T11:30:00+02:00\"^^xsd:dateTime .\n"
+            + "ex:c qm:size 3 , 30 ; qm:title \"Gamma test case\" ; qm:state \"Open\" ;\n"
+            + "  qm:owner ex:alice ; qm:modified \"2025-12-31\"^^xsd:date .\n"
+            + "ex:alice qm:name \"Alice\" ; qm:age 40 .\n"
+            + "ex:bob qm:name \"Bob\" ; qm:age 30 .\n"
+            + "ex:carol qm:name \"Carol\" ; qm:age 50 .\n";
+
+    private static final URI GRAPH = URI.create("urn:test:query");
+
+    private Model model;
+    private Dataset dataset;
+
+    @BeforeEach
+    public void setUp() {
+        // The ANTLR lexer cannot parse "<" followed by a number
+        System.setProperty(OSLC4JConstants.OSLC4J_QUERY_PARSER, "handwritten");
+        model = ModelFactory.createDefaultModel();
+        model.read(new StringReader(DATA), null, "TURTLE");
+        dataset = TDBFactory.createDataset();
+        dataset.executeWrite(() -> dataset.getDefaultModel().add(model));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(OSLC4JConstants.OSLC4J_QUERY_PARSER);
+        dataset.close();
+    }
+
+    @Test
+    public void comparisonsAgreeWithEvaluator() throws ParseException {
+        assertSameMatches("qm:size=12", "qm:size=10", "qm:size>=10", "qm:size<10", "qm:size!=12",
+                "qm:weight>1.5", "qm:weight<=1.5", "qm:state=\"Open\"", "qm:state>\"Cz\"",
+                "qm:title=\"Alpha test\"@en", "qm:title=\"Alpha test\"", "qm:done=false",
+                "qm:owner=<http://example.com/alice>",
+                "qm:modified<\"2026-01-01T09:45:00Z\"^^xsd:dateTime",
+                "qm:modified>=\"2026-01-01T10:00:00Z\"^^xsd:dateTime",
+                "qm:modified<\"2026-01-01\"^^xsd:date", "qm:size>\"10\"");
+    }
+
+    @Test
+    public void inNestedAndWildcardAgreeWithEvaluator() throws ParseException {
+        assertSameMatches("qm:state in [\"Closed\",\"Done\"]", "qm:size in [3,12]",
+                "qm:owner{qm:name=\"Alice\"}", "qm:owner{qm:age>35} and qm:size>20",
+                "qm:state=\"Open\" and qm:done=false", "*=\"Beta\"", "*{qm:age<35}",
+                "qm:owner{qm:name=\"Alice\" and qm:age=40}", "qm:title=\"Tab\\tand \\\"quote\\\"\"");
+    }
+
+    @Test
+    public void randomComparisonsAgreeWithEvaluator() throws ParseException {
+        final Random random = new Random(11);
+        final String[] operators = {"=", "!=", "<", ">", "<=", ">="};
+        final String[] properties = {"qm:size", "qm:weight", "qm:age", "*"};
+        final List<String> wheres = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            final String number = random.nextInt(45) + (random.nextBoolean() ? ".5" : "");
+            final String term = properties[random.nextInt(properties.length)]
+                    + operators[random.nextInt(operators.length)] + number;
+            wheres.add(random.nextBoolean() ? term : "qm:owner{" + term + "}");
+        }
+
+        assertSameMatches(wheres.toArray(new String[0]));
+    }
+
+    @Test
+    public void orderByAndSearchTermsAgreeWithEvaluator() throws ParseException {
+        assertSameOrder(null, null, "+qm:size");
+        assertSameOrder(null, null, "-qm:size");
+        assertSameOrder("qm:state=\"Open\"", null, "qm:owner{-qm:name},-qm:size");
+        assertSameOrder("qm:size>0", null, "+qm:modified");
+        assertSameOrder(null, "\"test\"", null);
+        assertSameOrder(null, "\"TEST case\"", null);
+        assertSameOrder(null, "\"beta\",\"test case\",\"gamma\"", null);
+        assertSameOrder("qm:size<20", "\"test\"", "-qm:size");
+        assertSameOrder(null, "\"gamma\",\"test\"", "+qm:size");
+        assertSameOrder(null, "\"alpha open\"", null);
+        assertSameOrder(null, "\"alpha open\",\"alpha test\"", null);
+        assertSameOrder(null, null, "qm:owner{-qm:age}");
+        assertSameOrder(null, null, "qm:owner{+qm:age},+qm:size");
+        assertSameOrder(null, null, "qm:owner{+qm:name}");
+    }
+
+    @Test
+    public void compiledQueriesAreCached() throws ParseException {
+        final Map<String, String> prefixes = QueryUtils.parsePrefixes(PREFIXES);
+        final OslcQueryCompiler compiler = new OslcQueryCompiler(10);
+
+        final CompiledQuery compiled = compiler.compile(QueryUtils.parseWhere("qm:size>3", prefixes),
+                QueryUtils.parseSearchTerms("\"test\""), QueryUtils.parseOrderBy("-qm:size", prefixes));
+
+        assertThat(compiler.compile(QueryUtils.parseWhere("qm:size>3", prefixes),
+                QueryUtils.parseSearchTerms("\"test\""), QueryUtils.parseOrderBy("-qm:size", prefixes)))
+                .isSameAs(compiled);
+        assertThat(compiler.compile(QueryUtils.parseWhere("qm:size>4", prefixes), null, null))
+                .isNotSameAs(compiled);
+    }
+
+    @Test
+    public void undeclaredPrefixIsRejected() throws ParseException {
+        assertThatThrownBy(() -> new OslcQueryCompiler(10).compile(
+                QueryUtils.parseWhere("dc:title=\"x\"", QueryUtils.parsePrefixes(PREFIXES)), null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Undeclared prefix in dc:title");
+    }
+
+    @Test
+    public void storePagesInQueryOrder() {
+        final Store store = new SparqlStoreImpl(new DatasetQueryExecutorImpl(TDBFactory.createDataset()));
+        store.insertJenaModel(GRAPH, model);
+
+        final Model page = store.getResources(GRAPH, PREFIXES, "qm:size>0", null, "-qm:size", 1, 1);
+
+        assertThat(page.listSubjects().mapWith(r -> r.getURI()).toSet())
+                .containsExactly("http://example.com/a");
+        assertThat(store.getResources(GRAPH, PREFIXES, "qm:size>=10 and qm:owner{qm:age<35}", null,
+                null, -1, -1).listSubjects().mapWith(r -> r.getURI()).toSet())
+                .containsExactly("http://example.com/b");
+    }
+
+    private void assertSameMatches(final String... wheres) throws ParseException {
+        final Map<String, String> prefixes = QueryUtils.parsePrefixes(PREFIXES);
+        final QueryEvaluator evaluator = new QueryEvaluator(model);
+
+        for (String where : wheres) {
+            final CompiledQuery compiled = OslcQueryCompiler.getInstance().compile(
+                    QueryUtils.parseWhere(where, prefixes), null, null);
+
+            assertThat(Set.copyOf(select(compiled)))
+                    .as(where)
+                    .isEqualTo(evaluator.matches(QueryUtils.parseWhere(where, prefixes)));
+        }
+    }
+
+    private void assertSameOrder(final String where, final String searchTerms, final String orderBy)
+            throws ParseException {
+        final Map<String, String> prefixes = QueryUtils.parsePrefixes(PREFIXES);
+        final CompiledQuery compiled = OslcQueryCompiler.getInstance().compile(
+                where == null ? null : QueryUtils.parseWhere(where, prefixes),
+                searchTerms == null ? null : QueryUtils.parseSearchTerms(searchTerms),
+                orderBy == null ? null : QueryUtils.parseOrderBy(orderBy, prefixes));
+
+        final QueryEvaluator.Result expected = new QueryEvaluator(model).select(
+                where == null ? null : QueryUtils.parseWhere(where, prefixes),
+                searchTerms == null ? null : QueryUtils.parseSearchTerms(searchTerms),
+                orderBy == null ? null : QueryUtils.parseOrderBy(orderBy, prefixes), 0, 100);
+
+        // Without a where clause the evaluator selects all subjects
+        final List<Node> actual = select(compiled).stream()
+                .filter(node -> where != null || !node.getURI().matches(".*/(alice|bob|carol)"))
+                .collect(Collectors.toList());
+        final List<Node> members = expected.members().stream()
+                .filter(node -> where != null || !node.getURI().matches(".*/(alice|bob|carol)"))
+                .collect(Collectors.toList());
+
+        assertThat(actual).as("%s %s %s", where, searchTerms, orderBy).isEqualTo(members);
+    }
+
+    private List<Node> select(final CompiledQuery compiled) {
+        final SelectBuilder query = new SelectBuilder().addVar("s").setDistinct(true);
+        if (compiled.patterns().isEmpty()) {
+            query.addWhere("?s", "?p", "?o");
+        }
+        compiled.addWhere(query);
+        compiled.addOrderBy(query);
+        query.addOrderBy("?s", Order.ASCENDING);
+
+        final List<Node> subjects = new ArrayList<>();
+        dataset.begin(ReadWrite.READ);
+        try (QueryExecution execution = QueryExecutionFactory.create(query.build().toString(), dataset)) {
+            execution.execSelect().forEachRemaining(solution -> subjects.add(solution.get("s").asNode()));
+        } finally {
+            dataset.end();
+        }
+        return subjects;
+    }
+}
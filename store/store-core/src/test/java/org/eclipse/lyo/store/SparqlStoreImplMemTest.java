@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.store;
+
+import org.apache.jena.query.DatasetFactory;
+import org.eclipse.lyo.store.internals.SparqlStoreImpl;
+import org.eclipse.lyo.store.internals.query.DatasetQueryExecutorImpl;
+
+/**
+ * Runs the {@link StoreTestBase} tests on an in-memory dataset that ARQ queries directly,
+ * unlike TDB, which rewrites {@code GRAPH} patterns into quad patterns first.
+ */
+public class SparqlStoreImplMemTest extends StoreTestBase<SparqlStoreImpl> {
+
+    @Override
+    protected Store buildStore() {
+        return new SparqlStoreImpl(new DatasetQueryExecutorImpl(DatasetFactory.createTxnMem()));
+    }
+}
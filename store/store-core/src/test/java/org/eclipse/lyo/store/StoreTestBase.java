@@ -379,6 +379,53 @@ public abstract class StoreTestBase<T extends Store> {
         Assertions.assertThat(requirements).hasSize(2);
     }
 
+    @Test
+    public void testStoreQueryWithOrderBy()
+            throws StoreAccessException, ModelUnmarshallingException, URISyntaxException {
+        final Store manager = buildStore();
+        final URI namedGraphUri = buildKey();
+        populateStore(manager, namedGraphUri);
+
+        List<Requirement> requirements = manager.getResources(namedGraphUri, Requirement.class,
+                "prf=<" + Nsp1DomainConstants.TESTDOMAIN_NAMSPACE + ">,dcterms=<http://purl.org/dc/terms/>",
+                "prf:intProperty>=3", null, "-prf:intProperty,+dcterms:identifier", 3, 1);
+        Assertions.assertThat(requirements).extracting(Requirement::getIdentifier)
+                .containsExactly("itch", "kindly", "observations");
+    }
+
+    @Test
+    public void testStoreQueryForRequirementResourcesWithSearchTerms()
+            throws StoreAccessException, ModelUnmarshallingException, URISyntaxException {
+        final Store manager = buildStore();
+        final URI namedGraphUri = buildKey();
+        populateStore(manager, namedGraphUri);
+
+        List<Requirement> requirements = manager.getResources(namedGraphUri, Requirement.class, null, null,
+                "\"roof\",\"river gods\"", null, -1, -1);
+        Assertions.assertThat(requirements).extracting(Requirement::getIdentifier)
+                .containsExactlyInAnyOrder("hang", "kindly", "observations");
+    }
+
+    @Test
+    public void testStoreQueryWithOrderByAcrossNamedGraphs()
+            throws StoreAccessException, ModelUnmarshallingException, URISyntaxException {
+        final Store manager = buildStore();
+        final URI firstGraphUri = buildKey();
+        final URI secondGraphUri = buildKey();
+        final String stringProperty = randomHexString();
+        manager.appendResource(firstGraphUri, createRequirement("north", "", stringProperty, 1));
+        manager.appendResource(firstGraphUri, createRequirement("east", "", stringProperty, 4));
+        manager.appendResource(secondGraphUri, createRequirement("south", "", stringProperty, 2));
+        manager.appendResource(secondGraphUri, createRequirement("west", "", stringProperty, 3));
+
+        // The sort and the page apply once across all graphs, not within each graph
+        List<Requirement> requirements = manager.getResources(null, Requirement.class,
+                "prf=<" + Nsp1DomainConstants.TESTDOMAIN_NAMSPACE + ">",
+                "prf:stringProperty=\"" + stringProperty + "\"", null, "-prf:intProperty", 2, 1);
+        Assertions.assertThat(requirements).extracting(Requirement::getIdentifier)
+                .containsExactly("west", "south");
+    }
+
     protected abstract Store buildStore();
 
     private URI buildKey() {
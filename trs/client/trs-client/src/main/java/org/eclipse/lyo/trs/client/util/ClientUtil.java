@@ -1,13 +1,16 @@
 package org.eclipse.lyo.trs.client.util;
 
 import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.RiotException;
 import org.eclipse.lyo.core.trs.Base;
 import org.eclipse.lyo.core.trs.ChangeLog;
 import org.eclipse.lyo.core.trs.Creation;
@@ -23,6 +26,7 @@ import org.eclipse.lyo.trs.client.exceptions.TrsEndpointErrorException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
 /**
@@ -182,27 +186,31 @@ class ClientUtil {
             return null;
         }
 
-        final String responseAsString = clientResponse.readEntity(String.class);
-        log.trace("Response:\n{}\n", responseAsString);
+        final Lang lang = getLang(clientResponse);
+        final byte[] responseBytes = clientResponse.readEntity(byte[].class);
 
-        if (responseAsString == null) {
+        if (responseBytes == null) {
             log.warn("The server response is null. Returning null");
             return null;
         }
 
-        log.trace("Creating Jena model from server response string");
+        if (log.isTraceEnabled() && !isBinary(lang)) {
+            log.trace("Response:\n{}\n", new String(responseBytes, StandardCharsets.UTF_8));
+        }
+
+        log.trace("Creating Jena model from server response ({})", lang.getName());
 
         final Model rdFModel = ModelFactory.createDefaultModel();
 
         try {
-            try (InputStream is = new ByteArrayInputStream(responseAsString.getBytes())) {
-                rdFModel.read(is, null);
-            }
-        } catch (IOException e) {
+            RDFParser.source(new ByteArrayInputStream(responseBytes))
+                    .lang(lang)
+                    .parse(rdFModel);
+        } catch (RiotException e) {
             throw new LyoModelException(e);
         }
 
-        log.trace("OK! Created Jena model from server response string");
+        log.trace("OK! Created Jena model from server response");
 
         if (!rdFModel.isEmpty() && log.isDebugEnabled()) {
             log.debug("Created model contains {} statements", rdFModel.size());
@@ -211,4 +219,21 @@ class ClientUtil {
         return rdFModel;
     }
 
+    /**
+     * Returns the RDF syntax of the response entity, RDF/XML if the Content-Type is missing or
+     * not an RDF syntax.
+     */
+    private static Lang getLang(final Response clientResponse) {
+        final MediaType mediaType = clientResponse.getMediaType();
+        if (mediaType == null) {
+            return Lang.RDFXML;
+        }
+        final Lang lang = RDFLanguages.contentTypeToLang(mediaType.getType() + "/" + mediaType.getSubtype());
+        return lang != null ? lang : Lang.RDFXML;
+    }
+
+    private static boolean isBinary(final Lang lang) {
+        return Lang.RDFTHRIFT.equals(lang) || Lang.RDFPROTO.equals(lang);
+    }
+
 }
@@ -20,6 +20,7 @@ import java.util.List;
 
 import org.apache.jena.rdf.model.Model;
 import org.eclipse.lyo.client.IOslcClient;
+import org.eclipse.lyo.client.OSLCConstants;
 import org.eclipse.lyo.core.trs.Base;
 import org.eclipse.lyo.core.trs.ChangeLog;
 import org.eclipse.lyo.core.trs.Page;
@@ -36,12 +37,23 @@ import jakarta.ws.rs.core.Response;
 public class TrackedResourceClient implements ITrackedResourceClient {
     private static final Logger log = LoggerFactory.getLogger(TrackedResourceClient.class);
     private final IOslcClient oslcClient;
+    private final String acceptType;
 
-    public TrackedResourceClient(final IOslcClient oslcClient) {this.oslcClient = oslcClient;}
+    public TrackedResourceClient(final IOslcClient oslcClient) {this(oslcClient, null);}
+
+    /**
+     * @param acceptType the Accept header for TRS resources, e.g.
+     *                   {@link OSLCConstants#CT_RDF_THRIFT_OR_RDF} to get binary RDF from
+     *                   Lyo-based TRS servers; {@code null} requests RDF/XML
+     */
+    public TrackedResourceClient(final IOslcClient oslcClient, final String acceptType) {
+        this.oslcClient = oslcClient;
+        this.acceptType = acceptType;
+    }
 
     @Override
     public Model fetchTRSRemoteResource(final URI uri) throws RepresentationRetrievalException {
-        final Response response = oslcClient.getResource(uri.toString());
+        final Response response = oslcClient.getResource(uri.toString(), acceptType);
         final Model resource;
         try {
             // TODO Andrew@2019-07-15: JHM typed method use
@@ -46,6 +46,9 @@ import jakarta.ws.rs.core.UriBuilder;
 /**
  * The service class for the TRS interface. This class needs to be implemented by an OSLC adapter
  * wishing to implement a TRS interface
+ * <p>
+ * Register {@code OslcEntityTagFilter} from oslc4j-jena-provider next to the providers to
+ * let TRS clients poll the pages with conditional GETs.
  *
  * @version $version-stub$
  * @since 2.3.0